@@ -0,0 +1,131 @@
+package com.github.mikephil.charting.charts
+
+import android.content.Context
+import android.graphics.Bitmap
+import android.graphics.Canvas
+import android.view.View
+import androidx.test.InstrumentationRegistry
+import com.github.mikephil.charting.data.Entry
+import com.github.mikephil.charting.data.LineData
+import com.github.mikephil.charting.data.LineDataSet
+import com.google.common.truth.Truth.assertThat
+import org.junit.Assert.fail
+import org.junit.Before
+import org.junit.Test
+
+class LayeredDrawingTest {
+	private lateinit var chart: CountingLineChart
+
+	@Before
+	fun before() {
+		this.chart = CountingLineChart(InstrumentationRegistry.getTargetContext())
+		this.chart.data = LineData(LineDataSet(mutableListOf(Entry(0f, 1f), Entry(1f, 3f), Entry(2f, 2f)), "Line"))
+		this.chart.isLayeredDrawingEnabled = true
+		layout(200, 100)
+	}
+
+	@Test
+	fun draw_retainsLayers() {
+		draw(200, 100)
+		assertThat(this.chart.counts()).isEqualTo(listOf(1, 1, 1, 1))
+
+		// Nothing changed, the layers are only composited
+		draw(200, 100)
+		assertThat(this.chart.counts()).isEqualTo(listOf(1, 1, 1, 1))
+	}
+
+	@Test
+	fun highlightValue_onlyOverlay() {
+		draw(200, 100)
+
+		this.chart.highlightValue(1f, 0)
+		draw(200, 100)
+		assertThat(this.chart.counts()).isEqualTo(listOf(1, 1, 1, 1))
+
+		this.chart.highlightValue(null)
+		draw(200, 100)
+		assertThat(this.chart.counts()).isEqualTo(listOf(1, 1, 1, 1))
+	}
+
+	@Test
+	fun invalidate_allLayers() {
+		draw(200, 100)
+
+		this.chart.invalidate()
+		draw(200, 100)
+		assertThat(this.chart.counts()).isEqualTo(listOf(2, 2, 2, 2))
+	}
+
+	@Test
+	fun invalidateLayer() {
+		draw(200, 100)
+
+		this.chart.invalidateLayer(BarLineChartBase.LAYER_DECORATIONS)
+		draw(200, 100)
+		assertThat(this.chart.counts()).isEqualTo(listOf(1, 1, 1, 2))
+
+		try {
+			this.chart.invalidateLayer(4)
+			fail("Should have failed")
+		} catch (exception: IllegalArgumentException) {
+		}
+	}
+
+	@Test
+	fun sizeChanged_allLayers() {
+		draw(200, 100)
+
+		layout(300, 150)
+		draw(300, 150)
+		assertThat(this.chart.counts()).isEqualTo(listOf(2, 2, 2, 2))
+		assertThat(this.chart.dataLayerSize).isEqualTo(listOf(300, 150))
+	}
+
+	private fun layout(width: Int, height: Int) {
+		this.chart.measure(
+				View.MeasureSpec.makeMeasureSpec(width, View.MeasureSpec.EXACTLY),
+				View.MeasureSpec.makeMeasureSpec(height, View.MeasureSpec.EXACTLY)
+		)
+		this.chart.layout(0, 0, width, height)
+	}
+
+	private fun draw(width: Int, height: Int) {
+		val bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888)
+		this.chart.draw(Canvas(bitmap))
+		bitmap.recycle()
+	}
+
+	/**
+	 * Counts how many times each layer is drawn.
+	 */
+	private class CountingLineChart(context: Context) : LineChart(context) {
+		var backgroundCount = 0
+		var dataCount = 0
+		var valuesCount = 0
+		var decorationsCount = 0
+		var dataLayerSize: List<Int> = emptyList()
+
+		fun counts() = listOf(this.backgroundCount, this.dataCount, this.valuesCount, this.decorationsCount)
+
+		override fun drawGridBackground(canvas: Canvas) {
+			this.backgroundCount++
+			super.drawGridBackground(canvas)
+		}
+
+		override fun drawDataLayer(canvas: Canvas, drawHighlighted: Boolean) {
+			this.dataCount++
+			this.dataLayerSize = listOf(canvas.width, canvas.height)
+			super.drawDataLayer(canvas, drawHighlighted)
+		}
+
+		override fun drawValuesLayer(canvas: Canvas) {
+			this.valuesCount++
+			super.drawValuesLayer(canvas)
+		}
+
+		override fun drawDecorationsLayer(canvas: Canvas) {
+			this.decorationsCount++
+			super.drawDecorationsLayer(canvas)
+		}
+	}
+}
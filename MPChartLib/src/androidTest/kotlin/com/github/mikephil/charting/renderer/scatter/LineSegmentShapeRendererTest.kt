@@ -0,0 +1,85 @@
+package com.github.mikephil.charting.renderer.scatter
+
+import android.graphics.Canvas
+import android.graphics.Paint
+import com.github.mikephil.charting.data.ScatterDataSet
+import com.github.mikephil.charting.utils.ViewPortHandler
+import com.google.common.truth.Truth.assertThat
+import org.junit.Before
+import org.junit.Test
+
+class LineSegmentShapeRendererTest {
+	private lateinit var canvas: LinesCanvas
+	private lateinit var dataSet: ScatterDataSet
+	private lateinit var viewPortHandler: ViewPortHandler
+	private lateinit var paint: Paint
+
+	@Before
+	fun before() {
+		this.canvas = LinesCanvas()
+		this.dataSet = ScatterDataSet(mutableListOf(), "")
+		this.dataSet.scatterShapeSize = 4f
+		this.viewPortHandler = ViewPortHandler()
+		this.paint = Paint()
+	}
+
+	@Test
+	fun renderShapes_cross() {
+		val renderer = CrossShapeRenderer()
+		renderer.renderShapes(this.canvas, this.dataSet, this.viewPortHandler, floatArrayOf(-1f, -1f, 10f, 20f, 30f, 40f), 2, 2, this.paint)
+
+		assertThat(this.canvas.lines).isEqualTo(listOf(
+				8f, 20f, 12f, 20f, 10f, 18f, 10f, 22f,
+				28f, 40f, 32f, 40f, 30f, 38f, 30f, 42f
+		))
+		assertThat(this.paint.style).isEqualTo(Paint.Style.STROKE)
+	}
+
+	@Test
+	fun renderShapes_x() {
+		val renderer = XShapeRenderer()
+		renderer.renderShapes(this.canvas, this.dataSet, this.viewPortHandler, floatArrayOf(10f, 20f), 0, 1, this.paint)
+
+		assertThat(this.canvas.lines).isEqualTo(listOf(8f, 18f, 12f, 22f, 12f, 18f, 8f, 22f))
+	}
+
+	@Test
+	fun renderShapes_chevron() {
+		ChevronUpShapeRenderer().renderShapes(this.canvas, this.dataSet, this.viewPortHandler, floatArrayOf(10f, 20f), 0, 1, this.paint)
+		assertThat(this.canvas.lines).isEqualTo(listOf(10f, 16f, 14f, 20f, 10f, 16f, 6f, 20f))
+
+		ChevronDownShapeRenderer().renderShapes(this.canvas, this.dataSet, this.viewPortHandler, floatArrayOf(10f, 20f), 0, 1, this.paint)
+		assertThat(this.canvas.lines).isEqualTo(listOf(10f, 24f, 14f, 20f, 10f, 24f, 6f, 20f))
+	}
+
+	@Test
+	fun renderShape_sameAsBatch() {
+		val renderer = CrossShapeRenderer()
+		renderer.renderShapes(this.canvas, this.dataSet, this.viewPortHandler, floatArrayOf(10f, 20f), 0, 1, this.paint)
+		val batch = this.canvas.lines
+
+		renderer.renderShape(this.canvas, this.dataSet, this.viewPortHandler, 10f, 20f, this.paint)
+		assertThat(this.canvas.lines).isEqualTo(batch)
+	}
+
+	@Test
+	fun renderShapes_growBuffer() {
+		val renderer = XShapeRenderer()
+		val positions = FloatArray(200) { it.toFloat() }
+		renderer.renderShapes(this.canvas, this.dataSet, this.viewPortHandler, positions, 0, 100, this.paint)
+
+		assertThat(this.canvas.lines).hasSize(800)
+		assertThat(this.canvas.lines.subList(792, 800)).isEqualTo(listOf(196f, 197f, 200f, 201f, 200f, 197f, 196f, 201f))
+	}
+
+	/**
+	 * Records the values of the last drawLines() call.
+	 */
+	private class LinesCanvas : Canvas() {
+		var lines: List<Float> = emptyList()
+
+		override fun drawLines(pts: FloatArray, offset: Int, count: Int, paint: Paint) {
+			this.lines = pts.copyOfRange(offset, offset + count).toList()
+		}
+	}
+}
@@ -0,0 +1,119 @@
+package com.github.mikephil.charting.utils
+
+import android.graphics.Bitmap
+import android.graphics.Canvas
+import android.graphics.Color
+import android.graphics.Paint
+import android.graphics.RectF
+import com.google.common.truth.Truth.assertThat
+import org.junit.After
+import org.junit.Assert.fail
+import org.junit.Before
+import org.junit.Test
+
+class RenderLayerTest {
+	private lateinit var layer: RenderLayer
+
+	@Before
+	fun before() {
+		this.layer = RenderLayer()
+	}
+
+	@After
+	fun after() {
+		this.layer.recycle()
+	}
+
+	@Test
+	fun beginDraw() {
+		assertThat(this.layer.isDirty(10, 10)).isTrue()
+		assertThat(this.layer.hasSize(10, 10)).isFalse()
+
+		this.layer.beginDraw(10, 10).drawColor(Color.RED)
+		assertThat(this.layer.isDirty(10, 10)).isFalse()
+		assertThat(this.layer.hasSize(10, 10)).isTrue()
+		assertThat(this.layer.isDirty(20, 10)).isTrue()
+		assertThat(getPixel(5, 5)).isEqualTo(Color.RED)
+
+		this.layer.invalidate()
+		assertThat(this.layer.isDirty(10, 10)).isTrue()
+
+		// Cleared when drawn again
+		this.layer.beginDraw(10, 10)
+		assertThat(getPixel(5, 5)).isEqualTo(Color.TRANSPARENT)
+	}
+
+	@Test
+	fun beginDraw_resize() {
+		val canvas = this.layer.beginDraw(10, 10)
+		assertThat(this.layer.beginDraw(10, 10)).isSameAs(canvas)
+
+		// Allocated again for another size
+		val resized = this.layer.beginDraw(20, 10)
+		assertThat(resized.width).isEqualTo(20)
+		assertThat(this.layer.hasSize(20, 10)).isTrue()
+		assertThat(this.layer.hasSize(10, 10)).isFalse()
+		assertThat(this.layer.isDirty(20, 10)).isFalse()
+	}
+
+	@Test
+	fun validate() {
+		this.layer.beginDraw(10, 10)
+		this.layer.invalidate()
+		this.layer.validate()
+		assertThat(this.layer.isDirty(10, 10)).isFalse()
+
+		this.layer.recycle()
+		assertThat(this.layer.isDirty(10, 10)).isTrue()
+		assertThat(this.layer.hasSize(10, 10)).isFalse()
+	}
+
+	@Test
+	fun scroll() {
+		val canvas = this.layer.beginDraw(10, 10)
+		canvas.drawColor(Color.GREEN)
+		canvas.drawRect(2f, 0f, 3f, 10f, paint(Color.RED))
+		this.layer.invalidate()
+
+		// The content is shifted inside the clip, the exposed part is drawn again
+		val exposed = this.layer.scroll(3, 0, RectF(0f, 0f, 8f, 10f))
+		assertThat(this.layer.isDirty(10, 10)).isFalse()
+		assertThat(getPixel(1, 5)).isEqualTo(Color.TRANSPARENT)
+		exposed.drawRect(0f, 0f, 3f, 10f, paint(Color.BLUE))
+
+		assertThat(getPixel(1, 5)).isEqualTo(Color.BLUE)
+		assertThat(getPixel(4, 5)).isEqualTo(Color.GREEN)
+		assertThat(getPixel(5, 5)).isEqualTo(Color.RED)
+		assertThat(getPixel(7, 5)).isEqualTo(Color.GREEN)
+		assertThat(getPixel(8, 5)).isEqualTo(Color.TRANSPARENT)
+
+		// The bitmaps are swapped, scrolling again starts from the last content
+		this.layer.scroll(-1, 0, RectF(0f, 0f, 10f, 10f))
+		assertThat(getPixel(4, 5)).isEqualTo(Color.RED)
+		assertThat(getPixel(0, 5)).isEqualTo(Color.BLUE)
+		assertThat(getPixel(9, 5)).isEqualTo(Color.TRANSPARENT)
+	}
+
+	@Test
+	fun scroll_empty() {
+		try {
+			this.layer.scroll(1, 0, RectF(0f, 0f, 10f, 10f))
+			fail("Should have failed")
+		} catch (exception: IllegalStateException) {
+		}
+	}
+
+	private fun paint(color: Int): Paint {
+		val paint = Paint()
+		paint.color = color
+		return paint
+	}
+
+	private fun getPixel(x: Int, y: Int): Int {
+		val bitmap = Bitmap.createBitmap(10, 10, Bitmap.Config.ARGB_8888)
+		this.layer.draw(Canvas(bitmap))
+		val pixel = bitmap.getPixel(x, y)
+		bitmap.recycle()
+		return pixel
+	}
+}
@@ -0,0 +1,106 @@
+package com.github.mikephil.charting.utils
+
+import android.graphics.Matrix
+import android.graphics.RectF
+import android.widget.FrameLayout
+import androidx.test.InstrumentationRegistry
+import com.google.common.truth.Truth.assertThat
+import org.junit.Before
+import org.junit.Test
+
+class TransformerTest {
+	private lateinit var viewPortHandler: ViewPortHandler
+	private lateinit var transformer: Transformer
+
+	@Before
+	fun before() {
+		this.viewPortHandler = ViewPortHandler()
+		this.viewPortHandler.setChartDimens(100f, 200f)
+
+		// 10 pixels per value on both axes, y-values from the bottom
+		this.transformer = Transformer(this.viewPortHandler)
+		this.transformer.prepareMatrixValuePx(0f, 10f, 20f, 0f)
+		this.transformer.prepareMatrixOffset(false)
+	}
+
+	@Test
+	fun pointValuesToPixel() {
+		assertThat(toPixel(5f, 10f)).isEqualTo(listOf(50f, 100f))
+		assertThat(toValue(50f, 100f)).isEqualTo(listOf(5f, 10f))
+
+		val rect = RectF(1f, 2f, 3f, 4f)
+		this.transformer.rectValueToPixel(rect)
+		assertThat(rect).isEqualTo(RectF(10f, 160f, 30f, 180f))
+	}
+
+	@Test
+	fun matrixTouch_refresh() {
+		val view = FrameLayout(InstrumentationRegistry.getTargetContext())
+		assertThat(toPixel(5f, 10f)).isEqualTo(listOf(50f, 100f))
+
+		val matrix = Matrix()
+		matrix.setScale(2f, 1f)
+		this.viewPortHandler.refresh(matrix, view, false)
+		assertThat(toPixel(5f, 10f)).isEqualTo(listOf(100f, 100f))
+		assertThat(toValue(100f, 100f)).isEqualTo(listOf(5f, 10f))
+	}
+
+	@Test
+	fun matrixTouch_modifiedDirectly() {
+		assertThat(toPixel(5f, 10f)).isEqualTo(listOf(50f, 100f))
+
+		// Not applied with refresh(), the cached matrices must still follow
+		this.viewPortHandler.matrixTouch.postTranslate(-20f, 0f)
+		assertThat(toPixel(5f, 10f)).isEqualTo(listOf(30f, 100f))
+		assertThat(toValue(30f, 100f)).isEqualTo(listOf(5f, 10f))
+
+		this.viewPortHandler.matrixTouch.reset()
+		assertThat(toPixel(5f, 10f)).isEqualTo(listOf(50f, 100f))
+	}
+
+	@Test
+	fun getValueMatrix() {
+		assertThat(toPixel(5f, 10f)).isEqualTo(listOf(50f, 100f))
+
+		// Getting the matrix invalidates the cached matrices
+		this.transformer.valueMatrix.postTranslate(10f, 0f)
+		assertThat(toPixel(5f, 10f)).isEqualTo(listOf(60f, 100f))
+
+		val values = FloatArray(9)
+		this.transformer.valueToPixelMatrix.getValues(values)
+		assertThat(values[Matrix.MTRANS_X]).isEqualTo(10f)
+		assertThat(values[Matrix.MSCALE_X]).isEqualTo(10f)
+	}
+
+	@Test
+	fun pixelsToValue_notInvertible() {
+		// All the y-values are the same, the value matrix cannot be inverted
+		this.transformer.prepareMatrixValuePx(0f, 10f, 0f, 5f)
+		this.viewPortHandler.matrixTouch.postTranslate(-20f, 0f)
+
+		// Same result as inverting the matrices one by one
+		val expected = floatArrayOf(50f, 100f)
+		val inverse = Matrix()
+		assertThat(this.transformer.offsetMatrix.invert(inverse)).isTrue()
+		inverse.mapPoints(expected)
+		assertThat(this.viewPortHandler.matrixTouch.invert(inverse)).isTrue()
+		inverse.mapPoints(expected)
+		assertThat(this.transformer.valueMatrix.invert(inverse)).isFalse()
+		inverse.mapPoints(expected)
+
+		assertThat(toValue(50f, 100f)).isEqualTo(expected.toList())
+		assertThat(toValue(50f, 100f)).isEqualTo(listOf(90f, -100f))
+	}
+
+	private fun toPixel(x: Float, y: Float): List<Float> {
+		val points = floatArrayOf(x, y)
+		this.transformer.pointValuesToPixel(points)
+		return points.toList()
+	}
+
+	private fun toValue(x: Float, y: Float): List<Float> {
+		val points = floatArrayOf(x, y)
+		this.transformer.pixelsToValue(points)
+		return points.toList()
+	}
+}
@@ -1,6 +1,10 @@
 package com.github.mikephil.charting.utils
 
+import android.graphics.Matrix
 import android.graphics.RectF
+import android.widget.FrameLayout
+import androidx.test.InstrumentationRegistry
+import com.github.mikephil.charting.listener.OnViewportChangedListener
 import com.google.common.truth.Truth.assertThat
 import org.junit.Before
 import org.junit.Test
@@ -507,4 +511,27 @@ class ViewPortHandlerTest {
 		assertThat(this.viewPortHandler.transX).isEqualTo(0f)
 		assertThat(this.viewPortHandler.transY).isEqualTo(0f)
 	}
+
+	@Test
+	fun refresh_viewportChangedListener() {
+		this.viewPortHandler.setChartDimens(100f, 200f)
+
+		val view = FrameLayout(InstrumentationRegistry.getTargetContext())
+		var changes = 0
+		this.viewPortHandler.setOnViewportChangedListener(OnViewportChangedListener { changes++ })
+
+		val matrix = Matrix()
+		matrix.setScale(2f, 1f)
+		matrix.postTranslate(-50f, 0f)
+		this.viewPortHandler.refresh(matrix, view, true)
+		assertThat(changes).isEqualTo(1)
+		assertThat(this.viewPortHandler.transX).isEqualTo(-50f)
+
+		this.viewPortHandler.refresh(matrix, view, false)
+		assertThat(changes).isEqualTo(1)
+
+		this.viewPortHandler.setOnViewportChangedListener(null)
+		this.viewPortHandler.refresh(matrix, view, true)
+		assertThat(changes).isEqualTo(1)
+	}
 }
@@ -5,6 +5,7 @@ import androidx.annotation.Size;
 
 import com.github.mikephil.charting.data.BarEntry;
 import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IStackBoundsDataSet;
 
 public class BarBuffer extends AbstractBuffer<IBarDataSet> {
     protected boolean mContainsStacks;
@@ -15,6 +16,11 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
      */
     protected float mBarWidth = 1f;
 
+    /**
+     * Scratch buffer the x and y values of non-stacked DataSets are copied to, in chunks.
+     */
+    protected final float[] mValuesBuffer = new float[512];
+
     public BarBuffer(@Size(multiple = 4L) int size, boolean containsStacks) {
         super(size);
 
@@ -36,8 +42,125 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
         buffer[index++] = bottom;
     }
 
+    /**
+     * Adds the rectangle of a non-stacked bar.
+     *
+     * @param x
+     * @param y
+     * @param barWidthHalf
+     */
+    protected void addBar(float x, float y, float barWidthHalf) {
+        float left = x - barWidthHalf;
+        float right = x + barWidthHalf;
+        float bottom;
+        float top;
+        if (mInverted) {
+            bottom = y >= 0f ? y : 0f;
+            top = y <= 0f ? y : 0f;
+        } else {
+            top = y >= 0f ? y : 0f;
+            bottom = y <= 0f ? y : 0f;
+        }
+
+        // multiply the height of the rect with the phase
+        if (top > 0f) {
+            top *= phaseY;
+        } else {
+            bottom *= phaseY;
+        }
+
+        addBar(left, top, right, bottom);
+    }
+
+    /**
+     * Adds the rectangle of a stack segment spanning from y to yStart.
+     *
+     * @param x
+     * @param y
+     * @param yStart
+     * @param barWidthHalf
+     */
+    protected void addStackBar(float x, float y, float yStart, float barWidthHalf) {
+        float left = x - barWidthHalf;
+        float right = x + barWidthHalf;
+        float bottom;
+        float top;
+        if (mInverted) {
+            bottom = y >= yStart ? y : yStart;
+            top = y <= yStart ? y : yStart;
+        } else {
+            top = y >= yStart ? y : yStart;
+            bottom = y <= yStart ? y : yStart;
+        }
+
+        // multiply the height of the rect with the phase
+        top *= phaseY;
+        bottom *= phaseY;
+
+        addBar(left, top, right, bottom);
+    }
+
+    /**
+     * Adds the bars of a DataSet whose stack segment bounds are precomputed, reading the bounds
+     * directly instead of walking the stack of every BarEntry.
+     *
+     * @param data
+     * @param stacks
+     */
+    protected void feedStackBounds(@NonNull IBarDataSet data, @NonNull IStackBoundsDataSet stacks) {
+        final int count = (int) Math.ceil(data.getEntryCount() * phaseX);
+        final float barWidthHalf = mBarWidth / 2f;
+
+        for (int i = 0; i < count; i++) {
+            final float x = data.getXForIndex(i);
+            final int stackCount = stacks.getStackCountForIndex(i);
+            if (stackCount == 0) {
+                addBar(x, data.getYForIndex(i), barWidthHalf);
+                continue;
+            }
+
+            for (int s = stacks.getStackOffsetForIndex(i), end = s + stackCount; s < end; s++) {
+                addStackBar(x, stacks.getStackFrom(s), stacks.getStackTo(s), barWidthHalf);
+            }
+        }
+    }
+
+    /**
+     * Adds the bars of a DataSet without stacks. The values are copied in chunks with
+     * {@link IBarDataSet#copyXY(int, int, float[], int)} instead of reading every BarEntry.
+     *
+     * @param data
+     */
+    protected void feedValues(@NonNull IBarDataSet data) {
+        final int count = (int) Math.ceil(data.getEntryCount() * phaseX);
+        final float barWidthHalf = mBarWidth / 2f;
+        final float[] values = mValuesBuffer;
+        final int chunkSize = values.length / 2;
+
+        for (int from = 0; from < count; from += chunkSize) {
+            final int to = Math.min(from + chunkSize, count);
+            data.copyXY(from, to, values, 0);
+
+            for (int i = 0, length = (to - from) * 2; i < length; i += 2) {
+                addBar(values[i], values[i + 1], barWidthHalf);
+            }
+        }
+    }
+
     @Override
     public void feed(@NonNull IBarDataSet data) {
+        if (!mContainsStacks) {
+            feedValues(data);
+            reset();
+            return;
+        }
+
+        if (data instanceof IStackBoundsDataSet) {
+            feedStackBounds(data, (IStackBoundsDataSet) data);
+            reset();
+            return;
+        }
+
         float size = data.getEntryCount() * phaseX;
         float barWidthHalf = mBarWidth / 2f;
 
@@ -46,7 +169,7 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
             float x = entry.getX();
             float y = entry.getY();
             float[] values = entry.getYVals();
-            if (mContainsStacks && values != null) {
+            if (values != null) {
                 float posY = 0f;
                 float negY = -entry.getNegativeSum();
                 float yStart;
@@ -67,45 +190,10 @@ public class BarBuffer extends AbstractBuffer<IBarDataSet> {
                         negY += Math.abs(value);
                     }
 
-                    float left = x - barWidthHalf;
-                    float right = x + barWidthHalf;
-                    float bottom;
-                    float top;
-                    if (mInverted) {
-                        bottom = y >= yStart ? y : yStart;
-                        top = y <= yStart ? y : yStart;
-                    } else {
-                        top = y >= yStart ? y : yStart;
-                        bottom = y <= yStart ? y : yStart;
-                    }
-
-                    // multiply the height of the rect with the phase
-                    top *= phaseY;
-                    bottom *= phaseY;
-
-                    addBar(left, top, right, bottom);
+                    addStackBar(x, y, yStart, barWidthHalf);
                 }
             } else {
-                float left = x - barWidthHalf;
-                float right = x + barWidthHalf;
-                float bottom;
-                float top;
-                if (mInverted) {
-                    bottom = y >= 0f ? y : 0f;
-                    top = y <= 0f ? y : 0f;
-                } else {
-                    top = y >= 0f ? y : 0f;
-                    bottom = y <= 0f ? y : 0f;
-                }
-
-                // multiply the height of the rect with the phase
-                if (top > 0f) {
-                    top *= phaseY;
-                } else {
-                    bottom *= phaseY;
-                }
-
-                addBar(left, top, right, bottom);
+                addBar(x, y, barWidthHalf);
             }
         }
 
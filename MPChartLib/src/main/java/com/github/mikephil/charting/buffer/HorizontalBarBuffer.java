@@ -5,14 +5,72 @@ import androidx.annotation.Size;
 
 import com.github.mikephil.charting.data.BarEntry;
 import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IStackBoundsDataSet;
 
 public class HorizontalBarBuffer extends BarBuffer {
     public HorizontalBarBuffer(@Size(multiple = 4L) int size, boolean containsStacks) {
         super(size, containsStacks);
     }
 
+    @Override
+    protected void addBar(float x, float y, float barWidthHalf) {
+        float bottom = x - barWidthHalf;
+        float top = x + barWidthHalf;
+        float left;
+        float right;
+        if (mInverted) {
+            left = y >= 0f ? y : 0f;
+            right = y <= 0f ? y : 0f;
+        } else {
+            right = y >= 0f ? y : 0f;
+            left = y <= 0f ? y : 0f;
+        }
+
+        // multiply the height of the rect with the phase
+        if (right > 0) {
+            right *= phaseY;
+        } else {
+            left *= phaseY;
+        }
+
+        addBar(left, top, right, bottom);
+    }
+
+    @Override
+    protected void addStackBar(float x, float y, float yStart, float barWidthHalf) {
+        float bottom = x - barWidthHalf;
+        float top = x + barWidthHalf;
+        float left;
+        float right;
+        if (mInverted) {
+            left = y >= yStart ? y : yStart;
+            right = y <= yStart ? y : yStart;
+        } else {
+            right = y >= yStart ? y : yStart;
+            left = y <= yStart ? y : yStart;
+        }
+
+        // multiply the height of the rect with the phase
+        right *= phaseY;
+        left *= phaseY;
+
+        addBar(left, top, right, bottom);
+    }
+
     @Override
     public void feed(@NonNull IBarDataSet data) {
+        if (!mContainsStacks) {
+            feedValues(data);
+            reset();
+            return;
+        }
+
+        if (data instanceof IStackBoundsDataSet) {
+            feedStackBounds(data, (IStackBoundsDataSet) data);
+            reset();
+            return;
+        }
+
         float size = data.getEntryCount() * phaseX;
         float barWidthHalf = mBarWidth / 2f;
 
@@ -21,7 +79,7 @@ public class HorizontalBarBuffer extends BarBuffer {
             float x = entry.getX();
             float y = entry.getY();
             float[] values = entry.getYVals();
-            if (mContainsStacks && values != null) {
+            if (values != null) {
                 float posY = 0f;
                 float negY = -entry.getNegativeSum();
                 float yStart;
@@ -38,45 +96,10 @@ public class HorizontalBarBuffer extends BarBuffer {
                         negY += Math.abs(value);
                     }
 
-                    float bottom = x - barWidthHalf;
-                    float top = x + barWidthHalf;
-                    float left;
-                    float right;
-                    if (mInverted) {
-                        left = y >= yStart ? y : yStart;
-                        right = y <= yStart ? y : yStart;
-                    } else {
-                        right = y >= yStart ? y : yStart;
-                        left = y <= yStart ? y : yStart;
-                    }
-
-                    // multiply the height of the rect with the phase
-                    right *= phaseY;
-                    left *= phaseY;
-
-                    addBar(left, top, right, bottom);
+                    addStackBar(x, y, yStart, barWidthHalf);
                 }
             } else {
-                float bottom = x - barWidthHalf;
-                float top = x + barWidthHalf;
-                float left;
-                float right;
-                if (mInverted) {
-                    left = y >= 0f ? y : 0f;
-                    right = y <= 0f ? y : 0f;
-                } else {
-                    right = y >= 0f ? y : 0f;
-                    left = y <= 0f ? y : 0f;
-                }
-
-                // multiply the height of the rect with the phase
-                if (right > 0) {
-                    right *= phaseY;
-                } else {
-                    left *= phaseY;
-                }
-
-                addBar(left, top, right, bottom);
+                addBar(x, y, barWidthHalf);
             }
         }
 
@@ -15,7 +15,9 @@ import com.github.mikephil.charting.components.XAxis.XAxisPosition;
 import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.components.YAxis.AxisDependency;
 import com.github.mikephil.charting.data.BarLineScatterCandleBubbleData;
+import com.github.mikephil.charting.data.DataChange;
 import com.github.mikephil.charting.data.Entry;
+import com.github.mikephil.charting.data.PreparedMinMax;
 import com.github.mikephil.charting.highlight.ChartHighlighter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
@@ -30,9 +32,15 @@ import com.github.mikephil.charting.renderer.XAxisRenderer;
 import com.github.mikephil.charting.renderer.YAxisRenderer;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
+import com.github.mikephil.charting.utils.RenderLayer;
 import com.github.mikephil.charting.utils.Transformer;
 import com.github.mikephil.charting.utils.Utils;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
@@ -128,6 +136,29 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
     protected XAxisRenderer mXAxisRenderer;
 
+    /**
+     * Background thread shared by all charts for notifyDataSetChangedAsync().
+     */
+    private static ExecutorService sPreparationExecutor;
+
+    /**
+     * The preparation started by the last call to notifyDataSetChangedAsync(), null once applied.
+     */
+    @Nullable
+    private Future<?> mPreparationFuture;
+
+    /**
+     * Incremented on every call to notifyDataSetChangedAsync(), so superseded preparations are
+     * discarded.
+     */
+    private int mPreparationGeneration = 0;
+
+    /**
+     * The last prepared frame, waiting to be applied by onDraw().
+     */
+    @Nullable
+    private volatile PreparedFrame mPreparedFrame;
+
     public BarLineChartBase(Context context, AttributeSet attrs, int defStyle) {
         super(context, attrs, defStyle);
     }
@@ -171,6 +202,78 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         mBorderPaint.setStrokeWidth(Utils.convertDpToPixel(1f));
     }
 
+    /**
+     * Layer of the grid background, axis lines, and the grid and limit lines drawn behind the
+     * data.
+     */
+    public static final int LAYER_BACKGROUND = 0;
+
+    /**
+     * Layer of the data and the grid lines drawn in front of it, clipped to the content rect.
+     */
+    public static final int LAYER_DATA = 1;
+
+    /**
+     * Layer of the extras, the limit lines drawn in front of the data, the axis labels and the
+     * values.
+     */
+    public static final int LAYER_VALUES = 2;
+
+    /**
+     * Layer of the legend and the description.
+     */
+    public static final int LAYER_DECORATIONS = 3;
+
+    private static final int LAYER_COUNT = 4;
+
+    /**
+     * If true, the chart is drawn in layers retained in bitmaps.
+     */
+    private boolean mLayeredDrawingEnabled = false;
+
+    /**
+     * The layers, allocated by the first layered draw.
+     */
+    @Nullable
+    private RenderLayer[] mLayers;
+
+    /**
+     * If true, the data layer is shifted instead of drawn again when only the x-translation of the
+     * viewport changed.
+     */
+    private boolean mPanDrawingEnabled = false;
+
+    /**
+     * True if the data layer was drawn for mPanMatrixValues and mPanContentRect, and nothing but
+     * the viewport changed since.
+     */
+    private boolean mPanBaseValid = false;
+
+    /**
+     * The values of the touch matrix the data layer was drawn for. The x-translation is the one of
+     * the shifted content, within half a pixel of the one of the touch matrix.
+     */
+    @NonNull
+    private final float[] mPanMatrixValues = new float[9];
+
+    @NonNull
+    private final float[] mPanMatrixBuffer = new float[9];
+
+    @NonNull
+    private final RectF mPanContentRect = new RectF();
+
+    /**
+     * The fraction of a pixel by which the data layer is offset when composited.
+     */
+    private float mPanOffsetX = 0f;
+
+    /**
+     * The pixel range to which getLowestVisibleX() and getHighestVisibleX() are narrowed while
+     * drawing the strip exposed by a pan, NaN otherwise.
+     */
+    private float mVisibleStripLeft = Float.NaN;
+    private float mVisibleStripRight = Float.NaN;
+
     // For performance tracking
     private long totalTime = 0;
     private long drawCycles = 0;
@@ -183,11 +286,191 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
             return;
         }
 
+        PreparedFrame preparedFrame = mPreparedFrame;
+        if (preparedFrame != null) {
+            mPreparedFrame = null;
+            applyPreparedFrame(preparedFrame);
+        }
+
         long startTime = System.currentTimeMillis();
 
-        // Execute all drawing commands
-        drawGridBackground(canvas);
+        if (mLayeredDrawingEnabled) {
+            drawLayers(canvas);
+        } else {
+            // Execute all drawing commands
+            drawGridBackground(canvas);
+
+            computeAxes();
+
+            drawAxesBehindData(canvas);
+
+            drawDataLayer(canvas, true);
+
+            drawValuesLayer(canvas);
+
+            drawDecorationsLayer(canvas);
+
+            drawMarkers(canvas);
+        }
+
+        if (mLogEnabled) {
+            long drawTime = System.currentTimeMillis() - startTime;
+            totalTime += drawTime;
+            drawCycles += 1;
+            long average = totalTime / drawCycles;
+            Log.i(LOG_TAG, "Draw time: " + drawTime + " ms, average: " + average + " ms, cycles: " + drawCycles);
+        }
+    }
+
+    /**
+     * Draws the layers which are dirty into their bitmaps, composites all of them, then draws the
+     * overlay (highlights and markers) directly.
+     *
+     * @param canvas
+     */
+    private void drawLayers(@NonNull Canvas canvas) {
+        if (mLayers == null) {
+            mLayers = new RenderLayer[LAYER_COUNT];
+            for (int i = 0; i < LAYER_COUNT; i++) {
+                mLayers[i] = new RenderLayer();
+            }
+        }
+
+        final int width = getWidth();
+        final int height = getHeight();
+
+        if (mLayers[LAYER_BACKGROUND].isDirty(width, height)
+                || mLayers[LAYER_DATA].isDirty(width, height)
+                || mLayers[LAYER_VALUES].isDirty(width, height)) {
+            // May calculate the offsets again, which invalidates all layers
+            computeAxes();
+        }
+
+        if (mLayers[LAYER_BACKGROUND].isDirty(width, height)) {
+            Canvas layerCanvas = mLayers[LAYER_BACKGROUND].beginDraw(width, height);
+            drawGridBackground(layerCanvas);
+            drawAxesBehindData(layerCanvas);
+        }
+
+        if (mLayers[LAYER_DATA].isDirty(width, height) && !drawPannedDataLayer(width, height)) {
+            drawDataLayer(mLayers[LAYER_DATA].beginDraw(width, height), false);
+
+            mViewPortHandler.getMatrixTouch().getValues(mPanMatrixValues);
+            mPanContentRect.set(mViewPortHandler.getContentRect());
+            mPanOffsetX = 0f;
+            mPanBaseValid = true;
+        }
 
+        if (mLayers[LAYER_VALUES].isDirty(width, height)) {
+            drawValuesLayer(mLayers[LAYER_VALUES].beginDraw(width, height));
+        }
+
+        if (mLayers[LAYER_DECORATIONS].isDirty(width, height)) {
+            drawDecorationsLayer(mLayers[LAYER_DECORATIONS].beginDraw(width, height));
+        }
+
+        for (int i = 0; i < LAYER_COUNT; i++) {
+            mLayers[i].draw(canvas, i == LAYER_DATA ? mPanOffsetX : 0f, 0f);
+        }
+
+        // Overlay
+        if (valuesToHighlight()) {
+            int clipRestoreCount = canvas.save();
+            canvas.clipRect(mViewPortHandler.getContentRect());
+
+            mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
+
+            canvas.restoreToCount(clipRestoreCount);
+        }
+
+        drawMarkers(canvas);
+    }
+
+    /**
+     * Updates the data layer after a pan, if only the x-translation of the viewport changed since
+     * it was drawn: the content is shifted by a whole number of pixels, and only the exposed strip
+     * is drawn, with the visible x range narrowed to it. The strip is drawn for the shifted
+     * translation, so the whole layer stays consistent, and the remaining fraction of a pixel is
+     * applied when compositing.
+     *
+     * @return false if the data layer must be drawn again entirely
+     */
+    private boolean drawPannedDataLayer(int width, int height) {
+        RenderLayer layer = mLayers[LAYER_DATA];
+        RectF content = mViewPortHandler.getContentRect();
+
+        if (!mPanDrawingEnabled || !mPanBaseValid || mAutoScaleMinMaxEnabled || !isPanDrawingSupported()
+                || !layer.hasSize(width, height) || !content.equals(mPanContentRect)) {
+            return false;
+        }
+
+        final float[] values = mPanMatrixBuffer;
+        mViewPortHandler.getMatrixTouch().getValues(values);
+
+        for (int i = 0; i < values.length; i++) {
+            if (i != Matrix.MTRANS_X && values[i] != mPanMatrixValues[i]) {
+                // Zoomed or dragged vertically
+                return false;
+            }
+        }
+
+        final float dx = values[Matrix.MTRANS_X] - mPanMatrixValues[Matrix.MTRANS_X];
+        final int shift = Math.round(dx);
+
+        if (Math.abs(shift) >= content.width()) {
+            return false;
+        }
+
+        if (shift != 0) {
+            Canvas layerCanvas = layer.scroll(shift, 0, content);
+
+            final float stripLeft = shift > 0 ? content.left : content.right + shift;
+            final float stripRight = shift > 0 ? content.left + shift : content.right;
+
+            // Translation from the chart to the shifted content
+            final float offset = shift - dx;
+
+            int restoreCount = layerCanvas.save();
+            layerCanvas.clipRect(stripLeft, content.top, stripRight, content.bottom);
+            layerCanvas.translate(offset, 0f);
+
+            mVisibleStripLeft = stripLeft - offset;
+            mVisibleStripRight = stripRight - offset;
+            try {
+                drawDataLayer(layerCanvas, false);
+            } finally {
+                mVisibleStripLeft = Float.NaN;
+                mVisibleStripRight = Float.NaN;
+            }
+
+            layerCanvas.restoreToCount(restoreCount);
+
+            mPanMatrixValues[Matrix.MTRANS_X] += shift;
+        } else {
+            layer.validate();
+        }
+
+        mPanOffsetX = values[Matrix.MTRANS_X] - mPanMatrixValues[Matrix.MTRANS_X];
+
+        if (mLogEnabled) {
+            Log.i(LOG_TAG, "Panned data layer by " + shift + " px");
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns true if the data layer can be shifted horizontally when the viewport is panned, which
+     * requires the x-axis to be horizontal.
+     */
+    protected boolean isPanDrawingSupported() {
+        return true;
+    }
+
+    /**
+     * Scales the y-axes to the visible entries if enabled, and computes the entries of the axes.
+     */
+    protected void computeAxes() {
         if (mAutoScaleMinMaxEnabled) {
             autoScale();
         }
@@ -203,7 +486,14 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         if (mXAxis.isEnabled()) {
             mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
         }
+    }
 
+    /**
+     * Draws the axis lines, and the grid lines and limit lines drawn behind the data.
+     *
+     * @param canvas
+     */
+    protected void drawAxesBehindData(@NonNull Canvas canvas) {
         mXAxisRenderer.renderAxisLine(canvas);
         mAxisRendererLeft.renderAxisLine(canvas);
         mAxisRendererRight.renderAxisLine(canvas);
@@ -228,7 +518,15 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         if (mAxisRight.isEnabled() && mAxisRight.isDrawLimitLinesBehindDataEnabled()) {
             mAxisRendererRight.renderLimitLines(canvas);
         }
+    }
 
+    /**
+     * Draws the data and the grid lines drawn in front of it, clipped to the content rect.
+     *
+     * @param canvas
+     * @param drawHighlighted if true, the highlights are drawn as well, on top of the grid lines
+     */
+    protected void drawDataLayer(@NonNull Canvas canvas, boolean drawHighlighted) {
         // Make sure the data cannot be drawn outside the content-rect
         int clipRestoreCount = canvas.save();
         canvas.clipRect(mViewPortHandler.getContentRect());
@@ -245,13 +543,21 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
             mAxisRendererRight.renderGridLines(canvas);
 
         // If highlighting is enabled
-        if (valuesToHighlight()) {
+        if (drawHighlighted && valuesToHighlight()) {
             mRenderer.drawHighlighted(canvas, mIndicesToHighlight);
         }
 
         // Removes clipping rectangle
         canvas.restoreToCount(clipRestoreCount);
+    }
 
+    /**
+     * Draws the extras, the limit lines drawn in front of the data, the labels of the axes and the
+     * values.
+     *
+     * @param canvas
+     */
+    protected void drawValuesLayer(@NonNull Canvas canvas) {
         mRenderer.drawExtras(canvas);
 
         if (mXAxis.isEnabled() && !mXAxis.isDrawLimitLinesBehindDataEnabled()) {
@@ -271,7 +577,7 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         mAxisRendererRight.renderAxisLabels(canvas);
 
         if (isClipValuesToContentEnabled()) {
-            clipRestoreCount = canvas.save();
+            int clipRestoreCount = canvas.save();
             canvas.clipRect(mViewPortHandler.getContentRect());
 
             mRenderer.drawValues(canvas);
@@ -280,22 +586,142 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         } else {
             mRenderer.drawValues(canvas);
         }
+    }
 
+    /**
+     * Draws the legend and the description.
+     *
+     * @param canvas
+     */
+    protected void drawDecorationsLayer(@NonNull Canvas canvas) {
         mLegendRenderer.renderLegend(canvas);
 
         drawDescription(canvas);
+    }
 
-        drawMarkers(canvas);
+    /**
+     * If set to true, the chart is drawn in layers retained in bitmaps: background (grid
+     * background, axis lines, grid and limit lines behind the data), data (with the grid lines in
+     * front of it), values (with the extras, the limit lines in front of the data and the axis
+     * labels), and decorations (legend and description). Changing the highlights, e.g. while dragging them, then only draws the
+     * highlights and markers again on top of the layers, instead of the whole chart. The
+     * highlights are therefore drawn above everything but the markers, instead of being drawn
+     * right above the data. Every call to invalidate() draws all the layers again, a single one
+     * can be drawn again with invalidateLayer(). Uses one bitmap of the size of the chart per
+     * layer. Default: false
+     *
+     * @param enabled
+     */
+    public void setLayeredDrawingEnabled(boolean enabled) {
+        mLayeredDrawingEnabled = enabled;
 
-        if (mLogEnabled) {
-            long drawTime = System.currentTimeMillis() - startTime;
-            totalTime += drawTime;
-            drawCycles += 1;
-            long average = totalTime / drawCycles;
-            Log.i(LOG_TAG, "Draw time: " + drawTime + " ms, average: " + average + " ms, cycles: " + drawCycles);
+        if (!enabled) {
+            releaseLayers();
+        }
+
+        invalidate();
+    }
+
+    /**
+     * Returns true if the chart is drawn in layers retained in bitmaps.
+     */
+    public boolean isLayeredDrawingEnabled() {
+        return mLayeredDrawingEnabled;
+    }
+
+    /**
+     * If set to true, and the chart is drawn in layers (see setLayeredDrawingEnabled()), panning
+     * horizontally without zooming shifts the previously drawn data layer and only draws the strip
+     * of the data which became visible, instead of drawing all the visible data again. Everything
+     * else is drawn again as usual. Zooming, auto scaling, vertical drags and any call to
+     * invalidate() draw the data layer entirely, so changes of the data or its style must be
+     * followed by invalidate() (or notifyDataSetChanged()) as usual. The shifted content may be off
+     * by up to half a pixel until the next full draw. Not supported by HorizontalBarChart.
+     * Default: false
+     *
+     * @param enabled
+     */
+    public void setPanDrawingEnabled(boolean enabled) {
+        mPanDrawingEnabled = enabled;
+        invalidate();
+    }
+
+    /**
+     * Returns true if panning shifts the previously drawn data layer.
+     */
+    public boolean isPanDrawingEnabled() {
+        return mPanDrawingEnabled;
+    }
+
+    /**
+     * Draws the given layer again (one of the LAYER_ constants) when the chart is drawn in layers,
+     * and redraws the chart, without drawing the other layers again.
+     *
+     * @param layer
+     */
+    public void invalidateLayer(int layer) {
+        if (layer < 0 || layer >= LAYER_COUNT) {
+            throw new IllegalArgumentException("Unknown layer: " + layer);
+        }
+
+        if (mLayers != null) {
+            mLayers[layer].invalidate();
+        }
+
+        super.invalidate();
+    }
+
+    /**
+     * Draws all the layers again on the next draw.
+     */
+    protected void invalidateLayers() {
+        mPanBaseValid = false;
+
+        if (mLayers != null) {
+            for (RenderLayer layer : mLayers) {
+                layer.invalidate();
+            }
+        }
+    }
+
+    /**
+     * Releases the bitmaps of the layers.
+     */
+    protected void releaseLayers() {
+        if (mLayers != null) {
+            for (RenderLayer layer : mLayers) {
+                layer.recycle();
+            }
+
+            mLayers = null;
         }
     }
 
+    @Override
+    public void invalidate() {
+        invalidateLayers();
+
+        super.invalidate();
+    }
+
+    @Override
+    public void invalidateViewport() {
+        // Unlike invalidate(), lets the data layer be shifted if only the translation changed
+        if (mLayers != null) {
+            for (RenderLayer layer : mLayers) {
+                layer.invalidate();
+            }
+        }
+
+        super.invalidate();
+    }
+
+    @Override
+    protected void invalidateOverlay() {
+        // The layers are kept, only the highlights and markers are drawn again
+        super.invalidate();
+    }
+
     /**
      * Reset performance tracking fields
      */
@@ -336,6 +762,8 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
             Log.i(LOG_TAG, "Preparing...");
         }
 
+        mData.clearChanges();
+
         if (mRenderer != null) {
             mRenderer.initBuffers();
         }
@@ -353,6 +781,251 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
         calculateOffsets();
     }
 
+    @Override
+    protected void onDataChanges(int changes) {
+        if (DataChange.contains(changes, DataChange.DATA_SETS)) {
+            notifyDataSetChanged();
+            return;
+        }
+
+        boolean computeAxes = false;
+        boolean computeLegend = DataChange.contains(changes, DataChange.STYLE);
+
+        if (DataChange.contains(changes, DataChange.VALUES)) {
+            if (mRenderer != null) {
+                mRenderer.initBuffers();
+            }
+
+            // The min and max values of the DataSets are up to date, only the ones of the data are
+            // aggregated again
+            mData.notifyDataChanged();
+
+            computeAxes = updateAxisRanges();
+        }
+
+        if (mLogEnabled) {
+            Log.i(LOG_TAG, "Applying changes " + changes + ", axes: " + computeAxes + ", legend: " + computeLegend);
+        }
+
+        if (computeAxes) {
+            computeAxisEntries();
+        }
+
+        if (computeLegend && mLegend != null) {
+            mLegendRenderer.computeLegend(mData);
+        }
+
+        // Visibility changes only need to be drawn
+        if (computeAxes || computeLegend) {
+            calculateOffsets();
+        }
+    }
+
+    @Override
+    protected void onSnapshotsSwapped() {
+        // The published values only extend or replace the values, the DataSets and their style
+        // are unchanged
+        if (mRenderer != null) {
+            mRenderer.initBuffers();
+        }
+
+        if (updateAxisRanges()) {
+            computeAxisEntries();
+            calculateOffsets();
+        }
+    }
+
+    /**
+     * Recalculates the ranges of the axes from the min and max values of the data.
+     *
+     * @return true if the range of any axis changed
+     */
+    private boolean updateAxisRanges() {
+        float xMin = mXAxis.mAxisMinimum;
+        float xMax = mXAxis.mAxisMaximum;
+        float leftMin = mAxisLeft.mAxisMinimum;
+        float leftMax = mAxisLeft.mAxisMaximum;
+        float rightMin = mAxisRight.mAxisMinimum;
+        float rightMax = mAxisRight.mAxisMaximum;
+
+        calcMinMax();
+
+        // Entries appended within the current range do not change the axes
+        return xMin != mXAxis.mAxisMinimum || xMax != mXAxis.mAxisMaximum
+                || leftMin != mAxisLeft.mAxisMinimum || leftMax != mAxisLeft.mAxisMaximum
+                || rightMin != mAxisRight.mAxisMinimum || rightMax != mAxisRight.mAxisMaximum;
+    }
+
+    /**
+     * Computes the entries of all the axes from their current ranges.
+     */
+    private void computeAxisEntries() {
+        mAxisRendererLeft.computeAxis(mAxisLeft.mAxisMinimum, mAxisLeft.mAxisMaximum, mAxisLeft.isInverted());
+        mAxisRendererRight.computeAxis(mAxisRight.mAxisMinimum, mAxisRight.mAxisMaximum, mAxisRight.isInverted());
+        mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
+    }
+
+    /**
+     * Asynchronous variant of {@link #notifyDataSetChanged()}, which also recalculates the min and
+     * max values of the DataSets and of the ChartData (like ChartData.notifyDataSetsChanged()).
+     * The min and max values of the DataSets are calculated on a background thread, while the
+     * chart keeps drawing the current state. The result is applied by the next onDraw(), which
+     * then recalculates the axes, the legend and the offsets from the new data on the UI thread.
+     * Calling this again before the result is applied cancels the pending preparation.
+     * <p>
+     * The data must not be modified until the result is applied, DataSets filled by other threads
+     * should be {@link com.github.mikephil.charting.data.SnapshotLineDataSet}s, whose values are
+     * not published while a preparation is pending. Must be called from the UI thread.
+     */
+    public void notifyDataSetChangedAsync() {
+        cancelPreparation();
+
+        if (mData == null) {
+            notifyDataSetChanged();
+            return;
+        }
+
+        final int generation = mPreparationGeneration;
+        final T data = mData;
+
+        mPreparationFuture = getPreparationExecutor().submit(new Runnable() {
+            @Override
+            public void run() {
+                PreparedMinMax minMax;
+
+                try {
+                    minMax = data.prepareMinMax();
+                    if (minMax == null) {
+                        // Cancelled
+                        return;
+                    }
+                } catch (RuntimeException e) {
+                    // The data was probably modified during the preparation, do everything on the
+                    // UI thread instead
+                    Log.w(LOG_TAG, "Preparation failed", e);
+                    minMax = null;
+                }
+
+                if (Thread.currentThread().isInterrupted()) {
+                    return;
+                }
+
+                mPreparedFrame = new PreparedFrame(generation, data, minMax);
+                postInvalidate();
+            }
+        });
+    }
+
+    /**
+     * Cancels the preparation started by notifyDataSetChangedAsync(), if it was not applied yet.
+     */
+    public void cancelPreparation() {
+        mPreparationGeneration++;
+        mPreparedFrame = null;
+
+        if (mPreparationFuture != null) {
+            mPreparationFuture.cancel(true);
+            mPreparationFuture = null;
+        }
+    }
+
+    /**
+     * Returns true if a preparation started by notifyDataSetChangedAsync() was not applied yet.
+     */
+    @Override
+    public boolean isPreparingData() {
+        return mPreparationFuture != null;
+    }
+
+    /**
+     * Applies the given frame prepared by notifyDataSetChangedAsync(), unless it was superseded.
+     *
+     * @param frame
+     */
+    private void applyPreparedFrame(@NonNull PreparedFrame frame) {
+        if (frame.mGeneration != mPreparationGeneration) {
+            return;
+        }
+
+        mPreparationFuture = null;
+
+        if (frame.mData != mData) {
+            return;
+        }
+
+        if (mLogEnabled) {
+            Log.i(LOG_TAG, "Applying prepared frame...");
+        }
+
+        if (mRenderer != null) {
+            mRenderer.initBuffers();
+        }
+
+        if (frame.mMinMax != null) {
+            mData.applyMinMax(frame.mMinMax);
+        } else {
+            mData.notifyDataSetsChanged();
+        }
+
+        calcMinMax();
+
+        mAxisRendererLeft.computeAxis(mAxisLeft.mAxisMinimum, mAxisLeft.mAxisMaximum, mAxisLeft.isInverted());
+        mAxisRendererRight.computeAxis(mAxisRight.mAxisMinimum, mAxisRight.mAxisMaximum, mAxisRight.isInverted());
+        mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
+
+        if (mLegend != null) {
+            mLegendRenderer.computeLegend(mData);
+        }
+
+        calculateOffsets();
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        cancelPreparation();
+        releaseLayers();
+
+        super.onDetachedFromWindow();
+    }
+
+    @NonNull
+    private static synchronized ExecutorService getPreparationExecutor() {
+        if (sPreparationExecutor == null) {
+            sPreparationExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(@NonNull Runnable runnable) {
+                    Thread thread = new Thread(runnable, "Chart-Preparation");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+
+        return sPreparationExecutor;
+    }
+
+    /**
+     * Result of notifyDataSetChangedAsync(), never modified once created.
+     */
+    private static final class PreparedFrame {
+        final int mGeneration;
+
+        @NonNull
+        final Object mData;
+
+        /**
+         * Null if the preparation failed, in which case everything is recalculated when applied.
+         */
+        @Nullable
+        final PreparedMinMax mMinMax;
+
+        PreparedFrame(int generation, @NonNull Object data, @Nullable PreparedMinMax minMax) {
+            mGeneration = generation;
+            mData = data;
+            mMinMax = minMax;
+        }
+    }
+
     /**
      * Performs auto scaling of the axis by recalculating the minimum and maximum y-values based on
      * the entries currently in view.
@@ -445,6 +1118,8 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
 
     @Override
     public void calculateOffsets() {
+        invalidateLayers();
+
         if (!mCustomViewPortEnabled) {
             calculateLegendOffsets(mOffsetsBuffer);
 
@@ -1263,7 +1938,8 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
      */
     @Override
     public float getLowestVisibleX() {
-        getTransformer(AxisDependency.LEFT).getValuesByTouchPoint(mViewPortHandler.contentLeft(), mViewPortHandler.contentBottom(), posForGetLowestVisibleX);
+        float left = Float.isNaN(mVisibleStripLeft) ? mViewPortHandler.contentLeft() : mVisibleStripLeft;
+        getTransformer(AxisDependency.LEFT).getValuesByTouchPoint(left, mViewPortHandler.contentBottom(), posForGetLowestVisibleX);
         return (float) Math.max(mXAxis.mAxisMinimum, posForGetLowestVisibleX.x);
     }
 
@@ -1277,7 +1953,8 @@ public abstract class BarLineChartBase<T extends BarLineScatterCandleBubbleData<
      */
     @Override
     public float getHighestVisibleX() {
-        getTransformer(AxisDependency.LEFT).getValuesByTouchPoint(mViewPortHandler.contentRight(), mViewPortHandler.contentBottom(), posForGetHighestVisibleX);
+        float right = Float.isNaN(mVisibleStripRight) ? mViewPortHandler.contentRight() : mVisibleStripRight;
+        getTransformer(AxisDependency.LEFT).getValuesByTouchPoint(right, mViewPortHandler.contentBottom(), posForGetHighestVisibleX);
         return (float) Math.min(mXAxis.mAxisMaximum, posForGetHighestVisibleX.x);
     }
 
@@ -9,12 +9,15 @@ import android.graphics.Bitmap;
 import android.graphics.Bitmap.CompressFormat;
 import android.graphics.Canvas;
 import android.graphics.Color;
+import android.graphics.Matrix;
 import android.graphics.Paint;
 import android.graphics.Paint.Align;
 import android.graphics.RectF;
 import android.graphics.Typeface;
 import android.graphics.drawable.Drawable;
 import android.os.Environment;
+import android.os.Parcel;
+import android.os.Parcelable;
 import android.provider.MediaStore.Images;
 import android.text.TextUtils;
 import android.util.AttributeSet;
@@ -29,6 +32,8 @@ import com.github.mikephil.charting.components.IMarker;
 import com.github.mikephil.charting.components.Legend;
 import com.github.mikephil.charting.components.XAxis;
 import com.github.mikephil.charting.data.ChartData;
+import com.github.mikephil.charting.data.ChartDataState;
+import com.github.mikephil.charting.data.DataChange;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.formatter.DefaultValueFormatter;
 import com.github.mikephil.charting.formatter.ValueFormatter;
@@ -40,13 +45,17 @@ import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.listener.ChartTouchListener;
 import com.github.mikephil.charting.listener.OnChartGestureListener;
 import com.github.mikephil.charting.listener.OnChartValueSelectedListener;
+import com.github.mikephil.charting.listener.OnViewportChangedListener;
 import com.github.mikephil.charting.renderer.DataRenderer;
 import com.github.mikephil.charting.renderer.LegendRenderer;
 import com.github.mikephil.charting.utils.MPPointF;
 import com.github.mikephil.charting.utils.Utils;
 import com.github.mikephil.charting.utils.ViewPortHandler;
 
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
@@ -66,6 +75,13 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         extends ViewGroup implements ChartInterface {
     public static final String LOG_TAG = "MPAndroidChart";
 
+    /**
+     * Size in bytes above which the saved values of the DataSets are written to a file of the cache
+     * directory instead of the saved instance state, which is limited by the Binder transaction
+     * size.
+     */
+    public static final int MAX_SAVED_DATA_SIZE = 256 * 1024;
+
     /**
      * Flag that indicates if logging is enabled or not.
      */
@@ -173,6 +189,17 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
     private float mExtraBottomOffset = 0f;
     private float mExtraLeftOffset = 0f;
 
+    /**
+     * If true, the values of the DataSets and the viewport are part of the saved instance state.
+     */
+    private boolean mSaveDataStateEnabled = false;
+
+    /**
+     * Values restored before the chart had data, applied by the next call to setData().
+     */
+    @Nullable
+    private ChartDataState mPendingDataState = null;
+
     /**
      * Default constructor for initialization in code.
      */
@@ -213,6 +240,13 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         // Initialize the utils
         Utils.init(getContext());
 
+        mViewPortHandler.setOnViewportChangedListener(new OnViewportChangedListener() {
+            @Override
+            public void onViewportChanged() {
+                invalidateViewport();
+            }
+        });
+
         mMaxHighlightDistance = Utils.convertDpToPixel(500f);
         mDescription = new Description();
         mLegend = new Legend();
@@ -239,6 +273,11 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
             return;
         }
 
+        if (mPendingDataState != null) {
+            mPendingDataState.restore(data);
+            mPendingDataState = null;
+        }
+
         // Calculate how many digits are needed
         setupDefaultFormatter(data.getYMin(), data.getYMax());
 
@@ -293,6 +332,53 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
      */
     public abstract void notifyDataSetChanged();
 
+    /**
+     * Lighter variant of {@link #notifyDataSetChanged()}, which applies the changes recorded by the
+     * DataSets since the last call to this method or to notifyDataSetChanged(), see DataChange,
+     * and skips the steps of the preparation they cannot affect. Does nothing if no change was
+     * recorded. The changes must be recorded with e.g. DataSet.notifyEntriesAppended() or
+     * DataSet.notifyStyleChanged(), changes which were not recorded are not applied.
+     */
+    public void notifyDataChanges() {
+        if (mData == null) {
+            return;
+        }
+
+        int changes = mData.getChanges();
+        if (changes == DataChange.NONE) {
+            return;
+        }
+
+        mData.clearChanges();
+        onDataChanges(changes);
+    }
+
+    /**
+     * Applies the given changes of the data, see DataChange. Does everything notifyDataSetChanged()
+     * does by default.
+     *
+     * @param changes
+     */
+    protected void onDataChanges(int changes) {
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Applies the values published by ChartData.swapSnapshots(), which already recalculated the
+     * min and max values of the data. Does everything notifyDataSetChanged() does by default.
+     */
+    protected void onSnapshotsSwapped() {
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Returns true if the data is being prepared on a background thread, in which case the values
+     * added to snapshot DataSets are not published. Default: false
+     */
+    public boolean isPreparingData() {
+        return false;
+    }
+
     /**
      * Calculates the offsets of the chart to the border depending on the position of an eventual
      * legend or depending on the length of the y-axis and x-axis labels and their position.
@@ -329,6 +415,11 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
 
     @Override
     protected void onDraw(@NonNull Canvas canvas) {
+        // Publish the values added by background threads before anything reads them
+        if (mData != null && !isPreparingData() && mData.swapSnapshots()) {
+            onSnapshotsSwapped();
+        }
+
         if (mData == null) {
             if (!TextUtils.isEmpty(mNoDataText)) {
                 MPPointF center = getCenter();
@@ -454,7 +545,7 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         setLastHighlighted(highlights);
 
         // Redraw the chart
-        invalidate();
+        invalidateOverlay();
     }
 
     /**
@@ -557,6 +648,23 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         }
 
         // Redraw the chart
+        invalidateOverlay();
+    }
+
+    /**
+     * Redraws the chart after only the viewport (the touch matrix of the ViewPortHandler) changed.
+     * Called by ViewPortHandler.refresh() through its OnViewportChangedListener. Redraws the whole
+     * chart by default.
+     */
+    public void invalidateViewport() {
+        invalidate();
+    }
+
+    /**
+     * Redraws the highlights and the markers after they changed. Redraws the whole chart by
+     * default.
+     */
+    protected void invalidateOverlay() {
         invalidate();
     }
 
@@ -1440,6 +1548,204 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
         super.onSizeChanged(w, h, oldWidth, oldHeight);
     }
 
+    /**
+     * If set to true, the values of the DataSets and the viewport (zoom and translation) are saved
+     * with the instance state of the view, in packed arrays, and restored on configuration changes.
+     * Only the values are restored, into a ChartData built again with DataSets of the same types,
+     * either already set when the state is restored, or set by the next call to setData(). The
+     * values are not saved if ChartDataState.canSave() returns false, e.g. for DataSets mapping a
+     * file. The chart needs an id for its state to be saved. Default: false
+     *
+     * @param enabled
+     */
+    public void setSaveDataStateEnabled(boolean enabled) {
+        mSaveDataStateEnabled = enabled;
+
+        if (!enabled) {
+            deleteStateFile();
+        }
+    }
+
+    /**
+     * Returns true if the values of the DataSets and the viewport are saved with the instance
+     * state of the view.
+     */
+    public boolean isSaveDataStateEnabled() {
+        return mSaveDataStateEnabled;
+    }
+
+    @Nullable
+    @Override
+    protected Parcelable onSaveInstanceState() {
+        Parcelable superState = super.onSaveInstanceState();
+        if (!mSaveDataStateEnabled) {
+            return superState;
+        }
+
+        SavedState state = new SavedState(superState);
+
+        state.matrixValues = new float[9];
+        mViewPortHandler.getMatrixTouch().getValues(state.matrixValues);
+        state.contentWidth = mViewPortHandler.contentWidth();
+        state.contentHeight = mViewPortHandler.contentHeight();
+
+        byte[] bytes = null;
+        if (mData != null && ChartDataState.canSave(mData)) {
+            bytes = ChartDataState.save(mData).toByteArray();
+        }
+
+        if (bytes != null && bytes.length > MAX_SAVED_DATA_SIZE) {
+            state.dataStateFile = writeStateFile(bytes);
+        } else {
+            state.dataState = bytes;
+            deleteStateFile();
+        }
+
+        return state;
+    }
+
+    @Override
+    protected void onRestoreInstanceState(@Nullable Parcelable state) {
+        if (!(state instanceof SavedState)) {
+            super.onRestoreInstanceState(state);
+            return;
+        }
+
+        final SavedState savedState = (SavedState) state;
+        super.onRestoreInstanceState(savedState.getSuperState());
+
+        ChartDataState dataState = readDataState(savedState);
+        if (dataState != null) {
+            if (mData != null && dataState.restore(mData)) {
+                notifyDataSetChanged();
+            } else if (mData == null) {
+                mPendingDataState = dataState;
+            }
+        }
+
+        final float[] values = savedState.matrixValues;
+        if (values != null) {
+            final float contentWidth = savedState.contentWidth;
+            final float contentHeight = savedState.contentHeight;
+
+            addViewportJob(new Runnable() {
+                @Override
+                public void run() {
+                    // The translation is in pixels, so it is scaled to the new size of the content
+                    if (contentWidth > 0f) {
+                        values[Matrix.MTRANS_X] *= mViewPortHandler.contentWidth() / contentWidth;
+                    }
+
+                    if (contentHeight > 0f) {
+                        values[Matrix.MTRANS_Y] *= mViewPortHandler.contentHeight() / contentHeight;
+                    }
+
+                    Matrix matrix = new Matrix();
+                    matrix.setValues(values);
+                    mViewPortHandler.refresh(matrix, Chart.this, true);
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns the file of the cache directory the saved values of this chart are written to when
+     * they are too large for the instance state. There is a single file per chart id, overwritten
+     * by every save.
+     */
+    @NonNull
+    private File getStateFile() {
+        return new File(getContext().getCacheDir(), "chart-state-" + getId() + ".bin");
+    }
+
+    /**
+     * Deletes the file the saved values of this chart were written to, if any.
+     */
+    private void deleteStateFile() {
+        File file = getStateFile();
+        if (file.exists() && !file.delete()) {
+            Log.w(LOG_TAG, "Unable to delete " + file);
+        }
+    }
+
+    /**
+     * Writes the given saved values to the state file of this chart, replacing the previous ones.
+     *
+     * @param bytes
+     * @return the path of the file, or null if it could not be written
+     */
+    @Nullable
+    private String writeStateFile(@NonNull byte[] bytes) {
+        FileOutputStream out = null;
+        try {
+            File file = getStateFile();
+            out = new FileOutputStream(file);
+            out.write(bytes);
+
+            return file.getPath();
+        } catch (IOException e) {
+            Log.e(LOG_TAG, "Unable to save the chart values", e);
+
+            return null;
+        } finally {
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the values saved in the given state, from the state itself or from the file it was
+     * written to, which is deleted.
+     *
+     * @param state
+     * @return null if no values were saved, or they could not be read
+     */
+    @Nullable
+    private ChartDataState readDataState(@NonNull SavedState state) {
+        if (state.dataState != null) {
+            try {
+                return ChartDataState.fromByteArray(state.dataState);
+            } catch (IOException e) {
+                Log.e(LOG_TAG, "Unable to restore the chart values", e);
+
+                return null;
+            }
+        }
+
+        if (state.dataStateFile == null) {
+            return null;
+        }
+
+        File file = new File(state.dataStateFile);
+        DataInputStream in = null;
+        try {
+            in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)));
+
+            return ChartDataState.readFrom(in);
+        } catch (IOException e) {
+            Log.e(LOG_TAG, "Unable to restore the chart values", e);
+
+            return null;
+        } finally {
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+
+            if (!file.delete()) {
+                Log.w(LOG_TAG, "Unable to delete " + file);
+            }
+        }
+    }
+
     /**
      * Setting this to true will set the layer-type HARDWARE for the view, false will set layer-type
      * SOFTWARE.
@@ -1499,4 +1805,69 @@ public abstract class Chart<T extends ChartData<? extends IDataSet<? extends Ent
     public void setUnbindEnabled(boolean enabled) {
         this.mUnbind = enabled;
     }
+
+    /**
+     * Instance state of a chart whose data state is saved, see
+     * {@link #setSaveDataStateEnabled(boolean)}.
+     */
+    public static class SavedState extends BaseSavedState {
+        /**
+         * The values of the DataSets serialized by ChartDataState, if small enough.
+         */
+        @Nullable
+        byte[] dataState;
+
+        /**
+         * The path of the file the values of the DataSets were written to, if too large.
+         */
+        @Nullable
+        String dataStateFile;
+
+        /**
+         * The values of the touch matrix of the ViewPortHandler.
+         */
+        @Nullable
+        float[] matrixValues;
+
+        float contentWidth;
+
+        float contentHeight;
+
+        SavedState(Parcelable superState) {
+            super(superState);
+        }
+
+        private SavedState(@NonNull Parcel in) {
+            super(in);
+
+            dataState = in.createByteArray();
+            dataStateFile = in.readString();
+            matrixValues = in.createFloatArray();
+            contentWidth = in.readFloat();
+            contentHeight = in.readFloat();
+        }
+
+        @Override
+        public void writeToParcel(@NonNull Parcel out, int flags) {
+            super.writeToParcel(out, flags);
+
+            out.writeByteArray(dataState);
+            out.writeString(dataStateFile);
+            out.writeFloatArray(matrixValues);
+            out.writeFloat(contentWidth);
+            out.writeFloat(contentHeight);
+        }
+
+        public static final Parcelable.Creator<SavedState> CREATOR = new Parcelable.Creator<SavedState>() {
+            @Override
+            public SavedState createFromParcel(Parcel in) {
+                return new SavedState(in);
+            }
+
+            @Override
+            public SavedState[] newArray(int size) {
+                return new SavedState[size];
+            }
+        };
+    }
 }
@@ -197,6 +197,11 @@ public class HorizontalBarChart extends BarChart {
         }
     }
 
+    @Override
+    protected boolean isPanDrawingSupported() {
+        return false;
+    }
+
     @Override
     public float getLowestVisibleX() {
         getTransformer(AxisDependency.LEFT).getValuesByTouchPoint(mViewPortHandler.contentLeft(), mViewPortHandler.contentBottom(), posForGetLowestVisibleX);
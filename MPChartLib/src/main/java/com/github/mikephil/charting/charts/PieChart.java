@@ -11,6 +11,7 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import com.github.mikephil.charting.components.XAxis;
+import com.github.mikephil.charting.data.DataChange;
 import com.github.mikephil.charting.data.PieData;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.highlight.PieHighlighter;
@@ -172,6 +173,28 @@ public class PieChart extends PieRadarChartBase<PieData> {
         calcAngles();
     }
 
+    @Override
+    protected void onDataChanges(int changes) {
+        if (DataChange.contains(changes, DataChange.DATA_SETS)) {
+            notifyDataSetChanged();
+            return;
+        }
+
+        // The legend holds one entry per slice, so it is computed again for any change of the values
+        if (DataChange.contains(changes, DataChange.VALUES)) {
+            mData.notifyDataChanged();
+            calcMinMax();
+        }
+
+        if (DataChange.contains(changes, DataChange.VALUES | DataChange.STYLE)) {
+            if (mLegend != null) {
+                mLegendRenderer.computeLegend(mData);
+            }
+
+            calculateOffsets();
+        }
+    }
+
     @Override
     protected float[] getMarkerPosition(@NonNull Highlight highlight) {
         MPPointF center = getCenterCircleBox();
@@ -96,6 +96,7 @@ public abstract class PieRadarChartBase<T extends ChartData<? extends IDataSet<?
             return;
         }
 
+        mData.clearChanges();
         calcMinMax();
 
         if (mLegend != null) {
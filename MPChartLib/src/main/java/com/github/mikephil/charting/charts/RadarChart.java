@@ -7,6 +7,7 @@ import android.util.AttributeSet;
 
 import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.components.YAxis.AxisDependency;
+import com.github.mikephil.charting.data.DataChange;
 import com.github.mikephil.charting.data.RadarData;
 import com.github.mikephil.charting.highlight.RadarHighlighter;
 import com.github.mikephil.charting.renderer.RadarChartRenderer;
@@ -109,6 +110,7 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
             return;
         }
 
+        mData.clearChanges();
         calcMinMax();
 
         mYAxisRenderer.computeAxis(mYAxis.mAxisMinimum, mYAxis.mAxisMaximum, mYAxis.isInverted());
@@ -121,6 +123,43 @@ public class RadarChart extends PieRadarChartBase<RadarData> {
         calculateOffsets();
     }
 
+    @Override
+    protected void onDataChanges(int changes) {
+        if (DataChange.contains(changes, DataChange.DATA_SETS)) {
+            notifyDataSetChanged();
+            return;
+        }
+
+        boolean computeAxes = false;
+        boolean computeLegend = DataChange.contains(changes, DataChange.STYLE)
+                && mLegend != null && !mLegend.isLegendCustom();
+
+        if (DataChange.contains(changes, DataChange.VALUES)) {
+            mData.notifyDataChanged();
+
+            float yMin = mYAxis.mAxisMinimum;
+            float yMax = mYAxis.mAxisMaximum;
+            float xMax = mXAxis.mAxisMaximum;
+
+            calcMinMax();
+
+            computeAxes = yMin != mYAxis.mAxisMinimum || yMax != mYAxis.mAxisMaximum || xMax != mXAxis.mAxisMaximum;
+        }
+
+        if (computeAxes) {
+            mYAxisRenderer.computeAxis(mYAxis.mAxisMinimum, mYAxis.mAxisMaximum, mYAxis.isInverted());
+            mXAxisRenderer.computeAxis(mXAxis.mAxisMinimum, mXAxis.mAxisMaximum, false);
+        }
+
+        if (computeLegend) {
+            mLegendRenderer.computeLegend(mData);
+        }
+
+        if (computeAxes || computeLegend) {
+            calculateOffsets();
+        }
+    }
+
     @Override
     protected void onDraw(@NonNull Canvas canvas) {
         super.onDraw(canvas);
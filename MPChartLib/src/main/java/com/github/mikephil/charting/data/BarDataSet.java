@@ -107,6 +107,15 @@ public class BarDataSet extends BarLineScatterCandleBubbleDataSet<BarEntry> impl
         }
     }
 
+    @Override
+    void restoreValues(@NonNull List<BarEntry> values, float xMin, float xMax, float yMin, float yMax) {
+        super.restoreValues(values, xMin, xMax, yMin, yMax);
+
+        mStackSize = 1;
+        calcStackSize(values);
+        calcEntryCountIncludingStacks(values);
+    }
+
     @Override
     protected void calcMinMax(@NonNull BarEntry entry) {
         if (!Float.isNaN(entry.getY())) {
@@ -112,6 +112,16 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      */
     protected boolean mVisible = true;
 
+    /**
+     * Incremented by every recorded change.
+     */
+    private int mVersion = 0;
+
+    /**
+     * The types of the changes recorded since the last call to clearChanges().
+     */
+    private int mChanges = DataChange.NONE;
+
     /**
      * Default constructor.
      */
@@ -140,6 +150,63 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      */
     public void notifyDataSetChanged() {
         calcMinMax();
+        notifyChange(DataChange.ALL);
+    }
+
+    /**
+     * Call this after adding entries at the end with addEntry() or addEntries(), which already
+     * extend the min and max values. Lets Chart.notifyDataChanges() compute the axes again only if
+     * the range of the data was extended.
+     */
+    public void notifyEntriesAppended() {
+        notifyChange(DataChange.APPEND);
+    }
+
+    /**
+     * Call this after modifying entries in place or inserting entries. Recalculates the min and max
+     * values.
+     */
+    public void notifyEntriesReplaced() {
+        calcMinMax();
+        notifyChange(DataChange.REPLACE_RANGE);
+    }
+
+    /**
+     * Call this after removing entries with the remove methods of this DataSet, which already
+     * recalculate the min and max values.
+     */
+    public void notifyEntriesRemoved() {
+        notifyChange(DataChange.REMOVE_RANGE);
+    }
+
+    /**
+     * Call this after changing drawing attributes. Lets Chart.notifyDataChanges() skip the
+     * calculation of the min and max values and of the axes. The setters of the colors and of the
+     * label already call it.
+     */
+    public void notifyStyleChanged() {
+        notifyChange(DataChange.STYLE);
+    }
+
+    @Override
+    public void notifyChange(int changes) {
+        mChanges |= changes;
+        mVersion++;
+    }
+
+    @Override
+    public int getVersion() {
+        return mVersion;
+    }
+
+    @Override
+    public int getChanges() {
+        return mChanges;
+    }
+
+    @Override
+    public void clearChanges() {
+        mChanges = DataChange.NONE;
     }
 
     @ColorInt
@@ -191,6 +258,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      */
     public void setColors(@ColorInt @NonNull List<Integer> colors) {
         this.mColors = colors;
+        notifyStyleChanged();
     }
 
     /**
@@ -201,6 +269,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      */
     public void setColors(@ColorInt int... colors) {
         this.mColors = ColorTemplate.createColors(colors);
+        notifyStyleChanged();
     }
 
     /**
@@ -217,6 +286,8 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
         for (int color : colors) {
             mColors.add(context.getResources().getColor(color));
         }
+
+        notifyStyleChanged();
     }
 
     /**
@@ -226,6 +297,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      */
     public void addColor(int color) {
         mColors.add(color);
+        notifyStyleChanged();
     }
 
     /**
@@ -237,6 +309,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
     public void setColor(@ColorInt int color) {
         mColors = new ArrayList<>();
         mColors.add(color);
+        notifyStyleChanged();
     }
 
     /**
@@ -247,6 +320,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      */
     public void setGradientColor(@ColorInt int startColor, @ColorInt int endColor) {
         mGradientColor = new GradientColor(startColor, endColor);
+        notifyStyleChanged();
     }
 
     /**
@@ -256,6 +330,7 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      */
     public void setGradientColors(List<GradientColor> gradientColors) {
         this.mGradientColors = gradientColors;
+        notifyStyleChanged();
     }
 
     /**
@@ -286,11 +361,13 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
      */
     public void resetColors() {
         mColors.clear();
+        notifyStyleChanged();
     }
 
     @Override
     public void setLabel(@NonNull String label) {
         mLabel = label;
+        notifyStyleChanged();
     }
 
     @NonNull
@@ -441,7 +518,10 @@ public abstract class BaseDataSet<T extends Entry> implements IDataSet<T> {
 
     @Override
     public void setVisible(boolean visible) {
-        mVisible = visible;
+        if (mVisible != visible) {
+            mVisible = visible;
+            notifyChange(DataChange.VISIBILITY);
+        }
     }
 
     @Override
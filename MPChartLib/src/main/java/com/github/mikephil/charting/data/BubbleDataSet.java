@@ -61,6 +61,11 @@ public class BubbleDataSet extends BarLineScatterCandleBubbleDataSet<BubbleEntry
         return mMaxSize;
     }
 
+    @Override
+    public float getSizeForIndex(int index) {
+        return mValues.get(index).getSize();
+    }
+
     @Override
     public boolean isNormalizeSizeEnabled() {
         return mNormalizeSize;
@@ -0,0 +1,275 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.interfaces.datasets.ICandleDataSet;
+
+import java.util.Arrays;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Candles of a candle DataSet merged into coarser timeframes, one level per timeframe. The entries
+ * are grouped by the bucket their x-value falls in, buckets being aligned on multiples of the
+ * timeframe: with x-values expressed in minutes, timeframes of 5, 15 and 60 give the usual 5m, 15m
+ * and 1h candles. A merged candle opens at the open of its first Entry, closes at the close of its
+ * last one, and spans the lowest low and the highest high of its entries.
+ * <p>
+ * Candles are drawn 1 x-unit wide, so the x-values are expected in units of the interval of the
+ * entries, and a merged candle is drawn timeframe x-units wide. Level 0 represents the entries
+ * themselves. Values appended at the end of the DataSet are added incrementally, only the last
+ * candle of every level being recomputed, any other change requires a call to
+ * {@link #invalidate()}, which triggers a full rebuild on the next update.
+ */
+public class CandleAggregation {
+    /**
+     * The timeframe of every level above 0, in x-units, in ascending order.
+     */
+    @NonNull
+    final float[] mTimeframes;
+
+    /**
+     * mLevels[level - 1] holds the merged candles of the given level.
+     */
+    @NonNull
+    private final Level[] mLevels;
+
+    /**
+     * Number of entries currently represented.
+     */
+    private int mCount = 0;
+
+    /**
+     * False if the levels must be rebuilt from scratch.
+     */
+    private boolean mValid = false;
+
+    /**
+     * @param timeframes the timeframes of the levels, in x-units, strictly ascending and greater
+     *                   than 0
+     */
+    CandleAggregation(@NonNull float[] timeframes) {
+        for (int i = 0; i < timeframes.length; i++) {
+            if (!(timeframes[i] > 0f) || (i > 0 && timeframes[i] <= timeframes[i - 1])) {
+                throw new IllegalArgumentException("Timeframes must be greater than 0 and strictly ascending");
+            }
+        }
+
+        mTimeframes = timeframes.clone();
+        mLevels = new Level[timeframes.length];
+        for (int i = 0; i < mLevels.length; i++) {
+            mLevels[i] = new Level();
+        }
+    }
+
+    /**
+     * Marks the levels as outdated, the next call to update() will rebuild them completely.
+     */
+    void invalidate() {
+        mValid = false;
+    }
+
+    /**
+     * Brings the levels up to date with the given DataSet. If the entries were only appended since
+     * the last update, only the last candle of every level and the ones following it are
+     * computed.
+     *
+     * @param dataSet
+     */
+    void update(@NonNull ICandleDataSet dataSet) {
+        final int count = dataSet.getEntryCount();
+        if (mValid && count == mCount) {
+            return;
+        }
+
+        final boolean appended = mValid && count > mCount;
+
+        for (int l = 0; l < mLevels.length; l++) {
+            final Level level = mLevels[l];
+            final float timeframe = mTimeframes[l];
+
+            // The last candle may be incomplete, so it is merged again with the new entries
+            int from = 0;
+            if (appended && level.count > 0) {
+                level.count--;
+                from = level.firstIndices[level.count];
+            } else {
+                level.count = 0;
+            }
+
+            long lastBucket = level.count > 0
+                    ? getBucket(dataSet.getXForIndex(level.firstIndices[level.count - 1]), timeframe)
+                    : Long.MIN_VALUE;
+
+            for (int i = from; i < count; i++) {
+                final long bucket = getBucket(dataSet.getXForIndex(i), timeframe);
+                final float high = dataSet.getShadowHighForIndex(i);
+                final float low = dataSet.getShadowLowForIndex(i);
+
+                if (level.count > 0 && bucket == lastBucket) {
+                    final int candle = level.count - 1;
+                    level.close[candle] = dataSet.getCloseForIndex(i);
+                    level.high[candle] = Math.max(level.high[candle], high);
+                    level.low[candle] = Math.min(level.low[candle], low);
+                } else {
+                    level.ensureCapacity(level.count + 1);
+
+                    final int candle = level.count++;
+                    level.x[candle] = (float) (bucket * (double) timeframe + (timeframe - 1.0) / 2.0);
+                    level.open[candle] = dataSet.getOpenForIndex(i);
+                    level.close[candle] = dataSet.getCloseForIndex(i);
+                    level.high[candle] = high;
+                    level.low[candle] = low;
+                    level.firstIndices[candle] = i;
+                    lastBucket = bucket;
+                }
+            }
+        }
+
+        mCount = count;
+        mValid = true;
+    }
+
+    /**
+     * Returns the index of the bucket of the given timeframe the given x-value falls in.
+     *
+     * @param x
+     * @param timeframe
+     */
+    private static long getBucket(float x, float timeframe) {
+        return (long) Math.floor((double) x / timeframe);
+    }
+
+    /**
+     * Returns the number of levels, including level 0 (the entries themselves).
+     */
+    public int getLevelCount() {
+        return mTimeframes.length + 1;
+    }
+
+    /**
+     * Returns the timeframe of the given level, in x-units. The timeframe of level 0 is 1.
+     *
+     * @param level
+     */
+    public float getTimeframe(int level) {
+        return level == 0 ? 1f : mTimeframes[level - 1];
+    }
+
+    /**
+     * Returns the lowest level whose candles are at least minCandleWidth pixels wide, or the
+     * highest level if there is none.
+     *
+     * @param pixelsPerX     the width of 1 x-unit in pixels, at the current zoom
+     * @param minCandleWidth
+     */
+    public int getLevelForCandleWidth(float pixelsPerX, float minCandleWidth) {
+        int level = 0;
+        while (level < mTimeframes.length && getTimeframe(level) * Math.abs(pixelsPerX) < minCandleWidth) {
+            level++;
+        }
+
+        return level;
+    }
+
+    /**
+     * Returns the number of candles of the given level.
+     *
+     * @param level level of the candles, at least 1
+     */
+    public int getCandleCount(int level) {
+        return mLevels[level - 1].count;
+    }
+
+    /**
+     * Returns the index of the candle of the given level containing the Entry at the given index.
+     *
+     * @param level level of the candles, at least 1
+     * @param index
+     */
+    public int getCandleForIndex(int level, int index) {
+        final Level candles = mLevels[level - 1];
+        int low = 0;
+        int high = candles.count - 1;
+
+        while (low < high) {
+            final int m = (low + high + 1) >>> 1;
+            if (candles.firstIndices[m] <= index) {
+                low = m;
+            } else {
+                high = m - 1;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Returns the index of the first Entry merged in the given candle.
+     *
+     * @param level  level of the candle, at least 1
+     * @param candle
+     */
+    public int getFirstIndex(int level, int candle) {
+        return mLevels[level - 1].firstIndices[candle];
+    }
+
+    /**
+     * Returns the x-value of the center of the given candle.
+     *
+     * @param level  level of the candle, at least 1
+     * @param candle
+     */
+    public float getX(int level, int candle) {
+        return mLevels[level - 1].x[candle];
+    }
+
+    public float getOpen(int level, int candle) {
+        return mLevels[level - 1].open[candle];
+    }
+
+    public float getClose(int level, int candle) {
+        return mLevels[level - 1].close[candle];
+    }
+
+    public float getHigh(int level, int candle) {
+        return mLevels[level - 1].high[candle];
+    }
+
+    public float getLow(int level, int candle) {
+        return mLevels[level - 1].low[candle];
+    }
+
+    /**
+     * Merged candles of a single level, stored in parallel arrays.
+     */
+    private static final class Level {
+        @NonNull
+        float[] x = new float[0];
+        @NonNull
+        float[] open = new float[0];
+        @NonNull
+        float[] close = new float[0];
+        @NonNull
+        float[] high = new float[0];
+        @NonNull
+        float[] low = new float[0];
+        @NonNull
+        int[] firstIndices = new int[0];
+
+        int count = 0;
+
+        void ensureCapacity(int minCapacity) {
+            final int capacity = x.length;
+            if (minCapacity <= capacity) {
+                return;
+            }
+
+            final int newCapacity = Math.max(minCapacity, Math.max(capacity + (capacity >> 1), 16));
+            x = Arrays.copyOf(x, newCapacity);
+            open = Arrays.copyOf(open, newCapacity);
+            close = Arrays.copyOf(close, newCapacity);
+            high = Arrays.copyOf(high, newCapacity);
+            low = Arrays.copyOf(low, newCapacity);
+            firstIndices = Arrays.copyOf(firstIndices, newCapacity);
+        }
+    }
+}
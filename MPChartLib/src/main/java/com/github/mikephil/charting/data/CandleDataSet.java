@@ -11,6 +11,7 @@ import java.util.List;
 
 import androidx.annotation.ColorInt;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 /**
  * DataSet for the CandleStickChart.
@@ -74,6 +75,12 @@ public class CandleDataSet extends LineScatterCandleRadarDataSet<CandleEntry> im
     @ColorInt
     protected int mShadowColor = ColorTemplate.COLOR_SKIP;
 
+    /**
+     * Candles merged into coarser timeframes, null if disabled.
+     */
+    @Nullable
+    private CandleAggregation mAggregation = null;
+
     public CandleDataSet(List<CandleEntry> yValues, String label) {
         super(yValues, label);
     }
@@ -103,6 +110,56 @@ public class CandleDataSet extends LineScatterCandleRadarDataSet<CandleEntry> im
         candleDataSet.mIncreasingColor = mIncreasingColor;
         candleDataSet.mDecreasingColor = mDecreasingColor;
         candleDataSet.mShadowColor = mShadowColor;
+        candleDataSet.setAggregationTimeframes(mAggregation != null ? mAggregation.mTimeframes : null);
+    }
+
+    /**
+     * Sets the timeframes the candles are merged into when zoomed out, in x-units, strictly
+     * ascending. With x-values expressed in minutes, {5, 15, 60} gives 5m, 15m and 1h candles. The
+     * renderer draws the finest timeframe whose candles are wide enough to be readable at the
+     * current zoom, so the number of drawn candles stays bounded by the width of the chart. The
+     * merged candles are updated incrementally when entries are appended with addEntry(), and
+     * rebuilt after any other change. notifyDataSetChanged() must be called after modifying
+     * entries in place. Null or no timeframes disables the aggregation. Default: disabled
+     *
+     * @param timeframes
+     */
+    public void setAggregationTimeframes(@Nullable float... timeframes) {
+        if (timeframes == null || timeframes.length == 0) {
+            mAggregation = null;
+        } else {
+            mAggregation = new CandleAggregation(timeframes);
+        }
+    }
+
+    /**
+     * Returns true if the candles are merged into coarser timeframes when zoomed out.
+     */
+    public boolean isAggregationEnabled() {
+        return mAggregation != null;
+    }
+
+    /**
+     * Returns the merged candles of this DataSet, brought up to date with its entries, or null if
+     * the aggregation is disabled.
+     */
+    @Nullable
+    public CandleAggregation getAggregation() {
+        if (mAggregation != null) {
+            mAggregation.update(this);
+        }
+
+        return mAggregation;
+    }
+
+    @Override
+    protected void invalidateIndices() {
+        super.invalidateIndices();
+
+        // Called from the DataSet constructor, before the fields are initialized
+        if (mAggregation != null) {
+            mAggregation.invalidate();
+        }
     }
 
     @Override
@@ -137,6 +194,38 @@ public class CandleDataSet extends LineScatterCandleRadarDataSet<CandleEntry> im
         }
     }
 
+    @Override
+    public float getOpenForIndex(int index) {
+        return mValues.get(index).getOpen();
+    }
+
+    @Override
+    public float getCloseForIndex(int index) {
+        return mValues.get(index).getClose();
+    }
+
+    @Override
+    public float getShadowHighForIndex(int index) {
+        return mValues.get(index).getHigh();
+    }
+
+    @Override
+    public float getShadowLowForIndex(int index) {
+        return mValues.get(index).getLow();
+    }
+
+    @Override
+    protected float getLowForIndex(int index) {
+        CandleEntry entry = mValues.get(index);
+        return Math.min(entry.getLow(), entry.getHigh());
+    }
+
+    @Override
+    protected float getHighForIndex(int index) {
+        CandleEntry entry = mValues.get(index);
+        return Math.max(entry.getLow(), entry.getHigh());
+    }
+
     /**
      * Sets the space that is left out on the left and right side of each candle. Max 0.45f, min 0f.
      *
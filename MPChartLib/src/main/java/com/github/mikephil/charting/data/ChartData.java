@@ -6,6 +6,7 @@ import com.github.mikephil.charting.components.YAxis.AxisDependency;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.interfaces.datasets.ISnapshotDataSet;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -56,6 +57,22 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
     @NonNull
     protected List<T> mDataSets;
 
+    /**
+     * Minimum total number of entries for which notifyDataSetsChanged() uses several threads.
+     */
+    public static final int PARALLEL_MIN_MAX_THRESHOLD = 100000;
+
+    /**
+     * If true, notifyDataSetsChanged() recalculates the DataSets on several threads.
+     */
+    protected boolean mParallelMinMaxEnabled = false;
+
+    /**
+     * The types of the changes of this ChartData itself (e.g. added or removed DataSets) since the
+     * last call to clearChanges().
+     */
+    protected int mChanges = DataChange.NONE;
+
     /**
      * Default constructor.
      */
@@ -90,6 +107,99 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
         calcMinMax();
     }
 
+    /**
+     * Call this method to let the ChartData know that the entries of all its DataSets have
+     * changed, e.g. after reloading them. The min and max values of every DataSet are
+     * recalculated, then the ones of this ChartData. If parallel min/max is enabled and the
+     * DataSets hold at least {@link #PARALLEL_MIN_MAX_THRESHOLD} entries, the DataSets (and chunks
+     * of the large ones) are processed on several threads. The result is always the same as a
+     * serial calculation.
+     */
+    public void notifyDataSetsChanged() {
+        long entryCount = 0;
+        for (T set : mDataSets) {
+            entryCount += set.getEntryCount();
+        }
+
+        if (mParallelMinMaxEnabled && entryCount >= PARALLEL_MIN_MAX_THRESHOLD) {
+            ParallelMinMax.calcMinMax(mDataSets);
+        } else {
+            for (T set : mDataSets) {
+                set.calcMinMax();
+            }
+        }
+
+        notifyDataChanged();
+    }
+
+    /**
+     * Calculates the min and max values of the DataSets without modifying them or this ChartData,
+     * so it can be done on a background thread. The DataSets must not be modified until the
+     * result is applied with {@link #applyMinMax(PreparedMinMax)}.
+     *
+     * @return null if the calling thread was interrupted
+     */
+    @Nullable
+    public PreparedMinMax prepareMinMax() {
+        return PreparedMinMax.calculate(this);
+    }
+
+    /**
+     * Applies min and max values calculated by {@link #prepareMinMax()}, then recalculates the ones
+     * of this ChartData. DataSets that could not be calculated in advance, or were added or resized
+     * since, are recalculated.
+     *
+     * @param prepared
+     */
+    public void applyMinMax(@NonNull PreparedMinMax prepared) {
+        if (prepared.mData != this) {
+            throw new IllegalArgumentException("The min and max values were prepared for another ChartData");
+        }
+
+        prepared.apply();
+    }
+
+    /**
+     * Publishes the values added by background threads to the DataSets implementing
+     * {@link ISnapshotDataSet}, and recalculates the min and max values if any changed. Called by
+     * the chart at the beginning of every frame, must only be called from the thread drawing the
+     * chart.
+     *
+     * @return true if the values of any DataSet changed
+     */
+    public boolean swapSnapshots() {
+        boolean changed = false;
+        for (T set : mDataSets) {
+            if (set instanceof ISnapshotDataSet && ((ISnapshotDataSet) set).swapSnapshot()) {
+                changed = true;
+            }
+        }
+
+        if (changed) {
+            notifyDataChanged();
+        }
+
+        return changed;
+    }
+
+    /**
+     * Enables/disables the calculation of the min and max values of the DataSets on several
+     * threads in notifyDataSetsChanged(). The DataSets must not be modified by other threads during
+     * the calculation. Default: false
+     *
+     * @param enabled
+     */
+    public void setParallelMinMaxEnabled(boolean enabled) {
+        mParallelMinMaxEnabled = enabled;
+    }
+
+    /**
+     * Returns true if the min and max values of the DataSets are calculated on several threads.
+     */
+    public boolean isParallelMinMaxEnabled() {
+        return mParallelMinMaxEnabled;
+    }
+
     /**
      * Calc minimum and maximum y-values over all DataSets. Tell DataSets to recalculate their min
      * and max y-values, this is only needed for autoScaleMinMax.
@@ -336,6 +446,7 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
             calcMinMax(dataSet);
 
             mDataSets.add(dataSet);
+            mChanges = DataChange.ALL;
         }
     }
 
@@ -355,6 +466,7 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
         // If a DataSet was removed
         if (removed) {
             calcMinMax();
+            mChanges = DataChange.ALL;
         }
 
         return removed;
@@ -383,9 +495,39 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
         // Add the entry to the data set
         if (dataSet != null && dataSet.addEntry(entry)) {
             calcMinMax(entry, dataSet.getAxisDependency());
+            dataSet.notifyChange(DataChange.APPEND);
+        }
+    }
+
+    /**
+     * Adds the given entries to the end of the DataSet at the specified index. The minimum and
+     * maximum values are updated once for the whole batch.
+     *
+     * @param entries
+     * @param dataSetIndex
+     */
+    public void addEntries(@NonNull List<? extends Entry> entries, int dataSetIndex) {
+        T dataSet = getDataSetByIndex(dataSetIndex);
+        if (dataSet != null && addEntries((IDataSet<? extends Entry>) dataSet, entries)) {
+            calcMinMax(dataSet);
+            dataSet.notifyChange(DataChange.APPEND);
         }
     }
 
+    /**
+     * Adds the given entries to the given DataSet, which must accept their type like for
+     * addEntry().
+     *
+     * @param dataSet
+     * @param entries
+     * @return true if any entry was added
+     */
+    @SuppressWarnings("unchecked")
+    private static <E extends Entry> boolean addEntries(@NonNull IDataSet<E> dataSet,
+                                                        @NonNull List<? extends Entry> entries) {
+        return dataSet.addEntries((List<E>) entries);
+    }
+
     /**
      * Adjusts the current minimum and maximum values based on the provided Entry object.
      *
@@ -485,6 +627,7 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
         boolean removed = dataSet.removeEntry(entry);
         if (removed) {
             calcMinMax();
+            dataSet.notifyChange(DataChange.REMOVE_RANGE);
         }
 
         return removed;
@@ -693,6 +836,32 @@ public abstract class ChartData<T extends IDataSet<? extends Entry>> {
     public void clearValues() {
         mDataSets.clear();
         notifyDataChanged();
+        mChanges = DataChange.ALL;
+    }
+
+    /**
+     * Returns the types of the changes of this ChartData and of its DataSets since the last call
+     * to clearChanges(), see DataChange. The changes are recorded by the DataSets, so a DataSet
+     * should only be shown by one chart at a time when they are used.
+     */
+    public int getChanges() {
+        int changes = mChanges;
+        for (T set : mDataSets) {
+            changes |= set.getChanges();
+        }
+
+        return changes;
+    }
+
+    /**
+     * Forgets the changes of this ChartData and of its DataSets, once they were applied by the
+     * chart.
+     */
+    public void clearChanges() {
+        mChanges = DataChange.NONE;
+        for (T set : mDataSets) {
+            set.clearChanges();
+        }
     }
 
     /**
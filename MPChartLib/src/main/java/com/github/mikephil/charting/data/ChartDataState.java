@@ -0,0 +1,535 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IBubbleDataSet;
+import com.github.mikephil.charting.interfaces.datasets.ICandleDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IPieDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IRadarDataSet;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * The values of all the DataSets of a ChartData, stored in packed primitive arrays, to save and
+ * restore them in bulk (e.g. across configuration changes) instead of parceling every Entry.
+ * Only the values and the min and max values are stored, not the styling of the DataSets nor the
+ * icons and data objects of the entries: the state is restored into a ChartData holding DataSets
+ * of the same types, typically built again by the app without their values.
+ * <p>
+ * The min and max values are restored as they were saved, so the DataSets storing their entries
+ * in a list do not have to go through all of them again.
+ * <p>
+ * DataSets reading their values from a file, like {@link MappedLineDataSet}, are not supported:
+ * they are read-only, and their values do not have to be saved.
+ */
+public final class ChartDataState {
+    /**
+     * Identifies the format of the serialized state.
+     */
+    private static final int MAGIC = 0x4D504353;
+
+    private static final int VERSION = 1;
+
+    private static final int KIND_ENTRY = 0;
+    private static final int KIND_BAR = 1;
+    private static final int KIND_CANDLE = 2;
+    private static final int KIND_BUBBLE = 3;
+    private static final int KIND_PIE = 4;
+    private static final int KIND_RADAR = 5;
+
+    @NonNull
+    private final Values[] mValues;
+
+    private ChartDataState(@NonNull Values[] values) {
+        mValues = values;
+    }
+
+    /**
+     * Returns true if the values of the given ChartData can be saved: all its DataSets are
+     * DataSet instances which can be restored.
+     *
+     * @param data
+     */
+    public static boolean canSave(@NonNull ChartData<?> data) {
+        for (IDataSet<?> set : data.getDataSets()) {
+            if (!isSupported(set)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Copies the values of all the DataSets of the given ChartData.
+     *
+     * @param data
+     * @throws IllegalArgumentException if the values cannot be saved, see canSave()
+     */
+    @NonNull
+    public static ChartDataState save(@NonNull ChartData<?> data) {
+        if (!canSave(data)) {
+            throw new IllegalArgumentException("The ChartData holds DataSets which cannot be saved");
+        }
+
+        final List<? extends IDataSet<?>> dataSets = data.getDataSets();
+        final Values[] values = new Values[dataSets.size()];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Values.save(dataSets.get(i));
+        }
+
+        return new ChartDataState(values);
+    }
+
+    /**
+     * Returns the number of DataSets stored.
+     */
+    public int getDataSetCount() {
+        return mValues.length;
+    }
+
+    /**
+     * Returns the total number of entries stored.
+     */
+    public int getEntryCount() {
+        int count = 0;
+        for (Values values : mValues) {
+            count += values.count;
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns true if the state can be restored into the given ChartData: it holds the same number
+     * of DataSets, of the same types, which are not read-only.
+     *
+     * @param data
+     */
+    public boolean isCompatible(@NonNull ChartData<?> data) {
+        final List<? extends IDataSet<?>> dataSets = data.getDataSets();
+        if (dataSets.size() != mValues.length) {
+            return false;
+        }
+
+        for (int i = 0; i < mValues.length; i++) {
+            final IDataSet<?> set = dataSets.get(i);
+            if (!isSupported(set) || getKind(set) != mValues[i].kind) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Replaces the values of the DataSets of the given ChartData with the stored ones, then updates
+     * the min and max values of the ChartData. Nothing is modified if the ChartData is not
+     * compatible.
+     *
+     * @param data
+     * @return false if the ChartData is not compatible
+     */
+    public boolean restore(@NonNull ChartData<?> data) {
+        if (!isCompatible(data)) {
+            return false;
+        }
+
+        final List<? extends IDataSet<?>> dataSets = data.getDataSets();
+        for (int i = 0; i < mValues.length; i++) {
+            mValues[i].restore((DataSet<?>) dataSets.get(i));
+        }
+
+        data.notifyDataChanged();
+
+        return true;
+    }
+
+    /**
+     * Writes the state to the given stream.
+     *
+     * @param out
+     * @throws IOException
+     */
+    public void writeTo(@NonNull DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(mValues.length);
+
+        for (Values values : mValues) {
+            values.writeTo(out);
+        }
+    }
+
+    /**
+     * Reads a state written by {@link #writeTo(DataOutputStream)}.
+     *
+     * @param in
+     * @throws IOException if the stream does not hold a valid state
+     */
+    @NonNull
+    public static ChartDataState readFrom(@NonNull DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IOException("Not a chart data state");
+        }
+
+        final int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Invalid DataSet count " + count);
+        }
+
+        final Values[] values = new Values[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = Values.readFrom(in);
+        }
+
+        return new ChartDataState(values);
+    }
+
+    /**
+     * Returns the state serialized by {@link #writeTo(DataOutputStream)}.
+     */
+    @NonNull
+    public byte[] toByteArray() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            writeTo(new DataOutputStream(bytes));
+        } catch (IOException e) {
+            // Not thrown by ByteArrayOutputStream
+            throw new IllegalStateException(e);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads a state returned by {@link #toByteArray()}.
+     *
+     * @param bytes
+     * @throws IOException if the array does not hold a valid state
+     */
+    @NonNull
+    public static ChartDataState fromByteArray(@NonNull byte[] bytes) throws IOException {
+        return readFrom(new DataInputStream(new ByteArrayInputStream(bytes)));
+    }
+
+    /**
+     * Returns true if the values of the given DataSet can be saved and restored.
+     *
+     * @param set
+     */
+    private static boolean isSupported(@NonNull IDataSet<?> set) {
+        return set instanceof DataSet && !(set instanceof MappedLineDataSet);
+    }
+
+    private static int getKind(@NonNull IDataSet<?> set) {
+        if (set instanceof IBarDataSet) {
+            return KIND_BAR;
+        } else if (set instanceof ICandleDataSet) {
+            return KIND_CANDLE;
+        } else if (set instanceof IBubbleDataSet) {
+            return KIND_BUBBLE;
+        } else if (set instanceof IPieDataSet) {
+            return KIND_PIE;
+        } else if (set instanceof IRadarDataSet) {
+            return KIND_RADAR;
+        }
+
+        return KIND_ENTRY;
+    }
+
+    /**
+     * Returns true if the given DataSet stores its entries in mValues, in which case they can be
+     * restored without recalculating the min and max values.
+     *
+     * @param set
+     */
+    private static boolean isListBacked(@NonNull DataSet<?> set) {
+        final Class<?> type = set.getClass();
+        return type == LineDataSet.class || type == BarDataSet.class || type == ScatterDataSet.class
+                || type == CandleDataSet.class || type == BubbleDataSet.class || type == PieDataSet.class
+                || type == RadarDataSet.class;
+    }
+
+    /**
+     * The values of a single DataSet, in parallel arrays.
+     */
+    private static final class Values {
+        int kind;
+
+        int count;
+
+        /**
+         * xMin, xMax, yMin, yMax.
+         */
+        @NonNull
+        final float[] minMax = new float[4];
+
+        @NonNull
+        float[] x = new float[0];
+
+        @NonNull
+        float[] y = new float[0];
+
+        /**
+         * Per-entry columns of the kind: high, low, open and close for candles, size for bubbles.
+         */
+        @NonNull
+        float[][] columns = new float[0][];
+
+        /**
+         * For bars, the number of stack values of every Entry, -1 if it is not stacked. The stack
+         * values of all the entries follow each other in stackValues.
+         */
+        @Nullable
+        int[] stackLengths;
+
+        @Nullable
+        float[] stackValues;
+
+        /**
+         * For pie slices, the label of every Entry.
+         */
+        @Nullable
+        String[] labels;
+
+        @NonNull
+        static Values save(@NonNull IDataSet<?> set) {
+            final Values values = new Values();
+            final int count = set.getEntryCount();
+            values.kind = getKind(set);
+            values.count = count;
+            values.minMax[0] = set.getXMin();
+            values.minMax[1] = set.getXMax();
+            values.minMax[2] = set.getYMin();
+            values.minMax[3] = set.getYMax();
+
+            values.x = new float[count];
+            values.y = new float[count];
+            set.copyX(0, count, values.x, 0);
+            set.copyY(0, count, values.y, 0);
+
+            switch (values.kind) {
+                case KIND_BAR: {
+                    final IBarDataSet bars = (IBarDataSet) set;
+                    final int[] lengths = new int[count];
+                    final List<float[]> stacks = new ArrayList<>();
+                    int length = 0;
+                    for (int i = 0; i < count; i++) {
+                        final float[] stack = bars.getEntryForIndex(i).getYVals();
+                        if (stack != null) {
+                            lengths[i] = stack.length;
+                            stacks.add(stack);
+                            length += stack.length;
+                        } else {
+                            lengths[i] = -1;
+                        }
+                    }
+
+                    final float[] stackValues = new float[length];
+                    int position = 0;
+                    for (float[] stack : stacks) {
+                        System.arraycopy(stack, 0, stackValues, position, stack.length);
+                        position += stack.length;
+                    }
+
+                    values.stackLengths = lengths;
+                    values.stackValues = stackValues;
+                    break;
+                }
+                case KIND_CANDLE: {
+                    final ICandleDataSet candles = (ICandleDataSet) set;
+                    values.columns = new float[4][count];
+                    for (int i = 0; i < count; i++) {
+                        values.columns[0][i] = candles.getShadowHighForIndex(i);
+                        values.columns[1][i] = candles.getShadowLowForIndex(i);
+                        values.columns[2][i] = candles.getOpenForIndex(i);
+                        values.columns[3][i] = candles.getCloseForIndex(i);
+                    }
+                    break;
+                }
+                case KIND_BUBBLE: {
+                    final IBubbleDataSet bubbles = (IBubbleDataSet) set;
+                    values.columns = new float[1][count];
+                    for (int i = 0; i < count; i++) {
+                        values.columns[0][i] = bubbles.getSizeForIndex(i);
+                    }
+                    break;
+                }
+                case KIND_PIE: {
+                    final IPieDataSet slices = (IPieDataSet) set;
+                    values.labels = new String[count];
+                    for (int i = 0; i < count; i++) {
+                        values.labels[i] = slices.getEntryForIndex(i).getLabel();
+                    }
+                    break;
+                }
+                default:
+                    break;
+            }
+
+            return values;
+        }
+
+        /**
+         * Replaces the values of the given DataSet, which must be of the same kind.
+         *
+         * @param set
+         */
+        @SuppressWarnings("unchecked")
+        void restore(@NonNull DataSet<?> set) {
+            if (set instanceof ColumnarLineDataSet) {
+                ((ColumnarLineDataSet) set).setValues(x.clone(), y.clone(), count);
+                set.setMinMax(minMax[0], minMax[1], minMax[2], minMax[3]);
+                return;
+            } else if (set instanceof ColumnarCandleDataSet) {
+                ((ColumnarCandleDataSet) set).setValues(x.clone(), columns[0].clone(), columns[1].clone(),
+                        columns[2].clone(), columns[3].clone(), count);
+                set.setMinMax(minMax[0], minMax[1], minMax[2], minMax[3]);
+                return;
+            }
+
+            final List<Entry> entries = new ArrayList<>(count);
+            int stackPosition = 0;
+            for (int i = 0; i < count; i++) {
+                entries.add(createEntry(i, stackPosition));
+                if (kind == KIND_BAR && stackLengths[i] > 0) {
+                    stackPosition += stackLengths[i];
+                }
+            }
+
+            final DataSet<Entry> dataSet = (DataSet<Entry>) set;
+            if (isListBacked(set)) {
+                dataSet.restoreValues(entries, minMax[0], minMax[1], minMax[2], minMax[3]);
+            } else {
+                dataSet.setValues(entries);
+            }
+        }
+
+        /**
+         * Creates the Entry at the given index.
+         *
+         * @param i
+         * @param stackPosition position of the stack values of the Entry in stackValues, for bars
+         */
+        @NonNull
+        private Entry createEntry(int i, int stackPosition) {
+            switch (kind) {
+                case KIND_BAR: {
+                    final int length = stackLengths[i];
+                    if (length < 0) {
+                        return new BarEntry(x[i], y[i]);
+                    }
+
+                    final float[] stack = new float[length];
+                    System.arraycopy(stackValues, stackPosition, stack, 0, length);
+                    return new BarEntry(x[i], stack);
+                }
+                case KIND_CANDLE:
+                    return new CandleEntry(x[i], columns[0][i], columns[1][i], columns[2][i], columns[3][i]);
+                case KIND_BUBBLE:
+                    return new BubbleEntry(x[i], y[i], columns[0][i]);
+                case KIND_PIE:
+                    return new PieEntry(y[i], labels[i]);
+                case KIND_RADAR:
+                    return new RadarEntry(y[i]);
+                default:
+                    return new Entry(x[i], y[i]);
+            }
+        }
+
+        void writeTo(@NonNull DataOutputStream out) throws IOException {
+            out.writeByte(kind);
+            out.writeInt(count);
+            writeFloats(out, minMax);
+            writeFloats(out, x);
+            writeFloats(out, y);
+
+            out.writeByte(columns.length);
+            for (float[] column : columns) {
+                writeFloats(out, column);
+            }
+
+            if (kind == KIND_BAR) {
+                final ByteBuffer buffer = ByteBuffer.allocate(stackLengths.length * 4);
+                buffer.asIntBuffer().put(stackLengths);
+                out.write(buffer.array());
+
+                out.writeInt(stackValues.length);
+                writeFloats(out, stackValues);
+            } else if (kind == KIND_PIE) {
+                for (String label : labels) {
+                    out.writeBoolean(label != null);
+                    if (label != null) {
+                        out.writeUTF(label);
+                    }
+                }
+            }
+        }
+
+        @NonNull
+        static Values readFrom(@NonNull DataInputStream in) throws IOException {
+            final Values values = new Values();
+            values.kind = in.readByte();
+            values.count = in.readInt();
+            if (values.kind < KIND_ENTRY || values.kind > KIND_RADAR || values.count < 0) {
+                throw new IOException("Invalid DataSet of kind " + values.kind + " with " + values.count + " entries");
+            }
+
+            readFloats(in, values.minMax, 4);
+            values.x = readFloats(in, new float[values.count], values.count);
+            values.y = readFloats(in, new float[values.count], values.count);
+
+            values.columns = new float[in.readByte()][];
+            for (int i = 0; i < values.columns.length; i++) {
+                values.columns[i] = readFloats(in, new float[values.count], values.count);
+            }
+
+            if (values.kind == KIND_BAR) {
+                final byte[] bytes = new byte[values.count * 4];
+                in.readFully(bytes);
+                values.stackLengths = new int[values.count];
+                ByteBuffer.wrap(bytes).asIntBuffer().get(values.stackLengths);
+
+                final int length = in.readInt();
+                if (length < 0) {
+                    throw new IOException("Invalid stack value count " + length);
+                }
+
+                values.stackValues = readFloats(in, new float[length], length);
+            } else if (values.kind == KIND_PIE) {
+                values.labels = new String[values.count];
+                for (int i = 0; i < values.count; i++) {
+                    values.labels[i] = in.readBoolean() ? in.readUTF() : null;
+                }
+            }
+
+            return values;
+        }
+
+        private static void writeFloats(@NonNull DataOutputStream out, @NonNull float[] values) throws IOException {
+            final ByteBuffer buffer = ByteBuffer.allocate(values.length * 4);
+            buffer.asFloatBuffer().put(values);
+            out.write(buffer.array());
+        }
+
+        @NonNull
+        private static float[] readFloats(@NonNull DataInputStream in, @NonNull float[] values, int count) throws IOException {
+            final byte[] bytes = new byte[count * 4];
+            in.readFully(bytes);
+            ByteBuffer.wrap(bytes).asFloatBuffer().get(values, 0, count);
+            return values;
+        }
+    }
+}
@@ -0,0 +1,638 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.utils.EntryXComparator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * CandleDataSet that stores its values in five parallel primitive arrays (x, shadow high, shadow
+ * low, open and close) instead of a list of CandleEntry objects, for DataSets holding hundreds of
+ * thousands of candles. The values must be added in ascending x-order, or through
+ * {@link #addEntryOrdered(CandleEntry)}.
+ * <p>
+ * CandleEntry objects are only created on demand. Methods returning a single Entry (like
+ * {@link #getEntryForIndex(int)} or {@link #getEntryForXValue(float, float)}) return a shared
+ * instance that is updated on every call, so it must not be kept around. Icons and data objects
+ * attached to added entries are not stored.
+ */
+public class ColumnarCandleDataSet extends CandleDataSet {
+    /**
+     * Default capacity of the value arrays.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    @NonNull
+    protected float[] mXValues;
+
+    @NonNull
+    protected float[] mHighValues;
+
+    @NonNull
+    protected float[] mLowValues;
+
+    @NonNull
+    protected float[] mOpenValues;
+
+    @NonNull
+    protected float[] mCloseValues;
+
+    /**
+     * The number of values stored in the arrays.
+     */
+    protected int mEntryCount = 0;
+
+    /**
+     * Reusable Entry returned to callers that need an Entry object.
+     */
+    @NonNull
+    private final CandleEntry mEntryBuffer = new CandleEntry(0f, 0f, 0f, 0f, 0f);
+
+    /**
+     * Index of the values currently held by mEntryBuffer, or -1.
+     */
+    private int mEntryBufferIndex = -1;
+
+    public ColumnarCandleDataSet(@NonNull String label) {
+        this(DEFAULT_CAPACITY, label);
+    }
+
+    /**
+     * Creates an empty DataSet able to hold the given number of candles before having to grow.
+     *
+     * @param initialCapacity
+     * @param label
+     */
+    public ColumnarCandleDataSet(int initialCapacity, @NonNull String label) {
+        super(new ArrayList<CandleEntry>(0), label);
+
+        final int capacity = Math.max(initialCapacity, 1);
+        mXValues = new float[capacity];
+        mHighValues = new float[capacity];
+        mLowValues = new float[capacity];
+        mOpenValues = new float[capacity];
+        mCloseValues = new float[capacity];
+    }
+
+    /**
+     * Creates a DataSet using the provided arrays as storage. The arrays are NOT copied. Only the
+     * first count values are used, and the x-values must be sorted in ascending order.
+     *
+     * @param xValues
+     * @param highValues
+     * @param lowValues
+     * @param openValues
+     * @param closeValues
+     * @param count
+     * @param label
+     */
+    public ColumnarCandleDataSet(@NonNull float[] xValues, @NonNull float[] highValues, @NonNull float[] lowValues,
+                                 @NonNull float[] openValues, @NonNull float[] closeValues, int count,
+                                 @NonNull String label) {
+        this(0, label);
+
+        setValues(xValues, highValues, lowValues, openValues, closeValues, count);
+    }
+
+    /**
+     * Replaces the values of this DataSet with the provided arrays, and calls
+     * notifyDataSetChanged(). The arrays are NOT copied. Only the first count values are used, and
+     * the x-values must be sorted in ascending order.
+     *
+     * @param xValues
+     * @param highValues
+     * @param lowValues
+     * @param openValues
+     * @param closeValues
+     * @param count
+     */
+    public void setValues(@NonNull float[] xValues, @NonNull float[] highValues, @NonNull float[] lowValues,
+                          @NonNull float[] openValues, @NonNull float[] closeValues, int count) {
+        final int length = Math.min(Math.min(xValues.length, highValues.length),
+                Math.min(lowValues.length, Math.min(openValues.length, closeValues.length)));
+        if (count < 0 || count > length) {
+            throw new IllegalArgumentException("count must be in [0, " + length + "]");
+        }
+
+        mXValues = xValues;
+        mHighValues = highValues;
+        mLowValues = lowValues;
+        mOpenValues = openValues;
+        mCloseValues = closeValues;
+        mEntryCount = count;
+        mEntryBufferIndex = -1;
+
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Returns the number of candles this DataSet can hold before its arrays have to grow.
+     */
+    public int getCapacity() {
+        return mXValues.length;
+    }
+
+    /**
+     * Makes sure that this DataSet can hold at least the given number of candles without having
+     * to grow its arrays.
+     *
+     * @param minCapacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        int capacity = mXValues.length;
+        if (minCapacity <= capacity) {
+            return;
+        }
+
+        int newCapacity = Math.max(capacity + (capacity >> 1), minCapacity);
+        mXValues = Arrays.copyOf(mXValues, newCapacity);
+        mHighValues = Arrays.copyOf(mHighValues, newCapacity);
+        mLowValues = Arrays.copyOf(mLowValues, newCapacity);
+        mOpenValues = Arrays.copyOf(mOpenValues, newCapacity);
+        mCloseValues = Arrays.copyOf(mCloseValues, newCapacity);
+    }
+
+    /**
+     * Adds a candle to the end of this DataSet. The x-value must not be lower than the current
+     * maximum x-value.
+     *
+     * @param x
+     * @param shadowH
+     * @param shadowL
+     * @param open
+     * @param close
+     */
+    public void addEntry(float x, float shadowH, float shadowL, float open, float close) {
+        ensureCapacity(mEntryCount + 1);
+        set(mEntryCount, x, shadowH, shadowL, open, close);
+        mEntryCount++;
+
+        calcMinMax(x, shadowH, shadowL);
+    }
+
+    @Override
+    public boolean addEntry(@NonNull CandleEntry entry) {
+        addEntry(entry.getX(), entry.getHigh(), entry.getLow(), entry.getOpen(), entry.getClose());
+
+        return true;
+    }
+
+    @Override
+    public boolean addEntries(@NonNull List<CandleEntry> entries) {
+        final int count = entries.size();
+        if (count == 0) {
+            return false;
+        }
+
+        ensureCapacity(mEntryCount + count);
+
+        for (int i = 0; i < count; i++) {
+            CandleEntry entry = entries.get(i);
+            set(mEntryCount++, entry.getX(), entry.getHigh(), entry.getLow(), entry.getOpen(), entry.getClose());
+            calcMinMax(entry.getX(), entry.getHigh(), entry.getLow());
+        }
+
+        return true;
+    }
+
+    @Override
+    public void addEntryOrdered(@NonNull CandleEntry entry) {
+        final float x = entry.getX();
+
+        int index = mEntryCount;
+        if (mEntryCount > 0 && mXValues[mEntryCount - 1] > x) {
+            index = getFirstIndexAbove(x);
+        }
+
+        ensureCapacity(mEntryCount + 1);
+
+        final int moved = mEntryCount - index;
+        System.arraycopy(mXValues, index, mXValues, index + 1, moved);
+        System.arraycopy(mHighValues, index, mHighValues, index + 1, moved);
+        System.arraycopy(mLowValues, index, mLowValues, index + 1, moved);
+        System.arraycopy(mOpenValues, index, mOpenValues, index + 1, moved);
+        System.arraycopy(mCloseValues, index, mCloseValues, index + 1, moved);
+
+        set(index, x, entry.getHigh(), entry.getLow(), entry.getOpen(), entry.getClose());
+        mEntryCount++;
+        mEntryBufferIndex = -1;
+
+        if (index < mEntryCount - 1) {
+            invalidateIndices();
+        }
+
+        calcMinMax(x, entry.getHigh(), entry.getLow());
+    }
+
+    @Override
+    public void addEntriesOrdered(@NonNull List<CandleEntry> entries) {
+        List<CandleEntry> sorted = new ArrayList<>(entries);
+        Collections.sort(sorted, new EntryXComparator());
+
+        for (int i = 0; i < sorted.size(); i++) {
+            addEntryOrdered(sorted.get(i));
+        }
+    }
+
+    @Override
+    public boolean removeEntry(@Nullable CandleEntry entry) {
+        return removeEntry(getEntryIndex(entry));
+    }
+
+    @Override
+    public boolean removeEntry(int index) {
+        if (index < 0 || index >= mEntryCount) {
+            return false;
+        }
+
+        final int moved = mEntryCount - index - 1;
+        System.arraycopy(mXValues, index + 1, mXValues, index, moved);
+        System.arraycopy(mHighValues, index + 1, mHighValues, index, moved);
+        System.arraycopy(mLowValues, index + 1, mLowValues, index, moved);
+        System.arraycopy(mOpenValues, index + 1, mOpenValues, index, moved);
+        System.arraycopy(mCloseValues, index + 1, mCloseValues, index, moved);
+
+        mEntryCount--;
+        mEntryBufferIndex = -1;
+
+        calcMinMax();
+
+        return true;
+    }
+
+    @Override
+    public boolean removeFirst() {
+        return removeEntry(0);
+    }
+
+    @Override
+    public boolean removeLast() {
+        return removeEntry(mEntryCount - 1);
+    }
+
+    @Override
+    public void clear() {
+        mEntryCount = 0;
+        mEntryBufferIndex = -1;
+
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public void calcMinMax() {
+        invalidateIndices();
+
+        if (mEntryCount == 0) {
+            return;
+        }
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+        mXMin = Float.MAX_VALUE;
+
+        for (int i = 0; i < mEntryCount; i++) {
+            calcMinMax(mXValues[i], mHighValues[i], mLowValues[i]);
+        }
+    }
+
+    @Override
+    public void calcMinMaxY(float fromX, float toX) {
+        if (mEntryCount == 0) {
+            return;
+        }
+
+        if (isRangeIndexEnabled()) {
+            super.calcMinMaxY(fromX, toX);
+            return;
+        }
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+
+        int indexFrom = getEntryIndex(fromX, Float.NaN, Rounding.DOWN);
+        int indexTo = getEntryIndex(toX, Float.NaN, Rounding.UP);
+
+        for (int i = indexFrom; i <= indexTo; i++) {
+            mYMin = Math.min(mYMin, Math.min(mLowValues[i], mHighValues[i]));
+            mYMax = Math.max(mYMax, Math.max(mLowValues[i], mHighValues[i]));
+        }
+    }
+
+    /**
+     * Updates the min and max x and y value of this DataSet based on the given candle, like
+     * calcMinMax(CandleEntry).
+     *
+     * @param x
+     * @param shadowH
+     * @param shadowL
+     */
+    private void calcMinMax(float x, float shadowH, float shadowL) {
+        if (shadowL < mYMin) {
+            mYMin = shadowL;
+        }
+
+        if (shadowH > mYMax) {
+            mYMax = shadowH;
+        }
+
+        if (x < mXMin) {
+            mXMin = x;
+        }
+
+        if (x > mXMax) {
+            mXMax = x;
+        }
+    }
+
+    /**
+     * Stores the given candle at the given index of the arrays.
+     *
+     * @param index
+     * @param x
+     * @param shadowH
+     * @param shadowL
+     * @param open
+     * @param close
+     */
+    private void set(int index, float x, float shadowH, float shadowL, float open, float close) {
+        mXValues[index] = x;
+        mHighValues[index] = shadowH;
+        mLowValues[index] = shadowL;
+        mOpenValues[index] = open;
+        mCloseValues[index] = close;
+    }
+
+    @Override
+    public int getEntryCount() {
+        return mEntryCount;
+    }
+
+    @Override
+    public float getXForIndex(int index) {
+        return mXValues[index];
+    }
+
+    /**
+     * Returns the y-value of a CandleEntry, the middle of its shadow.
+     *
+     * @param index
+     */
+    @Override
+    public float getYForIndex(int index) {
+        return (mHighValues[index] + mLowValues[index]) / 2f;
+    }
+
+    @Override
+    public float getOpenForIndex(int index) {
+        return mOpenValues[index];
+    }
+
+    @Override
+    public float getCloseForIndex(int index) {
+        return mCloseValues[index];
+    }
+
+    @Override
+    public float getShadowHighForIndex(int index) {
+        return mHighValues[index];
+    }
+
+    @Override
+    public float getShadowLowForIndex(int index) {
+        return mLowValues[index];
+    }
+
+    @Override
+    protected float getLowForIndex(int index) {
+        return Math.min(mLowValues[index], mHighValues[index]);
+    }
+
+    @Override
+    protected float getHighForIndex(int index) {
+        return Math.max(mLowValues[index], mHighValues[index]);
+    }
+
+    @Override
+    public void copyX(int fromIndex, int toIndex, @NonNull float[] dst, int offset) {
+        checkCopyRange(mEntryCount, fromIndex, toIndex, dst, offset, 1);
+        System.arraycopy(mXValues, fromIndex, dst, offset, toIndex - fromIndex);
+    }
+
+    /**
+     * Returns a shared CandleEntry holding the values at the given index. The returned Entry is
+     * updated by the next call to any method of this DataSet returning an Entry.
+     *
+     * @param index
+     */
+    @Nullable
+    @Override
+    public CandleEntry getEntryForIndex(int index) {
+        if (index < 0 || index >= mEntryCount) {
+            return null;
+        }
+
+        final CandleEntry entry = mEntryBuffer;
+        entry.setX(mXValues[index]);
+        entry.setY(getYForIndex(index));
+        entry.setHigh(mHighValues[index]);
+        entry.setLow(mLowValues[index]);
+        entry.setOpen(mOpenValues[index]);
+        entry.setClose(mCloseValues[index]);
+        mEntryBufferIndex = index;
+
+        return entry;
+    }
+
+    @Override
+    public int getEntryIndex(@Nullable CandleEntry entry) {
+        if (entry == null) {
+            return -1;
+        }
+
+        // Fast path for the Entry returned by this DataSet
+        if (entry == mEntryBuffer && mEntryBufferIndex >= 0 && mEntryBufferIndex < mEntryCount
+                && matches(mEntryBufferIndex, entry)) {
+            return mEntryBufferIndex;
+        }
+
+        final float x = entry.getX();
+        for (int i = getFirstIndexOf(x); i >= 0 && i < mEntryCount && mXValues[i] == x; i++) {
+            if (matches(i, entry)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns true if the values at the given index are the ones of the given Entry.
+     *
+     * @param index
+     * @param entry
+     */
+    private boolean matches(int index, @NonNull CandleEntry entry) {
+        return mXValues[index] == entry.getX() && mHighValues[index] == entry.getHigh()
+                && mLowValues[index] == entry.getLow() && mOpenValues[index] == entry.getOpen()
+                && mCloseValues[index] == entry.getClose();
+    }
+
+    @Override
+    public boolean contains(@Nullable CandleEntry entry) {
+        return getEntryIndex(entry) >= 0;
+    }
+
+    /**
+     * Returns newly created CandleEntry objects for all the values found at the given x-value.
+     *
+     * @param xValue
+     */
+    @NonNull
+    @Override
+    public List<CandleEntry> getEntriesForXValue(float xValue) {
+        List<CandleEntry> entries = new ArrayList<>();
+
+        for (int i = getFirstIndexOf(xValue); i >= 0 && i < mEntryCount && mXValues[i] == xValue; i++) {
+            entries.add(newEntry(i));
+        }
+
+        return entries;
+    }
+
+    /**
+     * Returns newly created CandleEntry objects for all the values of this DataSet. Changes to the
+     * returned list are not reflected in this DataSet.
+     */
+    @NonNull
+    @Override
+    public List<CandleEntry> getValues() {
+        List<CandleEntry> values = new ArrayList<>(mEntryCount);
+        for (int i = 0; i < mEntryCount; i++) {
+            values.add(newEntry(i));
+        }
+
+        return values;
+    }
+
+    /**
+     * Replaces the values of this DataSet with the values of the given entries, and calls
+     * notifyDataSetChanged(). The entries themselves are not kept.
+     *
+     * @param values
+     */
+    @Override
+    public void setValues(@NonNull List<CandleEntry> values) {
+        final int count = values.size();
+        final int capacity = Math.max(count, 1);
+        float[] xValues = new float[capacity];
+        float[] highValues = new float[capacity];
+        float[] lowValues = new float[capacity];
+        float[] openValues = new float[capacity];
+        float[] closeValues = new float[capacity];
+
+        for (int i = 0; i < count; i++) {
+            CandleEntry entry = values.get(i);
+            xValues[i] = entry.getX();
+            highValues[i] = entry.getHigh();
+            lowValues[i] = entry.getLow();
+            openValues[i] = entry.getOpen();
+            closeValues[i] = entry.getClose();
+        }
+
+        setValues(xValues, highValues, lowValues, openValues, closeValues, count);
+    }
+
+    /**
+     * If isExtension is true, only the entries following the current values are copied, without
+     * recalculating the minimum and maximum values.
+     *
+     * @param values
+     * @param isExtension
+     */
+    @Override
+    public void setValues(@NonNull List<CandleEntry> values, boolean isExtension) {
+        if (!isExtension || mEntryCount == 0 || values.size() < mEntryCount) {
+            setValues(values);
+            return;
+        }
+
+        addEntries(values.subList(mEntryCount, values.size()));
+        notifyEntriesAppended();
+    }
+
+    @NonNull
+    @Override
+    public DataSet<CandleEntry> copy() {
+        final int capacity = Math.max(mEntryCount, 1);
+        ColumnarCandleDataSet copied = new ColumnarCandleDataSet(
+                Arrays.copyOf(mXValues, capacity), Arrays.copyOf(mHighValues, capacity),
+                Arrays.copyOf(mLowValues, capacity), Arrays.copyOf(mOpenValues, capacity),
+                Arrays.copyOf(mCloseValues, capacity), mEntryCount, getLabel()
+        );
+        copy(copied);
+        return copied;
+    }
+
+    /**
+     * Returns a new CandleEntry holding the values at the given index.
+     *
+     * @param index
+     */
+    @NonNull
+    private CandleEntry newEntry(int index) {
+        return new CandleEntry(mXValues[index], mHighValues[index], mLowValues[index], mOpenValues[index], mCloseValues[index]);
+    }
+
+    /**
+     * Returns the index of the first value with the given x-value, or -1 if there is none.
+     *
+     * @param xValue
+     */
+    private int getFirstIndexOf(float xValue) {
+        int low = 0;
+        int high = mEntryCount;
+
+        while (low < high) {
+            int m = (low + high) >>> 1;
+            if (mXValues[m] < xValue) {
+                low = m + 1;
+            } else {
+                high = m;
+            }
+        }
+
+        if (low < mEntryCount && mXValues[low] == xValue) {
+            return low;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first value with an x-value strictly greater than the given one, or
+     * the number of values if there is none.
+     *
+     * @param xValue
+     */
+    private int getFirstIndexAbove(float xValue) {
+        int low = 0;
+        int high = mEntryCount;
+
+        while (low < high) {
+            int m = (low + high) >>> 1;
+            if (mXValues[m] <= xValue) {
+                low = m + 1;
+            } else {
+                high = m;
+            }
+        }
+
+        return low;
+    }
+}
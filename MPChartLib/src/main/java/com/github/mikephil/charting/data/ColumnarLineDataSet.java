@@ -0,0 +1,626 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.utils.EntryXComparator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * LineDataSet that stores its values in two parallel primitive arrays (one for the x-values, one
+ * for the y-values) instead of a list of Entry objects. This drastically reduces the memory
+ * footprint and the garbage collector pressure for DataSets holding hundreds of thousands of
+ * values. The values must be added in ascending x-order, or through
+ * {@link #addEntryOrdered(Entry)}.
+ * <p>
+ * Entry objects are only created on demand. Methods returning a single Entry (like
+ * {@link #getEntryForIndex(int)} or {@link #getEntryForXValue(float, float)}) return a shared
+ * instance that is updated on every call, so it must not be kept around. Icons and data objects
+ * attached to added entries are not stored.
+ */
+public class ColumnarLineDataSet extends LineDataSet {
+    /**
+     * Default capacity of the value arrays.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * The x-values of this DataSet.
+     */
+    @NonNull
+    protected float[] mXValues;
+
+    /**
+     * The y-values of this DataSet.
+     */
+    @NonNull
+    protected float[] mYValues;
+
+    /**
+     * The number of values stored in the arrays.
+     */
+    protected int mEntryCount = 0;
+
+    /**
+     * Reusable Entry returned to callers that need an Entry object.
+     */
+    @NonNull
+    private final Entry mEntryBuffer = new Entry();
+
+    /**
+     * Index of the values currently held by mEntryBuffer, or -1.
+     */
+    private int mEntryBufferIndex = -1;
+
+    public ColumnarLineDataSet(@NonNull String label) {
+        this(DEFAULT_CAPACITY, label);
+    }
+
+    /**
+     * Creates an empty DataSet able to hold the given number of values before having to grow.
+     *
+     * @param initialCapacity
+     * @param label
+     */
+    public ColumnarLineDataSet(int initialCapacity, @NonNull String label) {
+        super(new ArrayList<Entry>(0), label);
+
+        mXValues = new float[Math.max(initialCapacity, 1)];
+        mYValues = new float[mXValues.length];
+    }
+
+    /**
+     * Creates a DataSet using the provided arrays as storage. The arrays are NOT copied. Only the
+     * first count values are used, and the x-values must be sorted in ascending order.
+     *
+     * @param xValues
+     * @param yValues
+     * @param count
+     * @param label
+     */
+    public ColumnarLineDataSet(@NonNull float[] xValues, @NonNull float[] yValues, int count, @NonNull String label) {
+        this(0, label);
+
+        setValues(xValues, yValues, count);
+    }
+
+    /**
+     * Replaces the values of this DataSet with the provided arrays, and calls
+     * notifyDataSetChanged(). The arrays are NOT copied. Only the first count values are used, and
+     * the x-values must be sorted in ascending order.
+     *
+     * @param xValues
+     * @param yValues
+     * @param count
+     */
+    public void setValues(@NonNull float[] xValues, @NonNull float[] yValues, int count) {
+        if (count < 0 || count > xValues.length || count > yValues.length) {
+            throw new IllegalArgumentException("count must be in [0, " + Math.min(xValues.length, yValues.length) + "]");
+        }
+
+        mXValues = xValues;
+        mYValues = yValues;
+        mEntryCount = count;
+        mEntryBufferIndex = -1;
+
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Returns the number of values this DataSet can hold before its arrays have to grow.
+     */
+    public int getCapacity() {
+        return mXValues.length;
+    }
+
+    /**
+     * Makes sure that this DataSet can hold at least the given number of values without having to
+     * grow its arrays.
+     *
+     * @param minCapacity
+     */
+    public void ensureCapacity(int minCapacity) {
+        int capacity = mXValues.length;
+        if (minCapacity <= capacity) {
+            return;
+        }
+
+        int newCapacity = Math.max(capacity + (capacity >> 1), minCapacity);
+        mXValues = Arrays.copyOf(mXValues, newCapacity);
+        mYValues = Arrays.copyOf(mYValues, newCapacity);
+    }
+
+    /**
+     * Shrinks the arrays of this DataSet to the number of values it holds.
+     */
+    public void trimToSize() {
+        int capacity = Math.max(mEntryCount, 1);
+        if (capacity < mXValues.length) {
+            mXValues = Arrays.copyOf(mXValues, capacity);
+            mYValues = Arrays.copyOf(mYValues, capacity);
+        }
+    }
+
+    /**
+     * Adds a value to the end of this DataSet. The x-value must not be lower than the current
+     * maximum x-value.
+     *
+     * @param x
+     * @param y
+     */
+    public void addEntry(float x, float y) {
+        ensureCapacity(mEntryCount + 1);
+
+        mXValues[mEntryCount] = x;
+        mYValues[mEntryCount] = y;
+        mEntryCount++;
+
+        calcMinMax(x, y);
+    }
+
+    @Override
+    public boolean addEntry(@NonNull Entry entry) {
+        addEntry(entry.getX(), entry.getY());
+
+        return true;
+    }
+
+    @Override
+    public boolean addEntries(@NonNull List<Entry> entries) {
+        final int count = entries.size();
+        if (count == 0) {
+            return false;
+        }
+
+        ensureCapacity(mEntryCount + count);
+
+        final int from = mEntryCount;
+        for (int i = 0; i < count; i++) {
+            Entry entry = entries.get(i);
+            mXValues[mEntryCount] = entry.getX();
+            mYValues[mEntryCount] = entry.getY();
+            mEntryCount++;
+        }
+
+        calcMinMaxAppended(from, mEntryCount);
+
+        return true;
+    }
+
+    /**
+     * Adds length values, read from the given arrays starting at offset, to the end of this
+     * DataSet. The values are copied with System.arraycopy(). The x-values must be sorted in
+     * ascending order, and not be lower than the current maximum x-value.
+     *
+     * @param xValues
+     * @param yValues
+     * @param offset
+     * @param length
+     */
+    @Override
+    public boolean addEntries(@NonNull float[] xValues, @NonNull float[] yValues, int offset, int length) {
+        checkBounds(xValues, yValues, offset, length);
+
+        if (length == 0) {
+            return false;
+        }
+
+        ensureCapacity(mEntryCount + length);
+
+        System.arraycopy(xValues, offset, mXValues, mEntryCount, length);
+        System.arraycopy(yValues, offset, mYValues, mEntryCount, length);
+
+        mEntryCount += length;
+
+        calcMinMaxAppended(mEntryCount - length, mEntryCount);
+
+        return true;
+    }
+
+    @Override
+    public void addEntryOrdered(@NonNull Entry entry) {
+        float x = entry.getX();
+        float y = entry.getY();
+
+        int index = mEntryCount;
+        if (mEntryCount > 0 && mXValues[mEntryCount - 1] > x) {
+            index = getFirstIndexAbove(x);
+        }
+
+        ensureCapacity(mEntryCount + 1);
+
+        System.arraycopy(mXValues, index, mXValues, index + 1, mEntryCount - index);
+        System.arraycopy(mYValues, index, mYValues, index + 1, mEntryCount - index);
+
+        mXValues[index] = x;
+        mYValues[index] = y;
+        mEntryCount++;
+        mEntryBufferIndex = -1;
+
+        if (index < mEntryCount - 1) {
+            invalidateIndices();
+        }
+
+        calcMinMax(x, y);
+    }
+
+    /**
+     * Inserts the given entries at their position according to their x-value. The batch is sorted
+     * and merged in place with the current values, starting from the end, so every value is moved
+     * at most once.
+     *
+     * @param entries
+     */
+    @Override
+    public void addEntriesOrdered(@NonNull List<Entry> entries) {
+        final int count = entries.size();
+        if (count == 0) {
+            return;
+        }
+
+        List<Entry> sorted = new ArrayList<>(entries);
+        Collections.sort(sorted, new EntryXComparator());
+
+        ensureCapacity(mEntryCount + count);
+
+        // Merge from the back, existing values sharing the x-value of a new one stay in front of it
+        int i = mEntryCount - 1;
+        int j = count - 1;
+        int to = mEntryCount + count - 1;
+        while (j >= 0) {
+            Entry entry = sorted.get(j);
+            if (i >= 0 && mXValues[i] > entry.getX()) {
+                mXValues[to] = mXValues[i];
+                mYValues[to] = mYValues[i];
+                i--;
+            } else {
+                mXValues[to] = entry.getX();
+                mYValues[to] = entry.getY();
+                calcMinMax(entry.getX(), entry.getY());
+                j--;
+            }
+
+            to--;
+        }
+
+        // Only appended values can be indexed incrementally
+        if (i < mEntryCount - 1) {
+            invalidateIndices();
+        }
+
+        mEntryCount += count;
+        mEntryBufferIndex = -1;
+    }
+
+    @Override
+    public boolean removeEntry(@Nullable Entry entry) {
+        return removeEntry(getEntryIndex(entry));
+    }
+
+    @Override
+    public boolean removeEntry(int index) {
+        if (index < 0 || index >= mEntryCount) {
+            return false;
+        }
+
+        System.arraycopy(mXValues, index + 1, mXValues, index, mEntryCount - index - 1);
+        System.arraycopy(mYValues, index + 1, mYValues, index, mEntryCount - index - 1);
+
+        mEntryCount--;
+        mEntryBufferIndex = -1;
+
+        calcMinMax();
+
+        return true;
+    }
+
+    @Override
+    public boolean removeFirst() {
+        return removeEntry(0);
+    }
+
+    @Override
+    public boolean removeLast() {
+        return removeEntry(mEntryCount - 1);
+    }
+
+    @Override
+    public void clear() {
+        mEntryCount = 0;
+        mEntryBufferIndex = -1;
+
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public void calcMinMax() {
+        invalidateIndices();
+
+        if (mEntryCount == 0) {
+            return;
+        }
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+        mXMin = Float.MAX_VALUE;
+
+        for (int i = 0; i < mEntryCount; i++) {
+            calcMinMax(mXValues[i], mYValues[i]);
+        }
+    }
+
+    @Override
+    public void calcMinMaxY(float fromX, float toX) {
+        if (mEntryCount == 0) {
+            return;
+        }
+
+        if (isRangeIndexEnabled()) {
+            super.calcMinMaxY(fromX, toX);
+            return;
+        }
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+
+        int indexFrom = getEntryIndex(fromX, Float.NaN, Rounding.DOWN);
+        int indexTo = getEntryIndex(toX, Float.NaN, Rounding.UP);
+
+        for (int i = indexFrom; i <= indexTo; i++) {
+            float y = mYValues[i];
+            if (y < mYMin) {
+                mYMin = y;
+            }
+
+            if (y > mYMax) {
+                mYMax = y;
+            }
+        }
+    }
+
+    /**
+     * Updates the min and max x and y value of this DataSet based on the given values.
+     *
+     * @param x
+     * @param y
+     */
+    private void calcMinMax(float x, float y) {
+        if (x < mXMin) {
+            mXMin = x;
+        }
+
+        if (x > mXMax) {
+            mXMax = x;
+        }
+
+        if (y < mYMin) {
+            mYMin = y;
+        }
+
+        if (y > mYMax) {
+            mYMax = y;
+        }
+    }
+
+    @Override
+    public int getEntryCount() {
+        return mEntryCount;
+    }
+
+    @Override
+    public float getXForIndex(int index) {
+        return mXValues[index];
+    }
+
+    @Override
+    public float getYForIndex(int index) {
+        return mYValues[index];
+    }
+
+    @Override
+    public void copyX(int fromIndex, int toIndex, @NonNull float[] dst, int offset) {
+        checkCopyRange(mEntryCount, fromIndex, toIndex, dst, offset, 1);
+        System.arraycopy(mXValues, fromIndex, dst, offset, toIndex - fromIndex);
+    }
+
+    @Override
+    public void copyY(int fromIndex, int toIndex, @NonNull float[] dst, int offset) {
+        checkCopyRange(mEntryCount, fromIndex, toIndex, dst, offset, 1);
+        System.arraycopy(mYValues, fromIndex, dst, offset, toIndex - fromIndex);
+    }
+
+    @Override
+    public void copyXY(int fromIndex, int toIndex, @NonNull float[] dst, int offset) {
+        checkCopyRange(mEntryCount, fromIndex, toIndex, dst, offset, 2);
+
+        final float[] xValues = mXValues;
+        final float[] yValues = mYValues;
+        for (int i = fromIndex; i < toIndex; i++) {
+            dst[offset++] = xValues[i];
+            dst[offset++] = yValues[i];
+        }
+    }
+
+    /**
+     * Returns a shared Entry holding the values at the given index. The returned Entry is updated
+     * by the next call to any method of this DataSet returning an Entry.
+     *
+     * @param index
+     */
+    @Nullable
+    @Override
+    public Entry getEntryForIndex(int index) {
+        if (index < 0 || index >= mEntryCount) {
+            return null;
+        }
+
+        mEntryBuffer.setX(mXValues[index]);
+        mEntryBuffer.setY(mYValues[index]);
+        mEntryBufferIndex = index;
+
+        return mEntryBuffer;
+    }
+
+    @Override
+    public int getEntryIndex(@Nullable Entry entry) {
+        if (entry == null) {
+            return -1;
+        }
+
+        float x = entry.getX();
+        float y = entry.getY();
+
+        // Fast path for the Entry returned by this DataSet
+        if (entry == mEntryBuffer && mEntryBufferIndex >= 0 && mEntryBufferIndex < mEntryCount
+                && mXValues[mEntryBufferIndex] == x && mYValues[mEntryBufferIndex] == y) {
+            return mEntryBufferIndex;
+        }
+
+        for (int i = getFirstIndexOf(x); i >= 0 && i < mEntryCount && mXValues[i] == x; i++) {
+            if (mYValues[i] == y) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public boolean contains(@Nullable Entry entry) {
+        return getEntryIndex(entry) >= 0;
+    }
+
+    /**
+     * Returns newly created Entry objects for all the values found at the given x-value.
+     *
+     * @param xValue
+     */
+    @NonNull
+    @Override
+    public List<Entry> getEntriesForXValue(float xValue) {
+        List<Entry> entries = new ArrayList<>();
+
+        for (int i = getFirstIndexOf(xValue); i >= 0 && i < mEntryCount && mXValues[i] == xValue; i++) {
+            entries.add(new Entry(mXValues[i], mYValues[i]));
+        }
+
+        return entries;
+    }
+
+    /**
+     * Returns newly created Entry objects for all the values of this DataSet. Changes to the
+     * returned list are not reflected in this DataSet.
+     */
+    @NonNull
+    @Override
+    public List<Entry> getValues() {
+        List<Entry> values = new ArrayList<>(mEntryCount);
+        for (int i = 0; i < mEntryCount; i++) {
+            values.add(new Entry(mXValues[i], mYValues[i]));
+        }
+
+        return values;
+    }
+
+    /**
+     * Replaces the values of this DataSet with the values of the given entries, and calls
+     * notifyDataSetChanged(). The entries themselves are not kept.
+     *
+     * @param values
+     */
+    @Override
+    public void setValues(@NonNull List<Entry> values) {
+        int count = values.size();
+        float[] xValues = new float[Math.max(count, 1)];
+        float[] yValues = new float[xValues.length];
+
+        for (int i = 0; i < count; i++) {
+            Entry entry = values.get(i);
+            xValues[i] = entry.getX();
+            yValues[i] = entry.getY();
+        }
+
+        setValues(xValues, yValues, count);
+    }
+
+    /**
+     * If isExtension is true, only the entries following the current values are copied, without
+     * recalculating the minimum and maximum values.
+     *
+     * @param values
+     * @param isExtension
+     */
+    @Override
+    public void setValues(@NonNull List<Entry> values, boolean isExtension) {
+        if (!isExtension || mEntryCount == 0 || values.size() < mEntryCount) {
+            setValues(values);
+            return;
+        }
+
+        addEntries(values.subList(mEntryCount, values.size()));
+        notifyEntriesAppended();
+    }
+
+    @NonNull
+    @Override
+    public DataSet<Entry> copy() {
+        int capacity = Math.max(mEntryCount, 1);
+        ColumnarLineDataSet copied = new ColumnarLineDataSet(
+                Arrays.copyOf(mXValues, capacity), Arrays.copyOf(mYValues, capacity), mEntryCount, getLabel()
+        );
+        copy(copied);
+        return copied;
+    }
+
+    /**
+     * Returns the index of the first value with the given x-value, or -1 if there is none.
+     *
+     * @param xValue
+     */
+    private int getFirstIndexOf(float xValue) {
+        int low = 0;
+        int high = mEntryCount;
+
+        while (low < high) {
+            int m = (low + high) >>> 1;
+            if (mXValues[m] < xValue) {
+                low = m + 1;
+            } else {
+                high = m;
+            }
+        }
+
+        if (low < mEntryCount && mXValues[low] == xValue) {
+            return low;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first value with an x-value strictly greater than the given one, or
+     * the number of values if there is none.
+     *
+     * @param xValue
+     */
+    private int getFirstIndexAbove(float xValue) {
+        int low = 0;
+        int high = mEntryCount;
+
+        while (low < high) {
+            int m = (low + high) >>> 1;
+            if (mXValues[m] <= xValue) {
+                low = m + 1;
+            } else {
+                high = m;
+            }
+        }
+
+        return low;
+    }
+}
@@ -40,26 +40,31 @@ public class CombinedData extends BarLineScatterCandleBubbleData<IBarLineScatter
     public void setData(@Nullable LineData data) {
         mLineData = data;
         notifyDataChanged();
+        mChanges = DataChange.ALL;
     }
 
     public void setData(@Nullable BarData data) {
         mBarData = data;
         notifyDataChanged();
+        mChanges = DataChange.ALL;
     }
 
     public void setData(@Nullable ScatterData data) {
         mScatterData = data;
         notifyDataChanged();
+        mChanges = DataChange.ALL;
     }
 
     public void setData(@Nullable CandleData data) {
         mCandleData = data;
         notifyDataChanged();
+        mChanges = DataChange.ALL;
     }
 
     public void setData(@Nullable BubbleData data) {
         mBubbleData = data;
         notifyDataChanged();
+        mChanges = DataChange.ALL;
     }
 
     @Override
@@ -205,6 +210,24 @@ public class CombinedData extends BarLineScatterCandleBubbleData<IBarLineScatter
         calcMinMax(); // Recalculate everything
     }
 
+    @Override
+    public int getChanges() {
+        int changes = mChanges;
+        for (BarLineScatterCandleBubbleData data : getAllData()) {
+            changes |= data.getChanges();
+        }
+
+        return changes;
+    }
+
+    @Override
+    public void clearChanges() {
+        mChanges = DataChange.NONE;
+        for (BarLineScatterCandleBubbleData data : getAllData()) {
+            data.clearChanges();
+        }
+    }
+
     /**
      * Returns the Entry for a corresponding highlight object.
      *
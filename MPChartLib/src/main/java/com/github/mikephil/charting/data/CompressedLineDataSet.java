@@ -0,0 +1,1007 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.utils.EntryXComparator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * LineDataSet that stores its values compressed, for long historical series that are mostly
+ * scrolled back to rarely. The values are split in blocks of a fixed number of entries, each
+ * encoded as a bit stream: the x-values with delta-of-delta encoding (a single bit per value when
+ * they are evenly spaced), the y-values XOR-ed with the previous one (a single bit when unchanged,
+ * only the meaningful bits otherwise). The encoding is lossless.
+ * <p>
+ * Every block keeps its x-range and its minimum and maximum y-values in a header, so looking up an
+ * x-value, and calculating the y-range of the visible entries, only decode the blocks intersecting
+ * the searched range. The values are decoded into the arrays passed to
+ * {@link #copyXY(int, int, float[], int)} without allocating, and the block of the last random
+ * access is kept decoded, so sequential reads by index decode every block once.
+ * <p>
+ * The values must be added in ascending x-order. Appending, and removing the first or the last
+ * value, are cheap, any other modification re-encodes the blocks following it. Entry objects are
+ * only created on demand. Methods returning a single Entry return a shared instance that is
+ * updated on every call, so it must not be kept around. As reading the values decodes them into
+ * shared buffers, this DataSet must only be accessed from one thread.
+ */
+public class CompressedLineDataSet extends LineDataSet {
+    /**
+     * Default number of entries of a block.
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 256;
+
+    /**
+     * Number of entries of every block, except the last one which can be incomplete.
+     */
+    private final int mBlockSize;
+
+    @NonNull
+    private Block[] mBlocks = new Block[8];
+
+    private int mBlockCount = 0;
+
+    /**
+     * Number of entries removed at the start of the first block.
+     */
+    private int mFirstOffset = 0;
+
+    /**
+     * The number of entries.
+     */
+    private int mEntryCount = 0;
+
+    /**
+     * Index of the block decoded in mCacheX and mCacheY, or -1.
+     */
+    private int mCacheBlock = -1;
+
+    @NonNull
+    private final float[] mCacheX;
+
+    @NonNull
+    private final float[] mCacheY;
+
+    /**
+     * Reusable decoder, to read the blocks without allocating.
+     */
+    @NonNull
+    private final BlockReader mReader = new BlockReader();
+
+    /**
+     * Reusable Entry returned to callers that need an Entry object.
+     */
+    @NonNull
+    private final Entry mEntryBuffer = new Entry();
+
+    /**
+     * Index of the values currently held by mEntryBuffer, or -1.
+     */
+    private int mEntryBufferIndex = -1;
+
+    public CompressedLineDataSet(@NonNull String label) {
+        this(DEFAULT_BLOCK_SIZE, label);
+    }
+
+    /**
+     * @param blockSize the number of entries of a block, at least 2
+     * @param label
+     */
+    public CompressedLineDataSet(int blockSize, @NonNull String label) {
+        super(new ArrayList<Entry>(0), label);
+
+        if (blockSize < 2) {
+            throw new IllegalArgumentException("The block size must be at least 2");
+        }
+
+        mBlockSize = blockSize;
+        mCacheX = new float[blockSize];
+        mCacheY = new float[blockSize];
+    }
+
+    /**
+     * Returns the number of entries of a block.
+     */
+    public int getBlockSize() {
+        return mBlockSize;
+    }
+
+    /**
+     * Returns the number of bytes used by the encoded values, without the block headers.
+     */
+    public long getEncodedSize() {
+        long bits = 0;
+        for (int i = 0; i < mBlockCount; i++) {
+            bits += mBlocks[i].bitCount;
+        }
+
+        return (bits + 7) / 8;
+    }
+
+    /**
+     * Adds a value to the end of this DataSet. The x-value must not be lower than the current
+     * maximum x-value.
+     *
+     * @param x
+     * @param y
+     */
+    public void addEntry(float x, float y) {
+        append(x, y);
+        calcMinMax(x, y);
+    }
+
+    @Override
+    public boolean addEntry(@NonNull Entry entry) {
+        addEntry(entry.getX(), entry.getY());
+
+        return true;
+    }
+
+    @Override
+    public boolean addEntries(@NonNull List<Entry> entries) {
+        final int count = entries.size();
+        for (int i = 0; i < count; i++) {
+            Entry entry = entries.get(i);
+            addEntry(entry.getX(), entry.getY());
+        }
+
+        return count > 0;
+    }
+
+    /**
+     * Adds length values, read from the given arrays starting at offset, to the end of this
+     * DataSet. The x-values must be sorted in ascending order, and not be lower than the current
+     * maximum x-value.
+     *
+     * @param xValues
+     * @param yValues
+     * @param offset
+     * @param length
+     */
+    @Override
+    public boolean addEntries(@NonNull float[] xValues, @NonNull float[] yValues, int offset, int length) {
+        checkBounds(xValues, yValues, offset, length);
+
+        for (int i = offset, end = offset + length; i < end; i++) {
+            addEntry(xValues[i], yValues[i]);
+        }
+
+        return length > 0;
+    }
+
+    @Override
+    public void addEntryOrdered(@NonNull Entry entry) {
+        final float x = entry.getX();
+        if (mEntryCount == 0 || getXForIndex(mEntryCount - 1) <= x) {
+            addEntry(x, entry.getY());
+            return;
+        }
+
+        final int index = getFirstIndexAbove(x);
+        rewrite(index, index, x, entry.getY(), true);
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public void addEntriesOrdered(@NonNull List<Entry> entries) {
+        List<Entry> sorted = new ArrayList<>(entries);
+        Collections.sort(sorted, new EntryXComparator());
+
+        for (int i = 0; i < sorted.size(); i++) {
+            addEntryOrdered(sorted.get(i));
+        }
+    }
+
+    @Override
+    public boolean removeEntry(@Nullable Entry entry) {
+        return removeEntry(getEntryIndex(entry));
+    }
+
+    @Override
+    public boolean removeEntry(int index) {
+        if (index < 0 || index >= mEntryCount) {
+            return false;
+        }
+
+        if (index == 0) {
+            removeFirstValue();
+        } else {
+            rewrite(index, index + 1, 0f, 0f, false);
+        }
+
+        notifyDataSetChanged();
+
+        return true;
+    }
+
+    @Override
+    public boolean removeFirst() {
+        return removeEntry(0);
+    }
+
+    @Override
+    public boolean removeLast() {
+        return removeEntry(mEntryCount - 1);
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(mBlocks, 0, mBlockCount, null);
+        mBlockCount = 0;
+        mFirstOffset = 0;
+        mEntryCount = 0;
+        mCacheBlock = -1;
+        mEntryBufferIndex = -1;
+
+        notifyDataSetChanged();
+    }
+
+    /**
+     * Appends a value to the last block, or to a new one if it is full.
+     *
+     * @param x
+     * @param y
+     */
+    private void append(float x, float y) {
+        Block block = mBlockCount > 0 ? mBlocks[mBlockCount - 1] : null;
+        if (block == null || block.count == mBlockSize) {
+            if (mBlockCount == mBlocks.length) {
+                mBlocks = Arrays.copyOf(mBlocks, mBlockCount * 2);
+            }
+
+            block = new Block();
+            mBlocks[mBlockCount++] = block;
+        }
+
+        block.append(x, y);
+        mEntryCount++;
+
+        if (mCacheBlock == mBlockCount - 1) {
+            mCacheBlock = -1;
+        }
+    }
+
+    /**
+     * Removes the first value, dropping the first block once all its values are removed.
+     */
+    private void removeFirstValue() {
+        mFirstOffset++;
+        mEntryCount--;
+
+        if (mFirstOffset == mBlocks[0].count) {
+            System.arraycopy(mBlocks, 1, mBlocks, 0, mBlockCount - 1);
+            mBlocks[--mBlockCount] = null;
+            mFirstOffset = 0;
+        }
+
+        mCacheBlock = -1;
+        mEntryBufferIndex = -1;
+    }
+
+    /**
+     * Re-encodes the values from the block containing the given index, replacing the values in
+     * [from, to) by the given value if insert is true, or removing them if not.
+     *
+     * @param from
+     * @param to
+     * @param x
+     * @param y
+     * @param insert
+     */
+    private void rewrite(int from, int to, float x, float y, boolean insert) {
+        final int firstBlock = (from + mFirstOffset) / mBlockSize;
+        final int start = Math.max(firstBlock * mBlockSize - mFirstOffset, 0);
+        final int count = mEntryCount - start;
+
+        final float[] values = new float[count * 2];
+        copyXY(start, mEntryCount, values, 0);
+
+        Arrays.fill(mBlocks, firstBlock, mBlockCount, null);
+        mBlockCount = firstBlock;
+        mEntryCount = start;
+        if (firstBlock == 0) {
+            mFirstOffset = 0;
+        }
+
+        for (int i = start; i < from; i++) {
+            append(values[(i - start) * 2], values[(i - start) * 2 + 1]);
+        }
+
+        if (insert) {
+            append(x, y);
+        }
+
+        for (int i = to; i < start + count; i++) {
+            append(values[(i - start) * 2], values[(i - start) * 2 + 1]);
+        }
+
+        mCacheBlock = -1;
+        mEntryBufferIndex = -1;
+    }
+
+    @Override
+    public void calcMinMax() {
+        invalidateIndices();
+
+        if (mEntryCount == 0) {
+            return;
+        }
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+        mXMin = Float.MAX_VALUE;
+
+        calcMinMax(0, mEntryCount - 1, true);
+    }
+
+    @Override
+    public void calcMinMaxY(float fromX, float toX) {
+        if (mEntryCount == 0) {
+            return;
+        }
+
+        if (isRangeIndexEnabled()) {
+            super.calcMinMaxY(fromX, toX);
+            return;
+        }
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+
+        int indexFrom = getEntryIndex(fromX, Float.NaN, Rounding.DOWN);
+        int indexTo = getEntryIndex(toX, Float.NaN, Rounding.UP);
+
+        calcMinMax(indexFrom, indexTo, false);
+    }
+
+    /**
+     * Reading the values decodes them into shared buffers, which must not be done from several
+     * threads at once, and the block headers make calcMinMax() cheap anyway.
+     */
+    @Override
+    boolean isChunkedMinMaxSupported() {
+        return false;
+    }
+
+    /**
+     * Updates the min and max values of this DataSet with the values in [from, to], using the block
+     * headers for the blocks entirely in the range, and decoding the other ones.
+     *
+     * @param from
+     * @param to
+     * @param withX true to update the x-values as well
+     */
+    private void calcMinMax(int from, int to, boolean withX) {
+        int i = from;
+        while (i <= to) {
+            final int position = i + mFirstOffset;
+            final int b = position / mBlockSize;
+            final Block block = mBlocks[b];
+            final int blockEnd = b * mBlockSize - mFirstOffset + block.count - 1;
+
+            if (position % mBlockSize == 0 && blockEnd <= to) {
+                mYMin = Math.min(mYMin, block.yMin);
+                mYMax = Math.max(mYMax, block.yMax);
+                if (withX) {
+                    mXMin = Math.min(mXMin, block.xMin);
+                    mXMax = Math.max(mXMax, block.xMax);
+                }
+
+                i = blockEnd + 1;
+                continue;
+            }
+
+            loadBlock(b);
+
+            for (final int end = Math.min(blockEnd, to); i <= end; i++) {
+                final int p = i + mFirstOffset - b * mBlockSize;
+                if (withX) {
+                    calcMinMax(mCacheX[p], mCacheY[p]);
+                } else {
+                    final float y = mCacheY[p];
+                    if (y < mYMin) {
+                        mYMin = y;
+                    }
+
+                    if (y > mYMax) {
+                        mYMax = y;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the min and max x and y value of this DataSet based on the given values.
+     *
+     * @param x
+     * @param y
+     */
+    private void calcMinMax(float x, float y) {
+        if (x < mXMin) {
+            mXMin = x;
+        }
+
+        if (x > mXMax) {
+            mXMax = x;
+        }
+
+        if (y < mYMin) {
+            mYMin = y;
+        }
+
+        if (y > mYMax) {
+            mYMax = y;
+        }
+    }
+
+    /**
+     * Decodes the given block into mCacheX and mCacheY, unless it already is.
+     *
+     * @param block
+     */
+    private void loadBlock(int block) {
+        if (mCacheBlock == block) {
+            return;
+        }
+
+        final BlockReader reader = mReader;
+        reader.start(mBlocks[block]);
+
+        for (int i = 0, count = mBlocks[block].count; i < count; i++) {
+            reader.next();
+            mCacheX[i] = Float.intBitsToFloat(reader.xBits);
+            mCacheY[i] = Float.intBitsToFloat(reader.yBits);
+        }
+
+        mCacheBlock = block;
+    }
+
+    @Override
+    public int getEntryCount() {
+        return mEntryCount;
+    }
+
+    @Override
+    public float getXForIndex(int index) {
+        final int position = index + mFirstOffset;
+        final int block = position / mBlockSize;
+        loadBlock(block);
+
+        return mCacheX[position - block * mBlockSize];
+    }
+
+    @Override
+    public float getYForIndex(int index) {
+        final int position = index + mFirstOffset;
+        final int block = position / mBlockSize;
+        loadBlock(block);
+
+        return mCacheY[position - block * mBlockSize];
+    }
+
+    @Override
+    public void copyX(int fromIndex, int toIndex, @NonNull float[] dst, int offset) {
+        checkCopyRange(mEntryCount, fromIndex, toIndex, dst, offset, 1);
+        decode(fromIndex, toIndex, dst, offset, true, false);
+    }
+
+    @Override
+    public void copyY(int fromIndex, int toIndex, @NonNull float[] dst, int offset) {
+        checkCopyRange(mEntryCount, fromIndex, toIndex, dst, offset, 1);
+        decode(fromIndex, toIndex, dst, offset, false, true);
+    }
+
+    @Override
+    public void copyXY(int fromIndex, int toIndex, @NonNull float[] dst, int offset) {
+        checkCopyRange(mEntryCount, fromIndex, toIndex, dst, offset, 2);
+        decode(fromIndex, toIndex, dst, offset, true, true);
+    }
+
+    /**
+     * Decodes the values in [fromIndex, toIndex) directly into the given array, the x-values,
+     * the y-values or both interleaved.
+     *
+     * @param fromIndex
+     * @param toIndex
+     * @param dst
+     * @param offset
+     * @param x
+     * @param y
+     */
+    private void decode(int fromIndex, int toIndex, @NonNull float[] dst, int offset, boolean x, boolean y) {
+        final BlockReader reader = mReader;
+        int i = fromIndex;
+
+        while (i < toIndex) {
+            final int position = i + mFirstOffset;
+            final int b = position / mBlockSize;
+            final int blockStart = b * mBlockSize - mFirstOffset;
+            final int end = Math.min(blockStart + mBlocks[b].count, toIndex);
+
+            reader.start(mBlocks[b]);
+            for (int skip = position - b * mBlockSize; skip > 0; skip--) {
+                reader.next();
+            }
+
+            for (; i < end; i++) {
+                reader.next();
+                if (x) {
+                    dst[offset++] = Float.intBitsToFloat(reader.xBits);
+                }
+                if (y) {
+                    dst[offset++] = Float.intBitsToFloat(reader.yBits);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the block of the first value not lower than xValue with the block headers, and only
+     * decodes that block.
+     */
+    @Override
+    protected int getClosestIndex(float xValue, int count) {
+        final int above = getFirstIndexAtOrAbove(xValue, false);
+        if (above == count) {
+            return count - 1;
+        }
+
+        if (above == 0) {
+            return 0;
+        }
+
+        // At equal distance, the higher value is the closest one
+        return Math.abs(getXForIndex(above) - xValue) <= Math.abs(getXForIndex(above - 1) - xValue)
+                ? above : above - 1;
+    }
+
+    /**
+     * Returns the index of the first value with an x-value greater than (or equal to, if strict is
+     * false) the given one, or the number of values if there is none.
+     *
+     * @param xValue
+     * @param strict
+     */
+    private int getFirstIndexAtOrAbove(float xValue, boolean strict) {
+        if (mEntryCount == 0) {
+            return 0;
+        }
+
+        // First block whose last value is above xValue
+        int low = 0;
+        int high = mBlockCount;
+        while (low < high) {
+            int m = (low + high) >>> 1;
+            if (strict ? mBlocks[m].xMax <= xValue : mBlocks[m].xMax < xValue) {
+                low = m + 1;
+            } else {
+                high = m;
+            }
+        }
+
+        if (low == mBlockCount) {
+            return mEntryCount;
+        }
+
+        final int block = low;
+        loadBlock(block);
+
+        int from = block == 0 ? mFirstOffset : 0;
+        int to = mBlocks[block].count;
+        while (from < to) {
+            int m = (from + to) >>> 1;
+            if (strict ? mCacheX[m] <= xValue : mCacheX[m] < xValue) {
+                from = m + 1;
+            } else {
+                to = m;
+            }
+        }
+
+        return block * mBlockSize + from - mFirstOffset;
+    }
+
+    /**
+     * Returns the index of the first value with an x-value strictly greater than the given one, or
+     * the number of values if there is none.
+     *
+     * @param xValue
+     */
+    private int getFirstIndexAbove(float xValue) {
+        return getFirstIndexAtOrAbove(xValue, true);
+    }
+
+    /**
+     * Returns the index of the first value with the given x-value, or -1 if there is none.
+     *
+     * @param xValue
+     */
+    private int getFirstIndexOf(float xValue) {
+        final int index = getFirstIndexAtOrAbove(xValue, false);
+        if (index < mEntryCount && getXForIndex(index) == xValue) {
+            return index;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns a shared Entry holding the values at the given index. The returned Entry is updated
+     * by the next call to any method of this DataSet returning an Entry.
+     *
+     * @param index
+     */
+    @Nullable
+    @Override
+    public Entry getEntryForIndex(int index) {
+        if (index < 0 || index >= mEntryCount) {
+            return null;
+        }
+
+        mEntryBuffer.setX(getXForIndex(index));
+        mEntryBuffer.setY(getYForIndex(index));
+        mEntryBufferIndex = index;
+
+        return mEntryBuffer;
+    }
+
+    @Override
+    public int getEntryIndex(@Nullable Entry entry) {
+        if (entry == null) {
+            return -1;
+        }
+
+        // Fast path for the Entry returned by this DataSet
+        if (entry == mEntryBuffer && mEntryBufferIndex >= 0 && mEntryBufferIndex < mEntryCount
+                && getXForIndex(mEntryBufferIndex) == entry.getX() && getYForIndex(mEntryBufferIndex) == entry.getY()) {
+            return mEntryBufferIndex;
+        }
+
+        final float x = entry.getX();
+        for (int i = getFirstIndexOf(x); i >= 0 && i < mEntryCount && getXForIndex(i) == x; i++) {
+            if (getYForIndex(i) == entry.getY()) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public boolean contains(@Nullable Entry entry) {
+        return getEntryIndex(entry) >= 0;
+    }
+
+    /**
+     * Returns newly created Entry objects for all the values found at the given x-value.
+     *
+     * @param xValue
+     */
+    @NonNull
+    @Override
+    public List<Entry> getEntriesForXValue(float xValue) {
+        List<Entry> entries = new ArrayList<>();
+
+        for (int i = getFirstIndexOf(xValue); i >= 0 && i < mEntryCount && getXForIndex(i) == xValue; i++) {
+            entries.add(new Entry(xValue, getYForIndex(i)));
+        }
+
+        return entries;
+    }
+
+    /**
+     * Returns newly created Entry objects for all the values of this DataSet. Changes to the
+     * returned list are not reflected in this DataSet.
+     */
+    @NonNull
+    @Override
+    public List<Entry> getValues() {
+        final float[] values = new float[mEntryCount * 2];
+        copyXY(0, mEntryCount, values, 0);
+
+        List<Entry> entries = new ArrayList<>(mEntryCount);
+        for (int i = 0; i < mEntryCount; i++) {
+            entries.add(new Entry(values[i * 2], values[i * 2 + 1]));
+        }
+
+        return entries;
+    }
+
+    /**
+     * Replaces the values of this DataSet with the values of the given entries, which must be
+     * sorted by x-value, and calls notifyDataSetChanged(). The entries themselves are not kept.
+     *
+     * @param values
+     */
+    @Override
+    public void setValues(@NonNull List<Entry> values) {
+        Arrays.fill(mBlocks, 0, mBlockCount, null);
+        mBlockCount = 0;
+        mFirstOffset = 0;
+        mEntryCount = 0;
+        mCacheBlock = -1;
+        mEntryBufferIndex = -1;
+
+        for (int i = 0; i < values.size(); i++) {
+            Entry entry = values.get(i);
+            append(entry.getX(), entry.getY());
+        }
+
+        notifyDataSetChanged();
+    }
+
+    /**
+     * If isExtension is true, only the entries following the current values are added, without
+     * recalculating the minimum and maximum values.
+     *
+     * @param values
+     * @param isExtension
+     */
+    @Override
+    public void setValues(@NonNull List<Entry> values, boolean isExtension) {
+        if (!isExtension || mEntryCount == 0 || values.size() < mEntryCount) {
+            setValues(values);
+            return;
+        }
+
+        addEntries(values.subList(mEntryCount, values.size()));
+        notifyEntriesAppended();
+    }
+
+    @NonNull
+    @Override
+    public DataSet<Entry> copy() {
+        CompressedLineDataSet copied = new CompressedLineDataSet(mBlockSize, getLabel());
+        copied.mBlocks = new Block[Math.max(mBlockCount, 1)];
+        for (int i = 0; i < mBlockCount; i++) {
+            copied.mBlocks[i] = mBlocks[i].copy();
+        }
+        copied.mBlockCount = mBlockCount;
+        copied.mFirstOffset = mFirstOffset;
+        copied.mEntryCount = mEntryCount;
+        copied.calcMinMax();
+
+        copy(copied);
+        return copied;
+    }
+
+    /**
+     * A block of encoded values, with its header. Only the last block of a DataSet is appended to,
+     * so the state of the encoder is kept in the block.
+     */
+    private static final class Block {
+        @NonNull
+        long[] bits = new long[4];
+
+        long bitCount = 0;
+
+        int count = 0;
+
+        float xMin;
+        float xMax;
+        float yMin = Float.MAX_VALUE;
+        float yMax = -Float.MAX_VALUE;
+
+        /**
+         * State of the encoder: the bits of the last values, the last x-delta, and the window of
+         * meaningful bits of the last y-XOR (-1 if there is none yet).
+         */
+        int lastXBits;
+        long lastDelta;
+        int lastYBits;
+        int leading = -1;
+        int trailing;
+
+        void append(float x, float y) {
+            final int xBits = Float.floatToRawIntBits(x);
+            final int yBits = Float.floatToRawIntBits(y);
+
+            if (count == 0) {
+                write(xBits, 32);
+                write(yBits, 32);
+                xMin = x;
+                lastDelta = 0;
+            } else {
+                final long delta = (long) xBits - lastXBits;
+                writeDeltaOfDelta(delta - lastDelta);
+                writeXor(yBits ^ lastYBits);
+                lastDelta = delta;
+            }
+
+            xMax = x;
+            if (y < yMin) {
+                yMin = y;
+            }
+
+            if (y > yMax) {
+                yMax = y;
+            }
+
+            lastXBits = xBits;
+            lastYBits = yBits;
+            count++;
+        }
+
+        private void writeDeltaOfDelta(long dod) {
+            if (dod == 0) {
+                write(0, 1);
+            } else if (dod >= -64 && dod < 64) {
+                write(0x2, 2);
+                write(dod, 7);
+            } else if (dod >= -256 && dod < 256) {
+                write(0x6, 3);
+                write(dod, 9);
+            } else if (dod >= -2048 && dod < 2048) {
+                write(0xE, 4);
+                write(dod, 12);
+            } else {
+                write(0xF, 4);
+                write(dod, 34);
+            }
+        }
+
+        private void writeXor(int xor) {
+            if (xor == 0) {
+                write(0, 1);
+                return;
+            }
+
+            final int leadingZeros = Integer.numberOfLeadingZeros(xor);
+            final int trailingZeros = Integer.numberOfTrailingZeros(xor);
+
+            if (leading >= 0 && leadingZeros >= leading && trailingZeros >= trailing) {
+                // Fits in the window of the previous value
+                write(0x2, 2);
+                write(xor >>> trailing, 32 - leading - trailing);
+            } else {
+                final int meaningful = 32 - leadingZeros - trailingZeros;
+                write(0x3, 2);
+                write(leadingZeros, 5);
+                write(meaningful - 1, 5);
+                write(xor >>> trailingZeros, meaningful);
+                leading = leadingZeros;
+                trailing = trailingZeros;
+            }
+        }
+
+        /**
+         * Writes the n lowest bits of the given value, the most significant first.
+         *
+         * @param value
+         * @param n     between 1 and 64
+         */
+        private void write(long value, int n) {
+            if (bitCount + n > (long) bits.length * 64) {
+                bits = Arrays.copyOf(bits, bits.length * 2);
+            }
+
+            if (n < 64) {
+                value &= (1L << n) - 1;
+            }
+
+            final int word = (int) (bitCount >>> 6);
+            final int free = 64 - (int) (bitCount & 63);
+            if (n <= free) {
+                bits[word] |= value << (free - n);
+            } else {
+                bits[word] |= value >>> (n - free);
+                bits[word + 1] |= value << (64 - (n - free));
+            }
+
+            bitCount += n;
+        }
+
+        @NonNull
+        Block copy() {
+            Block copied = new Block();
+            copied.bits = Arrays.copyOf(bits, (int) ((bitCount + 63) >>> 6) + 1);
+            copied.bitCount = bitCount;
+            copied.count = count;
+            copied.xMin = xMin;
+            copied.xMax = xMax;
+            copied.yMin = yMin;
+            copied.yMax = yMax;
+            copied.lastXBits = lastXBits;
+            copied.lastDelta = lastDelta;
+            copied.lastYBits = lastYBits;
+            copied.leading = leading;
+            copied.trailing = trailing;
+            return copied;
+        }
+    }
+
+    /**
+     * Streaming decoder of a block, holding the bits of the last decoded values.
+     */
+    private static final class BlockReader {
+        @NonNull
+        private long[] mBits = new long[0];
+
+        private long mPosition;
+
+        private int mIndex;
+
+        private long mDelta;
+
+        private int mLeading;
+
+        private int mTrailing;
+
+        int xBits;
+
+        int yBits;
+
+        void start(@NonNull Block block) {
+            mBits = block.bits;
+            mPosition = 0;
+            mIndex = 0;
+        }
+
+        /**
+         * Decodes the next values into xBits and yBits.
+         */
+        void next() {
+            if (mIndex++ == 0) {
+                xBits = (int) read(32);
+                yBits = (int) read(32);
+                mDelta = 0;
+                return;
+            }
+
+            mDelta += readDeltaOfDelta();
+            xBits = (int) (xBits + mDelta);
+
+            if (read(1) != 0) {
+                if (read(1) != 0) {
+                    mLeading = (int) read(5);
+                    final int meaningful = (int) read(5) + 1;
+                    mTrailing = 32 - mLeading - meaningful;
+                }
+
+                yBits ^= (int) read(32 - mLeading - mTrailing) << mTrailing;
+            }
+        }
+
+        private long readDeltaOfDelta() {
+            if (read(1) == 0) {
+                return 0;
+            } else if (read(1) == 0) {
+                return signExtend(read(7), 7);
+            } else if (read(1) == 0) {
+                return signExtend(read(9), 9);
+            } else if (read(1) == 0) {
+                return signExtend(read(12), 12);
+            }
+
+            return signExtend(read(34), 34);
+        }
+
+        private static long signExtend(long value, int n) {
+            return (value << (64 - n)) >> (64 - n);
+        }
+
+        /**
+         * Reads the next n bits.
+         *
+         * @param n between 1 and 64
+         */
+        private long read(int n) {
+            final int word = (int) (mPosition >>> 6);
+            final int used = (int) (mPosition & 63);
+            final int available = 64 - used;
+
+            long value = (mBits[word] << used) >>> (64 - n);
+            if (n > available) {
+                value |= mBits[word + 1] >>> (64 - (n - available));
+            }
+
+            mPosition += n;
+            return value;
+        }
+    }
+}
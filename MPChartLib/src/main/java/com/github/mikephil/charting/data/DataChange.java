@@ -0,0 +1,70 @@
+package com.github.mikephil.charting.data;
+
+/**
+ * Types of the changes recorded by the DataSets, as bit flags which can be combined. The changes
+ * recorded since the chart last consumed them (see {@link ChartData#getChanges()}) let it skip the
+ * steps of Chart.notifyDataChanges() which they cannot affect: e.g. a style change only needs the
+ * legend to be computed again, while appended entries only need the axes to be computed again if
+ * they extend the range of the data.
+ */
+public final class DataChange {
+    /**
+     * Nothing changed.
+     */
+    public static final int NONE = 0;
+
+    /**
+     * Colors, labels or other drawing attributes changed, the values did not.
+     */
+    public static final int STYLE = 1;
+
+    /**
+     * Only the visibility of the DataSet changed.
+     */
+    public static final int VISIBILITY = 1 << 1;
+
+    /**
+     * Entries were added after the last one. The min and max values were extended while adding
+     * them.
+     */
+    public static final int APPEND = 1 << 2;
+
+    /**
+     * Entries were modified or inserted. The min and max values were recalculated.
+     */
+    public static final int REPLACE_RANGE = 1 << 3;
+
+    /**
+     * Entries were removed. The min and max values were recalculated.
+     */
+    public static final int REMOVE_RANGE = 1 << 4;
+
+    /**
+     * DataSets were added to or removed from the ChartData, or their values were replaced without
+     * a more specific type. The charts recalculate everything, as notifyDataSetChanged() does.
+     */
+    public static final int DATA_SETS = 1 << 5;
+
+    /**
+     * Anything may have changed, including the DataSets themselves, everything is recalculated.
+     */
+    public static final int ALL = STYLE | VISIBILITY | APPEND | REPLACE_RANGE | REMOVE_RANGE | DATA_SETS;
+
+    /**
+     * Changes which modify the values, and possibly the min and max values.
+     */
+    public static final int VALUES = APPEND | REPLACE_RANGE | REMOVE_RANGE;
+
+    private DataChange() {
+    }
+
+    /**
+     * Returns true if the given changes contain any of the given types.
+     *
+     * @param changes
+     * @param types
+     */
+    public static boolean contains(int changes, int types) {
+        return (changes & types) != 0;
+    }
+}
@@ -1,6 +1,9 @@
 package com.github.mikephil.charting.data;
 
+import com.github.mikephil.charting.utils.EntryXComparator;
+
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import androidx.annotation.NonNull;
@@ -41,6 +44,30 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
      */
     protected float mXMin = Float.MAX_VALUE;
 
+    /**
+     * Index used to compute the min and max y-values of a range of entries, null if disabled.
+     */
+    @Nullable
+    private RangeMinMaxIndex mRangeIndex = null;
+
+    /**
+     * Min/max pyramid of the y-values used by renderers to decimate the entries, null if disabled.
+     */
+    @Nullable
+    private LevelOfDetail mLevelOfDetail = null;
+
+    /**
+     * Buffer for the min and max values of appended entries.
+     */
+    @NonNull
+    private final float[] mMinMaxBuffer = new float[4];
+
+    /**
+     * Number of entries of mValues included in the min and max values. setValues(List, true)
+     * processes the entries after it, even if they were added to mValues itself.
+     */
+    private int mProcessedCount = 0;
+
     /**
      * Creates a new DataSet object with the given values (entries) it represents. Also, a label
      * that describes the DataSet can be specified. The label can also be used to retrieve the
@@ -59,6 +86,10 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
 
     @Override
     public void calcMinMax() {
+        invalidateIndices();
+
+        mProcessedCount = mValues.size();
+
         if (mValues.isEmpty()) {
             return;
         }
@@ -75,7 +106,7 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
 
     @Override
     public void calcMinMaxY(float fromX, float toX) {
-        if (mValues.isEmpty()) {
+        if (getEntryCount() == 0) {
             return;
         }
 
@@ -85,12 +116,138 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         int indexFrom = getEntryIndex(fromX, Float.NaN, Rounding.DOWN);
         int indexTo = getEntryIndex(toX, Float.NaN, Rounding.UP);
 
+        if (mRangeIndex != null) {
+            if (indexFrom <= indexTo) {
+                mRangeIndex.update(this);
+                mYMin = mRangeIndex.getMin(this, indexFrom, indexTo);
+                mYMax = mRangeIndex.getMax(this, indexFrom, indexTo);
+            }
+
+            return;
+        }
+
         for (int i = indexFrom; i <= indexTo; i++) {
             // Only recalculate y
             calcMinMaxY(mValues.get(i));
         }
     }
 
+    /**
+     * Enables/disables the range index of this DataSet. When enabled, calcMinMaxY(fromX, toX),
+     * used by the autoScaleMinMax feature, no longer scans every entry between fromX and toX but
+     * answers in constant time, at the cost of a small amount of memory. This is recommended for
+     * large DataSets displayed with autoScaleMinMax. The index is updated incrementally when
+     * entries are appended with addEntry(), and rebuilt after any other change.
+     * notifyDataSetChanged() must be called after modifying entries in place. Default: false
+     *
+     * @param enabled
+     */
+    public void setRangeIndexEnabled(boolean enabled) {
+        if (!enabled) {
+            mRangeIndex = null;
+        } else if (mRangeIndex == null) {
+            mRangeIndex = new RangeMinMaxIndex();
+        }
+    }
+
+    /**
+     * Returns true if the range index is enabled for this DataSet.
+     */
+    public boolean isRangeIndexEnabled() {
+        return mRangeIndex != null;
+    }
+
+    /**
+     * Enables/disables the level of detail of this DataSet. When enabled, a min/max pyramid of the
+     * y-values is maintained, allowing renderers supporting it (e.g. the M4 decimation mode of
+     * line charts) to only visit a number of entries proportional to the chart width. The pyramid
+     * is updated incrementally when entries are appended with addEntry(), and rebuilt after any
+     * other change. notifyDataSetChanged() must be called after modifying entries in place.
+     * Default: false
+     *
+     * @param enabled
+     */
+    public void setLevelOfDetailEnabled(boolean enabled) {
+        if (!enabled) {
+            mLevelOfDetail = null;
+        } else if (mLevelOfDetail == null) {
+            mLevelOfDetail = new LevelOfDetail();
+        }
+    }
+
+    /**
+     * Returns true if the level of detail is enabled for this DataSet.
+     */
+    public boolean isLevelOfDetailEnabled() {
+        return mLevelOfDetail != null;
+    }
+
+    /**
+     * Returns the level of detail of this DataSet, brought up to date with its entries, or null if
+     * it is disabled.
+     */
+    @Nullable
+    public LevelOfDetail getLevelOfDetail() {
+        if (mLevelOfDetail != null) {
+            mLevelOfDetail.update(this);
+        }
+
+        return mLevelOfDetail;
+    }
+
+    /**
+     * Discards the content of the range index and of the level of detail, if enabled. They will be
+     * rebuilt on their next use. Subclasses must call this whenever entries are changed in another
+     * way than being appended.
+     */
+    protected void invalidateIndices() {
+        if (mRangeIndex != null) {
+            mRangeIndex.invalidate();
+        }
+
+        if (mLevelOfDetail != null) {
+            mLevelOfDetail.invalidate();
+        }
+    }
+
+    /**
+     * Lets the range index and the level of detail, if enabled, follow the removal of the first
+     * count entries instead of being rebuilt on their next use. Subclasses only removing entries
+     * from the start, like a ring buffer evicting its oldest values, should call this instead of
+     * invalidateIndices().
+     *
+     * @param count
+     */
+    protected void removeFirstFromIndices(int count) {
+        if (mRangeIndex != null) {
+            mRangeIndex.removeFirst(count);
+        }
+
+        if (mLevelOfDetail != null) {
+            mLevelOfDetail.removeFirst(count);
+        }
+    }
+
+    /**
+     * Returns the lowest y-value covered by the Entry at the given index, as used by
+     * calcMinMaxY(fromX, toX) when the range index is enabled.
+     *
+     * @param index
+     */
+    protected float getLowForIndex(int index) {
+        return getYForIndex(index);
+    }
+
+    /**
+     * Returns the highest y-value covered by the Entry at the given index, as used by
+     * calcMinMaxY(fromX, toX) when the range index is enabled.
+     *
+     * @param index
+     */
+    protected float getHighForIndex(int index) {
+        return getYForIndex(index);
+    }
+
     /**
      * Updates the min and max x and y value of this DataSet based on the given Entry.
      *
@@ -101,6 +258,132 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         calcMinMaxY(entry);
     }
 
+    /**
+     * Returns true if the min and max values of this DataSet only depend on getXForIndex(),
+     * getLowForIndex() and getHighForIndex(), which allows calculating them in independent chunks
+     * with calcMinMax(int, int, float[]). Default: false
+     */
+    boolean isChunkedMinMaxSupported() {
+        return false;
+    }
+
+    /**
+     * Calculates the min and max values of the entries in [fromIndex, toIndex) into minMax, as
+     * {xMin, xMax, yMin, yMax}, without modifying this DataSet. Only supported if
+     * isChunkedMinMaxSupported() returns true. Safe to call from several threads as long as the
+     * DataSet is not modified.
+     *
+     * @param fromIndex
+     * @param toIndex
+     * @param minMax
+     */
+    void calcMinMax(int fromIndex, int toIndex, @NonNull float[] minMax) {
+        float xMin = Float.MAX_VALUE;
+        float xMax = -Float.MAX_VALUE;
+        float yMin = Float.MAX_VALUE;
+        float yMax = -Float.MAX_VALUE;
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            final float x = getXForIndex(i);
+            if (x < xMin) {
+                xMin = x;
+            }
+
+            if (x > xMax) {
+                xMax = x;
+            }
+
+            final float low = getLowForIndex(i);
+            if (low < yMin) {
+                yMin = low;
+            }
+
+            final float high = getHighForIndex(i);
+            if (high > yMax) {
+                yMax = high;
+            }
+        }
+
+        minMax[0] = xMin;
+        minMax[1] = xMax;
+        minMax[2] = yMin;
+        minMax[3] = yMax;
+    }
+
+    /**
+     * Extends the min and max values with the ones of the entries in [fromIndex, toIndex), which
+     * were just appended. They are calculated in a single pass over the range if
+     * isChunkedMinMaxSupported(), with calcMinMax(T) for every Entry of mValues otherwise.
+     *
+     * @param fromIndex
+     * @param toIndex
+     */
+    void calcMinMaxAppended(int fromIndex, int toIndex) {
+        if (!isChunkedMinMaxSupported()) {
+            for (int i = fromIndex; i < toIndex; i++) {
+                calcMinMax(mValues.get(i));
+            }
+
+            return;
+        }
+
+        if (fromIndex >= toIndex) {
+            return;
+        }
+
+        final float[] minMax = mMinMaxBuffer;
+        calcMinMax(fromIndex, toIndex, minMax);
+
+        if (minMax[0] < mXMin) {
+            mXMin = minMax[0];
+        }
+
+        if (minMax[1] > mXMax) {
+            mXMax = minMax[1];
+        }
+
+        if (minMax[2] < mYMin) {
+            mYMin = minMax[2];
+        }
+
+        if (minMax[3] > mYMax) {
+            mYMax = minMax[3];
+        }
+    }
+
+    /**
+     * Applies min and max values calculated in chunks, as calcMinMax() would have done.
+     *
+     * @param xMin
+     * @param xMax
+     * @param yMin
+     * @param yMax
+     */
+    void setMinMax(float xMin, float xMax, float yMin, float yMax) {
+        invalidateIndices();
+
+        mXMin = xMin;
+        mXMax = xMax;
+        mYMin = yMin;
+        mYMax = yMax;
+    }
+
+    /**
+     * Replaces the entries with the given ones, whose min and max values are already known, without
+     * going through them. Only valid for DataSets storing their entries in mValues.
+     *
+     * @param values
+     * @param xMin
+     * @param xMax
+     * @param yMin
+     * @param yMax
+     */
+    void restoreValues(@NonNull List<T> values, float xMin, float xMax, float yMin, float yMax) {
+        mValues = values;
+        mProcessedCount = values.size();
+        setMinMax(xMin, xMax, yMin, yMax);
+    }
+
     protected void calcMinMaxX(@NonNull T entry) {
         if (entry.getX() < mXMin) {
             mXMin = entry.getX();
@@ -141,18 +424,52 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         notifyDataSetChanged();
     }
 
+    /**
+     * Sets the array of entries that this DataSet represents. If isExtension is true, the caller
+     * guarantees that the given list starts with the current entries of this DataSet, in the same
+     * order: only the entries added at its end are processed, the minimum and maximum values and
+     * the indices are updated incrementally instead of being recalculated, and the change is
+     * recorded as DataChange.APPEND. The list may also be the current one, with entries added at
+     * its end since the last update. Otherwise, this is the same as setValues(values).
+     *
+     * @param values
+     * @param isExtension
+     */
+    public void setValues(@NonNull List<T> values, boolean isExtension) {
+        final int previousCount = mProcessedCount;
+        final int count = values.size();
+
+        if (!isExtension || previousCount == 0 || count < previousCount) {
+            setValues(values);
+            return;
+        }
+
+        mValues = values;
+        mProcessedCount = count;
+
+        calcMinMaxAppended(previousCount, count);
+        notifyEntriesAppended();
+    }
+
     /**
      * Returns an exact copy of the DataSet this method is used on.
      */
     public abstract DataSet<T> copy();
 
+    protected void copy(DataSet dataSet) {
+        super.copy(dataSet);
+        dataSet.setRangeIndexEnabled(isRangeIndexEnabled());
+        dataSet.setLevelOfDetailEnabled(isLevelOfDetailEnabled());
+    }
+
     @NonNull
     @Override
     public String toString() {
         StringBuffer buffer = new StringBuffer();
         buffer.append(toSimpleString());
-        for (int i = 0; i < mValues.size(); i++) {
-            buffer.append(mValues.get(i).toString()).append(" ");
+        for (int i = 0, count = getEntryCount(); i < count; i++) {
+            //noinspection ConstantConditions
+            buffer.append(getEntryForIndex(i).toString()).append(" ");
         }
         return buffer.toString();
     }
@@ -162,7 +479,7 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
      */
     @NonNull
     public String toSimpleString() {
-        return "DataSet, label: " + getLabel() + ", entries: " + mValues.size() + "\n";
+        return "DataSet, label: " + getLabel() + ", entries: " + getEntryCount() + "\n";
     }
 
     @Override
@@ -188,15 +505,89 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
     @Override
     public void addEntryOrdered(@NonNull T entry) {
         calcMinMax(entry);
+        mProcessedCount++;
 
         if (!mValues.isEmpty() && mValues.get(mValues.size() - 1).getX() > entry.getX()) {
             int closestIndex = getEntryIndex(entry.getX(), entry.getY(), Rounding.UP);
             mValues.add(closestIndex, entry);
+            invalidateIndices();
         } else {
             mValues.add(entry);
         }
     }
 
+    @Override
+    public void addEntriesOrdered(@NonNull List<T> entries) {
+        final int count = entries.size();
+        if (count == 0) {
+            return;
+        }
+
+        List<T> sorted = new ArrayList<>(entries);
+        Collections.sort(sorted, new EntryXComparator());
+
+        for (int i = 0; i < count; i++) {
+            calcMinMax(sorted.get(i));
+        }
+
+        mProcessedCount += count;
+
+        final List<T> values = mValues;
+        final int size = values.size();
+
+        // Existing entries sharing the x-value of a new one stay in front of it
+        int start = size;
+        if (size > 0 && values.get(size - 1).getX() > sorted.get(0).getX()) {
+            start = getFirstIndexAbove(sorted.get(0).getX());
+        }
+
+        if (start == size) {
+            values.addAll(sorted);
+            return;
+        }
+
+        // Merge the batch with the values following its first Entry
+        List<T> merged = new ArrayList<>(size - start + count);
+        int i = start;
+        int j = 0;
+        while (i < size && j < count) {
+            if (values.get(i).getX() <= sorted.get(j).getX()) {
+                merged.add(values.get(i++));
+            } else {
+                merged.add(sorted.get(j++));
+            }
+        }
+
+        merged.addAll(values.subList(i, size));
+        merged.addAll(sorted.subList(j, count));
+
+        values.subList(start, size).clear();
+        values.addAll(merged);
+
+        invalidateIndices();
+    }
+
+    /**
+     * Returns the index of the first Entry with an x-value strictly greater than the given one, or
+     * the number of entries if there is none.
+     *
+     * @param xValue
+     */
+    private int getFirstIndexAbove(float xValue) {
+        int low = 0;
+        int high = mValues.size();
+        while (low < high) {
+            int m = (low + high) >>> 1;
+            if (mValues.get(m).getX() <= xValue) {
+                low = m + 1;
+            } else {
+                high = m;
+            }
+        }
+
+        return low;
+    }
+
     @Override
     public void clear() {
         mValues.clear();
@@ -208,11 +599,32 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
         List<T> values = mValues;
 
         calcMinMax(entry);
+        mProcessedCount++;
 
         // Add the entry
         return values.add(entry);
     }
 
+    @Override
+    public boolean addEntries(@NonNull List<T> entries) {
+        final int count = entries.size();
+        if (count == 0) {
+            return false;
+        }
+
+        if (mValues instanceof ArrayList) {
+            ((ArrayList<T>) mValues).ensureCapacity(mValues.size() + count);
+        }
+
+        final int from = mValues.size();
+        final boolean added = mValues.addAll(entries);
+        mProcessedCount += count;
+
+        calcMinMaxAppended(from, mValues.size());
+
+        return added;
+    }
+
     @Override
     public boolean removeEntry(@Nullable T entry) {
         if (entry == null) {
@@ -229,7 +641,7 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
     }
 
     @Override
-    public int getEntryIndex(@Nullable Entry entry) {
+    public int getEntryIndex(@Nullable T entry) {
         return mValues.indexOf(entry);
     }
 
@@ -238,7 +650,7 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
     public T getEntryForXValue(float xValue, float closestToY, @NonNull Rounding rounding) {
         int index = getEntryIndex(xValue, closestToY, rounding);
         if (index > -1) {
-            return mValues.get(index);
+            return getEntryForIndex(index);
         }
 
         return null;
@@ -261,20 +673,100 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
     }
 
     @Override
-    public int getEntryIndex(float xValue, float closestToY, @NonNull Rounding rounding) {
-        if (mValues.isEmpty()) {
-            return -1;
+    public float getXForIndex(int index) {
+        return mValues.get(index).getX();
+    }
+
+    @Override
+    public float getYForIndex(int index) {
+        return mValues.get(index).getY();
+    }
+
+    @Override
+    public void copyX(int fromIndex, int toIndex, @NonNull float[] dst, int offset) {
+        checkCopyRange(getEntryCount(), fromIndex, toIndex, dst, offset, 1);
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            dst[offset++] = getXForIndex(i);
         }
+    }
 
+    @Override
+    public void copyY(int fromIndex, int toIndex, @NonNull float[] dst, int offset) {
+        checkCopyRange(getEntryCount(), fromIndex, toIndex, dst, offset, 1);
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            dst[offset++] = getYForIndex(i);
+        }
+    }
+
+    @Override
+    public void copyXY(int fromIndex, int toIndex, @NonNull float[] dst, int offset) {
+        checkCopyRange(getEntryCount(), fromIndex, toIndex, dst, offset, 2);
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            dst[offset++] = getXForIndex(i);
+            dst[offset++] = getYForIndex(i);
+        }
+    }
+
+    /**
+     * Throws an IllegalArgumentException if [fromIndex, toIndex) is not a valid range of entries,
+     * or if the values do not fit in dst starting at offset.
+     *
+     * @param entryCount
+     * @param fromIndex
+     * @param toIndex
+     * @param dst
+     * @param offset
+     * @param valuesPerEntry the number of floats copied per Entry
+     */
+    static void checkCopyRange(int entryCount, int fromIndex, int toIndex, @NonNull float[] dst, int offset, int valuesPerEntry) {
+        checkCopyRange(entryCount, fromIndex, toIndex, dst.length, offset, valuesPerEntry);
+    }
+
+    /**
+     * Same as checkCopyRange(int, int, int, float[], int, int), for an int array.
+     */
+    static void checkCopyRange(int entryCount, int fromIndex, int toIndex, @NonNull int[] dst, int offset, int valuesPerEntry) {
+        checkCopyRange(entryCount, fromIndex, toIndex, dst.length, offset, valuesPerEntry);
+    }
+
+    private static void checkCopyRange(int entryCount, int fromIndex, int toIndex, int length, int offset, int valuesPerEntry) {
+        if (fromIndex < 0 || toIndex > entryCount || fromIndex > toIndex) {
+            throw new IllegalArgumentException("Invalid range [" + fromIndex + ", " + toIndex + ") for " + entryCount + " entries");
+        }
+
+        if (offset < 0 || offset + (long) (toIndex - fromIndex) * valuesPerEntry > length) {
+            throw new IllegalArgumentException("Cannot copy " + (toIndex - fromIndex) + " entries at offset " + offset
+                    + " of an array of size " + length);
+        }
+    }
+
+    @Override
+    public void getIndexRange(float fromX, float toX, @NonNull int[] range) {
+        range[0] = getEntryIndex(fromX, Float.NaN, Rounding.DOWN);
+        range[1] = getEntryIndex(toX, Float.NaN, Rounding.UP);
+    }
+
+    /**
+     * Returns the index of the Entry whose x-value is the closest to the given one, in a non-empty
+     * DataSet sorted by x-value. Used by getEntryIndex(float, float, Rounding) before applying the
+     * rounding and the closest y-value.
+     *
+     * @param xValue
+     * @param count  the number of entries, at least 1
+     */
+    protected int getClosestIndex(float xValue, int count) {
         int low = 0;
-        int high = mValues.size() - 1;
+        int high = count - 1;
         int closest = high;
 
         while (low < high) {
             int m = (low + high) / 2;
 
-            final float d1 = mValues.get(m).getX() - xValue;
-            final float d2 = mValues.get(m + 1).getX() - xValue;
+            final float d1 = getXForIndex(m) - xValue;
+            final float d2 = getXForIndex(m + 1) - xValue;
             final float ad1 = Math.abs(d1);
             final float ad2 = Math.abs(d2);
 
@@ -300,11 +792,23 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
             closest = high;
         }
 
+        return closest;
+    }
+
+    @Override
+    public int getEntryIndex(float xValue, float closestToY, @NonNull Rounding rounding) {
+        final int count = getEntryCount();
+        if (count == 0) {
+            return -1;
+        }
+
+        int closest = getClosestIndex(xValue, count);
+
         if (closest != -1) {
-            float closestXValue = mValues.get(closest).getX();
+            float closestXValue = getXForIndex(closest);
             if (rounding == Rounding.UP) {
                 // If rounding up, and found x-value is lower than specified x, and we can go upper...
-                if (closestXValue < xValue && closest < mValues.size() - 1) {
+                if (closestXValue < xValue && closest < count - 1) {
                     ++closest;
                 }
             } else if (rounding == Rounding.DOWN) {
@@ -316,25 +820,24 @@ public abstract class DataSet<T extends Entry> extends BaseDataSet<T> {
 
             // Search by closest to y-value
             if (!Float.isNaN(closestToY)) {
-                while (closest > 0 && mValues.get(closest - 1).getX() == closestXValue) {
+                while (closest > 0 && getXForIndex(closest - 1) == closestXValue) {
                     closest -= 1;
                 }
 
-                float closestYValue = mValues.get(closest).getY();
+                float closestYValue = getYForIndex(closest);
                 int closestYIndex = closest;
 
                 while (true) {
                     closest += 1;
-                    if (closest >= mValues.size()) {
+                    if (closest >= count) {
                         break;
                     }
 
-                    final Entry value = mValues.get(closest);
-                    if (value.getX() != closestXValue) {
+                    if (getXForIndex(closest) != closestXValue) {
                         break;
                     }
 
-                    if (Math.abs(value.getY() - closestToY) < Math.abs(closestYValue - closestToY)) {
+                    if (Math.abs(getYForIndex(closest) - closestToY) < Math.abs(closestYValue - closestToY)) {
                         closestYValue = closestToY;
                         closestYIndex = closest;
                     }
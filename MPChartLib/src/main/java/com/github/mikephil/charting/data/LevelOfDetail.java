@@ -0,0 +1,327 @@
+package com.github.mikephil.charting.data;
+
+import java.util.Arrays;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Multi-resolution min/max pyramid of the y-values of a DataSet. Level 0 represents the entries
+ * themselves, and every bucket of level n groups {@link #FACTOR} buckets of level n - 1, so a
+ * bucket of level n covers FACTOR^n consecutive entries. For every bucket, the index of the Entry
+ * with the lowest and highest y-value is stored, which allows renderers to draw a faithful
+ * overview of a large DataSet by only visiting the buckets of the level matching the current zoom.
+ * <p>
+ * Values appended at the end of the DataSet are added incrementally, and values removed from the
+ * start are dropped with {@link #removeFirst(int)}: the buckets are numbered from a logical origin
+ * which moves forward, and the buckets before it are discarded from time to time. Any other change
+ * requires a call to {@link #invalidate()}, which triggers a full rebuild on the next update.
+ */
+public class LevelOfDetail {
+    /**
+     * Number of buckets of a level grouped in a single bucket of the next level.
+     */
+    public static final int FACTOR = 4;
+
+    private static final int FACTOR_SHIFT = 2;
+
+    /**
+     * mMinIndices[level - 1][bucket] is the logical index of the Entry with the lowest y-value in
+     * the bucket.
+     */
+    @NonNull
+    private int[][] mMinIndices = new int[0][];
+
+    /**
+     * mMaxIndices[level - 1][bucket] is the logical index of the Entry with the highest y-value in
+     * the bucket.
+     */
+    @NonNull
+    private int[][] mMaxIndices = new int[0][];
+
+    /**
+     * Number of levels, including level 0.
+     */
+    private int mLevelCount = 1;
+
+    /**
+     * Logical index of the first Entry of the DataSet: the number of entries removed from the
+     * start since the buckets were last discarded.
+     */
+    private int mOrigin = 0;
+
+    /**
+     * Logical index following the last Entry represented.
+     */
+    private int mCount = 0;
+
+    /**
+     * True if entries were removed from the start since the last update, in which case the
+     * buckets containing the origin may point to removed entries.
+     */
+    private boolean mOriginMoved = false;
+
+    /**
+     * False if the pyramid must be rebuilt from scratch.
+     */
+    private boolean mValid = false;
+
+    /**
+     * Marks the pyramid as outdated, the next call to update() will rebuild it completely.
+     */
+    void invalidate() {
+        mValid = false;
+    }
+
+    /**
+     * Follows the removal of the first count entries of the DataSet, without a rebuild. The
+     * buckets only made of removed entries are discarded once they fill a bucket of the highest
+     * level, which happens at most every n / FACTOR removals and costs O(n / FACTOR).
+     *
+     * @param count
+     */
+    void removeFirst(int count) {
+        if (!mValid) {
+            return;
+        }
+
+        if (count >= mCount - mOrigin) {
+            mValid = false;
+            return;
+        }
+
+        mOrigin += count;
+        mOriginMoved = true;
+
+        final int topShift = FACTOR_SHIFT * (mLevelCount - 1);
+        final int removed = (mOrigin >> topShift) << topShift;
+        if (removed == 0) {
+            return;
+        }
+
+        for (int level = 1; level < mLevelCount; level++) {
+            final int shift = FACTOR_SHIFT * level;
+            final int bucketCount = ((mCount - 1) >> shift) + 1;
+            final int removedBuckets = removed >> shift;
+            final int[] minIndices = mMinIndices[level - 1];
+            final int[] maxIndices = mMaxIndices[level - 1];
+
+            for (int bucket = removedBuckets; bucket < bucketCount; bucket++) {
+                minIndices[bucket - removedBuckets] = minIndices[bucket] - removed;
+                maxIndices[bucket - removedBuckets] = maxIndices[bucket] - removed;
+            }
+        }
+
+        mOrigin -= removed;
+        mCount -= removed;
+    }
+
+    /**
+     * Brings the pyramid up to date with the given DataSet. If the entries were only appended
+     * since the last update, or removed with removeFirst(), only the buckets containing new
+     * entries or the origin are computed.
+     *
+     * @param dataSet
+     */
+    void update(@NonNull DataSet<?> dataSet) {
+        final int entryCount = dataSet.getEntryCount();
+        if (mValid && entryCount < mCount - mOrigin) {
+            mValid = false;
+        }
+
+        if (!mValid) {
+            mOrigin = 0;
+            mOriginMoved = false;
+        }
+
+        final int count = mOrigin + entryCount;
+        if (mValid && count == mCount && !mOriginMoved) {
+            return;
+        }
+
+        final int from = mValid ? mCount : 0;
+        final int previousLevelCount = mValid ? mLevelCount : 1;
+
+        // The buckets containing the origin may point to removed entries, the lower levels first
+        if (mOriginMoved) {
+            for (int level = 1; level < previousLevelCount; level++) {
+                final int bucket = mOrigin >> (FACTOR_SHIFT * level);
+                if (mMinIndices[level - 1][bucket] < mOrigin || mMaxIndices[level - 1][bucket] < mOrigin) {
+                    computeBucket(dataSet, level, bucket, mCount);
+                }
+            }
+
+            mOriginMoved = false;
+        }
+
+        int levelCount = 1;
+        while (levelCount < 16 && (1 << (FACTOR_SHIFT * levelCount)) < count) {
+            levelCount++;
+        }
+
+        if (mMinIndices.length < levelCount - 1) {
+            mMinIndices = Arrays.copyOf(mMinIndices, levelCount - 1);
+            mMaxIndices = Arrays.copyOf(mMaxIndices, levelCount - 1);
+        }
+
+        for (int level = 1; level < levelCount; level++) {
+            final int shift = FACTOR_SHIFT * level;
+            final int bucketCount = ((count - 1) >> shift) + 1;
+            // New levels must be computed completely, from the bucket containing the origin
+            final int firstBucket = (level < previousLevelCount ? from : mOrigin) >> shift;
+
+            ensureCapacity(level, bucketCount);
+
+            for (int bucket = firstBucket; bucket < bucketCount; bucket++) {
+                computeBucket(dataSet, level, bucket, count);
+            }
+        }
+
+        mLevelCount = levelCount;
+        mCount = count;
+        mValid = true;
+    }
+
+    /**
+     * Computes the min and max indices of the given bucket from the entries for level 1, from the
+     * children buckets otherwise. Removed entries and children buckets are skipped.
+     *
+     * @param dataSet
+     * @param level
+     * @param bucket
+     * @param count   logical index following the last Entry
+     */
+    private void computeBucket(@NonNull DataSet<?> dataSet, int level, int bucket, int count) {
+        final int start = bucket << FACTOR_SHIFT;
+        int minIndex = -1;
+        int maxIndex = -1;
+        float min = Float.MAX_VALUE;
+        float max = -Float.MAX_VALUE;
+
+        if (level == 1) {
+            for (int i = Math.max(start, mOrigin), end = Math.min(start + FACTOR, count); i < end; i++) {
+                final float y = dataSet.getYForIndex(i - mOrigin);
+                if (minIndex < 0 || y < min) {
+                    min = y;
+                    minIndex = i;
+                }
+
+                if (maxIndex < 0 || y > max) {
+                    max = y;
+                    maxIndex = i;
+                }
+            }
+        } else {
+            final int childShift = FACTOR_SHIFT * (level - 1);
+            final int[] childMinIndices = mMinIndices[level - 2];
+            final int[] childMaxIndices = mMaxIndices[level - 2];
+            final int childCount = ((count - 1) >> childShift) + 1;
+
+            for (int child = Math.max(start, mOrigin >> childShift), end = Math.min(start + FACTOR, childCount); child < end; child++) {
+                final float childMin = dataSet.getYForIndex(childMinIndices[child] - mOrigin);
+                if (minIndex < 0 || childMin < min) {
+                    min = childMin;
+                    minIndex = childMinIndices[child];
+                }
+
+                final float childMax = dataSet.getYForIndex(childMaxIndices[child] - mOrigin);
+                if (maxIndex < 0 || childMax > max) {
+                    max = childMax;
+                    maxIndex = childMaxIndices[child];
+                }
+            }
+        }
+
+        mMinIndices[level - 1][bucket] = minIndex;
+        mMaxIndices[level - 1][bucket] = maxIndex;
+    }
+
+    /**
+     * Returns the number of levels, including level 0 (the entries themselves).
+     */
+    public int getLevelCount() {
+        return mLevelCount;
+    }
+
+    /**
+     * Returns the number of entries covered by a bucket of the given level.
+     *
+     * @param level
+     */
+    public static int getBucketSize(int level) {
+        return 1 << (FACTOR_SHIFT * level);
+    }
+
+    /**
+     * Returns the highest level whose buckets cover at most the given number of entries.
+     *
+     * @param entriesPerBucket
+     */
+    public int getLevelForBucketSize(float entriesPerBucket) {
+        int level = 0;
+        while (level + 1 < mLevelCount && getBucketSize(level + 1) <= entriesPerBucket) {
+            level++;
+        }
+
+        return level;
+    }
+
+    /**
+     * Returns the bucket of the given level containing the Entry at the given index.
+     *
+     * @param level
+     * @param index
+     */
+    public int getBucket(int level, int index) {
+        return (index + mOrigin) >> (FACTOR_SHIFT * level);
+    }
+
+    /**
+     * Returns the index of the first Entry of the given bucket. As entries may have been removed
+     * from the start, the first bucket can cover fewer entries than the bucket size.
+     *
+     * @param level
+     * @param bucket
+     */
+    public int getBucketStart(int level, int bucket) {
+        return Math.max((bucket << (FACTOR_SHIFT * level)) - mOrigin, 0);
+    }
+
+    /**
+     * Returns the index of the Entry with the lowest y-value in the given bucket.
+     *
+     * @param level  level of the bucket, at least 1
+     * @param bucket
+     */
+    public int getMinIndex(int level, int bucket) {
+        return mMinIndices[level - 1][bucket] - mOrigin;
+    }
+
+    /**
+     * Returns the index of the Entry with the highest y-value in the given bucket.
+     *
+     * @param level  level of the bucket, at least 1
+     * @param bucket
+     */
+    public int getMaxIndex(int level, int bucket) {
+        return mMaxIndices[level - 1][bucket] - mOrigin;
+    }
+
+    /**
+     * Grows the arrays of the given level to hold the given number of buckets, keeping the
+     * existing values.
+     *
+     * @param level
+     * @param bucketCount
+     */
+    private void ensureCapacity(int level, int bucketCount) {
+        final int[] minIndices = mMinIndices[level - 1];
+        if (minIndices == null) {
+            mMinIndices[level - 1] = new int[bucketCount];
+            mMaxIndices[level - 1] = new int[bucketCount];
+        } else if (minIndices.length < bucketCount) {
+            final int capacity = Math.max(bucketCount, minIndices.length + (minIndices.length >> 1));
+            mMinIndices[level - 1] = Arrays.copyOf(minIndices, capacity);
+            mMaxIndices[level - 1] = Arrays.copyOf(mMaxIndices[level - 1], capacity);
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
 
 import java.util.List;
 
+import androidx.annotation.NonNull;
+
 /**
  * Data object that encapsulates all data associated with a LineChart.
  *
@@ -21,4 +23,22 @@ public class LineData extends BarLineScatterCandleBubbleData<ILineDataSet> {
     public LineData(List<ILineDataSet> dataSets) {
         super(dataSets);
     }
+
+    /**
+     * Adds length values, read from the given arrays starting at offset, to the end of the DataSet
+     * at the specified index. The minimum and maximum values are updated once for the whole batch.
+     *
+     * @param xValues
+     * @param yValues
+     * @param offset
+     * @param length
+     * @param dataSetIndex
+     */
+    public void addEntries(@NonNull float[] xValues, @NonNull float[] yValues, int offset, int length, int dataSetIndex) {
+        ILineDataSet dataSet = getDataSetByIndex(dataSetIndex);
+        if (dataSet != null && dataSet.addEntries(xValues, yValues, offset, length)) {
+            calcMinMax(dataSet);
+            dataSet.notifyChange(DataChange.APPEND);
+        }
+    }
 }
@@ -72,6 +72,24 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
 
     private boolean mDrawCircleHole = true;
 
+    /**
+     * Decimation applied to the visible entries before drawing them.
+     */
+    @NonNull
+    private DecimationMode mDecimationMode = DecimationMode.NONE;
+
+    /**
+     * Number of points to draw per pixel of the content width when decimating.
+     */
+    private float mDecimationPointsPerPixel = 1f;
+
+    /**
+     * The color of the line segment starting at each entry, null to use the colors of the DataSet.
+     */
+    @ColorInt
+    @Nullable
+    private int[] mEntryColors = null;
+
     public LineDataSet(List<Entry> yValues, String label) {
         super(yValues, label);
 
@@ -91,6 +109,11 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
         return copied;
     }
 
+    @Override
+    boolean isChunkedMinMaxSupported() {
+        return true;
+    }
+
     protected void copy(LineDataSet lineDataSet) {
         super.copy(lineDataSet);
         lineDataSet.mCircleColors = mCircleColors;
@@ -103,6 +126,9 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
         lineDataSet.mDrawCircles = mDrawCircleHole;
         lineDataSet.mFillFormatter = mFillFormatter;
         lineDataSet.mMode = mMode;
+        lineDataSet.mDecimationMode = mDecimationMode;
+        lineDataSet.mDecimationPointsPerPixel = mDecimationPointsPerPixel;
+        lineDataSet.mEntryColors = mEntryColors != null ? mEntryColors.clone() : null;
     }
 
     /**
@@ -281,6 +307,57 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
         mCircleColors = newColors;
     }
 
+    /**
+     * Sets the color of every entry: the line segment starting at the entry at index i is drawn
+     * with colors[i], e.g. to color a trace by thresholds. The entries beyond the end of the array
+     * use the colors of the DataSet. The array is NOT copied, and must be kept in sync with the
+     * entries when adding or removing some. Set null to only use the colors of the DataSet.
+     * Default: null
+     *
+     * @param colors
+     */
+    public void setEntryColors(@ColorInt @Nullable int[] colors) {
+        mEntryColors = colors;
+        notifyStyleChanged();
+    }
+
+    /**
+     * Returns the colors of the entries, or null if only the colors of the DataSet are used.
+     */
+    @ColorInt
+    @Nullable
+    public int[] getEntryColors() {
+        return mEntryColors;
+    }
+
+    @ColorInt
+    @Override
+    public int getColor(int index) {
+        if (mEntryColors != null && index >= 0 && index < mEntryColors.length) {
+            return mEntryColors[index];
+        }
+
+        return super.getColor(index);
+    }
+
+    @Override
+    public boolean isMultiColored() {
+        return mEntryColors != null || getColors().size() > 1;
+    }
+
+    @Override
+    public void copyColors(int fromIndex, int toIndex, @NonNull int[] dst, int offset) {
+        checkCopyRange(getEntryCount(), fromIndex, toIndex, dst, offset, 1);
+
+        final List<Integer> colors = getColors();
+        final int colorCount = colors.size();
+        final int entryColorCount = mEntryColors == null ? 0 : mEntryColors.length;
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            dst[offset++] = i < entryColorCount ? mEntryColors[i] : colors.get(i % colorCount);
+        }
+    }
+
     /**
      * Sets the one and ONLY color that should be used for this DataSet. Internally, this recreates
      * the colors array and adds the specified color.
@@ -347,10 +424,106 @@ public class LineDataSet extends LineRadarDataSet<Entry> implements ILineDataSet
         return mFillFormatter;
     }
 
+    @Override
+    public boolean addEntries(@NonNull float[] xValues, @NonNull float[] yValues, int offset, int length) {
+        checkBounds(xValues, yValues, offset, length);
+
+        if (length == 0) {
+            return false;
+        }
+
+        // The entries are added directly, use ColumnarLineDataSet to store the values without them
+        if (mValues instanceof ArrayList) {
+            ((ArrayList<Entry>) mValues).ensureCapacity(mValues.size() + length);
+        }
+
+        final int from = mValues.size();
+        for (int i = offset; i < offset + length; i++) {
+            mValues.add(new Entry(xValues[i], yValues[i]));
+        }
+
+        calcMinMaxAppended(from, mValues.size());
+
+        return true;
+    }
+
+    /**
+     * Throws an IllegalArgumentException if [offset, offset + length) is not a valid range of both
+     * arrays.
+     *
+     * @param xValues
+     * @param yValues
+     * @param offset
+     * @param length
+     */
+    static void checkBounds(@NonNull float[] xValues, @NonNull float[] yValues, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > xValues.length || offset + length > yValues.length) {
+            throw new IllegalArgumentException("Invalid range [" + offset + ", " + (offset + length) + ") for arrays of size "
+                    + xValues.length + " and " + yValues.length);
+        }
+    }
+
+    /**
+     * Sets the decimation applied to the visible entries when drawing this DataSet in LINEAR or
+     * STEPPED mode. When the number of visible entries exceeds the content width of the chart times
+     * the points per pixel, only a subset of the entries is drawn. Highlighting always uses all the
+     * entries. Default: NONE
+     *
+     * @param mode
+     */
+    public void setDecimationMode(@NonNull DecimationMode mode) {
+        mDecimationMode = mode;
+        notifyStyleChanged();
+    }
+
+    @NonNull
+    @Override
+    public DecimationMode getDecimationMode() {
+        return mDecimationMode;
+    }
+
+    /**
+     * Sets the number of points drawn per pixel of the content width when decimation is enabled.
+     * Higher values preserve more details. Min 0.1f. Default: 1f
+     *
+     * @param pointsPerPixel
+     */
+    public void setDecimationPointsPerPixel(float pointsPerPixel) {
+        mDecimationPointsPerPixel = Math.max(pointsPerPixel, 0.1f);
+        notifyStyleChanged();
+    }
+
+    @Override
+    public float getDecimationPointsPerPixel() {
+        return mDecimationPointsPerPixel;
+    }
+
     public enum Mode {
         LINEAR,
         STEPPED,
         CUBIC_BEZIER,
         HORIZONTAL_BEZIER
     }
+
+    public enum DecimationMode {
+        /**
+         * All the visible entries are drawn.
+         */
+        NONE,
+
+        /**
+         * The visible entries are downsampled with the Largest-Triangle-Three-Buckets algorithm,
+         * which preserves the visual shape of the line with few points, but can drop isolated
+         * spikes.
+         */
+        LTTB,
+
+        /**
+         * For each pixel column of the content rect, only the first, last, minimum and maximum
+         * entries are drawn (M4 algorithm). The result looks the same as drawing all the entries,
+         * including isolated spikes. The points per pixel setting defines how many columns a pixel
+         * is divided into.
+         */
+        M4
+    }
 }
@@ -0,0 +1,114 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Writes the values of DataSets to files that can be displayed with {@link MappedLineDataSet}.
+ */
+public final class MappedDataSetWriter {
+    /**
+     * Number of values written at once.
+     */
+    private static final int CHUNK_SIZE = 8192;
+
+    private MappedDataSetWriter() {
+    }
+
+    /**
+     * Writes the x and y values of all the entries of the given DataSet to the given file,
+     * replacing its content. The entries must be sorted by x-value. The values are written in the
+     * native byte order, and the header last: if writing fails, the file is left empty.
+     *
+     * @param dataSet
+     * @param file
+     * @throws IOException
+     */
+    public static void write(@NonNull IDataSet<?> dataSet, @NonNull File file) throws IOException {
+        final int count = dataSet.getEntryCount();
+        if ((long) count * 8 > Integer.MAX_VALUE - MappedLineDataSet.HEADER_SIZE) {
+            throw new IllegalArgumentException("Too many entries to be mapped: " + count);
+        }
+
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+        boolean written = false;
+        try {
+            FileChannel channel = randomAccessFile.getChannel();
+            channel.truncate(0);
+            channel.position(MappedLineDataSet.HEADER_SIZE);
+
+            ByteBuffer chunk = ByteBuffer.allocateDirect(Math.min(count, CHUNK_SIZE) * 8)
+                    .order(ByteOrder.nativeOrder());
+            float previousX = -Float.MAX_VALUE;
+            float yMin = Float.MAX_VALUE;
+            float yMax = -Float.MAX_VALUE;
+
+            for (int i = 0; i < count; i++) {
+                final float x = dataSet.getXForIndex(i);
+                if (x < previousX) {
+                    throw new IllegalArgumentException("The entries must be sorted by x-value");
+                }
+
+                final float y = dataSet.getYForIndex(i);
+                if (y < yMin) {
+                    yMin = y;
+                }
+
+                if (y > yMax) {
+                    yMax = y;
+                }
+
+                previousX = x;
+                chunk.putFloat(x);
+                chunk.putFloat(y);
+
+                if (!chunk.hasRemaining()) {
+                    chunk.flip();
+                    writeFully(channel, chunk);
+                    chunk.clear();
+                }
+            }
+
+            chunk.flip();
+            writeFully(channel, chunk);
+
+            // The bounds of the written values, the ones of the DataSet may be narrowed by
+            // calcMinMaxY()
+            ByteBuffer header = ByteBuffer.allocate(MappedLineDataSet.HEADER_SIZE)
+                    .order(ByteOrder.nativeOrder());
+            header.putInt(MappedLineDataSet.MAGIC);
+            header.putInt(MappedLineDataSet.VERSION);
+            header.putInt(count);
+            header.putInt(0);
+            header.putFloat(count > 0 ? dataSet.getXForIndex(0) : Float.MAX_VALUE);
+            header.putFloat(count > 0 ? previousX : -Float.MAX_VALUE);
+            header.putFloat(yMin);
+            header.putFloat(yMax);
+            header.flip();
+
+            channel.position(0);
+            writeFully(channel, header);
+            written = true;
+        } finally {
+            if (!written) {
+                randomAccessFile.setLength(0);
+            }
+
+            randomAccessFile.close();
+        }
+    }
+
+    private static void writeFully(@NonNull FileChannel channel, @NonNull ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
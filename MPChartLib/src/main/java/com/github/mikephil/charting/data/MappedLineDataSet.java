@@ -0,0 +1,443 @@
+package com.github.mikephil.charting.data;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Read-only LineDataSet whose values are read directly from a file mapped in memory, instead of
+ * being loaded on the Java heap. The operating system pages the values in on demand, which allows
+ * displaying recordings of tens of millions of values. Files are produced with
+ * {@link MappedDataSetWriter}.
+ * <p>
+ * The file starts with a header of {@link #HEADER_SIZE} bytes (magic number, version, number of
+ * values, and the min and max x and y values), followed by the x and y value of every Entry as
+ * interleaved floats, sorted by x-value. The file is in the byte order of the device which wrote
+ * it, which is detected from the magic number.
+ * <p>
+ * Like {@link ColumnarLineDataSet}, Entry objects are only created on demand, and methods returning
+ * a single Entry return a shared instance. Any attempt to modify the values throws an
+ * UnsupportedOperationException.
+ */
+public class MappedLineDataSet extends LineDataSet {
+    /**
+     * Magic number identifying the file format ("MPCD").
+     */
+    static final int MAGIC = 0x4D504344;
+
+    /**
+     * Version of the file format.
+     */
+    static final int VERSION = 1;
+
+    /**
+     * Size of the header, in bytes.
+     */
+    public static final int HEADER_SIZE = 32;
+
+    /**
+     * Values of this DataSet, x and y interleaved.
+     */
+    @NonNull
+    private FloatBuffer mBuffer;
+
+    /**
+     * The number of values in the buffer.
+     */
+    private int mEntryCount = 0;
+
+    /**
+     * Reusable Entry returned to callers that need an Entry object.
+     */
+    @NonNull
+    private final Entry mEntryBuffer = new Entry();
+
+    /**
+     * Index of the values currently held by mEntryBuffer, or -1.
+     */
+    private int mEntryBufferIndex = -1;
+
+    /**
+     * Maps the given file in memory, read-only. The mapping stays valid after the file is closed.
+     *
+     * @param file
+     * @param label
+     * @throws IOException if the file can't be read, or is not in the expected format
+     */
+    public MappedLineDataSet(@NonNull File file, @NonNull String label) throws IOException {
+        this(map(file), label);
+    }
+
+    /**
+     * Creates a DataSet reading its values from the given buffer, which must hold the content of a
+     * file in the format produced by {@link MappedDataSetWriter}, starting at its position. The
+     * buffer is NOT copied.
+     *
+     * @param buffer
+     * @param label
+     * @throws IOException if the buffer is not in the expected format
+     */
+    public MappedLineDataSet(@NonNull ByteBuffer buffer, @NonNull String label) throws IOException {
+        super(new ArrayList<Entry>(0), label);
+
+        ByteBuffer header = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+        if (header.remaining() < HEADER_SIZE) {
+            throw new IOException("Not a mapped DataSet file");
+        }
+
+        int magic = header.getInt();
+        if (magic == Integer.reverseBytes(MAGIC)) {
+            header.order(ByteOrder.LITTLE_ENDIAN);
+        } else if (magic != MAGIC) {
+            throw new IOException("Not a mapped DataSet file");
+        }
+
+        int version = header.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported mapped DataSet version " + version);
+        }
+
+        int count = header.getInt();
+        header.getInt();
+
+        if (count < 0 || (long) count * 8 > buffer.remaining() - HEADER_SIZE) {
+            throw new IOException("Truncated mapped DataSet file");
+        }
+
+        mXMin = header.getFloat();
+        mXMax = header.getFloat();
+        mYMin = header.getFloat();
+        mYMax = header.getFloat();
+
+        mBuffer = header.slice().order(header.order()).asFloatBuffer();
+        mEntryCount = count;
+    }
+
+    /**
+     * Copy constructor sharing the buffer of the given DataSet.
+     *
+     * @param dataSet
+     */
+    private MappedLineDataSet(@NonNull MappedLineDataSet dataSet) {
+        super(new ArrayList<Entry>(0), dataSet.getLabel());
+
+        mBuffer = dataSet.mBuffer.duplicate();
+        mEntryCount = dataSet.mEntryCount;
+        mXMin = dataSet.mXMin;
+        mXMax = dataSet.mXMax;
+        mYMin = dataSet.mYMin;
+        mYMax = dataSet.mYMax;
+    }
+
+    @NonNull
+    private static ByteBuffer map(@NonNull File file) throws IOException {
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+        try {
+            FileChannel channel = randomAccessFile.getChannel();
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } finally {
+            randomAccessFile.close();
+        }
+    }
+
+    /**
+     * calcMinMax() only reads the y-values, since the values are sorted by x-value, instead of
+     * paging in the whole file from several threads.
+     */
+    @Override
+    boolean isChunkedMinMaxSupported() {
+        return false;
+    }
+
+    @Override
+    public void calcMinMax() {
+        invalidateIndices();
+
+        if (mEntryCount == 0) {
+            return;
+        }
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+
+        // The values are sorted by x-value
+        mXMin = getXForIndex(0);
+        mXMax = getXForIndex(mEntryCount - 1);
+
+        for (int i = 0; i < mEntryCount; i++) {
+            float y = getYForIndex(i);
+            if (y < mYMin) {
+                mYMin = y;
+            }
+
+            if (y > mYMax) {
+                mYMax = y;
+            }
+        }
+    }
+
+    @Override
+    public void calcMinMaxY(float fromX, float toX) {
+        if (mEntryCount == 0) {
+            return;
+        }
+
+        if (isRangeIndexEnabled()) {
+            super.calcMinMaxY(fromX, toX);
+            return;
+        }
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+
+        int indexFrom = getEntryIndex(fromX, Float.NaN, Rounding.DOWN);
+        int indexTo = getEntryIndex(toX, Float.NaN, Rounding.UP);
+
+        for (int i = indexFrom; i <= indexTo; i++) {
+            float y = getYForIndex(i);
+            if (y < mYMin) {
+                mYMin = y;
+            }
+
+            if (y > mYMax) {
+                mYMax = y;
+            }
+        }
+    }
+
+    @Override
+    public int getEntryCount() {
+        return mEntryCount;
+    }
+
+    @Override
+    public float getXForIndex(int index) {
+        return mBuffer.get(index << 1);
+    }
+
+    @Override
+    public float getYForIndex(int index) {
+        return mBuffer.get((index << 1) + 1);
+    }
+
+    @Override
+    public void copyX(int fromIndex, int toIndex, @NonNull float[] dst, int offset) {
+        checkCopyRange(mEntryCount, fromIndex, toIndex, dst, offset, 1);
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            dst[offset++] = mBuffer.get(i << 1);
+        }
+    }
+
+    @Override
+    public void copyY(int fromIndex, int toIndex, @NonNull float[] dst, int offset) {
+        checkCopyRange(mEntryCount, fromIndex, toIndex, dst, offset, 1);
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            dst[offset++] = mBuffer.get((i << 1) + 1);
+        }
+    }
+
+    /**
+     * The values are stored interleaved, so they are copied with a single bulk get.
+     */
+    @Override
+    public void copyXY(int fromIndex, int toIndex, @NonNull float[] dst, int offset) {
+        checkCopyRange(mEntryCount, fromIndex, toIndex, dst, offset, 2);
+
+        FloatBuffer buffer = mBuffer.duplicate();
+        buffer.position(fromIndex << 1);
+        buffer.get(dst, offset, (toIndex - fromIndex) << 1);
+    }
+
+    /**
+     * Returns a shared Entry holding the values at the given index. The returned Entry is updated
+     * by the next call to any method of this DataSet returning an Entry.
+     *
+     * @param index
+     */
+    @Nullable
+    @Override
+    public Entry getEntryForIndex(int index) {
+        if (index < 0 || index >= mEntryCount) {
+            return null;
+        }
+
+        mEntryBuffer.setX(getXForIndex(index));
+        mEntryBuffer.setY(getYForIndex(index));
+        mEntryBufferIndex = index;
+
+        return mEntryBuffer;
+    }
+
+    @Override
+    public int getEntryIndex(@Nullable Entry entry) {
+        if (entry == null) {
+            return -1;
+        }
+
+        float x = entry.getX();
+        float y = entry.getY();
+
+        // Fast path for the Entry returned by this DataSet
+        if (entry == mEntryBuffer && mEntryBufferIndex >= 0 && mEntryBufferIndex < mEntryCount
+                && getXForIndex(mEntryBufferIndex) == x && getYForIndex(mEntryBufferIndex) == y) {
+            return mEntryBufferIndex;
+        }
+
+        for (int i = getFirstIndexOf(x); i >= 0 && i < mEntryCount && getXForIndex(i) == x; i++) {
+            if (getYForIndex(i) == y) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public boolean contains(@Nullable Entry entry) {
+        return getEntryIndex(entry) >= 0;
+    }
+
+    /**
+     * Returns newly created Entry objects for all the values found at the given x-value.
+     *
+     * @param xValue
+     */
+    @NonNull
+    @Override
+    public List<Entry> getEntriesForXValue(float xValue) {
+        List<Entry> entries = new ArrayList<>();
+
+        for (int i = getFirstIndexOf(xValue); i >= 0 && i < mEntryCount && getXForIndex(i) == xValue; i++) {
+            entries.add(new Entry(xValue, getYForIndex(i)));
+        }
+
+        return entries;
+    }
+
+    /**
+     * Returns newly created Entry objects for all the values of this DataSet. This loads the whole
+     * DataSet on the heap and should be avoided for large files.
+     */
+    @NonNull
+    @Override
+    public List<Entry> getValues() {
+        List<Entry> values = new ArrayList<>(mEntryCount);
+        for (int i = 0; i < mEntryCount; i++) {
+            values.add(new Entry(getXForIndex(i), getYForIndex(i)));
+        }
+
+        return values;
+    }
+
+    @Override
+    public void setValues(@NonNull List<Entry> values) {
+        throw readOnly();
+    }
+
+    @Override
+    public void setValues(@NonNull List<Entry> values, boolean isExtension) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean addEntry(@NonNull Entry entry) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean addEntries(@NonNull List<Entry> entries) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean addEntries(@NonNull float[] xValues, @NonNull float[] yValues, int offset, int length) {
+        throw readOnly();
+    }
+
+    @Override
+    public void addEntryOrdered(@NonNull Entry entry) {
+        throw readOnly();
+    }
+
+    @Override
+    public void addEntriesOrdered(@NonNull List<Entry> entries) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean removeEntry(@Nullable Entry entry) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean removeEntry(int index) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean removeFirst() {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean removeLast() {
+        throw readOnly();
+    }
+
+    @Override
+    public void clear() {
+        throw readOnly();
+    }
+
+    /**
+     * Returns a DataSet sharing the mapped values of this one.
+     */
+    @NonNull
+    @Override
+    public DataSet<Entry> copy() {
+        MappedLineDataSet copied = new MappedLineDataSet(this);
+        copy(copied);
+        return copied;
+    }
+
+    @NonNull
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("MappedLineDataSet is read-only");
+    }
+
+    /**
+     * Returns the index of the first value with the given x-value, or -1 if there is none.
+     *
+     * @param xValue
+     */
+    private int getFirstIndexOf(float xValue) {
+        int low = 0;
+        int high = mEntryCount;
+
+        while (low < high) {
+            int m = (low + high) >>> 1;
+            if (getXForIndex(m) < xValue) {
+                low = m + 1;
+            } else {
+                high = m;
+            }
+        }
+
+        if (low < mEntryCount && getXForIndex(low) == xValue) {
+            return low;
+        }
+
+        return -1;
+    }
+}
@@ -0,0 +1,824 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.interfaces.datasets.IStackBoundsDataSet;
+import com.github.mikephil.charting.utils.EntryXComparator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * BarDataSet that stores its values in primitive arrays instead of a list of BarEntry objects,
+ * the stack values of all the entries being packed one after the other in a single array. The
+ * bounds of every stack segment, and the negative and positive sums of every stack, are computed
+ * once when the values are added, so the renderer and the highlighter read them directly instead
+ * of walking the stack of every BarEntry on every frame. The values must be added in ascending
+ * x-order, or through {@link #addEntryOrdered(BarEntry)}.
+ * <p>
+ * BarEntry objects are only created on demand. Methods returning a single BarEntry (like
+ * {@link #getEntryForIndex(int)}) return a shared instance that is updated on every call, so it
+ * must not be kept around, and the entries cannot be moved by
+ * {@link BarData#groupBars(float, float, float)}. Icons and data objects attached to added entries
+ * are not stored.
+ */
+public class PackedBarDataSet extends BarDataSet implements IStackBoundsDataSet {
+    /**
+     * Default capacity of the value arrays.
+     */
+    private static final int DEFAULT_CAPACITY = 16;
+
+    @NonNull
+    protected float[] mXValues;
+
+    /**
+     * The y-value of every Entry, the sum of its stack values if it is stacked.
+     */
+    @NonNull
+    protected float[] mYValues;
+
+    /**
+     * The lowest y-value covered by every Entry, the opposite of the negative sum if it is stacked.
+     */
+    @NonNull
+    protected float[] mLowValues;
+
+    /**
+     * The highest y-value covered by every Entry, the positive sum if it is stacked.
+     */
+    @NonNull
+    protected float[] mHighValues;
+
+    /**
+     * mStackOffsets[i] is the position of the first stack segment of the Entry at index i, the
+     * segments of the Entry ending where the ones of the next Entry start.
+     */
+    @NonNull
+    protected int[] mStackOffsets;
+
+    /**
+     * The stack values of all the entries, one after the other.
+     */
+    @NonNull
+    protected float[] mStackValues;
+
+    /**
+     * The lower bound of every stack segment.
+     */
+    @NonNull
+    protected float[] mStackFrom;
+
+    /**
+     * The upper bound of every stack segment.
+     */
+    @NonNull
+    protected float[] mStackTo;
+
+    /**
+     * The number of entries stored in the arrays.
+     */
+    protected int mEntryCount = 0;
+
+    /**
+     * The maximum number of segments of a stack.
+     */
+    private int mPackedStackSize = 1;
+
+    /**
+     * Reusable Entry returned to callers that need a BarEntry object.
+     */
+    @NonNull
+    private final BarEntry mEntryBuffer = new BarEntry(0f, 0f);
+
+    /**
+     * Index of the values currently held by mEntryBuffer, or -1.
+     */
+    private int mEntryBufferIndex = -1;
+
+    public PackedBarDataSet(@NonNull String label) {
+        this(DEFAULT_CAPACITY, label);
+    }
+
+    /**
+     * Creates an empty DataSet able to hold the given number of entries before having to grow.
+     *
+     * @param initialCapacity
+     * @param label
+     */
+    public PackedBarDataSet(int initialCapacity, @NonNull String label) {
+        super(new ArrayList<BarEntry>(0), label);
+
+        final int capacity = Math.max(initialCapacity, 1);
+        mXValues = new float[capacity];
+        mYValues = new float[capacity];
+        mLowValues = new float[capacity];
+        mHighValues = new float[capacity];
+        mStackOffsets = new int[capacity + 1];
+        mStackValues = new float[capacity];
+        mStackFrom = new float[capacity];
+        mStackTo = new float[capacity];
+    }
+
+    /**
+     * Creates a DataSet holding the values of the given entries, which must be sorted by x-value.
+     * The entries themselves are not kept.
+     *
+     * @param values
+     * @param label
+     */
+    public PackedBarDataSet(@NonNull List<BarEntry> values, @NonNull String label) {
+        this(values.size(), label);
+
+        addEntries(values);
+    }
+
+    /**
+     * Returns the number of entries this DataSet can hold before its arrays have to grow.
+     */
+    public int getCapacity() {
+        return mXValues.length;
+    }
+
+    /**
+     * Makes sure that this DataSet can hold at least the given number of entries, and of stack
+     * segments in total, without having to grow its arrays.
+     *
+     * @param minCapacity
+     * @param minStackCapacity
+     */
+    public void ensureCapacity(int minCapacity, int minStackCapacity) {
+        int capacity = mXValues.length;
+        if (minCapacity > capacity) {
+            int newCapacity = Math.max(capacity + (capacity >> 1), minCapacity);
+            mXValues = Arrays.copyOf(mXValues, newCapacity);
+            mYValues = Arrays.copyOf(mYValues, newCapacity);
+            mLowValues = Arrays.copyOf(mLowValues, newCapacity);
+            mHighValues = Arrays.copyOf(mHighValues, newCapacity);
+            mStackOffsets = Arrays.copyOf(mStackOffsets, newCapacity + 1);
+        }
+
+        capacity = mStackValues.length;
+        if (minStackCapacity > capacity) {
+            int newCapacity = Math.max(capacity + (capacity >> 1), minStackCapacity);
+            mStackValues = Arrays.copyOf(mStackValues, newCapacity);
+            mStackFrom = Arrays.copyOf(mStackFrom, newCapacity);
+            mStackTo = Arrays.copyOf(mStackTo, newCapacity);
+        }
+    }
+
+    /**
+     * Adds a non-stacked bar to the end of this DataSet. The x-value must not be lower than the
+     * current maximum x-value.
+     *
+     * @param x
+     * @param y
+     */
+    public void addEntry(float x, float y) {
+        insert(mEntryCount, x, y, null, 0, 0);
+    }
+
+    /**
+     * Adds a stacked bar to the end of this DataSet. The stack values are copied. The x-value must
+     * not be lower than the current maximum x-value.
+     *
+     * @param x
+     * @param stackValues
+     */
+    public void addEntry(float x, @NonNull float[] stackValues) {
+        insert(mEntryCount, x, 0f, stackValues, 0, stackValues.length);
+    }
+
+    @Override
+    public boolean addEntry(@NonNull BarEntry entry) {
+        insert(mEntryCount, entry);
+
+        return true;
+    }
+
+    @Override
+    public boolean addEntries(@NonNull List<BarEntry> entries) {
+        final int count = entries.size();
+        if (count == 0) {
+            return false;
+        }
+
+        int segments = 0;
+        for (int i = 0; i < count; i++) {
+            float[] values = entries.get(i).getYVals();
+            if (values != null) {
+                segments += values.length;
+            }
+        }
+
+        ensureCapacity(mEntryCount + count, getStackEnd() + segments);
+
+        for (int i = 0; i < count; i++) {
+            insert(mEntryCount, entries.get(i));
+        }
+
+        return true;
+    }
+
+    @Override
+    public void addEntryOrdered(@NonNull BarEntry entry) {
+        final float x = entry.getX();
+
+        int index = mEntryCount;
+        if (mEntryCount > 0 && mXValues[mEntryCount - 1] > x) {
+            index = getFirstIndexAbove(x);
+        }
+
+        insert(index, entry);
+
+        if (index < mEntryCount - 1) {
+            invalidateIndices();
+        }
+    }
+
+    @Override
+    public void addEntriesOrdered(@NonNull List<BarEntry> entries) {
+        List<BarEntry> sorted = new ArrayList<>(entries);
+        Collections.sort(sorted, new EntryXComparator());
+
+        for (int i = 0; i < sorted.size(); i++) {
+            addEntryOrdered(sorted.get(i));
+        }
+    }
+
+    /**
+     * Inserts the values of the given Entry at the given index.
+     *
+     * @param index
+     * @param entry
+     */
+    private void insert(int index, @NonNull BarEntry entry) {
+        final float[] values = entry.getYVals();
+        insert(index, entry.getX(), entry.getY(), values, 0, values == null ? 0 : values.length);
+    }
+
+    /**
+     * Inserts an Entry at the given index, stacked if stackValues holds at least one value, and
+     * computes its segment bounds and min and max values.
+     *
+     * @param index
+     * @param x
+     * @param y           the y-value if the Entry is not stacked
+     * @param stackValues
+     * @param offset      position of the first stack value in stackValues
+     * @param length      number of stack values
+     */
+    private void insert(int index, float x, float y, @Nullable float[] stackValues, int offset, int length) {
+        final int segments = stackValues == null ? 0 : length;
+        final int stackEnd = getStackEnd();
+        ensureCapacity(mEntryCount + 1, stackEnd + segments);
+
+        final int moved = mEntryCount - index;
+        System.arraycopy(mXValues, index, mXValues, index + 1, moved);
+        System.arraycopy(mYValues, index, mYValues, index + 1, moved);
+        System.arraycopy(mLowValues, index, mLowValues, index + 1, moved);
+        System.arraycopy(mHighValues, index, mHighValues, index + 1, moved);
+
+        final int position = mStackOffsets[index];
+        if (segments > 0) {
+            System.arraycopy(mStackValues, position, mStackValues, position + segments, stackEnd - position);
+            System.arraycopy(mStackFrom, position, mStackFrom, position + segments, stackEnd - position);
+            System.arraycopy(mStackTo, position, mStackTo, position + segments, stackEnd - position);
+            System.arraycopy(stackValues, offset, mStackValues, position, segments);
+        }
+
+        for (int i = mEntryCount + 1; i > index; i--) {
+            mStackOffsets[i] = mStackOffsets[i - 1] + segments;
+        }
+
+        mXValues[index] = x;
+        mEntryCount++;
+        mEntryBufferIndex = -1;
+
+        if (segments > 0) {
+            calcStack(index);
+            mPackedStackSize = Math.max(mPackedStackSize, segments);
+        } else {
+            mYValues[index] = y;
+            mLowValues[index] = y;
+            mHighValues[index] = y;
+        }
+
+        calcMinMax(index);
+    }
+
+    /**
+     * Computes the y-value, the negative and positive sums and the segment bounds of the stacked
+     * Entry at the given index, the same way as a stacked BarEntry computes its ranges.
+     *
+     * @param index
+     */
+    private void calcStack(int index) {
+        final int from = mStackOffsets[index];
+        final int to = mStackOffsets[index + 1];
+
+        float sum = 0f;
+        float negativeSum = 0f;
+        float positiveSum = 0f;
+        for (int i = from; i < to; i++) {
+            final float value = mStackValues[i];
+            sum += value;
+            if (value <= 0f) {
+                negativeSum += Math.abs(value);
+            } else {
+                positiveSum += value;
+            }
+        }
+
+        float negRemain = -negativeSum;
+        float posRemain = 0f;
+        for (int i = from; i < to; i++) {
+            final float value = mStackValues[i];
+            if (value < 0f) {
+                mStackFrom[i] = negRemain;
+                mStackTo[i] = negRemain - value;
+                negRemain -= value;
+            } else {
+                mStackFrom[i] = posRemain;
+                mStackTo[i] = posRemain + value;
+                posRemain += value;
+            }
+        }
+
+        mYValues[index] = sum;
+        mLowValues[index] = -negativeSum;
+        mHighValues[index] = positiveSum;
+    }
+
+    @Override
+    public boolean removeEntry(@Nullable BarEntry entry) {
+        return removeEntry(getEntryIndex(entry));
+    }
+
+    @Override
+    public boolean removeEntry(int index) {
+        if (index < 0 || index >= mEntryCount) {
+            return false;
+        }
+
+        final int moved = mEntryCount - index - 1;
+        System.arraycopy(mXValues, index + 1, mXValues, index, moved);
+        System.arraycopy(mYValues, index + 1, mYValues, index, moved);
+        System.arraycopy(mLowValues, index + 1, mLowValues, index, moved);
+        System.arraycopy(mHighValues, index + 1, mHighValues, index, moved);
+
+        final int position = mStackOffsets[index];
+        final int segments = mStackOffsets[index + 1] - position;
+        if (segments > 0) {
+            final int stackEnd = getStackEnd();
+            System.arraycopy(mStackValues, position + segments, mStackValues, position, stackEnd - position - segments);
+            System.arraycopy(mStackFrom, position + segments, mStackFrom, position, stackEnd - position - segments);
+            System.arraycopy(mStackTo, position + segments, mStackTo, position, stackEnd - position - segments);
+        }
+
+        for (int i = index; i < mEntryCount; i++) {
+            mStackOffsets[i] = mStackOffsets[i + 1] - segments;
+        }
+
+        mEntryCount--;
+        mEntryBufferIndex = -1;
+
+        calcMinMax();
+
+        return true;
+    }
+
+    @Override
+    public boolean removeFirst() {
+        return removeEntry(0);
+    }
+
+    @Override
+    public boolean removeLast() {
+        return removeEntry(mEntryCount - 1);
+    }
+
+    @Override
+    public void clear() {
+        mEntryCount = 0;
+        mEntryBufferIndex = -1;
+        mPackedStackSize = 1;
+
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public void calcMinMax() {
+        invalidateIndices();
+
+        if (mEntryCount == 0) {
+            return;
+        }
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+        mXMax = -Float.MAX_VALUE;
+        mXMin = Float.MAX_VALUE;
+
+        for (int i = 0; i < mEntryCount; i++) {
+            calcMinMax(i);
+        }
+    }
+
+    @Override
+    public void calcMinMaxY(float fromX, float toX) {
+        if (mEntryCount == 0) {
+            return;
+        }
+
+        if (isRangeIndexEnabled()) {
+            super.calcMinMaxY(fromX, toX);
+            return;
+        }
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+
+        int indexFrom = getEntryIndex(fromX, Float.NaN, Rounding.DOWN);
+        int indexTo = getEntryIndex(toX, Float.NaN, Rounding.UP);
+
+        for (int i = indexFrom; i <= indexTo; i++) {
+            if (!Float.isNaN(mYValues[i])) {
+                mYMin = Math.min(mYMin, mLowValues[i]);
+                mYMax = Math.max(mYMax, mHighValues[i]);
+            }
+        }
+    }
+
+    /**
+     * Updates the min and max x and y value of this DataSet based on the Entry at the given index,
+     * like calcMinMax(BarEntry).
+     *
+     * @param index
+     */
+    private void calcMinMax(int index) {
+        if (Float.isNaN(mYValues[index])) {
+            return;
+        }
+
+        if (mLowValues[index] < mYMin) {
+            mYMin = mLowValues[index];
+        }
+
+        if (mHighValues[index] > mYMax) {
+            mYMax = mHighValues[index];
+        }
+
+        final float x = mXValues[index];
+        if (x < mXMin) {
+            mXMin = x;
+        }
+
+        if (x > mXMax) {
+            mXMax = x;
+        }
+    }
+
+    /**
+     * Returns the number of stack segments stored.
+     */
+    private int getStackEnd() {
+        return mStackOffsets[mEntryCount];
+    }
+
+    @Override
+    public int getStackSize() {
+        return mPackedStackSize;
+    }
+
+    @Override
+    public boolean isStacked() {
+        return mPackedStackSize > 1;
+    }
+
+    @Override
+    public int getEntryCountStacks() {
+        int count = getStackEnd();
+        for (int i = 0; i < mEntryCount; i++) {
+            if (mStackOffsets[i + 1] == mStackOffsets[i]) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    @Override
+    public int getStackCountForIndex(int index) {
+        return mStackOffsets[index + 1] - mStackOffsets[index];
+    }
+
+    @Override
+    public int getStackOffsetForIndex(int index) {
+        return mStackOffsets[index];
+    }
+
+    @Override
+    public float getStackFrom(int position) {
+        return mStackFrom[position];
+    }
+
+    @Override
+    public float getStackTo(int position) {
+        return mStackTo[position];
+    }
+
+    /**
+     * Returns the negative sum of the stack of the Entry at the given index, like
+     * {@link BarEntry#getNegativeSum()}.
+     *
+     * @param index
+     */
+    public float getNegativeSumForIndex(int index) {
+        return getStackCountForIndex(index) > 0 ? -mLowValues[index] : 0f;
+    }
+
+    /**
+     * Returns the positive sum of the stack of the Entry at the given index, like
+     * {@link BarEntry#getPositiveSum()}.
+     *
+     * @param index
+     */
+    public float getPositiveSumForIndex(int index) {
+        return getStackCountForIndex(index) > 0 ? mHighValues[index] : 0f;
+    }
+
+    @Override
+    public int getEntryCount() {
+        return mEntryCount;
+    }
+
+    @Override
+    public float getXForIndex(int index) {
+        return mXValues[index];
+    }
+
+    @Override
+    public float getYForIndex(int index) {
+        return mYValues[index];
+    }
+
+    @Override
+    protected float getLowForIndex(int index) {
+        return mLowValues[index];
+    }
+
+    @Override
+    protected float getHighForIndex(int index) {
+        return mHighValues[index];
+    }
+
+    @Override
+    public void copyX(int fromIndex, int toIndex, @NonNull float[] dst, int offset) {
+        checkCopyRange(mEntryCount, fromIndex, toIndex, dst, offset, 1);
+        System.arraycopy(mXValues, fromIndex, dst, offset, toIndex - fromIndex);
+    }
+
+    @Override
+    public void copyY(int fromIndex, int toIndex, @NonNull float[] dst, int offset) {
+        checkCopyRange(mEntryCount, fromIndex, toIndex, dst, offset, 1);
+        System.arraycopy(mYValues, fromIndex, dst, offset, toIndex - fromIndex);
+    }
+
+    /**
+     * Returns a shared BarEntry holding the values at the given index. The returned BarEntry is
+     * updated by the next call to any method of this DataSet returning a BarEntry. The stack values
+     * of a stacked Entry are copied into a new array.
+     *
+     * @param index
+     */
+    @Nullable
+    @Override
+    public BarEntry getEntryForIndex(int index) {
+        if (index < 0 || index >= mEntryCount) {
+            return null;
+        }
+
+        final BarEntry entry = mEntryBuffer;
+        entry.setX(mXValues[index]);
+        if (getStackCountForIndex(index) > 0) {
+            entry.setVals(Arrays.copyOfRange(mStackValues, mStackOffsets[index], mStackOffsets[index + 1]));
+        } else {
+            entry.setVals(null);
+            entry.setY(mYValues[index]);
+        }
+        mEntryBufferIndex = index;
+
+        return entry;
+    }
+
+    @Override
+    public int getEntryIndex(@Nullable BarEntry entry) {
+        if (entry == null) {
+            return -1;
+        }
+
+        // Fast path for the Entry returned by this DataSet
+        if (entry == mEntryBuffer && mEntryBufferIndex >= 0 && mEntryBufferIndex < mEntryCount
+                && matches(mEntryBufferIndex, entry)) {
+            return mEntryBufferIndex;
+        }
+
+        final float x = entry.getX();
+        for (int i = getFirstIndexOf(x); i >= 0 && i < mEntryCount && mXValues[i] == x; i++) {
+            if (matches(i, entry)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns true if the values at the given index are the ones of the given Entry.
+     *
+     * @param index
+     * @param entry
+     */
+    private boolean matches(int index, @NonNull BarEntry entry) {
+        if (mXValues[index] != entry.getX() || mYValues[index] != entry.getY()) {
+            return false;
+        }
+
+        final float[] values = entry.getYVals();
+        final int from = mStackOffsets[index];
+        final int count = mStackOffsets[index + 1] - from;
+        if (values == null || values.length == 0) {
+            return count == 0;
+        }
+
+        if (values.length != count) {
+            return false;
+        }
+
+        for (int i = 0; i < count; i++) {
+            if (values[i] != mStackValues[from + i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean contains(@Nullable BarEntry entry) {
+        return getEntryIndex(entry) >= 0;
+    }
+
+    /**
+     * Returns newly created BarEntry objects for all the values found at the given x-value.
+     *
+     * @param xValue
+     */
+    @NonNull
+    @Override
+    public List<BarEntry> getEntriesForXValue(float xValue) {
+        List<BarEntry> entries = new ArrayList<>();
+
+        for (int i = getFirstIndexOf(xValue); i >= 0 && i < mEntryCount && mXValues[i] == xValue; i++) {
+            entries.add(newEntry(i));
+        }
+
+        return entries;
+    }
+
+    /**
+     * Returns newly created BarEntry objects for all the values of this DataSet. Changes to the
+     * returned list are not reflected in this DataSet.
+     */
+    @NonNull
+    @Override
+    public List<BarEntry> getValues() {
+        List<BarEntry> values = new ArrayList<>(mEntryCount);
+        for (int i = 0; i < mEntryCount; i++) {
+            values.add(newEntry(i));
+        }
+
+        return values;
+    }
+
+    /**
+     * Replaces the values of this DataSet with the values of the given entries, which must be
+     * sorted by x-value, and calls notifyDataSetChanged(). The entries themselves are not kept.
+     *
+     * @param values
+     */
+    @Override
+    public void setValues(@NonNull List<BarEntry> values) {
+        mEntryCount = 0;
+        mEntryBufferIndex = -1;
+        mPackedStackSize = 1;
+
+        addEntries(values);
+
+        notifyDataSetChanged();
+    }
+
+    /**
+     * If isExtension is true, only the entries following the current values are copied, without
+     * recalculating the minimum and maximum values.
+     *
+     * @param values
+     * @param isExtension
+     */
+    @Override
+    public void setValues(@NonNull List<BarEntry> values, boolean isExtension) {
+        if (!isExtension || mEntryCount == 0 || values.size() < mEntryCount) {
+            setValues(values);
+            return;
+        }
+
+        addEntries(values.subList(mEntryCount, values.size()));
+        notifyEntriesAppended();
+    }
+
+    @NonNull
+    @Override
+    public DataSet<BarEntry> copy() {
+        PackedBarDataSet copied = new PackedBarDataSet(Math.max(mEntryCount, 1), getLabel());
+        copied.ensureCapacity(mEntryCount, getStackEnd());
+
+        System.arraycopy(mXValues, 0, copied.mXValues, 0, mEntryCount);
+        System.arraycopy(mYValues, 0, copied.mYValues, 0, mEntryCount);
+        System.arraycopy(mLowValues, 0, copied.mLowValues, 0, mEntryCount);
+        System.arraycopy(mHighValues, 0, copied.mHighValues, 0, mEntryCount);
+        System.arraycopy(mStackOffsets, 0, copied.mStackOffsets, 0, mEntryCount + 1);
+        System.arraycopy(mStackValues, 0, copied.mStackValues, 0, getStackEnd());
+        System.arraycopy(mStackFrom, 0, copied.mStackFrom, 0, getStackEnd());
+        System.arraycopy(mStackTo, 0, copied.mStackTo, 0, getStackEnd());
+        copied.mEntryCount = mEntryCount;
+        copied.mPackedStackSize = mPackedStackSize;
+        copied.calcMinMax();
+
+        copy(copied);
+        return copied;
+    }
+
+    /**
+     * Returns a new BarEntry holding the values at the given index.
+     *
+     * @param index
+     */
+    @NonNull
+    private BarEntry newEntry(int index) {
+        if (getStackCountForIndex(index) > 0) {
+            return new BarEntry(mXValues[index], Arrays.copyOfRange(mStackValues, mStackOffsets[index], mStackOffsets[index + 1]));
+        }
+
+        return new BarEntry(mXValues[index], mYValues[index]);
+    }
+
+    /**
+     * Returns the index of the first value with the given x-value, or -1 if there is none.
+     *
+     * @param xValue
+     */
+    private int getFirstIndexOf(float xValue) {
+        int low = 0;
+        int high = mEntryCount;
+
+        while (low < high) {
+            int m = (low + high) >>> 1;
+            if (mXValues[m] < xValue) {
+                low = m + 1;
+            } else {
+                high = m;
+            }
+        }
+
+        if (low < mEntryCount && mXValues[low] == xValue) {
+            return low;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first value with an x-value strictly greater than the given one, or
+     * the number of values if there is none.
+     *
+     * @param xValue
+     */
+    private int getFirstIndexAbove(float xValue) {
+        int low = 0;
+        int high = mEntryCount;
+
+        while (low < high) {
+            int m = (low + high) >>> 1;
+            if (mXValues[m] <= xValue) {
+                low = m + 1;
+            } else {
+                high = m;
+            }
+        }
+
+        return low;
+    }
+}
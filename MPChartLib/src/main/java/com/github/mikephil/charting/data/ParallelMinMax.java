@@ -0,0 +1,169 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Recalculates the min and max values of several DataSets on a shared pool of background threads.
+ * Every DataSet is processed by its own task, and DataSets supporting it are additionally split in
+ * chunks of {@link #CHUNK_SIZE} entries. The partial results are reduced in index order on the
+ * calling thread, so the result is exactly the one of a serial calculation.
+ */
+final class ParallelMinMax {
+    /**
+     * Number of entries processed by a single task when a DataSet is split in chunks.
+     */
+    static final int CHUNK_SIZE = 65536;
+
+    private static ExecutorService sExecutor;
+
+    private ParallelMinMax() {
+    }
+
+    /**
+     * Recalculates the min and max values of all the given DataSets, and blocks until they are
+     * done. Falls back to a serial calculation if the calling thread is interrupted.
+     *
+     * @param dataSets
+     */
+    static void calcMinMax(@NonNull List<? extends IDataSet<?>> dataSets) {
+        final List<Callable<float[]>> tasks = new ArrayList<>();
+        final List<DataSet<?>> chunkedDataSets = new ArrayList<>();
+
+        for (final IDataSet<?> set : dataSets) {
+            final int count = set.getEntryCount();
+
+            if (set instanceof DataSet && ((DataSet<?>) set).isChunkedMinMaxSupported() && count > CHUNK_SIZE) {
+                final DataSet<?> dataSet = (DataSet<?>) set;
+                chunkedDataSets.add(dataSet);
+
+                for (int from = 0; from < count; from += CHUNK_SIZE) {
+                    final int chunkFrom = from;
+                    final int chunkTo = Math.min(from + CHUNK_SIZE, count);
+
+                    tasks.add(new Callable<float[]>() {
+                        @Override
+                        public float[] call() {
+                            float[] minMax = new float[4];
+                            dataSet.calcMinMax(chunkFrom, chunkTo, minMax);
+                            return minMax;
+                        }
+                    });
+                }
+            } else {
+                tasks.add(new Callable<float[]>() {
+                    @Override
+                    public float[] call() {
+                        set.calcMinMax();
+                        return null;
+                    }
+                });
+            }
+        }
+
+        List<Future<float[]>> futures;
+        try {
+            futures = getExecutor().invokeAll(tasks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            for (IDataSet<?> set : dataSets) {
+                set.calcMinMax();
+            }
+
+            return;
+        }
+
+        // Reduce the chunks of every DataSet, in order
+        int futureIndex = 0;
+        int chunkedIndex = 0;
+
+        for (IDataSet<?> set : dataSets) {
+            final int count = set.getEntryCount();
+
+            if (chunkedIndex < chunkedDataSets.size() && chunkedDataSets.get(chunkedIndex) == set) {
+                chunkedIndex++;
+
+                float xMin = Float.MAX_VALUE;
+                float xMax = -Float.MAX_VALUE;
+                float yMin = Float.MAX_VALUE;
+                float yMax = -Float.MAX_VALUE;
+
+                for (int from = 0; from < count; from += CHUNK_SIZE) {
+                    float[] minMax = getResult(futures.get(futureIndex++));
+                    if (minMax[0] < xMin) {
+                        xMin = minMax[0];
+                    }
+
+                    if (minMax[1] > xMax) {
+                        xMax = minMax[1];
+                    }
+
+                    if (minMax[2] < yMin) {
+                        yMin = minMax[2];
+                    }
+
+                    if (minMax[3] > yMax) {
+                        yMax = minMax[3];
+                    }
+                }
+
+                ((DataSet<?>) set).setMinMax(xMin, xMax, yMin, yMax);
+            } else {
+                getResult(futures.get(futureIndex++));
+            }
+        }
+    }
+
+    /**
+     * Returns the result of the given completed task, rethrowing its exception if it failed.
+     *
+     * @param future
+     */
+    private static float[] getResult(@NonNull Future<float[]> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            // Not possible, the task is completed
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    @NonNull
+    private static synchronized ExecutorService getExecutor() {
+        if (sExecutor == null) {
+            sExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new ThreadFactory() {
+                private int mCount = 0;
+
+                @Override
+                public Thread newThread(@NonNull Runnable runnable) {
+                    Thread thread = new Thread(runnable, "ChartData-MinMax-" + mCount++);
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+
+        return sExecutor;
+    }
+}
@@ -30,6 +30,7 @@ public class PieData extends ChartData<IPieDataSet> {
      */
     public void setDataSet(@Nullable IPieDataSet dataSet) {
         mDataSets.clear();
+        mChanges = DataChange.ALL;
         if (dataSet != null) {
             mDataSets.add(dataSet);
             notifyDataChanged();
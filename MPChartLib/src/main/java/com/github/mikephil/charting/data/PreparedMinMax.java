@@ -0,0 +1,144 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
+
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Min and max values of the DataSets of a ChartData, calculated without modifying anything so it
+ * can be done on a background thread while the chart keeps drawing the current values. Created by
+ * {@link ChartData#prepareMinMax()} and applied with {@link ChartData#applyMinMax(PreparedMinMax)}.
+ * <p>
+ * Only the DataSets supporting it (the line DataSets) are calculated in advance, the other ones are
+ * recalculated when the result is applied. A DataSet whose entry count changed in the meantime is
+ * recalculated as well.
+ */
+public final class PreparedMinMax {
+    /**
+     * The ChartData the values were calculated for.
+     */
+    @NonNull
+    final ChartData<?> mData;
+
+    /**
+     * The DataSets at the time of the calculation.
+     */
+    @NonNull
+    final IDataSet<?>[] mDataSets;
+
+    /**
+     * The entry count of every DataSet at the time of the calculation.
+     */
+    @NonNull
+    final int[] mEntryCounts;
+
+    /**
+     * The min and max values of every DataSet, as {xMin, xMax, yMin, yMax}.
+     */
+    @NonNull
+    final float[] mMinMax;
+
+    /**
+     * True for the DataSets calculated in advance.
+     */
+    @NonNull
+    final boolean[] mCalculated;
+
+    private PreparedMinMax(@NonNull ChartData<?> data, int dataSetCount) {
+        mData = data;
+        mDataSets = new IDataSet<?>[dataSetCount];
+        mEntryCounts = new int[dataSetCount];
+        mMinMax = new float[dataSetCount * 4];
+        mCalculated = new boolean[dataSetCount];
+    }
+
+    /**
+     * Calculates the min and max values of the DataSets of the given ChartData, which must not be
+     * modified during the calculation.
+     *
+     * @param data
+     * @return null if the calling thread was interrupted
+     */
+    @Nullable
+    static PreparedMinMax calculate(@NonNull ChartData<?> data) {
+        final List<? extends IDataSet<?>> dataSets = data.getDataSets();
+        final PreparedMinMax prepared = new PreparedMinMax(data, dataSets.size());
+        final float[] minMax = new float[4];
+
+        for (int i = 0; i < prepared.mDataSets.length; i++) {
+            final IDataSet<?> set = dataSets.get(i);
+            final int count = set.getEntryCount();
+            prepared.mDataSets[i] = set;
+            prepared.mEntryCounts[i] = count;
+
+            if (!(set instanceof DataSet) || !((DataSet<?>) set).isChunkedMinMaxSupported() || count == 0) {
+                continue;
+            }
+
+            final DataSet<?> dataSet = (DataSet<?>) set;
+            float xMin = Float.MAX_VALUE;
+            float xMax = -Float.MAX_VALUE;
+            float yMin = Float.MAX_VALUE;
+            float yMax = -Float.MAX_VALUE;
+
+            // Chunked so a cancellation does not have to wait for a whole DataSet
+            for (int from = 0; from < count; from += ParallelMinMax.CHUNK_SIZE) {
+                if (Thread.currentThread().isInterrupted()) {
+                    return null;
+                }
+
+                dataSet.calcMinMax(from, Math.min(from + ParallelMinMax.CHUNK_SIZE, count), minMax);
+                xMin = Math.min(xMin, minMax[0]);
+                xMax = Math.max(xMax, minMax[1]);
+                yMin = Math.min(yMin, minMax[2]);
+                yMax = Math.max(yMax, minMax[3]);
+            }
+
+            prepared.mMinMax[i * 4] = xMin;
+            prepared.mMinMax[i * 4 + 1] = xMax;
+            prepared.mMinMax[i * 4 + 2] = yMin;
+            prepared.mMinMax[i * 4 + 3] = yMax;
+            prepared.mCalculated[i] = true;
+        }
+
+        return prepared;
+    }
+
+    /**
+     * Sets the prepared min and max values to the DataSets, recalculates the other ones, then the
+     * ones of the ChartData.
+     */
+    void apply() {
+        final List<? extends IDataSet<?>> dataSets = mData.getDataSets();
+
+        for (int i = 0; i < dataSets.size(); i++) {
+            final IDataSet<?> set = dataSets.get(i);
+
+            if (i < mDataSets.length && mDataSets[i] == set && mCalculated[i]
+                    && mEntryCounts[i] == set.getEntryCount()) {
+                ((DataSet<?>) set).setMinMax(mMinMax[i * 4], mMinMax[i * 4 + 1], mMinMax[i * 4 + 2], mMinMax[i * 4 + 3]);
+            } else {
+                set.calcMinMax();
+            }
+        }
+
+        mData.notifyDataChanged();
+    }
+
+    /**
+     * Returns the number of DataSets whose min and max values were calculated in advance.
+     */
+    public int getCalculatedDataSetCount() {
+        int count = 0;
+        for (boolean calculated : mCalculated) {
+            if (calculated) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,279 @@
+package com.github.mikephil.charting.data;
+
+import java.util.Arrays;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Index answering the min and max y-values of a range of entries of a DataSet without scanning
+ * the whole range. The entries are grouped in blocks of {@link #BLOCK_SIZE} values, and a sparse
+ * table stores the min and max of every power-of-two run of blocks. A query scans at most two
+ * partial blocks and combines two precomputed runs, regardless of the size of the range.
+ * <p>
+ * The index only holds 2 * (n / BLOCK_SIZE) * log2(n / BLOCK_SIZE) floats. Values appended at the
+ * end of the DataSet are indexed incrementally, and values removed from the start are dropped
+ * with {@link #removeFirst(int)}: the blocks are numbered from a logical origin which moves
+ * forward, and the blocks before it are discarded from time to time. Any other change requires a
+ * call to {@link #invalidate()}, which triggers a full rebuild on the next query.
+ */
+final class RangeMinMaxIndex {
+    /**
+     * Number of entries per block, must be a power of two.
+     */
+    static final int BLOCK_SIZE = 32;
+
+    private static final int BLOCK_SHIFT = 5;
+
+    /**
+     * mMin[level][block] is the min value of the blocks [block, block + 2^level).
+     */
+    @NonNull
+    private float[][] mMin = new float[0][];
+
+    /**
+     * mMax[level][block] is the max value of the blocks [block, block + 2^level).
+     */
+    @NonNull
+    private float[][] mMax = new float[0][];
+
+    /**
+     * Logical index of the first Entry of the DataSet: the number of entries removed from the
+     * start since the blocks were last discarded.
+     */
+    private int mOrigin = 0;
+
+    /**
+     * Logical index following the last Entry indexed.
+     */
+    private int mCount = 0;
+
+    /**
+     * False if the index must be rebuilt from scratch.
+     */
+    private boolean mValid = false;
+
+    /**
+     * Marks the index as outdated, the next call to update() will rebuild it completely.
+     */
+    void invalidate() {
+        mValid = false;
+    }
+
+    /**
+     * Follows the removal of the first count entries of the DataSet, without a rebuild. The blocks
+     * only made of removed entries are discarded once they are as many as the other ones.
+     *
+     * @param count
+     */
+    void removeFirst(int count) {
+        if (!mValid) {
+            return;
+        }
+
+        if (count >= mCount - mOrigin) {
+            mValid = false;
+            return;
+        }
+
+        mOrigin += count;
+
+        final int blockCount = (mCount + BLOCK_SIZE - 1) >> BLOCK_SHIFT;
+        final int removedBlocks = mOrigin >> BLOCK_SHIFT;
+        if (removedBlocks * 2 < blockCount) {
+            return;
+        }
+
+        for (int level = 0; level < mMin.length; level++) {
+            final int size = blockCount - (1 << level) + 1;
+            if (size > removedBlocks) {
+                System.arraycopy(mMin[level], removedBlocks, mMin[level], 0, size - removedBlocks);
+                System.arraycopy(mMax[level], removedBlocks, mMax[level], 0, size - removedBlocks);
+            }
+        }
+
+        mOrigin -= removedBlocks << BLOCK_SHIFT;
+        mCount -= removedBlocks << BLOCK_SHIFT;
+    }
+
+    /**
+     * Brings the index up to date with the given DataSet. If the entries were only appended since
+     * the last update, only the new entries are indexed.
+     *
+     * @param dataSet
+     */
+    void update(@NonNull DataSet<?> dataSet) {
+        final int entryCount = dataSet.getEntryCount();
+        if (mValid && entryCount < mCount - mOrigin) {
+            mValid = false;
+        }
+
+        if (!mValid) {
+            mOrigin = 0;
+        }
+
+        int count = mOrigin + entryCount;
+        if (mValid && count == mCount) {
+            return;
+        }
+
+        int from = mValid ? mCount : 0;
+        int blockCount = (count + BLOCK_SIZE - 1) >> BLOCK_SHIFT;
+        int firstBlock = from >> BLOCK_SHIFT;
+        int levels = blockCount == 0 ? 0 : 32 - Integer.numberOfLeadingZeros(blockCount);
+
+        ensureCapacity(levels, blockCount);
+
+        // Level 0: min and max of every block
+        for (int block = firstBlock; block < blockCount; block++) {
+            // Removed entries are skipped, the blocks before the origin are never queried
+            int start = Math.max(block << BLOCK_SHIFT, mOrigin);
+            int end = Math.min((block << BLOCK_SHIFT) + BLOCK_SIZE, count);
+            float min = Float.MAX_VALUE;
+            float max = -Float.MAX_VALUE;
+
+            for (int i = start; i < end; i++) {
+                float low = dataSet.getLowForIndex(i - mOrigin);
+                float high = dataSet.getHighForIndex(i - mOrigin);
+                if (low < min) {
+                    min = low;
+                }
+
+                if (high > max) {
+                    max = high;
+                }
+            }
+
+            mMin[0][block] = min;
+            mMax[0][block] = max;
+        }
+
+        // Only the runs including one of the changed blocks must be updated
+        for (int level = 1; level < levels; level++) {
+            int half = 1 << (level - 1);
+            int last = blockCount - (1 << level);
+            float[] previousMin = mMin[level - 1];
+            float[] previousMax = mMax[level - 1];
+            float[] min = mMin[level];
+            float[] max = mMax[level];
+
+            for (int block = Math.max(firstBlock - (1 << level) + 1, 0); block <= last; block++) {
+                min[block] = Math.min(previousMin[block], previousMin[block + half]);
+                max[block] = Math.max(previousMax[block], previousMax[block + half]);
+            }
+        }
+
+        mCount = count;
+        mValid = true;
+    }
+
+    /**
+     * Returns the min value of the entries in [fromIndex, toIndex]. update() must have been called
+     * beforehand.
+     *
+     * @param dataSet
+     * @param fromIndex
+     * @param toIndex
+     */
+    float getMin(@NonNull DataSet<?> dataSet, int fromIndex, int toIndex) {
+        final int from = fromIndex + mOrigin;
+        final int to = toIndex + mOrigin;
+        int fromBlock = from >> BLOCK_SHIFT;
+        int toBlock = to >> BLOCK_SHIFT;
+        float min = Float.MAX_VALUE;
+
+        if (fromBlock == toBlock) {
+            for (int i = fromIndex; i <= toIndex; i++) {
+                min = Math.min(min, dataSet.getLowForIndex(i));
+            }
+
+            return min;
+        }
+
+        for (int i = fromIndex, end = ((fromBlock + 1) << BLOCK_SHIFT) - mOrigin; i < end; i++) {
+            min = Math.min(min, dataSet.getLowForIndex(i));
+        }
+
+        for (int i = (toBlock << BLOCK_SHIFT) - mOrigin; i <= toIndex; i++) {
+            min = Math.min(min, dataSet.getLowForIndex(i));
+        }
+
+        if (fromBlock + 1 < toBlock) {
+            int level = getLevel(toBlock - fromBlock - 1);
+            min = Math.min(min, Math.min(mMin[level][fromBlock + 1], mMin[level][toBlock - (1 << level)]));
+        }
+
+        return min;
+    }
+
+    /**
+     * Returns the max value of the entries in [fromIndex, toIndex]. update() must have been called
+     * beforehand.
+     *
+     * @param dataSet
+     * @param fromIndex
+     * @param toIndex
+     */
+    float getMax(@NonNull DataSet<?> dataSet, int fromIndex, int toIndex) {
+        final int from = fromIndex + mOrigin;
+        final int to = toIndex + mOrigin;
+        int fromBlock = from >> BLOCK_SHIFT;
+        int toBlock = to >> BLOCK_SHIFT;
+        float max = -Float.MAX_VALUE;
+
+        if (fromBlock == toBlock) {
+            for (int i = fromIndex; i <= toIndex; i++) {
+                max = Math.max(max, dataSet.getHighForIndex(i));
+            }
+
+            return max;
+        }
+
+        for (int i = fromIndex, end = ((fromBlock + 1) << BLOCK_SHIFT) - mOrigin; i < end; i++) {
+            max = Math.max(max, dataSet.getHighForIndex(i));
+        }
+
+        for (int i = (toBlock << BLOCK_SHIFT) - mOrigin; i <= toIndex; i++) {
+            max = Math.max(max, dataSet.getHighForIndex(i));
+        }
+
+        if (fromBlock + 1 < toBlock) {
+            int level = getLevel(toBlock - fromBlock - 1);
+            max = Math.max(max, Math.max(mMax[level][fromBlock + 1], mMax[level][toBlock - (1 << level)]));
+        }
+
+        return max;
+    }
+
+    /**
+     * Returns floor(log2(blockCount)), the level of the two runs covering blockCount blocks.
+     *
+     * @param blockCount
+     */
+    private static int getLevel(int blockCount) {
+        return 31 - Integer.numberOfLeadingZeros(blockCount);
+    }
+
+    /**
+     * Grows the tables to hold the given number of levels and blocks, keeping the existing values.
+     *
+     * @param levels
+     * @param blockCount
+     */
+    private void ensureCapacity(int levels, int blockCount) {
+        if (mMin.length < levels) {
+            mMin = Arrays.copyOf(mMin, levels);
+            mMax = Arrays.copyOf(mMax, levels);
+        }
+
+        for (int level = 0; level < levels; level++) {
+            int size = blockCount - (1 << level) + 1;
+            float[] min = mMin[level];
+
+            if (min == null || min.length < size) {
+                int capacity = min == null ? size : Math.max(size, min.length + (min.length >> 1));
+                mMin[level] = min == null ? new float[capacity] : Arrays.copyOf(min, capacity);
+                mMax[level] = min == null ? new float[capacity] : Arrays.copyOf(mMax[level], capacity);
+            }
+        }
+    }
+}
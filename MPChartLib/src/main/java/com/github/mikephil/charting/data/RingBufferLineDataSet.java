@@ -0,0 +1,778 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.utils.EntryXComparator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * LineDataSet with a fixed capacity, meant for realtime/streaming charts. Values are stored in a
+ * circular buffer of primitive arrays: appending a value is O(1), and once the capacity is
+ * reached, the oldest value is evicted in O(1) as well. The minimum and maximum values are
+ * maintained incrementally, so evicting never requires a rescan of the whole DataSet.
+ * <p>
+ * Values must be appended in ascending x-order. Index 0 always refers to the oldest value, so the
+ * DataSet exposes the sorted view expected by the renderers and by the binary search of
+ * {@link #getEntryIndex(float, float, Rounding)}.
+ * <p>
+ * Entry objects are only created on demand. Methods returning a single Entry (like
+ * {@link #getEntryForIndex(int)} or {@link #getEntryForXValue(float, float)}) return a shared
+ * instance that is updated on every call, so it must not be kept around. Icons and data objects
+ * attached to added entries are not stored.
+ */
+public class RingBufferLineDataSet extends LineDataSet {
+    /**
+     * The x-values of this DataSet, starting at mHead.
+     */
+    @NonNull
+    private final float[] mXValues;
+
+    /**
+     * The y-values of this DataSet, starting at mHead.
+     */
+    @NonNull
+    private final float[] mYValues;
+
+    /**
+     * Slot of the oldest value in the arrays.
+     */
+    private int mHead = 0;
+
+    /**
+     * The number of values currently stored.
+     */
+    private int mEntryCount = 0;
+
+    /**
+     * Slots of the candidates for the minimum y-value, with increasing y-values.
+     */
+    @NonNull
+    private final SlotDeque mMinSlots;
+
+    /**
+     * Slots of the candidates for the maximum y-value, with decreasing y-values.
+     */
+    @NonNull
+    private final SlotDeque mMaxSlots;
+
+    /**
+     * Reusable Entry returned to callers that need an Entry object.
+     */
+    @NonNull
+    private final Entry mEntryBuffer = new Entry();
+
+    /**
+     * Index of the values currently held by mEntryBuffer, or -1.
+     */
+    private int mEntryBufferIndex = -1;
+
+    /**
+     * Creates an empty DataSet holding at most the given number of values.
+     *
+     * @param capacity
+     * @param label
+     */
+    public RingBufferLineDataSet(int capacity, @NonNull String label) {
+        super(new ArrayList<Entry>(0), label);
+
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be greater than 0");
+        }
+
+        mXValues = new float[capacity];
+        mYValues = new float[capacity];
+        mMinSlots = new SlotDeque(capacity);
+        mMaxSlots = new SlotDeque(capacity);
+    }
+
+    /**
+     * Returns the maximum number of values this DataSet can hold.
+     */
+    public int getCapacity() {
+        return mXValues.length;
+    }
+
+    /**
+     * Returns true if this DataSet holds as many values as its capacity. Appending a new value will
+     * then evict the oldest one.
+     */
+    public boolean isFull() {
+        return mEntryCount == mXValues.length;
+    }
+
+    /**
+     * Appends a value to this DataSet, evicting the oldest value if the DataSet is full. The x-value
+     * must not be lower than the x-value of the last value. Returns true if a value was evicted.
+     *
+     * @param x
+     * @param y
+     */
+    public boolean append(float x, float y) {
+        if (mEntryCount > 0 && x < mXValues[getSlot(mEntryCount - 1)]) {
+            throw new IllegalArgumentException("x-values must be appended in ascending order");
+        }
+
+        boolean evicted = false;
+        if (isFull()) {
+            evictFirst();
+            evicted = true;
+        }
+
+        int slot = getSlot(mEntryCount);
+        mXValues[slot] = x;
+        mYValues[slot] = y;
+        mEntryCount++;
+
+        pushSlot(slot);
+        updateMinMax();
+
+        return evicted;
+    }
+
+    @Override
+    public boolean addEntry(@NonNull Entry entry) {
+        append(entry.getX(), entry.getY());
+
+        return true;
+    }
+
+    @Override
+    public boolean addEntries(@NonNull List<Entry> entries) {
+        final int count = entries.size();
+
+        // Only the last values would be kept
+        for (int i = Math.max(count - mXValues.length, 0); i < count; i++) {
+            Entry entry = entries.get(i);
+            append(entry.getX(), entry.getY());
+        }
+
+        return count > 0;
+    }
+
+    /**
+     * Appends length values, read from the given arrays starting at offset, evicting the oldest
+     * values if needed. If length is greater than the capacity, only the last values are kept. The
+     * x-values must be sorted in ascending order, and not be lower than the x-value of the last
+     * value.
+     *
+     * @param xValues
+     * @param yValues
+     * @param offset
+     * @param length
+     */
+    @Override
+    public boolean addEntries(@NonNull float[] xValues, @NonNull float[] yValues, int offset, int length) {
+        checkBounds(xValues, yValues, offset, length);
+
+        // Only the last values would be kept
+        for (int i = offset + Math.max(length - mXValues.length, 0); i < offset + length; i++) {
+            append(xValues[i], yValues[i]);
+        }
+
+        return length > 0;
+    }
+
+    /**
+     * Inserts the given Entry at its position according to its x-value. Appending at the end is
+     * O(1), inserting in the middle requires shifting the newer values and rebuilding the min/max
+     * tracking, which is O(n). If the DataSet is full, the oldest value is evicted, which means
+     * that an Entry older than all the values of a full DataSet is not added at all.
+     *
+     * @param entry
+     */
+    @Override
+    public void addEntryOrdered(@NonNull Entry entry) {
+        float x = entry.getX();
+        float y = entry.getY();
+
+        if (mEntryCount == 0 || x >= mXValues[getSlot(mEntryCount - 1)]) {
+            append(x, y);
+            return;
+        }
+
+        // First index with an x-value strictly greater than the new one
+        int low = 0;
+        int high = mEntryCount;
+        while (low < high) {
+            int m = (low + high) >>> 1;
+            if (mXValues[getSlot(m)] <= x) {
+                low = m + 1;
+            } else {
+                high = m;
+            }
+        }
+
+        int index = low;
+        if (isFull()) {
+            if (index == 0) {
+                return;
+            }
+
+            mHead = getSlot(1);
+            mEntryCount--;
+            index--;
+        }
+
+        for (int i = mEntryCount; i > index; i--) {
+            int to = getSlot(i);
+            int from = getSlot(i - 1);
+            mXValues[to] = mXValues[from];
+            mYValues[to] = mYValues[from];
+        }
+
+        int slot = getSlot(index);
+        mXValues[slot] = x;
+        mYValues[slot] = y;
+        mEntryCount++;
+        mEntryBufferIndex = -1;
+
+        calcMinMax();
+    }
+
+    /**
+     * Inserts the given entries at their position according to their x-value. The batch is sorted
+     * and merged with the current values in a single pass. If the DataSet overflows, the oldest
+     * values are evicted, including new entries older than all the kept values.
+     *
+     * @param entries
+     */
+    @Override
+    public void addEntriesOrdered(@NonNull List<Entry> entries) {
+        final int count = entries.size();
+        if (count == 0) {
+            return;
+        }
+
+        List<Entry> sorted = new ArrayList<>(entries);
+        Collections.sort(sorted, new EntryXComparator());
+
+        if (mEntryCount == 0 || sorted.get(0).getX() >= mXValues[getSlot(mEntryCount - 1)]) {
+            addEntries(sorted);
+            return;
+        }
+
+        final int total = mEntryCount + count;
+        final float[] xValues = new float[total];
+        final float[] yValues = new float[total];
+
+        // Existing values sharing the x-value of a new one stay in front of it
+        int i = 0;
+        int j = 0;
+        for (int to = 0; to < total; to++) {
+            if (j >= count || (i < mEntryCount && mXValues[getSlot(i)] <= sorted.get(j).getX())) {
+                int slot = getSlot(i++);
+                xValues[to] = mXValues[slot];
+                yValues[to] = mYValues[slot];
+            } else {
+                Entry entry = sorted.get(j++);
+                xValues[to] = entry.getX();
+                yValues[to] = entry.getY();
+            }
+        }
+
+        replaceValues(xValues, yValues, total);
+    }
+
+    /**
+     * Removes the oldest value in O(1).
+     */
+    @Override
+    public boolean removeFirst() {
+        if (mEntryCount == 0) {
+            return false;
+        }
+
+        evictFirst();
+        updateMinMax();
+
+        return true;
+    }
+
+    @Override
+    public boolean removeLast() {
+        return removeEntry(mEntryCount - 1);
+    }
+
+    @Override
+    public boolean removeEntry(@Nullable Entry entry) {
+        return removeEntry(getEntryIndex(entry));
+    }
+
+    /**
+     * Removes the value at the given index. Removing the oldest value is O(1), removing any other
+     * value requires rebuilding the min/max tracking, which is O(n).
+     *
+     * @param index
+     */
+    @Override
+    public boolean removeEntry(int index) {
+        if (index < 0 || index >= mEntryCount) {
+            return false;
+        }
+
+        if (index == 0) {
+            return removeFirst();
+        }
+
+        for (int i = index; i < mEntryCount - 1; i++) {
+            int to = getSlot(i);
+            int from = getSlot(i + 1);
+            mXValues[to] = mXValues[from];
+            mYValues[to] = mYValues[from];
+        }
+
+        mEntryCount--;
+        mEntryBufferIndex = -1;
+
+        calcMinMax();
+
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        mHead = 0;
+        mEntryCount = 0;
+        mEntryBufferIndex = -1;
+        mMinSlots.clear();
+        mMaxSlots.clear();
+
+        notifyDataSetChanged();
+    }
+
+    /**
+     * The min/max tracking must be rebuilt by calcMinMax().
+     */
+    @Override
+    boolean isChunkedMinMaxSupported() {
+        return false;
+    }
+
+    /**
+     * Rebuilds the min/max tracking from scratch. This is not needed after append() or
+     * removeFirst(), which keep it up to date.
+     */
+    @Override
+    public void calcMinMax() {
+        invalidateIndices();
+
+        if (mEntryCount == 0) {
+            return;
+        }
+
+        mMinSlots.clear();
+        mMaxSlots.clear();
+
+        for (int i = 0; i < mEntryCount; i++) {
+            pushSlot(getSlot(i));
+        }
+
+        updateMinMax();
+    }
+
+    /**
+     * Uses the range index if it is enabled, which follows the evictions without being rebuilt.
+     *
+     * @param fromX
+     * @param toX
+     */
+    @Override
+    public void calcMinMaxY(float fromX, float toX) {
+        if (isRangeIndexEnabled()) {
+            super.calcMinMaxY(fromX, toX);
+            return;
+        }
+
+        if (mEntryCount == 0) {
+            return;
+        }
+
+        mYMax = -Float.MAX_VALUE;
+        mYMin = Float.MAX_VALUE;
+
+        int indexFrom = getEntryIndex(fromX, Float.NaN, Rounding.DOWN);
+        int indexTo = getEntryIndex(toX, Float.NaN, Rounding.UP);
+
+        for (int i = indexFrom; i <= indexTo; i++) {
+            float y = mYValues[getSlot(i)];
+            if (y < mYMin) {
+                mYMin = y;
+            }
+
+            if (y > mYMax) {
+                mYMax = y;
+            }
+        }
+    }
+
+    @Override
+    public int getEntryCount() {
+        return mEntryCount;
+    }
+
+    @Override
+    public float getXForIndex(int index) {
+        return mXValues[getSlot(index)];
+    }
+
+    @Override
+    public float getYForIndex(int index) {
+        return mYValues[getSlot(index)];
+    }
+
+    @Override
+    public void copyX(int fromIndex, int toIndex, @NonNull float[] dst, int offset) {
+        checkCopyRange(mEntryCount, fromIndex, toIndex, dst, offset, 1);
+        copySlots(mXValues, fromIndex, toIndex, dst, offset);
+    }
+
+    @Override
+    public void copyY(int fromIndex, int toIndex, @NonNull float[] dst, int offset) {
+        checkCopyRange(mEntryCount, fromIndex, toIndex, dst, offset, 1);
+        copySlots(mYValues, fromIndex, toIndex, dst, offset);
+    }
+
+    @Override
+    public void copyXY(int fromIndex, int toIndex, @NonNull float[] dst, int offset) {
+        checkCopyRange(mEntryCount, fromIndex, toIndex, dst, offset, 2);
+
+        final float[] xValues = mXValues;
+        final float[] yValues = mYValues;
+        int slot = getSlot(fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            dst[offset++] = xValues[slot];
+            dst[offset++] = yValues[slot];
+
+            if (++slot == xValues.length) {
+                slot = 0;
+            }
+        }
+    }
+
+    /**
+     * Copies the values of the given array for the indices in [fromIndex, toIndex) into dst, with
+     * at most two System.arraycopy() calls.
+     *
+     * @param values
+     * @param fromIndex
+     * @param toIndex
+     * @param dst
+     * @param offset
+     */
+    private void copySlots(@NonNull float[] values, int fromIndex, int toIndex, @NonNull float[] dst, int offset) {
+        final int length = toIndex - fromIndex;
+        if (length == 0) {
+            return;
+        }
+
+        final int slot = getSlot(fromIndex);
+        final int firstLength = Math.min(length, values.length - slot);
+        System.arraycopy(values, slot, dst, offset, firstLength);
+        System.arraycopy(values, 0, dst, offset + firstLength, length - firstLength);
+    }
+
+    /**
+     * Returns a shared Entry holding the values at the given index. The returned Entry is updated
+     * by the next call to any method of this DataSet returning an Entry.
+     *
+     * @param index
+     */
+    @Nullable
+    @Override
+    public Entry getEntryForIndex(int index) {
+        if (index < 0 || index >= mEntryCount) {
+            return null;
+        }
+
+        int slot = getSlot(index);
+        mEntryBuffer.setX(mXValues[slot]);
+        mEntryBuffer.setY(mYValues[slot]);
+        mEntryBufferIndex = index;
+
+        return mEntryBuffer;
+    }
+
+    @Override
+    public int getEntryIndex(@Nullable Entry entry) {
+        if (entry == null || mEntryCount == 0) {
+            return -1;
+        }
+
+        float x = entry.getX();
+        float y = entry.getY();
+
+        // Fast path for the Entry returned by this DataSet
+        if (entry == mEntryBuffer && mEntryBufferIndex >= 0 && mEntryBufferIndex < mEntryCount
+                && getXForIndex(mEntryBufferIndex) == x && getYForIndex(mEntryBufferIndex) == y) {
+            return mEntryBufferIndex;
+        }
+
+        for (int i = getFirstIndexOf(x); i < mEntryCount && getXForIndex(i) == x; i++) {
+            if (getYForIndex(i) == y) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @Override
+    public boolean contains(@Nullable Entry entry) {
+        return getEntryIndex(entry) >= 0;
+    }
+
+    /**
+     * Returns newly created Entry objects for all the values found at the given x-value.
+     *
+     * @param xValue
+     */
+    @NonNull
+    @Override
+    public List<Entry> getEntriesForXValue(float xValue) {
+        List<Entry> entries = new ArrayList<>();
+
+        for (int i = getFirstIndexOf(xValue); i < mEntryCount && getXForIndex(i) == xValue; i++) {
+            entries.add(new Entry(xValue, getYForIndex(i)));
+        }
+
+        return entries;
+    }
+
+    /**
+     * Returns newly created Entry objects for all the values of this DataSet, from the oldest to
+     * the newest. Changes to the returned list are not reflected in this DataSet.
+     */
+    @NonNull
+    @Override
+    public List<Entry> getValues() {
+        List<Entry> values = new ArrayList<>(mEntryCount);
+        for (int i = 0; i < mEntryCount; i++) {
+            values.add(new Entry(getXForIndex(i), getYForIndex(i)));
+        }
+
+        return values;
+    }
+
+    /**
+     * Replaces the values of this DataSet with the values of the given entries, and calls
+     * notifyDataSetChanged(). If there are more entries than the capacity, only the last ones are
+     * kept. The entries must be sorted by x-value and are not kept themselves.
+     *
+     * @param values
+     */
+    @Override
+    public void setValues(@NonNull List<Entry> values) {
+        int count = Math.min(values.size(), mXValues.length);
+        int offset = values.size() - count;
+
+        for (int i = 0; i < count; i++) {
+            Entry entry = values.get(offset + i);
+            mXValues[i] = entry.getX();
+            mYValues[i] = entry.getY();
+        }
+
+        resetValues(count);
+    }
+
+    /**
+     * As the DataSet does not know how many values were evicted, the extension is not detected and
+     * the values are always replaced.
+     *
+     * @param values
+     * @param isExtension
+     */
+    @Override
+    public void setValues(@NonNull List<Entry> values, boolean isExtension) {
+        setValues(values);
+    }
+
+    /**
+     * Replaces the values of this DataSet with the last ones of the given arrays, and calls
+     * notifyDataSetChanged().
+     *
+     * @param xValues
+     * @param yValues
+     * @param count
+     */
+    private void replaceValues(@NonNull float[] xValues, @NonNull float[] yValues, int count) {
+        int kept = Math.min(count, mXValues.length);
+
+        System.arraycopy(xValues, count - kept, mXValues, 0, kept);
+        System.arraycopy(yValues, count - kept, mYValues, 0, kept);
+
+        resetValues(kept);
+    }
+
+    /**
+     * Makes the first count slots the values of this DataSet, and calls notifyDataSetChanged().
+     *
+     * @param count
+     */
+    private void resetValues(int count) {
+        mHead = 0;
+        mEntryCount = count;
+        mEntryBufferIndex = -1;
+        mMinSlots.clear();
+        mMaxSlots.clear();
+
+        notifyDataSetChanged();
+    }
+
+    @NonNull
+    @Override
+    public DataSet<Entry> copy() {
+        RingBufferLineDataSet copied = new RingBufferLineDataSet(mXValues.length, getLabel());
+        for (int i = 0; i < mEntryCount; i++) {
+            int slot = getSlot(i);
+            copied.mXValues[i] = mXValues[slot];
+            copied.mYValues[i] = mYValues[slot];
+        }
+
+        copied.mEntryCount = mEntryCount;
+        copied.calcMinMax();
+        copy(copied);
+        return copied;
+    }
+
+    /**
+     * Returns the slot in the arrays of the value at the given index.
+     *
+     * @param index
+     */
+    private int getSlot(int index) {
+        int slot = mHead + index;
+        return slot >= mXValues.length ? slot - mXValues.length : slot;
+    }
+
+    /**
+     * Returns the index of the first value with an x-value greater or equal to the given one.
+     *
+     * @param xValue
+     */
+    private int getFirstIndexOf(float xValue) {
+        int low = 0;
+        int high = mEntryCount;
+
+        while (low < high) {
+            int m = (low + high) >>> 1;
+            if (getXForIndex(m) < xValue) {
+                low = m + 1;
+            } else {
+                high = m;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Drops the oldest value, without updating mYMin/mYMax.
+     */
+    private void evictFirst() {
+        if (!mMinSlots.isEmpty() && mMinSlots.peekFirst() == mHead) {
+            mMinSlots.pollFirst();
+        }
+
+        if (!mMaxSlots.isEmpty() && mMaxSlots.peekFirst() == mHead) {
+            mMaxSlots.pollFirst();
+        }
+
+        mHead = getSlot(1);
+        mEntryCount--;
+        mEntryBufferIndex = -1;
+
+        if (mEntryCount == 0) {
+            mHead = 0;
+        }
+
+        // Every remaining value moved to the previous index
+        removeFirstFromIndices(1);
+    }
+
+    /**
+     * Registers the newest value (stored at the given slot) in the min/max tracking.
+     *
+     * @param slot
+     */
+    private void pushSlot(int slot) {
+        float y = mYValues[slot];
+
+        while (!mMinSlots.isEmpty() && mYValues[mMinSlots.peekLast()] >= y) {
+            mMinSlots.pollLast();
+        }
+
+        mMinSlots.addLast(slot);
+
+        while (!mMaxSlots.isEmpty() && mYValues[mMaxSlots.peekLast()] <= y) {
+            mMaxSlots.pollLast();
+        }
+
+        mMaxSlots.addLast(slot);
+    }
+
+    /**
+     * Updates the min and max values from the min/max tracking. The values are kept if the
+     * DataSet is empty.
+     */
+    private void updateMinMax() {
+        if (mEntryCount == 0) {
+            return;
+        }
+
+        mXMin = mXValues[mHead];
+        mXMax = mXValues[getSlot(mEntryCount - 1)];
+        mYMin = mYValues[mMinSlots.peekFirst()];
+        mYMax = mYValues[mMaxSlots.peekFirst()];
+    }
+
+    /**
+     * Fixed-capacity double-ended queue of slots.
+     */
+    private static final class SlotDeque {
+        @NonNull
+        private final int[] mSlots;
+
+        private int mFirst = 0;
+
+        private int mSize = 0;
+
+        SlotDeque(int capacity) {
+            mSlots = new int[capacity];
+        }
+
+        boolean isEmpty() {
+            return mSize == 0;
+        }
+
+        void clear() {
+            mFirst = 0;
+            mSize = 0;
+        }
+
+        void addLast(int slot) {
+            mSlots[(mFirst + mSize) % mSlots.length] = slot;
+            mSize++;
+        }
+
+        int peekFirst() {
+            return mSlots[mFirst];
+        }
+
+        int peekLast() {
+            return mSlots[(mFirst + mSize - 1) % mSlots.length];
+        }
+
+        void pollFirst() {
+            mFirst = (mFirst + 1) % mSlots.length;
+            mSize--;
+        }
+
+        void pollLast() {
+            mSize--;
+        }
+    }
+}
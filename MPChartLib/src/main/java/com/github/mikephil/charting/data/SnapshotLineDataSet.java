@@ -0,0 +1,320 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.interfaces.datasets.ISnapshotDataSet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Columnar LineDataSet that can be filled from any thread. Adding or clearing values only writes
+ * to a back buffer guarded by a lock, and the values seen by the chart (the front buffer) only
+ * change when {@link #swapSnapshot()} is called on the thread drawing the chart, which the charts
+ * do at the beginning of every frame. ChartData, the XBounds and the renderers therefore always
+ * read a consistent set of values without any locking.
+ * <p>
+ * Producers should call addEntry(), addEntries() or clear() on this DataSet directly (not through
+ * ChartData), then postInvalidate() on the chart. Values are published in x-order, whatever the
+ * order they were added in. All other methods, including setValues() and removeEntry(), act on
+ * the front buffer and must only be called from the thread drawing the chart.
+ */
+public class SnapshotLineDataSet extends ColumnarLineDataSet implements ISnapshotDataSet {
+    /**
+     * Default capacity of the back buffer.
+     */
+    private static final int DEFAULT_PENDING_CAPACITY = 64;
+
+    /**
+     * Guards the back buffer.
+     */
+    @NonNull
+    private final Object mLock = new Object();
+
+    /**
+     * The x-values added by producers since the last swap.
+     */
+    @NonNull
+    private float[] mPendingXValues = new float[DEFAULT_PENDING_CAPACITY];
+
+    /**
+     * The y-values added by producers since the last swap.
+     */
+    @NonNull
+    private float[] mPendingYValues = new float[DEFAULT_PENDING_CAPACITY];
+
+    /**
+     * The number of values in the back buffer.
+     */
+    private int mPendingCount = 0;
+
+    /**
+     * True if the values of the back buffer are sorted by x-value.
+     */
+    private boolean mPendingSorted = true;
+
+    /**
+     * True if the front buffer must be cleared at the next swap.
+     */
+    private boolean mPendingClear = false;
+
+    /**
+     * Spare back buffer, swapped with the current one so producers can keep adding values while
+     * the previous ones are being published.
+     */
+    @NonNull
+    private float[] mSpareXValues = new float[DEFAULT_PENDING_CAPACITY];
+
+    @NonNull
+    private float[] mSpareYValues = new float[DEFAULT_PENDING_CAPACITY];
+
+    public SnapshotLineDataSet(@NonNull String label) {
+        super(label);
+    }
+
+    /**
+     * Creates an empty DataSet able to hold the given number of published values before having to
+     * grow.
+     *
+     * @param initialCapacity
+     * @param label
+     */
+    public SnapshotLineDataSet(int initialCapacity, @NonNull String label) {
+        super(initialCapacity, label);
+    }
+
+    /**
+     * Adds a value to the back buffer. Can be called from any thread.
+     *
+     * @param x
+     * @param y
+     */
+    @Override
+    public void addEntry(float x, float y) {
+        synchronized (mLock) {
+            ensurePendingCapacity(mPendingCount + 1);
+            addPending(x, y);
+        }
+    }
+
+    /**
+     * Adds the values of the given Entry to the back buffer. Can be called from any thread.
+     *
+     * @param entry
+     */
+    @Override
+    public boolean addEntry(@NonNull Entry entry) {
+        addEntry(entry.getX(), entry.getY());
+
+        return true;
+    }
+
+    /**
+     * Adds the values of the given entries to the back buffer, atomically. Can be called from any
+     * thread.
+     *
+     * @param entries
+     */
+    @Override
+    public boolean addEntries(@NonNull List<Entry> entries) {
+        final int count = entries.size();
+        if (count == 0) {
+            return false;
+        }
+
+        synchronized (mLock) {
+            ensurePendingCapacity(mPendingCount + count);
+
+            for (int i = 0; i < count; i++) {
+                Entry entry = entries.get(i);
+                addPending(entry.getX(), entry.getY());
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Adds length values, read from the given arrays starting at offset, to the back buffer,
+     * atomically. Can be called from any thread.
+     *
+     * @param xValues
+     * @param yValues
+     * @param offset
+     * @param length
+     */
+    @Override
+    public boolean addEntries(@NonNull float[] xValues, @NonNull float[] yValues, int offset, int length) {
+        checkBounds(xValues, yValues, offset, length);
+
+        if (length == 0) {
+            return false;
+        }
+
+        synchronized (mLock) {
+            ensurePendingCapacity(mPendingCount + length);
+
+            for (int i = offset; i < offset + length; i++) {
+                addPending(xValues[i], yValues[i]);
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Same as addEntry(Entry), values are always published in x-order.
+     *
+     * @param entry
+     */
+    @Override
+    public void addEntryOrdered(@NonNull Entry entry) {
+        addEntry(entry);
+    }
+
+    /**
+     * Same as addEntries(List), values are always published in x-order.
+     *
+     * @param entries
+     */
+    @Override
+    public void addEntriesOrdered(@NonNull List<Entry> entries) {
+        addEntries(entries);
+    }
+
+    /**
+     * Drops the values of the back buffer, and clears the published values at the next swap. Can
+     * be called from any thread.
+     */
+    @Override
+    public void clear() {
+        synchronized (mLock) {
+            mPendingCount = 0;
+            mPendingSorted = true;
+            mPendingClear = true;
+        }
+    }
+
+    @Override
+    public int getPendingEntryCount() {
+        synchronized (mLock) {
+            return mPendingCount;
+        }
+    }
+
+    @Override
+    public boolean swapSnapshot() {
+        final float[] xValues;
+        final float[] yValues;
+        final int count;
+        final boolean sorted;
+        final boolean clear;
+
+        synchronized (mLock) {
+            if (mPendingCount == 0 && !mPendingClear) {
+                return false;
+            }
+
+            xValues = mPendingXValues;
+            yValues = mPendingYValues;
+            count = mPendingCount;
+            sorted = mPendingSorted;
+            clear = mPendingClear;
+
+            mPendingXValues = mSpareXValues;
+            mPendingYValues = mSpareYValues;
+            mPendingCount = 0;
+            mPendingSorted = true;
+            mPendingClear = false;
+        }
+
+        if (clear) {
+            super.clear();
+
+            // Do not extend the min and max values of the cleared values
+            mYMax = -Float.MAX_VALUE;
+            mYMin = Float.MAX_VALUE;
+            mXMax = -Float.MAX_VALUE;
+            mXMin = Float.MAX_VALUE;
+        }
+
+        if (count > 0) {
+            if (sorted && (mEntryCount == 0 || xValues[0] >= mXValues[mEntryCount - 1])) {
+                super.addEntries(xValues, yValues, 0, count);
+            } else {
+                List<Entry> entries = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    entries.add(new Entry(xValues[i], yValues[i]));
+                }
+
+                super.addEntriesOrdered(entries);
+            }
+        }
+
+        // The published arrays become the spare back buffer
+        synchronized (mLock) {
+            mSpareXValues = xValues;
+            mSpareYValues = yValues;
+        }
+
+        return true;
+    }
+
+    /**
+     * Replaces the published values, the back buffer is left untouched. Must only be called from
+     * the thread drawing the chart.
+     *
+     * @param values
+     * @param isExtension ignored, the values are always replaced
+     */
+    @Override
+    public void setValues(@NonNull List<Entry> values, boolean isExtension) {
+        setValues(values);
+    }
+
+    /**
+     * Appends a value to the back buffer, mLock must be held.
+     *
+     * @param x
+     * @param y
+     */
+    private void addPending(float x, float y) {
+        if (mPendingCount > 0 && x < mPendingXValues[mPendingCount - 1]) {
+            mPendingSorted = false;
+        }
+
+        mPendingXValues[mPendingCount] = x;
+        mPendingYValues[mPendingCount] = y;
+        mPendingCount++;
+    }
+
+    /**
+     * Makes sure the back buffer can hold the given number of values, mLock must be held.
+     *
+     * @param minCapacity
+     */
+    private void ensurePendingCapacity(int minCapacity) {
+        int capacity = mPendingXValues.length;
+        if (minCapacity <= capacity) {
+            return;
+        }
+
+        int newCapacity = Math.max(capacity + (capacity >> 1), minCapacity);
+        mPendingXValues = Arrays.copyOf(mPendingXValues, newCapacity);
+        mPendingYValues = Arrays.copyOf(mPendingYValues, newCapacity);
+    }
+
+    /**
+     * Copies the published values, the back buffer is not copied.
+     */
+    @NonNull
+    @Override
+    public DataSet<Entry> copy() {
+        int capacity = Math.max(mEntryCount, 1);
+        SnapshotLineDataSet copied = new SnapshotLineDataSet(getLabel());
+        copied.setValues(Arrays.copyOf(mXValues, capacity), Arrays.copyOf(mYValues, capacity), mEntryCount);
+        copy(copied);
+        return copied;
+    }
+}
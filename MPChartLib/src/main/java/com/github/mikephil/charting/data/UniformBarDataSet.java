@@ -0,0 +1,336 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.interfaces.datasets.IUniformDataSet;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * BarDataSet of values sampled at a fixed rate: the BarEntry at index i has the x-value
+ * x0 + i * deltaX. Only the y-values are stored, in a primitive array, and x-values are resolved to
+ * indices in constant time instead of with a binary search. Values can only be appended at the
+ * next x-value, and only the first and last values can be removed.
+ * <p>
+ * Stacked entries are not supported, and the entries cannot be moved by
+ * {@link BarData#groupBars(float, float, float)}. Like {@link ColumnarLineDataSet}, BarEntry
+ * objects are only created on demand, and methods returning a single BarEntry return a shared
+ * instance that is updated on every call.
+ */
+public class UniformBarDataSet extends BarDataSet implements IUniformDataSet {
+    @NonNull
+    private UniformValues mUniformValues;
+
+    /**
+     * Reusable BarEntry returned to callers that need a BarEntry object.
+     */
+    @NonNull
+    private final BarEntry mEntryBuffer = new BarEntry(0f, 0f);
+
+    /**
+     * Creates an empty DataSet.
+     *
+     * @param x0     x-value of the first BarEntry
+     * @param deltaX distance between the x-values of two consecutive entries, must be positive
+     * @param label
+     */
+    public UniformBarDataSet(float x0, float deltaX, @NonNull String label) {
+        this(new float[UniformValues.DEFAULT_CAPACITY], 0, x0, deltaX, label);
+    }
+
+    /**
+     * Creates a DataSet using the provided array as storage for the y-values. The array is NOT
+     * copied, only its first count values are used.
+     *
+     * @param yValues
+     * @param count
+     * @param x0      x-value of the first BarEntry
+     * @param deltaX  distance between the x-values of two consecutive entries, must be positive
+     * @param label
+     */
+    public UniformBarDataSet(@NonNull float[] yValues, int count, float x0, float deltaX, @NonNull String label) {
+        this(new UniformValues(x0, deltaX, yValues, count), label);
+    }
+
+    private UniformBarDataSet(@NonNull UniformValues values, @NonNull String label) {
+        super(new ArrayList<BarEntry>(0), label);
+
+        mUniformValues = values;
+        calcMinMax();
+    }
+
+    @Override
+    public float getX0() {
+        return mUniformValues.mX0;
+    }
+
+    @Override
+    public float getDeltaX() {
+        return mUniformValues.mDeltaX;
+    }
+
+    /**
+     * Appends a value at the next x-value.
+     *
+     * @param yValue
+     */
+    public void addEntry(float yValue) {
+        mUniformValues.add(this, mUniformValues.getX(mUniformValues.mCount), yValue);
+    }
+
+    /**
+     * Appends the given BarEntry, whose x-value must be the next one. If the DataSet is empty, the
+     * x-value of the BarEntry becomes x0.
+     *
+     * @param entry
+     * @throws IllegalArgumentException if the entry is stacked
+     */
+    @Override
+    public boolean addEntry(@NonNull BarEntry entry) {
+        checkNotStacked(entry);
+        mUniformValues.add(this, entry.getX(), entry.getY());
+
+        return true;
+    }
+
+    /**
+     * Appends the given entries, whose x-values must follow the current ones.
+     *
+     * @param entries
+     * @throws IllegalArgumentException if an entry is stacked, before any is added
+     */
+    @Override
+    public boolean addEntries(@NonNull List<BarEntry> entries) {
+        for (int i = 0, count = entries.size(); i < count; i++) {
+            checkNotStacked(entries.get(i));
+        }
+
+        return mUniformValues.addAll(this, entries);
+    }
+
+    private static void checkNotStacked(@NonNull BarEntry entry) {
+        if (entry.isStacked()) {
+            throw new IllegalArgumentException("Stacked entries are not supported");
+        }
+    }
+
+    /**
+     * Appends length y-values read from the given array starting at offset, at the next x-values.
+     *
+     * @param yValues
+     * @param offset
+     * @param length
+     */
+    public void addEntries(@NonNull float[] yValues, int offset, int length) {
+        mUniformValues.addAll(this, yValues, offset, length);
+    }
+
+    /**
+     * Same as addEntry(), only appending is supported.
+     *
+     * @param entry
+     */
+    @Override
+    public void addEntryOrdered(@NonNull BarEntry entry) {
+        addEntry(entry);
+    }
+
+    /**
+     * Same as addEntries() once sorted, only appending is supported.
+     *
+     * @param entries
+     */
+    @Override
+    public void addEntriesOrdered(@NonNull List<BarEntry> entries) {
+        addEntries(UniformValues.sort(entries));
+    }
+
+    @Override
+    public boolean removeEntry(@Nullable BarEntry entry) {
+        return removeEntry(getEntryIndex(entry));
+    }
+
+    /**
+     * Removes the value at the given index, which must be the first or the last one. Returns false
+     * for any other index.
+     *
+     * @param index
+     */
+    @Override
+    public boolean removeEntry(int index) {
+        return mUniformValues.remove(this, index);
+    }
+
+    @Override
+    public boolean removeFirst() {
+        return removeEntry(0);
+    }
+
+    @Override
+    public boolean removeLast() {
+        return removeEntry(mUniformValues.mCount - 1);
+    }
+
+    @Override
+    public void clear() {
+        mUniformValues.mCount = 0;
+
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public void calcMinMax() {
+        invalidateIndices();
+
+        if (mUniformValues == null) {
+            // Called by the super constructor
+            return;
+        }
+
+        mUniformValues.calcMinMax(this);
+    }
+
+    @Override
+    public void calcMinMaxY(float fromX, float toX) {
+        if (isRangeIndexEnabled() && mUniformValues.mCount > 0) {
+            super.calcMinMaxY(fromX, toX);
+            return;
+        }
+
+        mUniformValues.calcMinMaxY(this, fromX, toX);
+    }
+
+    @Override
+    public int getEntryCountStacks() {
+        return mUniformValues.mCount;
+    }
+
+    @Override
+    public int getEntryCount() {
+        return mUniformValues.mCount;
+    }
+
+    @Override
+    public float getXForIndex(int index) {
+        return mUniformValues.getX(index);
+    }
+
+    @Override
+    public float getYForIndex(int index) {
+        return mUniformValues.mYValues[index];
+    }
+
+    @Override
+    public void copyX(int fromIndex, int toIndex, @NonNull float[] dst, int offset) {
+        mUniformValues.copyX(fromIndex, toIndex, dst, offset);
+    }
+
+    @Override
+    public void copyY(int fromIndex, int toIndex, @NonNull float[] dst, int offset) {
+        mUniformValues.copyY(fromIndex, toIndex, dst, offset);
+    }
+
+    @Override
+    public void copyXY(int fromIndex, int toIndex, @NonNull float[] dst, int offset) {
+        mUniformValues.copyXY(fromIndex, toIndex, dst, offset);
+    }
+
+    /**
+     * Returns a shared BarEntry holding the values at the given index. The returned BarEntry is updated
+     * by the next call to any method of this DataSet returning a BarEntry.
+     *
+     * @param index
+     */
+    @Nullable
+    @Override
+    public BarEntry getEntryForIndex(int index) {
+        return mUniformValues.get(mEntryBuffer, index);
+    }
+
+    /**
+     * Resolves the x-value in constant time. As every x-value is unique, closestToY is ignored.
+     */
+    @Override
+    public int getEntryIndex(float xValue, float closestToY, @NonNull Rounding rounding) {
+        return mUniformValues.getEntryIndex(xValue, rounding);
+    }
+
+    @Override
+    public int getEntryIndex(@Nullable BarEntry entry) {
+        return mUniformValues.indexOf(entry);
+    }
+
+    @Override
+    public boolean contains(@Nullable BarEntry entry) {
+        return getEntryIndex(entry) >= 0;
+    }
+
+    /**
+     * Returns a newly created BarEntry for the value found at the given x-value, if any.
+     *
+     * @param xValue
+     */
+    @NonNull
+    @Override
+    public List<BarEntry> getEntriesForXValue(float xValue) {
+        List<BarEntry> entries = new ArrayList<>(1);
+
+        int index = mUniformValues.getIndexOfX(xValue);
+        if (index >= 0) {
+            entries.add(new BarEntry(getXForIndex(index), getYForIndex(index)));
+        }
+
+        return entries;
+    }
+
+    /**
+     * Returns newly created BarEntry objects for all the values of this DataSet. Changes to the
+     * returned list are not reflected in this DataSet.
+     */
+    @NonNull
+    @Override
+    public List<BarEntry> getValues() {
+        final int count = mUniformValues.mCount;
+        List<BarEntry> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(new BarEntry(getXForIndex(i), getYForIndex(i)));
+        }
+
+        return values;
+    }
+
+    /**
+     * Replaces the values of this DataSet with the values of the given entries, which must be
+     * spaced by deltaX, and calls notifyDataSetChanged(). x0 becomes the x-value of the first
+     * BarEntry.
+     *
+     * @param values
+     */
+    @Override
+    public void setValues(@NonNull List<BarEntry> values) {
+        mUniformValues.setValues(values);
+
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public void setValues(@NonNull List<BarEntry> values, boolean isExtension) {
+        if (!isExtension || !mUniformValues.isExtendedBy(values)) {
+            setValues(values);
+            return;
+        }
+
+        addEntries(values.subList(mUniformValues.mCount, values.size()));
+        notifyEntriesAppended();
+    }
+
+    @NonNull
+    @Override
+    public DataSet<BarEntry> copy() {
+        UniformBarDataSet copied = new UniformBarDataSet(mUniformValues.copy(), getLabel());
+        copy(copied);
+        return copied;
+    }
+}
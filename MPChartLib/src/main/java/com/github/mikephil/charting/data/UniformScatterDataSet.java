@@ -0,0 +1,311 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.interfaces.datasets.IUniformDataSet;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * ScatterDataSet of values sampled at a fixed rate: the Entry at index i has the x-value
+ * x0 + i * deltaX. Only the y-values are stored, in a primitive array, and x-values are resolved to
+ * indices in constant time instead of with a binary search. Values can only be appended at the
+ * next x-value, and only the first and last values can be removed.
+ * <p>
+ * Like {@link ColumnarLineDataSet}, Entry objects are only created on demand, and methods returning
+ * a single Entry return a shared instance that is updated on every call.
+ */
+public class UniformScatterDataSet extends ScatterDataSet implements IUniformDataSet {
+    @NonNull
+    private UniformValues mUniformValues;
+
+    /**
+     * Reusable Entry returned to callers that need an Entry object.
+     */
+    @NonNull
+    private final Entry mEntryBuffer = new Entry();
+
+    /**
+     * Creates an empty DataSet.
+     *
+     * @param x0     x-value of the first Entry
+     * @param deltaX distance between the x-values of two consecutive entries, must be positive
+     * @param label
+     */
+    public UniformScatterDataSet(float x0, float deltaX, @NonNull String label) {
+        this(new float[UniformValues.DEFAULT_CAPACITY], 0, x0, deltaX, label);
+    }
+
+    /**
+     * Creates a DataSet using the provided array as storage for the y-values. The array is NOT
+     * copied, only its first count values are used.
+     *
+     * @param yValues
+     * @param count
+     * @param x0      x-value of the first Entry
+     * @param deltaX  distance between the x-values of two consecutive entries, must be positive
+     * @param label
+     */
+    public UniformScatterDataSet(@NonNull float[] yValues, int count, float x0, float deltaX, @NonNull String label) {
+        this(new UniformValues(x0, deltaX, yValues, count), label);
+    }
+
+    private UniformScatterDataSet(@NonNull UniformValues values, @NonNull String label) {
+        super(new ArrayList<Entry>(0), label);
+
+        mUniformValues = values;
+        calcMinMax();
+    }
+
+    @Override
+    public float getX0() {
+        return mUniformValues.mX0;
+    }
+
+    @Override
+    public float getDeltaX() {
+        return mUniformValues.mDeltaX;
+    }
+
+    /**
+     * Appends a value at the next x-value.
+     *
+     * @param yValue
+     */
+    public void addEntry(float yValue) {
+        mUniformValues.add(this, mUniformValues.getX(mUniformValues.mCount), yValue);
+    }
+
+    /**
+     * Appends the given Entry, whose x-value must be the next one. If the DataSet is empty, the
+     * x-value of the Entry becomes x0.
+     *
+     * @param entry
+     */
+    @Override
+    public boolean addEntry(@NonNull Entry entry) {
+        mUniformValues.add(this, entry.getX(), entry.getY());
+
+        return true;
+    }
+
+    @Override
+    public boolean addEntries(@NonNull List<Entry> entries) {
+        return mUniformValues.addAll(this, entries);
+    }
+
+    /**
+     * Appends length y-values read from the given array starting at offset, at the next x-values.
+     *
+     * @param yValues
+     * @param offset
+     * @param length
+     */
+    public void addEntries(@NonNull float[] yValues, int offset, int length) {
+        mUniformValues.addAll(this, yValues, offset, length);
+    }
+
+    /**
+     * Same as addEntry(), only appending is supported.
+     *
+     * @param entry
+     */
+    @Override
+    public void addEntryOrdered(@NonNull Entry entry) {
+        addEntry(entry);
+    }
+
+    /**
+     * Same as addEntries() once sorted, only appending is supported.
+     *
+     * @param entries
+     */
+    @Override
+    public void addEntriesOrdered(@NonNull List<Entry> entries) {
+        addEntries(UniformValues.sort(entries));
+    }
+
+    @Override
+    public boolean removeEntry(@Nullable Entry entry) {
+        return removeEntry(getEntryIndex(entry));
+    }
+
+    /**
+     * Removes the value at the given index, which must be the first or the last one. Returns false
+     * for any other index.
+     *
+     * @param index
+     */
+    @Override
+    public boolean removeEntry(int index) {
+        return mUniformValues.remove(this, index);
+    }
+
+    @Override
+    public boolean removeFirst() {
+        return removeEntry(0);
+    }
+
+    @Override
+    public boolean removeLast() {
+        return removeEntry(mUniformValues.mCount - 1);
+    }
+
+    @Override
+    public void clear() {
+        mUniformValues.mCount = 0;
+
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public void calcMinMax() {
+        invalidateIndices();
+
+        if (mUniformValues == null) {
+            // Called by the super constructor
+            return;
+        }
+
+        mUniformValues.calcMinMax(this);
+    }
+
+    @Override
+    public void calcMinMaxY(float fromX, float toX) {
+        if (isRangeIndexEnabled() && mUniformValues.mCount > 0) {
+            super.calcMinMaxY(fromX, toX);
+            return;
+        }
+
+        mUniformValues.calcMinMaxY(this, fromX, toX);
+    }
+
+    @Override
+    public int getEntryCount() {
+        return mUniformValues.mCount;
+    }
+
+    @Override
+    public float getXForIndex(int index) {
+        return mUniformValues.getX(index);
+    }
+
+    @Override
+    public float getYForIndex(int index) {
+        return mUniformValues.mYValues[index];
+    }
+
+    @Override
+    public void copyX(int fromIndex, int toIndex, @NonNull float[] dst, int offset) {
+        mUniformValues.copyX(fromIndex, toIndex, dst, offset);
+    }
+
+    @Override
+    public void copyY(int fromIndex, int toIndex, @NonNull float[] dst, int offset) {
+        mUniformValues.copyY(fromIndex, toIndex, dst, offset);
+    }
+
+    @Override
+    public void copyXY(int fromIndex, int toIndex, @NonNull float[] dst, int offset) {
+        mUniformValues.copyXY(fromIndex, toIndex, dst, offset);
+    }
+
+    /**
+     * Returns a shared Entry holding the values at the given index. The returned Entry is updated
+     * by the next call to any method of this DataSet returning an Entry.
+     *
+     * @param index
+     */
+    @Nullable
+    @Override
+    public Entry getEntryForIndex(int index) {
+        return mUniformValues.get(mEntryBuffer, index);
+    }
+
+    /**
+     * Resolves the x-value in constant time. As every x-value is unique, closestToY is ignored.
+     */
+    @Override
+    public int getEntryIndex(float xValue, float closestToY, @NonNull Rounding rounding) {
+        return mUniformValues.getEntryIndex(xValue, rounding);
+    }
+
+    @Override
+    public int getEntryIndex(@Nullable Entry entry) {
+        return mUniformValues.indexOf(entry);
+    }
+
+    @Override
+    public boolean contains(@Nullable Entry entry) {
+        return getEntryIndex(entry) >= 0;
+    }
+
+    /**
+     * Returns a newly created Entry for the value found at the given x-value, if any.
+     *
+     * @param xValue
+     */
+    @NonNull
+    @Override
+    public List<Entry> getEntriesForXValue(float xValue) {
+        List<Entry> entries = new ArrayList<>(1);
+
+        int index = mUniformValues.getIndexOfX(xValue);
+        if (index >= 0) {
+            entries.add(new Entry(getXForIndex(index), getYForIndex(index)));
+        }
+
+        return entries;
+    }
+
+    /**
+     * Returns newly created Entry objects for all the values of this DataSet. Changes to the
+     * returned list are not reflected in this DataSet.
+     */
+    @NonNull
+    @Override
+    public List<Entry> getValues() {
+        final int count = mUniformValues.mCount;
+        List<Entry> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(new Entry(getXForIndex(i), getYForIndex(i)));
+        }
+
+        return values;
+    }
+
+    /**
+     * Replaces the values of this DataSet with the values of the given entries, which must be
+     * spaced by deltaX, and calls notifyDataSetChanged(). x0 becomes the x-value of the first
+     * Entry.
+     *
+     * @param values
+     */
+    @Override
+    public void setValues(@NonNull List<Entry> values) {
+        mUniformValues.setValues(values);
+
+        notifyDataSetChanged();
+    }
+
+    @Override
+    public void setValues(@NonNull List<Entry> values, boolean isExtension) {
+        if (!isExtension || !mUniformValues.isExtendedBy(values)) {
+            setValues(values);
+            return;
+        }
+
+        addEntries(values.subList(mUniformValues.mCount, values.size()));
+        notifyEntriesAppended();
+    }
+
+    @NonNull
+    @Override
+    public DataSet<Entry> copy() {
+        UniformScatterDataSet copied = new UniformScatterDataSet(mUniformValues.copy(), getLabel());
+        copy(copied);
+        return copied;
+    }
+}
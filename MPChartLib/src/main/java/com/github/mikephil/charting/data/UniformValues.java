@@ -0,0 +1,548 @@
+package com.github.mikephil.charting.data;
+
+import com.github.mikephil.charting.utils.EntryXComparator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Storage and operations shared by the uniformly spaced DataSets: the y-values are kept in a
+ * primitive array, and the x-value of the value at index i is x0 + i * deltaX. Resolving an x-value
+ * to an index is a single division instead of a binary search. The DataSets only add their
+ * type-specific checks and Entry types, and delegate to the methods taking the DataSet whose min
+ * and max values are updated.
+ */
+final class UniformValues {
+    /**
+     * Default capacity of the value array.
+     */
+    static final int DEFAULT_CAPACITY = 16;
+
+    /**
+     * Relative tolerance, in fractions of deltaX, when matching an x-value to an index.
+     */
+    private static final double TOLERANCE = 1e-4;
+
+    /**
+     * The x-value of the first value.
+     */
+    float mX0;
+
+    /**
+     * The distance between the x-values of two consecutive values.
+     */
+    final float mDeltaX;
+
+    /**
+     * The y-values, only the first mCount are used.
+     */
+    @NonNull
+    float[] mYValues;
+
+    /**
+     * The number of values.
+     */
+    int mCount;
+
+    /**
+     * @param x0
+     * @param deltaX  must be positive and finite
+     * @param yValues storage of the y-values, NOT copied
+     * @param count   number of values of yValues to use
+     */
+    UniformValues(float x0, float deltaX, @NonNull float[] yValues, int count) {
+        if (!(deltaX > 0f) || Float.isInfinite(deltaX)) {
+            throw new IllegalArgumentException("deltaX must be positive and finite");
+        }
+
+        if (count < 0 || count > yValues.length) {
+            throw new IllegalArgumentException("count must be in [0, " + yValues.length + "]");
+        }
+
+        mX0 = x0;
+        mDeltaX = deltaX;
+        mYValues = yValues;
+        mCount = count;
+    }
+
+    /**
+     * Returns the x-value at the given index.
+     *
+     * @param index
+     */
+    float getX(int index) {
+        return (float) (mX0 + (double) index * mDeltaX);
+    }
+
+    /**
+     * Returns the position of the given x-value in index units.
+     *
+     * @param xValue
+     */
+    private double getPosition(float xValue) {
+        return ((double) xValue - mX0) / mDeltaX;
+    }
+
+    /**
+     * Returns the position of the given x-value in index units, snapped to the closest index if it
+     * is within the tolerance.
+     *
+     * @param xValue
+     */
+    private double getSnappedPosition(float xValue) {
+        double position = getPosition(xValue);
+        double closest = Math.rint(position);
+
+        return Math.abs(position - closest) <= TOLERANCE ? closest : position;
+    }
+
+    /**
+     * Returns the index of the value at the given x-value, or of the closest one according to the
+     * rounding, in constant time. Returns -1 if there are no values.
+     *
+     * @param xValue
+     * @param rounding
+     */
+    int getEntryIndex(float xValue, @NonNull DataSet.Rounding rounding) {
+        if (mCount == 0) {
+            return -1;
+        }
+
+        double position = getPosition(xValue);
+
+        // x-values of the DataSet are rounded to floats, match them exactly like a binary search
+        double closest = Math.rint(position);
+        if (closest >= 0 && closest < mCount && getX((int) closest) == xValue) {
+            position = closest;
+        }
+
+        double index;
+        if (rounding == DataSet.Rounding.UP) {
+            index = Math.ceil(position);
+        } else if (rounding == DataSet.Rounding.DOWN) {
+            index = Math.floor(position);
+        } else {
+            index = Math.floor(position + 0.5);
+        }
+
+        return (int) Math.max(0, Math.min(index, mCount - 1));
+    }
+
+    /**
+     * Returns the index of the value at exactly the given x-value (within the tolerance), or -1.
+     *
+     * @param xValue
+     */
+    int getIndexOfX(float xValue) {
+        double position = getSnappedPosition(xValue);
+        if (position != Math.rint(position) || position < 0 || position >= mCount) {
+            return -1;
+        }
+
+        return (int) position;
+    }
+
+    /**
+     * Returns true if the given x-value is the one of the next appended value.
+     *
+     * @param xValue
+     */
+    boolean isNextX(float xValue) {
+        return mCount == 0 || getSnappedPosition(xValue) == mCount;
+    }
+
+    /**
+     * Makes sure the array can hold the given number of values, keeping the existing ones.
+     *
+     * @param minCapacity
+     */
+    void ensureCapacity(int minCapacity) {
+        int capacity = mYValues.length;
+        if (minCapacity > capacity) {
+            mYValues = Arrays.copyOf(mYValues, Math.max(capacity + (capacity >> 1), minCapacity));
+        }
+    }
+
+    /**
+     * Appends a value at the given x-value, which must be the next one. If there are no values,
+     * the x-value becomes the new x0.
+     *
+     * @param xValue
+     * @param yValue
+     */
+    void append(float xValue, float yValue) {
+        if (mCount == 0) {
+            mX0 = xValue;
+        } else if (!isNextX(xValue)) {
+            throw new IllegalArgumentException("Expected x-value " + getX(mCount) + ", got " + xValue);
+        }
+
+        ensureCapacity(mCount + 1);
+        mYValues[mCount++] = yValue;
+    }
+
+    /**
+     * Appends length y-values read from the given array starting at offset.
+     *
+     * @param yValues
+     * @param offset
+     * @param length
+     */
+    void append(@NonNull float[] yValues, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > yValues.length) {
+            throw new IllegalArgumentException("Range [" + offset + ", " + (offset + length) + ") out of bounds");
+        }
+
+        ensureCapacity(mCount + length);
+        System.arraycopy(yValues, offset, mYValues, mCount, length);
+        mCount += length;
+    }
+
+    /**
+     * Replaces the values with the ones of the given entries, which must be uniformly spaced by
+     * deltaX. x0 becomes the x-value of the first Entry.
+     *
+     * @param values
+     */
+    void setValues(@NonNull List<? extends Entry> values) {
+        final int count = values.size();
+        final float[] yValues = new float[Math.max(count, 1)];
+        final float x0 = count > 0 ? values.get(0).getX() : mX0;
+
+        for (int i = 0; i < count; i++) {
+            Entry entry = values.get(i);
+            double position = ((double) entry.getX() - x0) / mDeltaX;
+            if (Math.abs(position - i) > TOLERANCE) {
+                throw new IllegalArgumentException("The entries must be spaced by " + mDeltaX);
+            }
+
+            yValues[i] = entry.getY();
+        }
+
+        mX0 = x0;
+        mYValues = yValues;
+        mCount = count;
+    }
+
+    /**
+     * Removes the value at the given index. Only the first and last values can be removed without
+     * breaking the uniform spacing, returns false for any other index.
+     *
+     * @param index
+     */
+    boolean remove(int index) {
+        if (index < 0 || index >= mCount) {
+            return false;
+        }
+
+        if (index == 0) {
+            System.arraycopy(mYValues, 1, mYValues, 0, mCount - 1);
+            mX0 = getX(1);
+        } else if (index != mCount - 1) {
+            return false;
+        }
+
+        mCount--;
+
+        return true;
+    }
+
+    /**
+     * Appends a value at the given x-value, which must be the next one, and extends the min and
+     * max values of the given DataSet with it.
+     *
+     * @param dataSet
+     * @param xValue
+     * @param yValue
+     */
+    void add(@NonNull DataSet<?> dataSet, float xValue, float yValue) {
+        append(xValue, yValue);
+        calcMinMax(dataSet, xValue, yValue);
+    }
+
+    /**
+     * Appends the values of the given entries, whose x-values must follow the current ones, and
+     * extends the min and max values of the given DataSet with them.
+     *
+     * @param dataSet
+     * @param entries
+     */
+    boolean addAll(@NonNull DataSet<?> dataSet, @NonNull List<? extends Entry> entries) {
+        final int count = entries.size();
+        ensureCapacity(mCount + count);
+
+        for (int i = 0; i < count; i++) {
+            Entry entry = entries.get(i);
+            add(dataSet, entry.getX(), entry.getY());
+        }
+
+        return count > 0;
+    }
+
+    /**
+     * Appends length values read from the given arrays starting at offset, whose x-values must
+     * follow the current ones, and extends the min and max values of the given DataSet with them.
+     *
+     * @param dataSet
+     * @param xValues
+     * @param yValues
+     * @param offset
+     * @param length
+     */
+    boolean addAll(@NonNull DataSet<?> dataSet, @NonNull float[] xValues, @NonNull float[] yValues, int offset, int length) {
+        ensureCapacity(mCount + length);
+
+        for (int i = offset; i < offset + length; i++) {
+            if (mCount > 0 && !isNextX(xValues[i])) {
+                throw new IllegalArgumentException("The x-values must be spaced by " + mDeltaX);
+            }
+
+            add(dataSet, xValues[i], yValues[i]);
+        }
+
+        return length > 0;
+    }
+
+    /**
+     * Appends length y-values read from the given array starting at offset, at the next x-values,
+     * and extends the min and max values of the given DataSet with them.
+     *
+     * @param dataSet
+     * @param yValues
+     * @param offset
+     * @param length
+     */
+    void addAll(@NonNull DataSet<?> dataSet, @NonNull float[] yValues, int offset, int length) {
+        final int from = mCount;
+        append(yValues, offset, length);
+
+        if (length > 0) {
+            calcMinMax(dataSet, getX(from), yValues[offset]);
+            calcMinMax(dataSet, getX(from + length - 1), yValues[offset + length - 1]);
+            calcMinMaxY(dataSet, from, from + length - 1);
+        }
+    }
+
+    /**
+     * Returns a copy of the given entries sorted by x-value, for addEntriesOrdered().
+     *
+     * @param entries
+     */
+    @NonNull
+    static <T extends Entry> List<T> sort(@NonNull List<T> entries) {
+        List<T> sorted = new ArrayList<>(entries);
+        Collections.sort(sorted, new EntryXComparator());
+        return sorted;
+    }
+
+    /**
+     * Removes the value at the given index, which must be the first or the last one, and
+     * recalculates the min and max values of the given DataSet.
+     *
+     * @param dataSet
+     * @param index
+     */
+    boolean remove(@NonNull DataSet<?> dataSet, int index) {
+        if (!remove(index)) {
+            return false;
+        }
+
+        dataSet.calcMinMax();
+
+        return true;
+    }
+
+    /**
+     * Returns true if the given list can be an extension of these values for
+     * setValues(List, true): it holds at least as many entries, and there are values.
+     *
+     * @param values
+     */
+    boolean isExtendedBy(@NonNull List<? extends Entry> values) {
+        return mCount > 0 && values.size() >= mCount;
+    }
+
+    /**
+     * Returns the index of the value with the x- and y-values of the given Entry, or -1.
+     *
+     * @param entry
+     */
+    int indexOf(@Nullable Entry entry) {
+        if (entry == null) {
+            return -1;
+        }
+
+        int index = getIndexOfX(entry.getX());
+        if (index >= 0 && mYValues[index] == entry.getY()) {
+            return index;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Sets the x- and y-values of the given Entry to the ones at the given index, and returns it,
+     * or returns null if the index is out of range.
+     *
+     * @param entry
+     * @param index
+     */
+    @Nullable
+    <T extends Entry> T get(@NonNull T entry, int index) {
+        if (index < 0 || index >= mCount) {
+            return null;
+        }
+
+        entry.setX(getX(index));
+        entry.setY(mYValues[index]);
+
+        return entry;
+    }
+
+    /**
+     * Updates the min and max values of the given DataSet with all the values.
+     *
+     * @param dataSet
+     */
+    void calcMinMax(@NonNull DataSet<?> dataSet) {
+        if (mCount == 0) {
+            return;
+        }
+
+        dataSet.mXMin = mX0;
+        dataSet.mXMax = getX(mCount - 1);
+        dataSet.mYMin = Float.MAX_VALUE;
+        dataSet.mYMax = -Float.MAX_VALUE;
+
+        calcMinMaxY(dataSet, 0, mCount - 1);
+    }
+
+    /**
+     * Updates the min and max values of the given DataSet with the given value.
+     *
+     * @param dataSet
+     * @param xValue
+     * @param yValue
+     */
+    static void calcMinMax(@NonNull DataSet<?> dataSet, float xValue, float yValue) {
+        if (xValue < dataSet.mXMin) {
+            dataSet.mXMin = xValue;
+        }
+
+        if (xValue > dataSet.mXMax) {
+            dataSet.mXMax = xValue;
+        }
+
+        if (yValue < dataSet.mYMin) {
+            dataSet.mYMin = yValue;
+        }
+
+        if (yValue > dataSet.mYMax) {
+            dataSet.mYMax = yValue;
+        }
+    }
+
+    /**
+     * Sets the y min and max values of the given DataSet to the ones of the values between the
+     * given x-values, like DataSet.calcMinMaxY() without a range index.
+     *
+     * @param dataSet
+     * @param fromX
+     * @param toX
+     */
+    void calcMinMaxY(@NonNull DataSet<?> dataSet, float fromX, float toX) {
+        if (mCount == 0) {
+            return;
+        }
+
+        dataSet.mYMax = -Float.MAX_VALUE;
+        dataSet.mYMin = Float.MAX_VALUE;
+
+        calcMinMaxY(dataSet, getEntryIndex(fromX, DataSet.Rounding.DOWN), getEntryIndex(toX, DataSet.Rounding.UP));
+    }
+
+    /**
+     * Extends the y min and max values of the given DataSet with the values in [from, to].
+     *
+     * @param dataSet
+     * @param from
+     * @param to
+     */
+    void calcMinMaxY(@NonNull DataSet<?> dataSet, int from, int to) {
+        float yMin = dataSet.mYMin;
+        float yMax = dataSet.mYMax;
+
+        for (int i = from; i <= to; i++) {
+            float y = mYValues[i];
+            if (y < yMin) {
+                yMin = y;
+            }
+
+            if (y > yMax) {
+                yMax = y;
+            }
+        }
+
+        dataSet.mYMin = yMin;
+        dataSet.mYMax = yMax;
+    }
+
+    /**
+     * Copies the x-values of [fromIndex, toIndex) into dst, starting at offset.
+     *
+     * @param fromIndex
+     * @param toIndex
+     * @param dst
+     * @param offset
+     */
+    void copyX(int fromIndex, int toIndex, @NonNull float[] dst, int offset) {
+        DataSet.checkCopyRange(mCount, fromIndex, toIndex, dst, offset, 1);
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            dst[offset++] = getX(i);
+        }
+    }
+
+    /**
+     * Copies the y-values of [fromIndex, toIndex) into dst, starting at offset.
+     *
+     * @param fromIndex
+     * @param toIndex
+     * @param dst
+     * @param offset
+     */
+    void copyY(int fromIndex, int toIndex, @NonNull float[] dst, int offset) {
+        DataSet.checkCopyRange(mCount, fromIndex, toIndex, dst, offset, 1);
+        System.arraycopy(mYValues, fromIndex, dst, offset, toIndex - fromIndex);
+    }
+
+    /**
+     * Copies the x- and y-values of [fromIndex, toIndex) into dst, interleaved, starting at offset.
+     *
+     * @param fromIndex
+     * @param toIndex
+     * @param dst
+     * @param offset
+     */
+    void copyXY(int fromIndex, int toIndex, @NonNull float[] dst, int offset) {
+        DataSet.checkCopyRange(mCount, fromIndex, toIndex, dst, offset, 2);
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            dst[offset++] = getX(i);
+            dst[offset++] = mYValues[i];
+        }
+    }
+
+    /**
+     * Returns a copy of these values.
+     */
+    @NonNull
+    UniformValues copy() {
+        return new UniformValues(mX0, mDeltaX, Arrays.copyOf(mYValues, Math.max(mCount, 1)), mCount);
+    }
+}
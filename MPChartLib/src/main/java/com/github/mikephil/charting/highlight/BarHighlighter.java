@@ -3,8 +3,10 @@ package com.github.mikephil.charting.highlight;
 import com.github.mikephil.charting.data.BarData;
 import com.github.mikephil.charting.data.BarEntry;
 import com.github.mikephil.charting.data.BarLineScatterCandleBubbleData;
+import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.interfaces.dataprovider.BarDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBarDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IStackBoundsDataSet;
 import com.github.mikephil.charting.utils.MPPointD;
 
 import androidx.annotation.NonNull;
@@ -59,6 +61,10 @@ public class BarHighlighter extends ChartHighlighter<BarDataProvider> {
      */
     @Nullable
     public Highlight getStackedHighlight(@NonNull Highlight highlight, @NonNull IBarDataSet set, float xVal, float yVal) {
+        if (set instanceof IStackBoundsDataSet) {
+            return getStackedHighlight(highlight, set, (IStackBoundsDataSet) set, xVal, yVal);
+        }
+
         BarEntry entry = set.getEntryForXValue(xVal, yVal);
         if (entry == null) {
             return null;
@@ -87,6 +93,66 @@ public class BarHighlighter extends ChartHighlighter<BarDataProvider> {
         return null;
     }
 
+    /**
+     * Same as getStackedHighlight(Highlight, IBarDataSet, float, float), for a DataSet whose stack
+     * segment bounds are precomputed, reading them without creating a BarEntry.
+     *
+     * @param highlight
+     * @param set
+     * @param stacks    the same DataSet as set
+     * @param xVal
+     * @param yVal
+     */
+    @Nullable
+    protected Highlight getStackedHighlight(@NonNull Highlight highlight, @NonNull IBarDataSet set,
+                                            @NonNull IStackBoundsDataSet stacks, float xVal, float yVal) {
+        int index = set.getEntryIndex(xVal, yVal, DataSet.Rounding.CLOSEST);
+        if (index < 0) {
+            return null;
+        }
+
+        int count = stacks.getStackCountForIndex(index);
+
+        // Not stacked
+        if (count == 0) {
+            return highlight;
+        }
+
+        int offset = stacks.getStackOffsetForIndex(index);
+        int stackIndex = getClosestStackIndex(stacks, offset, count, yVal);
+        MPPointD pixels = mChart.getTransformer(set.getAxisDependency()).getPixelForValues(highlight.getX(), stacks.getStackTo(offset + stackIndex));
+
+        Highlight stackedHigh = new Highlight(
+                set.getXForIndex(index), set.getYForIndex(index), (float) pixels.x, (float) pixels.y,
+                highlight.getDataSetIndex(), stackIndex, highlight.getAxis()
+        );
+
+        MPPointD.recycleInstance(pixels);
+
+        return stackedHigh;
+    }
+
+    /**
+     * Same as getClosestStackIndex(Range[], float), for the count segments starting at the given
+     * position of a DataSet whose stack segment bounds are precomputed.
+     *
+     * @param stacks
+     * @param offset
+     * @param count
+     * @param value
+     */
+    protected int getClosestStackIndex(@NonNull IStackBoundsDataSet stacks, int offset, int count, float value) {
+        for (int stackIndex = 0; stackIndex < count; stackIndex++) {
+            if (value > stacks.getStackFrom(offset + stackIndex) && value <= stacks.getStackTo(offset + stackIndex)) {
+                return stackIndex;
+            }
+        }
+
+        int last = Math.max(count - 1, 0);
+
+        return (value > stacks.getStackTo(offset + last)) ? last : 0;
+    }
+
     /**
      * Returns the index of the closest value inside the values array/ranges (stacked bar chart) to
      * the value given as a parameter.
@@ -3,10 +3,10 @@ package com.github.mikephil.charting.highlight;
 import com.github.mikephil.charting.components.YAxis;
 import com.github.mikephil.charting.data.BarLineScatterCandleBubbleData;
 import com.github.mikephil.charting.data.DataSet;
-import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.utils.MPPointD;
+import com.github.mikephil.charting.utils.Transformer;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -144,23 +144,27 @@ public class ChartHighlighter<T extends BarLineScatterCandleBubbleDataProvider>
     @NonNull
     protected List<Highlight> buildHighlights(@NonNull IDataSet set, int dataSetIndex, float xVal, @NonNull DataSet.Rounding rounding) {
         ArrayList<Highlight> highlights = new ArrayList<>();
-        List<Entry> entries = set.getEntriesForXValue(xVal);
-        if (entries.isEmpty()) {
-            // Try to find closest x-value and take all entries for that x-value
-            final Entry closest = set.getEntryForXValue(xVal, Float.NaN, rounding);
-            if (closest != null) {
-                entries = set.getEntriesForXValue(closest.getX());
-            }
-        }
 
-        if (entries.isEmpty()) {
+        // Find the closest x-value and take all values for that x-value
+        int index = set.getEntryIndex(xVal, Float.NaN, rounding);
+        if (index < 0) {
             return highlights;
         }
 
-        for (Entry entry : entries) {
-            MPPointD pixels = mChart.getTransformer(set.getAxisDependency()).getPixelForValues(entry.getX(), entry.getY());
+        final float closestX = set.getXForIndex(index);
+        while (index > 0 && set.getXForIndex(index - 1) == closestX) {
+            index--;
+        }
+
+        Transformer trans = mChart.getTransformer(set.getAxisDependency());
+
+        for (int count = set.getEntryCount(); index < count && set.getXForIndex(index) == closestX; index++) {
+            float yVal = set.getYForIndex(index);
+            MPPointD pixels = trans.getPixelForValues(closestX, yVal);
+
+            highlights.add(new Highlight(closestX, yVal, (float) pixels.x, (float) pixels.y, dataSetIndex, set.getAxisDependency()));
 
-            highlights.add(new Highlight(entry.getX(), entry.getY(), (float) pixels.x, (float) pixels.y, dataSetIndex, set.getAxisDependency()));
+            MPPointD.recycleInstance(pixels);
         }
 
         return highlights;
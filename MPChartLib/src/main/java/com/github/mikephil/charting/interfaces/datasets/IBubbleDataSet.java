@@ -15,6 +15,13 @@ public interface IBubbleDataSet extends IBarLineScatterCandleBubbleDataSet<Bubbl
 
     float getMaxSize();
 
+    /**
+     * Returns the size of the bubble at the given index, without having to read the BubbleEntry.
+     *
+     * @param index
+     */
+    float getSizeForIndex(int index);
+
     boolean isNormalizeSizeEnabled();
 
     /**
@@ -16,6 +16,35 @@ public interface ICandleDataSet extends ILineScatterCandleRadarDataSet<CandleEnt
      */
     float getBarSpace();
 
+    /**
+     * Returns the open value of the Entry at the given index, without having to read the
+     * CandleEntry.
+     *
+     * @param index
+     */
+    float getOpenForIndex(int index);
+
+    /**
+     * Returns the close value of the Entry at the given index.
+     *
+     * @param index
+     */
+    float getCloseForIndex(int index);
+
+    /**
+     * Returns the (shadow) high value of the Entry at the given index.
+     *
+     * @param index
+     */
+    float getShadowHighForIndex(int index);
+
+    /**
+     * Returns the (shadow) low value of the Entry at the given index.
+     *
+     * @param index
+     */
+    float getShadowLowForIndex(int index);
+
     /**
      * Returns whether the candle bars should show? When false, only "ticks" will show.
      */
@@ -103,6 +103,63 @@ public interface IDataSet<T extends Entry> {
     @Nullable
     T getEntryForIndex(int index);
 
+    /**
+     * Returns the x-value of the Entry found at the given index (NOT xIndex) in the values array.
+     * Unlike {@link #getEntryForIndex(int)}, this does not require the DataSet to hold an Entry
+     * object for that index, so it should be preferred in drawing loops.
+     *
+     * @param index
+     */
+    float getXForIndex(int index);
+
+    /**
+     * Returns the y-value of the Entry found at the given index (NOT xIndex) in the values array.
+     * Unlike {@link #getEntryForIndex(int)}, this does not require the DataSet to hold an Entry
+     * object for that index, so it should be preferred in drawing loops.
+     *
+     * @param index
+     */
+    float getYForIndex(int index);
+
+    /**
+     * Copies the x-values of the entries in [fromIndex, toIndex) into dst, starting at offset. This
+     * is the fastest way to read many values, and does not require the DataSet to hold Entry
+     * objects.
+     *
+     * @param fromIndex the index of the first Entry, inclusive
+     * @param toIndex   the index of the last Entry, exclusive
+     * @param dst
+     * @param offset
+     * @throws IllegalArgumentException if the range is invalid or the values do not fit in dst
+     */
+    void copyX(int fromIndex, int toIndex, @NonNull float[] dst, int offset);
+
+    /**
+     * Copies the y-values of the entries in [fromIndex, toIndex) into dst, starting at offset. This
+     * is the fastest way to read many values, and does not require the DataSet to hold Entry
+     * objects.
+     *
+     * @param fromIndex the index of the first Entry, inclusive
+     * @param toIndex   the index of the last Entry, exclusive
+     * @param dst
+     * @param offset
+     * @throws IllegalArgumentException if the range is invalid or the values do not fit in dst
+     */
+    void copyY(int fromIndex, int toIndex, @NonNull float[] dst, int offset);
+
+    /**
+     * Copies the x- and y-values of the entries in [fromIndex, toIndex) into dst, starting at
+     * offset, interleaved as {x0, y0, x1, y1, ...}. This is the layout expected by
+     * Transformer.pointValuesToPixel().
+     *
+     * @param fromIndex the index of the first Entry, inclusive
+     * @param toIndex   the index of the last Entry, exclusive
+     * @param dst
+     * @param offset
+     * @throws IllegalArgumentException if the range is invalid or the values do not fit in dst
+     */
+    void copyXY(int fromIndex, int toIndex, @NonNull float[] dst, int offset);
+
     /**
      * Returns the first Entry index found at the given x-value with binary search. If the no Entry
      * at the specified x-value is found, this method returns the Entry at the closest x-value
@@ -116,6 +173,18 @@ public interface IDataSet<T extends Entry> {
      */
     int getEntryIndex(float xValue, float closestToY, @NonNull DataSet.Rounding rounding);
 
+    /**
+     * Writes in range the indices of the first and last entries to consider for the given range of
+     * x-values, with binary search: range[0] is the index of the Entry at fromX rounded down, and
+     * range[1] the index of the Entry at toX rounded up, so the entries right outside of the range
+     * are included. Both are -1 if the DataSet is empty.
+     *
+     * @param fromX
+     * @param toX
+     * @param range array of at least 2 elements receiving the indices
+     */
+    void getIndexRange(float fromX, float toX, @NonNull int[] range);
+
     /**
      * Returns the position of the provided entry in the DataSets Entry array, or -1 if doesn't exist.
      *
@@ -140,6 +209,15 @@ public interface IDataSet<T extends Entry> {
      */
     boolean addEntry(@NonNull T e);
 
+    /**
+     * Adds the given entries to the end of the DataSet. The storage is grown once for the whole
+     * batch, and the minimum and maximum values are updated without a full recalculation. This is
+     * much faster than adding the entries one by one. Returns true if entries were added.
+     *
+     * @param entries
+     */
+    boolean addEntries(@NonNull List<T> entries);
+
     /**
      * Adds an Entry to the DataSet dynamically. Entries are added to their appropriate index in the
      * values array respective to their x-position. This will also recalculate the current minimum
@@ -149,6 +227,16 @@ public interface IDataSet<T extends Entry> {
      */
     void addEntryOrdered(@NonNull T e);
 
+    /**
+     * Adds the given entries to the DataSet at their appropriate index respective to their
+     * x-position. The entries do not need to be sorted. Instead of inserting them one by one, the
+     * batch is sorted and merged with the current values in a single linear pass, and the minimum
+     * and maximum values are updated without a full recalculation.
+     *
+     * @param entries
+     */
+    void addEntriesOrdered(@NonNull List<T> entries);
+
     /**
      * Removes the first Entry (at index 0) of this DataSet from the entries array. Returns true if
      * successful, false if not.
@@ -438,4 +526,27 @@ public interface IDataSet<T extends Entry> {
      * Returns true if this DataSet is visible inside the chart, or false if it is currently hidden.
      */
     boolean isVisible();
+
+    /**
+     * Records a change of this DataSet and increments its version. Does not recalculate anything.
+     *
+     * @param changes the types of the change, see DataChange
+     */
+    void notifyChange(int changes);
+
+    /**
+     * Returns the version of this DataSet, incremented by every recorded change.
+     */
+    int getVersion();
+
+    /**
+     * Returns the types of the changes recorded since the last call to clearChanges(), see
+     * DataChange.
+     */
+    int getChanges();
+
+    /**
+     * Forgets the recorded changes, once they were applied by the chart.
+     */
+    void clearChanges();
 }
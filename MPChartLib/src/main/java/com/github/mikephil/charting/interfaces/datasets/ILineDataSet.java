@@ -80,4 +80,45 @@ public interface ILineDataSet extends ILineRadarDataSet<Entry> {
      */
     @NonNull
     IFillFormatter getFillFormatter();
+
+    /**
+     * Returns the decimation applied to the visible entries before drawing them.
+     */
+    @NonNull
+    LineDataSet.DecimationMode getDecimationMode();
+
+    /**
+     * Returns the number of points drawn per pixel of the content width when decimating.
+     */
+    float getDecimationPointsPerPixel();
+
+    /**
+     * Returns true if the line segments may be drawn with different colors, because the DataSet
+     * has more than one color, or a color per entry.
+     */
+    boolean isMultiColored();
+
+    /**
+     * Copies the colors of the line segments starting at the entries in [fromIndex, toIndex) into
+     * dst, starting at offset.
+     *
+     * @param fromIndex the index of the first Entry, inclusive
+     * @param toIndex   the index of the last Entry, exclusive
+     * @param dst
+     * @param offset
+     * @throws IllegalArgumentException if the range is invalid or the colors do not fit in dst
+     */
+    void copyColors(int fromIndex, int toIndex, @NonNull int[] dst, int offset);
+
+    /**
+     * Adds length values, read from the given arrays starting at offset, to the end of the
+     * DataSet. The storage is grown once for the whole batch, and the minimum and maximum values
+     * are updated without a full recalculation. Returns true if values were added.
+     *
+     * @param xValues
+     * @param yValues
+     * @param offset
+     * @param length
+     */
+    boolean addEntries(@NonNull float[] xValues, @NonNull float[] yValues, int offset, int length);
 }
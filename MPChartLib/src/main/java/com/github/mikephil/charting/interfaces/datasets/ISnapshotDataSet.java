@@ -0,0 +1,22 @@
+package com.github.mikephil.charting.interfaces.datasets;
+
+/**
+ * Interface of DataSets that can be filled from background threads. Values added by producer
+ * threads are collected in a back buffer, and only become visible to the chart once
+ * {@link #swapSnapshot()} is called, which the chart does at the beginning of every frame. Between
+ * two swaps the values seen by the chart never change, so it can read them without locking.
+ */
+public interface ISnapshotDataSet {
+    /**
+     * Publishes the values added since the last call, and recalculates the min and max values if
+     * needed. Must only be called from the thread drawing the chart.
+     *
+     * @return true if the visible values changed
+     */
+    boolean swapSnapshot();
+
+    /**
+     * Returns the number of values added by producers that are not published yet.
+     */
+    int getPendingEntryCount();
+}
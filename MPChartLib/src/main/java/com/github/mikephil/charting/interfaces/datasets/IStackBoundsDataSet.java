@@ -0,0 +1,40 @@
+package com.github.mikephil.charting.interfaces.datasets;
+
+/**
+ * Interface of bar DataSets keeping the bounds of their stack segments precomputed, so that the
+ * bars can be laid out and highlighted without walking the values of every stacked BarEntry. The
+ * segments of all the entries are stored one after the other: the segments of the Entry at index i
+ * are found at the positions getStackOffsetForIndex(i) to
+ * getStackOffsetForIndex(i) + getStackCountForIndex(i) - 1.
+ */
+public interface IStackBoundsDataSet {
+    /**
+     * Returns the number of stack segments of the Entry at the given index, 0 if it is not stacked.
+     *
+     * @param index
+     */
+    int getStackCountForIndex(int index);
+
+    /**
+     * Returns the position of the first stack segment of the Entry at the given index.
+     *
+     * @param index
+     */
+    int getStackOffsetForIndex(int index);
+
+    /**
+     * Returns the lower bound of the segment at the given position, like
+     * {@link com.github.mikephil.charting.highlight.Range#from}.
+     *
+     * @param position
+     */
+    float getStackFrom(int position);
+
+    /**
+     * Returns the upper bound of the segment at the given position, like
+     * {@link com.github.mikephil.charting.highlight.Range#to}.
+     *
+     * @param position
+     */
+    float getStackTo(int position);
+}
@@ -0,0 +1,18 @@
+package com.github.mikephil.charting.interfaces.datasets;
+
+/**
+ * Interface of DataSets whose entries are uniformly spaced on the x-axis: the Entry at index i has
+ * the x-value getX0() + i * getDeltaX(). Only the y-values are stored, and x-values are resolved
+ * to indices in constant time.
+ */
+public interface IUniformDataSet {
+    /**
+     * Returns the x-value of the first Entry.
+     */
+    float getX0();
+
+    /**
+     * Returns the (positive) distance between the x-values of two consecutive entries.
+     */
+    float getDeltaX();
+}
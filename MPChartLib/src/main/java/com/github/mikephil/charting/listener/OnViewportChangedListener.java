@@ -0,0 +1,13 @@
+package com.github.mikephil.charting.listener;
+
+/**
+ * Listener for callbacks when the touch matrix of a ViewPortHandler is changed by refresh(), set by
+ * the chart owning the ViewPortHandler to redraw itself.
+ */
+public interface OnViewportChangedListener {
+    /**
+     * Called after the touch matrix was changed by ViewPortHandler.refresh() with invalidate set
+     * to true, instead of invalidating the given view.
+     */
+    void onViewportChanged();
+}
@@ -11,6 +11,7 @@ import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.buffer.BarBuffer;
 import com.github.mikephil.charting.data.BarData;
 import com.github.mikephil.charting.data.BarEntry;
+import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.highlight.Range;
@@ -433,11 +434,13 @@ public class BarChartRenderer extends BarLineScatterCandleBubbleRenderer {
                 continue;
             }
 
-            BarEntry entry = set.getEntryForXValue(highlight.getX(), highlight.getY());
-            if (!isInBoundsX(entry, set)) {
+            int entryIndex = set.getEntryIndex(highlight.getX(), highlight.getY(), DataSet.Rounding.CLOSEST);
+            if (!isInBoundsX(entryIndex, set)) {
                 continue;
             }
 
+            BarEntry entry = set.getEntryForIndex(entryIndex);
+
             Transformer trans = mChart.getTransformer(set.getAxisDependency());
 
             mHighlightPaint.setColor(set.getHighLightColor());
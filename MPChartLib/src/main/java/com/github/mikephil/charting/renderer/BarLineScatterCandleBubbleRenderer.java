@@ -1,7 +1,6 @@
 package com.github.mikephil.charting.renderer;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
-import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.interfaces.dataprovider.BarLineScatterCandleBubbleDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IBarLineScatterCandleBubbleDataSet;
@@ -35,7 +34,8 @@ public abstract class BarLineScatterCandleBubbleRenderer extends DataRenderer {
 
     /**
      * Checks if the provided entry object is in bounds for drawing considering the current
-     * animation phase.
+     * animation phase. This looks up the index of the Entry with a linear search, prefer
+     * isInBoundsX(int, IBarLineScatterCandleBubbleDataSet) when the index is known.
      *
      * @param entry
      * @param set
@@ -45,9 +45,18 @@ public abstract class BarLineScatterCandleBubbleRenderer extends DataRenderer {
             return false;
         }
 
-        float entryIndex = set.getEntryIndex(entry);
+        return isInBoundsX(set.getEntryIndex(entry), set);
+    }
 
-        return entryIndex < set.getEntryCount() * mAnimator.getPhaseX();
+    /**
+     * Checks if the Entry at the provided index is in bounds for drawing considering the current
+     * animation phase.
+     *
+     * @param entryIndex index of the Entry, or -1 if there is none
+     * @param set
+     */
+    protected boolean isInBoundsX(int entryIndex, @NonNull IBarLineScatterCandleBubbleDataSet set) {
+        return entryIndex >= 0 && entryIndex < set.getEntryCount() * mAnimator.getPhaseX();
     }
 
     /**
@@ -70,6 +79,11 @@ public abstract class BarLineScatterCandleBubbleRenderer extends DataRenderer {
          */
         public int range;
 
+        /**
+         * Buffer receiving the index range of the DataSet.
+         */
+        private final int[] mIndexRange = new int[2];
+
         /**
          * Calculates the minimum and maximum x values as well as the range between them.
          *
@@ -82,11 +96,10 @@ public abstract class BarLineScatterCandleBubbleRenderer extends DataRenderer {
             float low = chart.getLowestVisibleX();
             float high = chart.getHighestVisibleX();
 
-            Entry entryFrom = dataSet.getEntryForXValue(low, Float.NaN, DataSet.Rounding.DOWN);
-            Entry entryTo = dataSet.getEntryForXValue(high, Float.NaN, DataSet.Rounding.UP);
+            dataSet.getIndexRange(low, high, mIndexRange);
 
-            min = entryFrom == null ? 0 : dataSet.getEntryIndex(entryFrom);
-            max = entryTo == null ? 0 : dataSet.getEntryIndex(entryTo);
+            min = Math.max(mIndexRange[0], 0);
+            max = Math.max(mIndexRange[1], 0);
             range = (int) ((max - min) * phaseX);
         }
     }
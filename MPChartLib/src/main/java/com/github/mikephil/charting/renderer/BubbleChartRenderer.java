@@ -8,6 +8,7 @@ import android.graphics.drawable.Drawable;
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.data.BubbleData;
 import com.github.mikephil.charting.data.BubbleEntry;
+import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.BubbleDataProvider;
@@ -28,6 +29,11 @@ import androidx.annotation.NonNull;
 public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
     private final float[] sizeBuffer = new float[4];
     private final float[] pointBuffer = new float[2];
+
+    /**
+     * Scratch buffer the values of a DataSet are copied to and transformed in, in chunks.
+     */
+    private final float[] valuesBuffer = new float[512];
     private final float[] hsvBuffer = new float[3];
 
     protected BubbleDataProvider mChart;
@@ -90,32 +96,45 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
         final float maxBubbleHeight = Math.abs(mViewPortHandler.contentBottom() - mViewPortHandler.contentTop());
         final float referenceSize = Math.min(maxBubbleHeight, maxBubbleWidth);
 
-        for (int j = mXBounds.min; j <= mXBounds.range + mXBounds.min; j++) {
-            final BubbleEntry entry = dataSet.getEntryForIndex(j);
+        final float maxSize = dataSet.getMaxSize();
+        final float[] values = valuesBuffer;
+        final int chunkSize = values.length / 2;
+        final int end = mXBounds.min + mXBounds.range + 1;
 
-            pointBuffer[0] = entry.getX();
-            pointBuffer[1] = (entry.getY()) * phaseY;
+        for (int from = mXBounds.min; from < end; from += chunkSize) {
+            final int to = Math.min(from + chunkSize, end);
+            final int length = (to - from) * 2;
 
-            trans.pointValuesToPixel(pointBuffer);
+            dataSet.copyXY(from, to, values, 0);
+            for (int i = 1; i < length; i += 2) {
+                values[i] *= phaseY;
+            }
 
-            float shapeHalf = getShapeSize(entry.getSize(), dataSet.getMaxSize(), referenceSize, normalizeSize) / 2f;
+            trans.pointValuesToPixel(values);
 
-            if (!mViewPortHandler.isInBoundsTop(pointBuffer[1] + shapeHalf) || !mViewPortHandler.isInBoundsBottom(pointBuffer[1] - shapeHalf)) {
-                continue;
-            }
+            for (int i = 0; i < length; i += 2) {
+                final int j = from + i / 2;
+                final float x = values[i];
+                final float y = values[i + 1];
+                float shapeHalf = getShapeSize(dataSet.getSizeForIndex(j), maxSize, referenceSize, normalizeSize) / 2f;
 
-            if (!mViewPortHandler.isInBoundsLeft(pointBuffer[0] + shapeHalf)) {
-                continue;
-            }
+                if (!mViewPortHandler.isInBoundsTop(y + shapeHalf) || !mViewPortHandler.isInBoundsBottom(y - shapeHalf)) {
+                    continue;
+                }
 
-            if (!mViewPortHandler.isInBoundsRight(pointBuffer[0] - shapeHalf)) {
-                break;
-            }
+                if (!mViewPortHandler.isInBoundsLeft(x + shapeHalf)) {
+                    continue;
+                }
 
-            final int color = dataSet.getColor((int) entry.getX());
+                if (!mViewPortHandler.isInBoundsRight(x - shapeHalf)) {
+                    return;
+                }
+
+                final int color = dataSet.getColor((int) dataSet.getXForIndex(j));
 
-            mRenderPaint.setColor(color);
-            canvas.drawCircle(pointBuffer[0], pointBuffer[1], shapeHalf, mRenderPaint);
+                mRenderPaint.setColor(color);
+                canvas.drawCircle(x, y, shapeHalf, mRenderPaint);
+            }
         }
     }
 
@@ -216,8 +235,13 @@ public class BubbleChartRenderer extends BarLineScatterCandleBubbleRenderer {
                 continue;
             }
 
-            final BubbleEntry entry = set.getEntryForXValue(highlight.getX(), highlight.getY());
-            if (entry == null || entry.getY() != highlight.getY() || !isInBoundsX(entry, set)) {
+            int entryIndex = set.getEntryIndex(highlight.getX(), highlight.getY(), DataSet.Rounding.CLOSEST);
+            if (!isInBoundsX(entryIndex, set)) {
+                continue;
+            }
+
+            final BubbleEntry entry = set.getEntryForIndex(entryIndex);
+            if (entry.getY() != highlight.getY()) {
                 continue;
             }
 
@@ -5,8 +5,11 @@ import android.graphics.Paint;
 import android.graphics.drawable.Drawable;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
+import com.github.mikephil.charting.data.CandleAggregation;
 import com.github.mikephil.charting.data.CandleData;
+import com.github.mikephil.charting.data.CandleDataSet;
 import com.github.mikephil.charting.data.CandleEntry;
+import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.CandleDataProvider;
@@ -30,10 +33,37 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
     private float[] mRangeBuffers = new float[4];
     private float[] mOpenBuffers = new float[4];
     private float[] mCloseBuffers = new float[4];
+    private final float[] mWidthBuffer = new float[4];
+
+    /**
+     * Minimum width of the candles in pixels, below which merged candles are drawn if the DataSet
+     * has aggregation timeframes.
+     */
+    private float mMinCandleWidth;
 
     public CandleStickChartRenderer(CandleDataProvider chart, ChartAnimator animator, ViewPortHandler viewPortHandler) {
         super(animator, viewPortHandler);
         mChart = chart;
+
+        mMinCandleWidth = Utils.convertDpToPixel(3f);
+    }
+
+    /**
+     * Sets the minimum width of the candles, in dp. When zoomed out so far that the candles of a
+     * DataSet with aggregation timeframes would be narrower, the candles of the finest timeframe
+     * reaching this width are drawn instead. Default: 3dp
+     *
+     * @param widthDp
+     */
+    public void setMinCandleWidth(float widthDp) {
+        mMinCandleWidth = Utils.convertDpToPixel(widthDp);
+    }
+
+    /**
+     * Returns the minimum width of the candles, in pixels.
+     */
+    public float getMinCandleWidth() {
+        return mMinCandleWidth;
     }
 
     @Override
@@ -58,167 +88,219 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
     protected void drawDataSet(@NonNull Canvas canvas, @NonNull ICandleDataSet dataSet) {
         Transformer trans = mChart.getTransformer(dataSet.getAxisDependency());
 
-        float phaseY = mAnimator.getPhaseY();
-        float barSpace = dataSet.getBarSpace();
-        boolean showCandleBar = dataSet.getShowCandleBar();
-
         mXBounds.set(mChart, dataSet);
 
         mRenderPaint.setStrokeWidth(dataSet.getShadowWidth());
 
-        // Draw the body
-        for (int j = mXBounds.min; j <= mXBounds.range + mXBounds.min; j++) {
-            // Get the entry
-            CandleEntry entry = dataSet.getEntryForIndex(j);
-            if (entry == null) {
-                continue;
+        // When zoomed out, draw the merged candles of the finest timeframe that is wide enough
+        final CandleAggregation aggregation = dataSet instanceof CandleDataSet
+                ? ((CandleDataSet) dataSet).getAggregation()
+                : null;
+        if (aggregation != null) {
+            mWidthBuffer[0] = 0f;
+            mWidthBuffer[1] = 0f;
+            mWidthBuffer[2] = 1f;
+            mWidthBuffer[3] = 0f;
+            trans.pointValuesToPixel(mWidthBuffer);
+
+            final int level = aggregation.getLevelForCandleWidth(mWidthBuffer[2] - mWidthBuffer[0], mMinCandleWidth);
+            if (level > 0) {
+                drawAggregatedDataSet(canvas, dataSet, trans, aggregation, level);
+                return;
             }
+        }
 
-            final float xPos = entry.getX();
-            final float open = entry.getOpen();
-            final float close = entry.getClose();
-            final float high = entry.getHigh();
-            final float low = entry.getLow();
+        final int entryCount = dataSet.getEntryCount();
+        for (int j = Math.max(mXBounds.min, 0); j <= mXBounds.range + mXBounds.min && j < entryCount; j++) {
+            drawCandle(canvas, dataSet, trans, j, dataSet.getXForIndex(j), dataSet.getOpenForIndex(j),
+                    dataSet.getCloseForIndex(j), dataSet.getShadowHighForIndex(j), dataSet.getShadowLowForIndex(j), 1f);
+        }
+    }
 
-            if (showCandleBar) {
-                // Calculate the shadow
-                mShadowBuffers[0] = xPos;
-                mShadowBuffers[2] = xPos;
-                mShadowBuffers[4] = xPos;
-                mShadowBuffers[6] = xPos;
+    /**
+     * Draws the merged candles of the given level covering the visible entries.
+     *
+     * @param canvas
+     * @param dataSet
+     * @param trans
+     * @param aggregation
+     * @param level       level of the candles, at least 1
+     */
+    protected void drawAggregatedDataSet(@NonNull Canvas canvas, @NonNull ICandleDataSet dataSet, @NonNull Transformer trans,
+                                         @NonNull CandleAggregation aggregation, int level) {
+        if (aggregation.getCandleCount(level) == 0) {
+            return;
+        }
 
-                if (open > close) {
-                    mShadowBuffers[1] = high * phaseY;
-                    mShadowBuffers[3] = open * phaseY;
-                    mShadowBuffers[5] = low * phaseY;
-                    mShadowBuffers[7] = close * phaseY;
-                } else if (open < close) {
-                    mShadowBuffers[1] = high * phaseY;
-                    mShadowBuffers[3] = close * phaseY;
-                    mShadowBuffers[5] = low * phaseY;
-                    mShadowBuffers[7] = open * phaseY;
-                } else {
-                    mShadowBuffers[1] = high * phaseY;
-                    mShadowBuffers[3] = open * phaseY;
-                    mShadowBuffers[5] = low * phaseY;
-                    mShadowBuffers[7] = mShadowBuffers[3];
-                }
+        final float width = aggregation.getTimeframe(level);
+        final int first = aggregation.getCandleForIndex(level, mXBounds.min);
+        final int last = aggregation.getCandleForIndex(level, mXBounds.min + mXBounds.range);
 
-                trans.pointValuesToPixel(mShadowBuffers);
+        for (int candle = first; candle <= last; candle++) {
+            drawCandle(canvas, dataSet, trans, aggregation.getFirstIndex(level, candle), aggregation.getX(level, candle),
+                    aggregation.getOpen(level, candle), aggregation.getClose(level, candle),
+                    aggregation.getHigh(level, candle), aggregation.getLow(level, candle), width);
+        }
+    }
 
-                // Draw the shadows
-                if (dataSet.getShadowColorSameAsCandle()) {
-                    if (open > close) {
-                        mRenderPaint.setColor(
-                                dataSet.getDecreasingColor() == ColorTemplate.COLOR_NONE ?
-                                        dataSet.getColor(j) :
-                                        dataSet.getDecreasingColor()
-                        );
-                    } else if (open < close) {
-                        mRenderPaint.setColor(
-                                dataSet.getIncreasingColor() == ColorTemplate.COLOR_NONE ?
-                                        dataSet.getColor(j) :
-                                        dataSet.getIncreasingColor()
-                        );
-                    } else {
-                        mRenderPaint.setColor(
-                                dataSet.getNeutralColor() == ColorTemplate.COLOR_NONE ?
-                                        dataSet.getColor(j) :
-                                        dataSet.getNeutralColor()
-                        );
-                    }
+    /**
+     * Draws a single candle.
+     *
+     * @param canvas
+     * @param dataSet
+     * @param trans
+     * @param j       the index of the Entry, used to pick its color
+     * @param xPos
+     * @param open
+     * @param close
+     * @param high
+     * @param low
+     * @param width   the width of the candle in x-units, 1 for an Entry
+     */
+    protected void drawCandle(@NonNull Canvas canvas, @NonNull ICandleDataSet dataSet, @NonNull Transformer trans, int j,
+                              float xPos, float open, float close, float high, float low, float width) {
+        final float phaseY = mAnimator.getPhaseY();
+        final float halfWidth = width / 2f;
+        final float space = dataSet.getBarSpace() * width;
+
+        if (dataSet.getShowCandleBar()) {
+            // Calculate the shadow
+            mShadowBuffers[0] = xPos;
+            mShadowBuffers[2] = xPos;
+            mShadowBuffers[4] = xPos;
+            mShadowBuffers[6] = xPos;
+
+            if (open > close) {
+                mShadowBuffers[1] = high * phaseY;
+                mShadowBuffers[3] = open * phaseY;
+                mShadowBuffers[5] = low * phaseY;
+                mShadowBuffers[7] = close * phaseY;
+            } else if (open < close) {
+                mShadowBuffers[1] = high * phaseY;
+                mShadowBuffers[3] = close * phaseY;
+                mShadowBuffers[5] = low * phaseY;
+                mShadowBuffers[7] = open * phaseY;
+            } else {
+                mShadowBuffers[1] = high * phaseY;
+                mShadowBuffers[3] = open * phaseY;
+                mShadowBuffers[5] = low * phaseY;
+                mShadowBuffers[7] = mShadowBuffers[3];
+            }
+
+            trans.pointValuesToPixel(mShadowBuffers);
+
+            // Draw the shadows
+            if (dataSet.getShadowColorSameAsCandle()) {
+                if (open > close) {
+                    mRenderPaint.setColor(
+                            dataSet.getDecreasingColor() == ColorTemplate.COLOR_NONE ?
+                                    dataSet.getColor(j) :
+                                    dataSet.getDecreasingColor()
+                    );
+                } else if (open < close) {
+                    mRenderPaint.setColor(
+                            dataSet.getIncreasingColor() == ColorTemplate.COLOR_NONE ?
+                                    dataSet.getColor(j) :
+                                    dataSet.getIncreasingColor()
+                    );
                 } else {
                     mRenderPaint.setColor(
-                            dataSet.getShadowColor() == ColorTemplate.COLOR_NONE ?
+                            dataSet.getNeutralColor() == ColorTemplate.COLOR_NONE ?
                                     dataSet.getColor(j) :
-                                    dataSet.getShadowColor()
+                                    dataSet.getNeutralColor()
                     );
                 }
+            } else {
+                mRenderPaint.setColor(
+                        dataSet.getShadowColor() == ColorTemplate.COLOR_NONE ?
+                                dataSet.getColor(j) :
+                                dataSet.getShadowColor()
+                );
+            }
 
-                mRenderPaint.setStyle(Paint.Style.STROKE);
-
-                canvas.drawLines(mShadowBuffers, mRenderPaint);
-
-                // Calculate the body
-                mBodyBuffers[0] = xPos - 0.5f + barSpace;
-                mBodyBuffers[1] = close * phaseY;
-                mBodyBuffers[2] = (xPos + 0.5f - barSpace);
-                mBodyBuffers[3] = open * phaseY;
+            mRenderPaint.setStyle(Paint.Style.STROKE);
 
-                trans.pointValuesToPixel(mBodyBuffers);
+            canvas.drawLines(mShadowBuffers, mRenderPaint);
 
-                // Draw body differently for increasing and decreasing entry
-                if (open > close) { // Decreasing
-                    if (dataSet.getDecreasingColor() == ColorTemplate.COLOR_NONE) {
-                        mRenderPaint.setColor(dataSet.getColor(j));
-                    } else {
-                        mRenderPaint.setColor(dataSet.getDecreasingColor());
-                    }
+            // Calculate the body
+            mBodyBuffers[0] = xPos - halfWidth + space;
+            mBodyBuffers[1] = close * phaseY;
+            mBodyBuffers[2] = xPos + halfWidth - space;
+            mBodyBuffers[3] = open * phaseY;
 
-                    mRenderPaint.setStyle(dataSet.getDecreasingPaintStyle());
-
-                    canvas.drawRect(mBodyBuffers[0], mBodyBuffers[3], mBodyBuffers[2], mBodyBuffers[1], mRenderPaint);
-                } else if (open < close) {
-                    if (dataSet.getIncreasingColor() == ColorTemplate.COLOR_NONE) {
-                        mRenderPaint.setColor(dataSet.getColor(j));
-                    } else {
-                        mRenderPaint.setColor(dataSet.getIncreasingColor());
-                    }
+            trans.pointValuesToPixel(mBodyBuffers);
 
-                    mRenderPaint.setStyle(dataSet.getIncreasingPaintStyle());
-
-                    canvas.drawRect(mBodyBuffers[0], mBodyBuffers[1], mBodyBuffers[2], mBodyBuffers[3], mRenderPaint);
-                } else { // Equal values
-                    if (dataSet.getNeutralColor() == ColorTemplate.COLOR_NONE) {
-                        mRenderPaint.setColor(dataSet.getColor(j));
-                    } else {
-                        mRenderPaint.setColor(dataSet.getNeutralColor());
-                    }
-
-                    canvas.drawLine(mBodyBuffers[0], mBodyBuffers[1], mBodyBuffers[2], mBodyBuffers[3], mRenderPaint);
+            // Draw body differently for increasing and decreasing entry
+            if (open > close) { // Decreasing
+                if (dataSet.getDecreasingColor() == ColorTemplate.COLOR_NONE) {
+                    mRenderPaint.setColor(dataSet.getColor(j));
+                } else {
+                    mRenderPaint.setColor(dataSet.getDecreasingColor());
                 }
-            } else {
-                mRangeBuffers[0] = xPos;
-                mRangeBuffers[1] = high * phaseY;
-                mRangeBuffers[2] = xPos;
-                mRangeBuffers[3] = low * phaseY;
-
-                mOpenBuffers[0] = xPos - 0.5f + barSpace;
-                mOpenBuffers[1] = open * phaseY;
-                mOpenBuffers[2] = xPos;
-                mOpenBuffers[3] = open * phaseY;
 
-                mCloseBuffers[0] = xPos + 0.5f - barSpace;
-                mCloseBuffers[1] = close * phaseY;
-                mCloseBuffers[2] = xPos;
-                mCloseBuffers[3] = close * phaseY;
+                mRenderPaint.setStyle(dataSet.getDecreasingPaintStyle());
 
-                trans.pointValuesToPixel(mRangeBuffers);
-                trans.pointValuesToPixel(mOpenBuffers);
-                trans.pointValuesToPixel(mCloseBuffers);
+                canvas.drawRect(mBodyBuffers[0], mBodyBuffers[3], mBodyBuffers[2], mBodyBuffers[1], mRenderPaint);
+            } else if (open < close) {
+                if (dataSet.getIncreasingColor() == ColorTemplate.COLOR_NONE) {
+                    mRenderPaint.setColor(dataSet.getColor(j));
+                } else {
+                    mRenderPaint.setColor(dataSet.getIncreasingColor());
+                }
 
-                // Draw the ranges
-                int barColor;
+                mRenderPaint.setStyle(dataSet.getIncreasingPaintStyle());
 
-                if (open > close) {
-                    barColor = dataSet.getDecreasingColor() == ColorTemplate.COLOR_NONE
-                            ? dataSet.getColor(j)
-                            : dataSet.getDecreasingColor();
-                } else if (open < close) {
-                    barColor = dataSet.getIncreasingColor() == ColorTemplate.COLOR_NONE
-                            ? dataSet.getColor(j)
-                            : dataSet.getIncreasingColor();
+                canvas.drawRect(mBodyBuffers[0], mBodyBuffers[1], mBodyBuffers[2], mBodyBuffers[3], mRenderPaint);
+            } else { // Equal values
+                if (dataSet.getNeutralColor() == ColorTemplate.COLOR_NONE) {
+                    mRenderPaint.setColor(dataSet.getColor(j));
                 } else {
-                    barColor = dataSet.getNeutralColor() == ColorTemplate.COLOR_NONE
-                            ? dataSet.getColor(j)
-                            : dataSet.getNeutralColor();
+                    mRenderPaint.setColor(dataSet.getNeutralColor());
                 }
 
-                mRenderPaint.setColor(barColor);
-                canvas.drawLine(mRangeBuffers[0], mRangeBuffers[1], mRangeBuffers[2], mRangeBuffers[3], mRenderPaint);
-                canvas.drawLine(mOpenBuffers[0], mOpenBuffers[1], mOpenBuffers[2], mOpenBuffers[3], mRenderPaint);
-                canvas.drawLine(mCloseBuffers[0], mCloseBuffers[1], mCloseBuffers[2], mCloseBuffers[3], mRenderPaint);
+                canvas.drawLine(mBodyBuffers[0], mBodyBuffers[1], mBodyBuffers[2], mBodyBuffers[3], mRenderPaint);
             }
+        } else {
+            mRangeBuffers[0] = xPos;
+            mRangeBuffers[1] = high * phaseY;
+            mRangeBuffers[2] = xPos;
+            mRangeBuffers[3] = low * phaseY;
+
+            mOpenBuffers[0] = xPos - halfWidth + space;
+            mOpenBuffers[1] = open * phaseY;
+            mOpenBuffers[2] = xPos;
+            mOpenBuffers[3] = open * phaseY;
+
+            mCloseBuffers[0] = xPos + halfWidth - space;
+            mCloseBuffers[1] = close * phaseY;
+            mCloseBuffers[2] = xPos;
+            mCloseBuffers[3] = close * phaseY;
+
+            trans.pointValuesToPixel(mRangeBuffers);
+            trans.pointValuesToPixel(mOpenBuffers);
+            trans.pointValuesToPixel(mCloseBuffers);
+
+            // Draw the ranges
+            int barColor;
+
+            if (open > close) {
+                barColor = dataSet.getDecreasingColor() == ColorTemplate.COLOR_NONE
+                        ? dataSet.getColor(j)
+                        : dataSet.getDecreasingColor();
+            } else if (open < close) {
+                barColor = dataSet.getIncreasingColor() == ColorTemplate.COLOR_NONE
+                        ? dataSet.getColor(j)
+                        : dataSet.getIncreasingColor();
+            } else {
+                barColor = dataSet.getNeutralColor() == ColorTemplate.COLOR_NONE
+                        ? dataSet.getColor(j)
+                        : dataSet.getNeutralColor();
+            }
+
+            mRenderPaint.setColor(barColor);
+            canvas.drawLine(mRangeBuffers[0], mRangeBuffers[1], mRangeBuffers[2], mRangeBuffers[3], mRenderPaint);
+            canvas.drawLine(mOpenBuffers[0], mOpenBuffers[1], mOpenBuffers[2], mOpenBuffers[3], mRenderPaint);
+            canvas.drawLine(mCloseBuffers[0], mCloseBuffers[1], mCloseBuffers[2], mCloseBuffers[3], mRenderPaint);
         }
     }
 
@@ -312,11 +394,13 @@ public class CandleStickChartRenderer extends LineScatterCandleRadarRenderer {
                 continue;
             }
 
-            CandleEntry entry = set.getEntryForXValue(highlight.getX(), highlight.getY());
-            if (!isInBoundsX(entry, set)) {
+            int entryIndex = set.getEntryIndex(highlight.getX(), highlight.getY(), DataSet.Rounding.CLOSEST);
+            if (!isInBoundsX(entryIndex, set)) {
                 continue;
             }
 
+            CandleEntry entry = set.getEntryForIndex(entryIndex);
+
             float lowValue = entry.getLow() * mAnimator.getPhaseY();
             float highValue = entry.getHigh() * mAnimator.getPhaseY();
             float y = (lowValue + highValue) / 2f;
@@ -9,6 +9,7 @@ import android.graphics.drawable.Drawable;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
 import com.github.mikephil.charting.charts.LineChart;
+import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.LineData;
 import com.github.mikephil.charting.data.LineDataSet;
@@ -62,6 +63,22 @@ public class LineChartRenderer extends LineRadarRenderer {
 
     private float[] mLineBuffer = new float[4];
 
+    /**
+     * The x and y values of the visible entries, copied in bulk from the DataSet.
+     */
+    private float[] mValuesBuffer = new float[4];
+
+    /**
+     * The colors of the visible line segments, copied in bulk from the DataSet.
+     */
+    private int[] mColorsBuffer = new int[2];
+
+    /**
+     * Decimator reducing the visible entries of a DataSet to the points that are actually drawn.
+     */
+    @NonNull
+    protected LineDecimator mDecimator = new LineDecimator();
+
     /**
      * Cache for the circle bitmaps of all datasets.
      */
@@ -159,22 +176,26 @@ public class LineChartRenderer extends LineRadarRenderer {
         cubicPath.reset();
 
         if (mXBounds.range >= 1) {
-            Entry prev = dataSet.getEntryForIndex(mXBounds.min);
-            Entry cur = prev;
+            float prevX;
+            float prevY;
+            float curX = dataSet.getXForIndex(mXBounds.min);
+            float curY = dataSet.getYForIndex(mXBounds.min);
 
             // Let the spline start
-            cubicPath.moveTo(cur.getX(), cur.getY() * phaseY);
+            cubicPath.moveTo(curX, curY * phaseY);
 
             for (int j = mXBounds.min + 1; j <= mXBounds.range + mXBounds.min; j++) {
-                prev = cur;
-                cur = dataSet.getEntryForIndex(j);
+                prevX = curX;
+                prevY = curY;
+                curX = dataSet.getXForIndex(j);
+                curY = dataSet.getYForIndex(j);
 
-                final float cpx = (prev.getX()) + (cur.getX() - prev.getX()) / 2f;
+                final float cpx = prevX + (curX - prevX) / 2f;
 
                 cubicPath.cubicTo(
-                        cpx, prev.getY() * phaseY,
-                        cpx, cur.getY() * phaseY,
-                        cur.getX(), cur.getY() * phaseY
+                        cpx, prevY * phaseY,
+                        cpx, curY * phaseY,
+                        curX, curY * phaseY
                 );
             }
         }
@@ -221,35 +242,47 @@ public class LineChartRenderer extends LineRadarRenderer {
             // And in the `lastIndex`, add +1
 
             final int firstIndex = mXBounds.min + 1;
-
-            Entry prevPrev;
-            Entry prev = dataSet.getEntryForIndex(Math.max(firstIndex - 2, 0));
-            Entry cur = dataSet.getEntryForIndex(Math.max(firstIndex - 1, 0));
-            Entry next = cur;
+            final int entryCount = dataSet.getEntryCount();
+
+            float prevPrevX;
+            float prevPrevY;
+            float prevX = dataSet.getXForIndex(Math.max(firstIndex - 2, 0));
+            float prevY = dataSet.getYForIndex(Math.max(firstIndex - 2, 0));
+            float curX = dataSet.getXForIndex(Math.max(firstIndex - 1, 0));
+            float curY = dataSet.getYForIndex(Math.max(firstIndex - 1, 0));
+            float nextX = curX;
+            float nextY = curY;
             int nextIndex = -1;
-            if (cur == null) {
-                return;
-            }
 
             // Let the spline start
-            cubicPath.moveTo(cur.getX(), cur.getY() * phaseY);
+            cubicPath.moveTo(curX, curY * phaseY);
 
             for (int j = mXBounds.min + 1; j <= mXBounds.range + mXBounds.min; j++) {
-                prevPrev = prev;
-                prev = cur;
-                cur = nextIndex == j ? next : dataSet.getEntryForIndex(j);
+                prevPrevX = prevX;
+                prevPrevY = prevY;
+                prevX = curX;
+                prevY = curY;
+
+                if (nextIndex == j) {
+                    curX = nextX;
+                    curY = nextY;
+                } else {
+                    curX = dataSet.getXForIndex(j);
+                    curY = dataSet.getYForIndex(j);
+                }
 
-                nextIndex = j + 1 < dataSet.getEntryCount() ? j + 1 : j;
-                next = dataSet.getEntryForIndex(nextIndex);
+                nextIndex = j + 1 < entryCount ? j + 1 : j;
+                nextX = dataSet.getXForIndex(nextIndex);
+                nextY = dataSet.getYForIndex(nextIndex);
 
-                prevDx = (cur.getX() - prevPrev.getX()) * intensity;
-                prevDy = (cur.getY() - prevPrev.getY()) * intensity;
-                curDx = (next.getX() - prev.getX()) * intensity;
-                curDy = (next.getY() - prev.getY()) * intensity;
+                prevDx = (curX - prevPrevX) * intensity;
+                prevDy = (curY - prevPrevY) * intensity;
+                curDx = (nextX - prevX) * intensity;
+                curDy = (nextY - prevY) * intensity;
 
                 cubicPath.cubicTo(
-                        prev.getX() + prevDx, (prev.getY() + prevDy) * phaseY,
-                        cur.getX() - curDx, (cur.getY() - curDy) * phaseY, cur.getX(), cur.getY() * phaseY
+                        prevX + prevDx, (prevY + prevDy) * phaseY,
+                        curX - curDx, (curY - curDy) * phaseY, curX, curY * phaseY
                 );
             }
         }
@@ -275,8 +308,8 @@ public class LineChartRenderer extends LineRadarRenderer {
     protected void drawCubicFill(Canvas canvas, @NonNull ILineDataSet dataSet, @NonNull Path spline, @NonNull Transformer trans, @NonNull XBounds bounds) {
         float fillMin = dataSet.getFillFormatter().getFillLinePosition(dataSet, mChart);
 
-        spline.lineTo(dataSet.getEntryForIndex(bounds.min + bounds.range).getX(), fillMin);
-        spline.lineTo(dataSet.getEntryForIndex(bounds.min).getX(), fillMin);
+        spline.lineTo(dataSet.getXForIndex(bounds.min + bounds.range), fillMin);
+        spline.lineTo(dataSet.getXForIndex(bounds.min), fillMin);
         spline.close();
 
         trans.pathValueToPixel(spline);
@@ -318,109 +351,308 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         mXBounds.set(mChart, dataSet);
 
+        if (mDecimator.decimate(dataSet, mXBounds.min, mXBounds.min + mXBounds.range, trans, mViewPortHandler.contentWidth())) {
+            drawDecimatedLinear(c, canvas, dataSet, trans);
+            mRenderPaint.setPathEffect(null);
+            return;
+        }
+
         // If drawing filled is enabled
         if (dataSet.isDrawFilledEnabled() && entryCount > 0) {
             drawLinearFill(c, dataSet, trans, mXBounds);
         }
 
         // More than 1 color
-        if (dataSet.getColors().size() > 1) {
-            if (mLineBuffer.length <= pointsPerEntryPair * 2) {
-                mLineBuffer = new float[pointsPerEntryPair * 4];
+        if (dataSet.isMultiColored()) {
+            if (mXBounds.min < entryCount) {
+                drawMultiColoredLinear(canvas, dataSet, trans, isDrawSteppedEnabled);
+            }
+        } else { // Only one color per dataset
+            if (mLineBuffer.length < Math.max((entryCount) * pointsPerEntryPair, pointsPerEntryPair) * 2) {
+                mLineBuffer = new float[Math.max((entryCount) * pointsPerEntryPair, pointsPerEntryPair) * 4];
             }
 
-            for (int j = mXBounds.min; j <= mXBounds.range + mXBounds.min; j++) {
-                Entry entry = dataSet.getEntryForIndex(j);
-                if (entry == null) {
-                    continue;
+            if (mXBounds.min < entryCount) {
+                // Copy the visible values and the one before them at once
+                final int first = Math.max(mXBounds.min - 1, 0);
+                final int last = mXBounds.range + mXBounds.min;
+                if (mValuesBuffer.length < (last - first + 1) * 2) {
+                    mValuesBuffer = new float[(last - first + 1) * 2];
                 }
 
-                mLineBuffer[0] = entry.getX();
-                mLineBuffer[1] = entry.getY() * phaseY;
+                final float[] values = mValuesBuffer;
+                dataSet.copyXY(first, last + 1, values, 0);
 
-                if (j < mXBounds.max) {
-                    entry = dataSet.getEntryForIndex(j + 1);
+                int j = 0;
+                for (int x = mXBounds.min; x <= last; x++) {
+                    final int previous = (x == 0 ? 0 : (x - 1)) - first;
+                    final int current = x - first;
+                    final float x1 = values[previous * 2];
+                    final float y1 = values[previous * 2 + 1] * phaseY;
+                    final float x2 = values[current * 2];
+                    final float y2 = values[current * 2 + 1] * phaseY;
 
-                    if (entry == null) {
-                        break;
-                    }
+                    mLineBuffer[j++] = x1;
+                    mLineBuffer[j++] = y1;
 
                     if (isDrawSteppedEnabled) {
-                        mLineBuffer[2] = entry.getX();
-                        mLineBuffer[3] = mLineBuffer[1];
-                        mLineBuffer[4] = mLineBuffer[2];
-                        mLineBuffer[5] = mLineBuffer[3];
-                        mLineBuffer[6] = entry.getX();
-                        mLineBuffer[7] = entry.getY() * phaseY;
-                    } else {
-                        mLineBuffer[2] = entry.getX();
-                        mLineBuffer[3] = entry.getY() * phaseY;
+                        mLineBuffer[j++] = x2;
+                        mLineBuffer[j++] = y1;
+                        mLineBuffer[j++] = x2;
+                        mLineBuffer[j++] = y1;
                     }
-                } else {
-                    mLineBuffer[2] = mLineBuffer[0];
-                    mLineBuffer[3] = mLineBuffer[1];
+
+                    mLineBuffer[j++] = x2;
+                    mLineBuffer[j++] = y2;
                 }
 
-                trans.pointValuesToPixel(mLineBuffer);
+                if (j > 0) {
+                    trans.pointValuesToPixel(mLineBuffer);
 
-                if (!mViewPortHandler.isInBoundsRight(mLineBuffer[0])) {
-                    break;
-                }
+                    final int size = Math.max((mXBounds.range + 1) * pointsPerEntryPair, pointsPerEntryPair) * 2;
 
-                // Make sure the lines don't do shitty things outside bounds
-                if (!mViewPortHandler.isInBoundsLeft(mLineBuffer[2]) || (!mViewPortHandler.isInBoundsTop(mLineBuffer[1]) && !mViewPortHandler.isInBoundsBottom(mLineBuffer[3]))) {
-                    continue;
+                    mRenderPaint.setColor(dataSet.getColor());
+
+                    canvas.drawLines(mLineBuffer, 0, size, mRenderPaint);
                 }
+            }
+        }
 
-                // Get the color that is set for this line-segment
-                mRenderPaint.setColor(dataSet.getColor(j));
+        mRenderPaint.setPathEffect(null);
+    }
+
+    /**
+     * Draws the visible line segments of a DataSet with several colors. The segments of the whole
+     * visible range are built and transformed at once, then consecutive segments of the same color
+     * are drawn with a single call.
+     *
+     * @param canvas
+     * @param dataSet
+     * @param trans
+     * @param isDrawSteppedEnabled
+     */
+    private void drawMultiColoredLinear(@NonNull Canvas canvas, @NonNull ILineDataSet dataSet, @NonNull Transformer trans,
+                                        boolean isDrawSteppedEnabled) {
+        final int pointsPerEntryPair = isDrawSteppedEnabled ? 4 : 2;
+        final int segmentSize = pointsPerEntryPair * 2;
+        final float phaseY = mAnimator.getPhaseY();
+
+        final int first = mXBounds.min;
+        final int last = mXBounds.range + mXBounds.min;
+        final int segmentCount = last - first + 1;
+
+        // The segment starting at the last entry also needs the entry after it, if any
+        final int copyEnd = Math.min(last + 2, dataSet.getEntryCount());
+        if (mValuesBuffer.length < (copyEnd - first) * 2) {
+            mValuesBuffer = new float[(copyEnd - first) * 2];
+        }
+
+        if (mColorsBuffer.length < segmentCount) {
+            mColorsBuffer = new int[segmentCount];
+        }
+
+        if (mLineBuffer.length < segmentCount * segmentSize) {
+            mLineBuffer = new float[segmentCount * segmentSize];
+        }
+
+        final float[] values = mValuesBuffer;
+        final int[] colors = mColorsBuffer;
+        dataSet.copyXY(first, copyEnd, values, 0);
+        dataSet.copyColors(first, last + 1, colors, 0);
+
+        int j = 0;
+        for (int i = 0; i < segmentCount; i++) {
+            final float x1 = values[i * 2];
+            final float y1 = values[i * 2 + 1] * phaseY;
 
-                canvas.drawLines(mLineBuffer, 0, pointsPerEntryPair * 2, mRenderPaint);
+            // The segment starting at the last entry is a single point
+            final boolean hasNext = first + i < mXBounds.max && first + i + 1 < copyEnd;
+            final float x2 = hasNext ? values[i * 2 + 2] : x1;
+            final float y2 = hasNext ? values[i * 2 + 3] * phaseY : y1;
+
+            mLineBuffer[j++] = x1;
+            mLineBuffer[j++] = y1;
+
+            if (isDrawSteppedEnabled) {
+                mLineBuffer[j++] = x2;
+                mLineBuffer[j++] = y1;
+                mLineBuffer[j++] = x2;
+                mLineBuffer[j++] = y1;
             }
-        } else { // Only one color per dataset
-            if (mLineBuffer.length < Math.max((entryCount) * pointsPerEntryPair, pointsPerEntryPair) * 2) {
-                mLineBuffer = new float[Math.max((entryCount) * pointsPerEntryPair, pointsPerEntryPair) * 4];
+
+            mLineBuffer[j++] = x2;
+            mLineBuffer[j++] = y2;
+        }
+
+        trans.pointValuesToPixel(mLineBuffer, 0, j);
+
+        drawColorRuns(canvas, segmentCount, segmentSize, colors, true);
+    }
+
+    /**
+     * Draws the transformed line segments of the line buffer, grouping consecutive segments of the
+     * same color into a single call. Segments outside the content are skipped.
+     *
+     * @param canvas
+     * @param segmentCount
+     * @param segmentSize   the number of floats per segment
+     * @param colors        the color of each segment
+     * @param cullVertically if true, segments going from above the content to below it are skipped
+     */
+    private void drawColorRuns(@NonNull Canvas canvas, int segmentCount, int segmentSize, @NonNull int[] colors,
+                               boolean cullVertically) {
+        // Current run of consecutive segments of the same color, [runStart, runEnd) in the buffer
+        int runStart = -1;
+        int runEnd = -1;
+        int runColor = 0;
+
+        for (int i = 0; i < segmentCount; i++) {
+            final int offset = i * segmentSize;
+
+            if (!mViewPortHandler.isInBoundsRight(mLineBuffer[offset])) {
+                break;
             }
 
-            Entry entry1 = dataSet.getEntryForIndex(mXBounds.min);
-            if (entry1 != null) {
-                Entry entry2;
-                int j = 0;
-                for (int x = mXBounds.min; x <= mXBounds.range + mXBounds.min; x++) {
-                    entry1 = dataSet.getEntryForIndex(x == 0 ? 0 : (x - 1));
-                    entry2 = dataSet.getEntryForIndex(x);
+            // Make sure the lines don't do shitty things outside bounds
+            if (!mViewPortHandler.isInBoundsLeft(mLineBuffer[offset + 2]) || (cullVertically
+                    && !mViewPortHandler.isInBoundsTop(mLineBuffer[offset + 1]) && !mViewPortHandler.isInBoundsBottom(mLineBuffer[offset + 3]))) {
+                continue;
+            }
 
-                    if (entry1 == null || entry2 == null) {
-                        continue;
-                    }
+            if (runStart >= 0 && (runEnd != offset || colors[i] != runColor)) {
+                drawRun(canvas, runStart, runEnd, runColor);
+                runStart = -1;
+            }
 
-                    mLineBuffer[j++] = entry1.getX();
-                    mLineBuffer[j++] = entry1.getY() * phaseY;
+            if (runStart < 0) {
+                runStart = offset;
+                runColor = colors[i];
+            }
 
-                    if (isDrawSteppedEnabled) {
-                        mLineBuffer[j++] = entry2.getX();
-                        mLineBuffer[j++] = entry1.getY() * phaseY;
-                        mLineBuffer[j++] = entry2.getX();
-                        mLineBuffer[j++] = entry1.getY() * phaseY;
-                    }
+            runEnd = offset + segmentSize;
+        }
 
-                    mLineBuffer[j++] = entry2.getX();
-                    mLineBuffer[j++] = entry2.getY() * phaseY;
-                }
+        if (runStart >= 0) {
+            drawRun(canvas, runStart, runEnd, runColor);
+        }
+    }
 
-                if (j > 0) {
-                    trans.pointValuesToPixel(mLineBuffer);
+    /**
+     * Draws the line segments in [from, to) of the line buffer with the given color.
+     */
+    private void drawRun(@NonNull Canvas canvas, int from, int to, int color) {
+        mRenderPaint.setColor(color);
+        canvas.drawLines(mLineBuffer, from, to - from, mRenderPaint);
+    }
 
-                    final int size = Math.max((mXBounds.range + 1) * pointsPerEntryPair, pointsPerEntryPair) * 2;
+    /**
+     * Draws the points kept by the decimator, and the filled area below them if enabled.
+     *
+     * @param c       the canvas to draw the filled area on
+     * @param canvas  the canvas to draw the lines on
+     * @param dataSet
+     * @param trans
+     */
+    protected void drawDecimatedLinear(Canvas c, Canvas canvas, @NonNull ILineDataSet dataSet, @NonNull Transformer trans) {
+        final boolean isDrawSteppedEnabled = dataSet.getMode() == LineDataSet.Mode.STEPPED;
+        final int pointsPerEntryPair = isDrawSteppedEnabled ? 4 : 2;
+        final float phaseY = mAnimator.getPhaseY();
 
-                    mRenderPaint.setColor(dataSet.getColor());
+        final int count = mDecimator.getCount();
+        final float[] xValues = mDecimator.getXValues();
+        final float[] yValues = mDecimator.getYValues();
 
-                    canvas.drawLines(mLineBuffer, 0, size, mRenderPaint);
-                }
+        if (dataSet.isDrawFilledEnabled()) {
+            final Path filled = mGenerateFilledPathBuffer;
+            generateDecimatedFilledPath(dataSet, filled);
+
+            trans.pathValueToPixel(filled);
+
+            final Drawable drawable = dataSet.getFillDrawable();
+            if (drawable != null) {
+                drawFilledPath(c, filled, drawable);
+            } else {
+                drawFilledPath(c, filled, dataSet.getFillColor(), dataSet.getFillAlpha());
             }
         }
 
-        mRenderPaint.setPathEffect(null);
+        final int size = (count - 1) * pointsPerEntryPair * 2;
+        if (mLineBuffer.length < size) {
+            mLineBuffer = new float[size];
+        }
+
+        int j = 0;
+        for (int i = 1; i < count; i++) {
+            final float x1 = xValues[i - 1];
+            final float y1 = yValues[i - 1] * phaseY;
+            final float x2 = xValues[i];
+
+            mLineBuffer[j++] = x1;
+            mLineBuffer[j++] = y1;
+
+            if (isDrawSteppedEnabled) {
+                mLineBuffer[j++] = x2;
+                mLineBuffer[j++] = y1;
+                mLineBuffer[j++] = x2;
+                mLineBuffer[j++] = y1;
+            }
+
+            mLineBuffer[j++] = x2;
+            mLineBuffer[j++] = yValues[i] * phaseY;
+        }
+
+        trans.pointValuesToPixel(mLineBuffer, 0, j);
+
+        // More than 1 color
+        if (dataSet.isMultiColored()) {
+            final int[] indices = mDecimator.getIndices();
+
+            if (mColorsBuffer.length < count - 1) {
+                mColorsBuffer = new int[count - 1];
+            }
+
+            // Color of the Entry starting each line-segment
+            for (int i = 0; i < count - 1; i++) {
+                mColorsBuffer[i] = dataSet.getColor(indices[i]);
+            }
+
+            drawColorRuns(canvas, count - 1, pointsPerEntryPair * 2, mColorsBuffer, false);
+        } else {
+            mRenderPaint.setColor(dataSet.getColor());
+
+            canvas.drawLines(mLineBuffer, 0, size, mRenderPaint);
+        }
+    }
+
+    /**
+     * Generates the path used to draw the filled area below the points kept by the decimator.
+     *
+     * @param dataSet
+     * @param outputPath
+     */
+    private void generateDecimatedFilledPath(@NonNull ILineDataSet dataSet, @NonNull Path outputPath) {
+        final float fillMin = dataSet.getFillFormatter().getFillLinePosition(dataSet, mChart);
+        final float phaseY = mAnimator.getPhaseY();
+        final boolean isDrawSteppedEnabled = dataSet.getMode() == LineDataSet.Mode.STEPPED;
+
+        final int count = mDecimator.getCount();
+        final float[] xValues = mDecimator.getXValues();
+        final float[] yValues = mDecimator.getYValues();
+
+        outputPath.reset();
+        outputPath.moveTo(xValues[0], fillMin);
+        outputPath.lineTo(xValues[0], yValues[0] * phaseY);
+
+        for (int i = 1; i < count; i++) {
+            if (isDrawSteppedEnabled) {
+                outputPath.lineTo(xValues[i], yValues[i - 1] * phaseY);
+            }
+
+            outputPath.lineTo(xValues[i], yValues[i] * phaseY);
+        }
+
+        outputPath.lineTo(xValues[count - 1], fillMin);
+        outputPath.close();
     }
 
     /**
@@ -482,29 +714,29 @@ public class LineChartRenderer extends LineRadarRenderer {
 
         outputPath.reset();
 
-        final Entry entry = dataSet.getEntryForIndex(startIndex);
+        final float startX = dataSet.getXForIndex(startIndex);
 
-        outputPath.moveTo(entry.getX(), fillMin);
-        outputPath.lineTo(entry.getX(), entry.getY() * phaseY);
+        outputPath.moveTo(startX, fillMin);
+        outputPath.lineTo(startX, dataSet.getYForIndex(startIndex) * phaseY);
 
         // Create a new path
-        Entry currentEntry = null;
-        Entry previousEntry = entry;
+        float previousY = dataSet.getYForIndex(startIndex);
         for (int x = startIndex + 1; x <= endIndex; x++) {
-            currentEntry = dataSet.getEntryForIndex(x);
+            final float currentX = dataSet.getXForIndex(x);
+            final float currentY = dataSet.getYForIndex(x);
 
             if (isDrawSteppedEnabled) {
-                outputPath.lineTo(currentEntry.getX(), previousEntry.getY() * phaseY);
+                outputPath.lineTo(currentX, previousY * phaseY);
             }
 
-            outputPath.lineTo(currentEntry.getX(), currentEntry.getY() * phaseY);
+            outputPath.lineTo(currentX, currentY * phaseY);
 
-            previousEntry = currentEntry;
+            previousY = currentY;
         }
 
         // Close up
-        if (currentEntry != null) {
-            outputPath.lineTo(currentEntry.getX(), fillMin);
+        if (endIndex > startIndex) {
+            outputPath.lineTo(dataSet.getXForIndex(endIndex), fillMin);
         }
 
         outputPath.close();
@@ -640,14 +872,10 @@ public class LineChartRenderer extends LineRadarRenderer {
             }
 
             int boundsRangeCount = mXBounds.range + mXBounds.min;
-            for (int j = mXBounds.min; j <= boundsRangeCount; j++) {
-                Entry entry = dataSet.getEntryForIndex(j);
-                if (entry == null) {
-                    break;
-                }
-
-                mCirclesBuffer[0] = entry.getX();
-                mCirclesBuffer[1] = entry.getY() * phaseY;
+            int entryCount = dataSet.getEntryCount();
+            for (int j = mXBounds.min; j <= boundsRangeCount && j < entryCount; j++) {
+                mCirclesBuffer[0] = dataSet.getXForIndex(j);
+                mCirclesBuffer[1] = dataSet.getYForIndex(j) * phaseY;
 
                 trans.pointValuesToPixel(mCirclesBuffer);
 
@@ -680,11 +908,13 @@ public class LineChartRenderer extends LineRadarRenderer {
                 continue;
             }
 
-            Entry entry = set.getEntryForXValue(highlight.getX(), highlight.getY());
-            if (!isInBoundsX(entry, set)) {
+            int entryIndex = set.getEntryIndex(highlight.getX(), highlight.getY(), DataSet.Rounding.CLOSEST);
+            if (!isInBoundsX(entryIndex, set)) {
                 continue;
             }
 
+            Entry entry = set.getEntryForIndex(entryIndex);
+
             MPPointD pix = mChart.getTransformer(set.getAxisDependency()).getPixelForValues(entry.getX(), entry.getY() * mAnimator.getPhaseY());
 
             highlight.setDraw((float) pix.x, (float) pix.y);
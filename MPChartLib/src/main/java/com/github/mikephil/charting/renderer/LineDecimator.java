@@ -0,0 +1,371 @@
+package com.github.mikephil.charting.renderer;
+
+import com.github.mikephil.charting.data.DataSet;
+import com.github.mikephil.charting.data.LevelOfDetail;
+import com.github.mikephil.charting.data.LineDataSet;
+import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
+import com.github.mikephil.charting.utils.Transformer;
+
+import java.util.Arrays;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Reduces the visible entries of a line DataSet to a number of points bounded by the width of the
+ * content rect, according to the DataSet's decimation mode. The selected points are kept in
+ * primitive arrays, together with the index of the Entry they come from, and are reused between
+ * frames.
+ */
+public class LineDecimator {
+    /**
+     * Minimum number of points to keep.
+     */
+    private static final int MIN_POINTS = 3;
+
+    @NonNull
+    private float[] mXValues = new float[0];
+
+    @NonNull
+    private float[] mYValues = new float[0];
+
+    @NonNull
+    private int[] mIndices = new int[0];
+
+    private int mCount = 0;
+
+    /**
+     * State of the column being decimated with the M4 algorithm.
+     */
+    private double mColumn;
+    private int mColumnFirst = -1;
+    private int mColumnLast;
+    private int mColumnMinIndex;
+    private int mColumnMaxIndex;
+    private float mColumnMin;
+    private float mColumnMax;
+
+    /**
+     * Buffer used to map x-values to pixels.
+     */
+    @NonNull
+    private final float[] mPixelBuffer = new float[4];
+
+    /**
+     * Decimates the entries in [from, to] of the given DataSet if its decimation mode requires it.
+     * Returns true if the entries were decimated, in which case the result is available through
+     * getCount(), getXValues(), getYValues() and getIndices(). Returns false if all the entries
+     * should be drawn.
+     *
+     * @param dataSet
+     * @param from         index of the first visible Entry
+     * @param to           index of the last visible Entry
+     * @param trans        transformer used to draw the DataSet
+     * @param contentWidth width of the content rect, in pixels
+     */
+    public boolean decimate(@NonNull ILineDataSet dataSet, int from, int to, @NonNull Transformer trans, float contentWidth) {
+        LineDataSet.DecimationMode mode = dataSet.getDecimationMode();
+        LineDataSet.Mode lineMode = dataSet.getMode();
+        if (mode == LineDataSet.DecimationMode.NONE
+                || (lineMode != LineDataSet.Mode.LINEAR && lineMode != LineDataSet.Mode.STEPPED)) {
+            return false;
+        }
+
+        final float pointsPerPixel = dataSet.getDecimationPointsPerPixel();
+        int threshold = Math.max((int) (contentWidth * pointsPerPixel), MIN_POINTS);
+
+        if (mode == LineDataSet.DecimationMode.M4) {
+            // Up to 4 points are kept per column
+            if (to - from + 1 <= threshold * 4) {
+                return false;
+            }
+
+            final float fromX = dataSet.getXForIndex(from);
+            final float toX = dataSet.getXForIndex(to);
+
+            mPixelBuffer[0] = fromX;
+            mPixelBuffer[1] = 0f;
+            mPixelBuffer[2] = toX;
+            mPixelBuffer[3] = 0f;
+            trans.pointValuesToPixel(mPixelBuffer);
+
+            // The x-axis mapping is linear: column = x * scale + offset
+            double scale = 0;
+            if (toX != fromX) {
+                scale = (double) (mPixelBuffer[2] - mPixelBuffer[0]) / ((double) toX - fromX) * pointsPerPixel;
+            }
+
+            double offset = mPixelBuffer[0] * pointsPerPixel - fromX * scale;
+
+            // Visit the buckets of the level of detail covering at most one column each
+            LevelOfDetail levelOfDetail = null;
+            int level = 0;
+            if (dataSet instanceof DataSet) {
+                levelOfDetail = ((DataSet<?>) dataSet).getLevelOfDetail();
+                if (levelOfDetail != null) {
+                    level = levelOfDetail.getLevelForBucketSize((float) (to - from + 1) / threshold);
+                }
+            }
+
+            minMaxPerColumn(dataSet, from, to, scale, offset, levelOfDetail, level);
+        } else {
+            if (to - from + 1 <= threshold) {
+                return false;
+            }
+
+            ensureCapacity(threshold);
+            largestTriangleThreeBuckets(dataSet, from, to, threshold);
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the number of points kept by the last decimation.
+     */
+    public int getCount() {
+        return mCount;
+    }
+
+    /**
+     * Returns the x-values of the points kept by the last decimation. Only the first getCount()
+     * values are relevant.
+     */
+    @NonNull
+    public float[] getXValues() {
+        return mXValues;
+    }
+
+    /**
+     * Returns the y-values of the points kept by the last decimation. Only the first getCount()
+     * values are relevant.
+     */
+    @NonNull
+    public float[] getYValues() {
+        return mYValues;
+    }
+
+    /**
+     * Returns the index in the DataSet of the points kept by the last decimation. Only the first
+     * getCount() values are relevant.
+     */
+    @NonNull
+    public int[] getIndices() {
+        return mIndices;
+    }
+
+    /**
+     * Downsamples the entries in [from, to] to the given number of points with the
+     * Largest-Triangle-Three-Buckets algorithm. The first and last entries are always kept. The
+     * other entries are split into threshold - 2 buckets, and from each bucket, the Entry forming
+     * the largest triangle with the previously kept point and the average of the next bucket is
+     * kept.
+     *
+     * @param dataSet
+     * @param from
+     * @param to
+     * @param threshold
+     */
+    private void largestTriangleThreeBuckets(@NonNull ILineDataSet dataSet, int from, int to, int threshold) {
+        final double bucketSize = (double) (to - from - 1) / (threshold - 2);
+
+        int count = 0;
+        int selected = from;
+        addPoint(count++, dataSet, selected);
+
+        final int lastBucket = threshold - 3;
+
+        for (int bucket = 0; bucket <= lastBucket; bucket++) {
+            // Range of the current bucket
+            int start = from + 1 + (int) (bucket * bucketSize);
+            int end = bucket == lastBucket ? to : from + 1 + (int) ((bucket + 1) * bucketSize);
+
+            // Average of the next bucket, or the last Entry for the last bucket
+            int nextStart = end;
+            int nextEnd;
+            if (bucket == lastBucket) {
+                nextEnd = to + 1;
+            } else if (bucket == lastBucket - 1) {
+                nextEnd = to;
+            } else {
+                nextEnd = from + 1 + (int) ((bucket + 2) * bucketSize);
+            }
+
+            double averageX = 0;
+            double averageY = 0;
+            for (int i = nextStart; i < nextEnd; i++) {
+                averageX += dataSet.getXForIndex(i);
+                averageY += dataSet.getYForIndex(i);
+            }
+
+            averageX /= nextEnd - nextStart;
+            averageY /= nextEnd - nextStart;
+
+            // Entry of the current bucket forming the largest triangle
+            final double selectedX = dataSet.getXForIndex(selected);
+            final double selectedY = dataSet.getYForIndex(selected);
+            double maxArea = -1;
+            int maxIndex = start;
+
+            for (int i = start; i < end; i++) {
+                double area = Math.abs((selectedX - averageX) * (dataSet.getYForIndex(i) - selectedY)
+                        - (selectedX - dataSet.getXForIndex(i)) * (averageY - selectedY));
+                if (area > maxArea) {
+                    maxArea = area;
+                    maxIndex = i;
+                }
+            }
+
+            selected = maxIndex;
+            addPoint(count++, dataSet, selected);
+        }
+
+        addPoint(count++, dataSet, to);
+
+        mCount = count;
+    }
+
+    /**
+     * Decimates the entries in [from, to] with the M4 algorithm: for every column, only the first,
+     * last, minimum and maximum entries are kept, in their original order. If a level of detail
+     * is provided, only the first, last, minimum and maximum entries of its buckets are visited.
+     *
+     * @param dataSet
+     * @param from
+     * @param to
+     * @param scale         scale mapping an x-value to its column
+     * @param offset        offset mapping an x-value to its column
+     * @param levelOfDetail
+     * @param level         level of the buckets to visit, 0 to visit every Entry
+     */
+    private void minMaxPerColumn(@NonNull ILineDataSet dataSet, int from, int to, double scale, double offset,
+                                 @Nullable LevelOfDetail levelOfDetail, int level) {
+        mCount = 0;
+        mColumnFirst = -1;
+
+        if (levelOfDetail == null || level == 0) {
+            for (int i = from; i <= to; i++) {
+                addToColumn(dataSet, i, scale, offset);
+            }
+        } else {
+            final int entryCount = dataSet.getEntryCount();
+
+            for (int bucket = levelOfDetail.getBucket(level, from), lastBucket = levelOfDetail.getBucket(level, to); bucket <= lastBucket; bucket++) {
+                final int first = levelOfDetail.getBucketStart(level, bucket);
+                final int last = Math.min(levelOfDetail.getBucketStart(level, bucket + 1), entryCount) - 1;
+                final int minIndex = levelOfDetail.getMinIndex(level, bucket);
+                final int maxIndex = levelOfDetail.getMaxIndex(level, bucket);
+                final int lowIndex = Math.min(minIndex, maxIndex);
+                final int highIndex = Math.max(minIndex, maxIndex);
+
+                // Visit the candidates of the bucket in ascending order, without duplicates
+                addToColumn(dataSet, first, scale, offset);
+
+                if (lowIndex > first) {
+                    addToColumn(dataSet, lowIndex, scale, offset);
+                }
+
+                if (highIndex > lowIndex && highIndex > first) {
+                    addToColumn(dataSet, highIndex, scale, offset);
+                }
+
+                if (last > highIndex && last > first) {
+                    addToColumn(dataSet, last, scale, offset);
+                }
+            }
+        }
+
+        if (mColumnFirst >= 0) {
+            flushColumn(dataSet);
+        }
+    }
+
+    /**
+     * Adds the Entry at the given index to the current column, or starts a new column if the Entry
+     * does not belong to the current one.
+     *
+     * @param dataSet
+     * @param index
+     * @param scale
+     * @param offset
+     */
+    private void addToColumn(@NonNull ILineDataSet dataSet, int index, double scale, double offset) {
+        final double column = Math.floor(dataSet.getXForIndex(index) * scale + offset);
+        final float y = dataSet.getYForIndex(index);
+
+        if (mColumnFirst < 0 || column != mColumn) {
+            if (mColumnFirst >= 0) {
+                flushColumn(dataSet);
+            }
+
+            mColumn = column;
+            mColumnFirst = index;
+            mColumnLast = index;
+            mColumnMinIndex = index;
+            mColumnMaxIndex = index;
+            mColumnMin = y;
+            mColumnMax = y;
+            return;
+        }
+
+        if (y < mColumnMin) {
+            mColumnMin = y;
+            mColumnMinIndex = index;
+        } else if (y > mColumnMax) {
+            mColumnMax = y;
+            mColumnMaxIndex = index;
+        }
+
+        mColumnLast = index;
+    }
+
+    /**
+     * Keeps the first, last, minimum and maximum entries of the current column.
+     *
+     * @param dataSet
+     */
+    private void flushColumn(@NonNull ILineDataSet dataSet) {
+        ensureCapacity(mCount + 4);
+
+        final int first = mColumnFirst;
+        final int last = mColumnLast;
+        final int lowIndex = Math.min(mColumnMinIndex, mColumnMaxIndex);
+        final int highIndex = Math.max(mColumnMinIndex, mColumnMaxIndex);
+
+        addPoint(mCount++, dataSet, first);
+
+        if (lowIndex != first && lowIndex != last) {
+            addPoint(mCount++, dataSet, lowIndex);
+        }
+
+        if (highIndex != lowIndex && highIndex != first && highIndex != last) {
+            addPoint(mCount++, dataSet, highIndex);
+        }
+
+        if (last != first) {
+            addPoint(mCount++, dataSet, last);
+        }
+
+        mColumnFirst = -1;
+    }
+
+    private void addPoint(int position, @NonNull ILineDataSet dataSet, int index) {
+        mXValues[position] = dataSet.getXForIndex(index);
+        mYValues[position] = dataSet.getYForIndex(index);
+        mIndices[position] = index;
+    }
+
+    /**
+     * Makes sure the arrays can hold the given number of points, keeping the existing ones.
+     *
+     * @param capacity
+     */
+    private void ensureCapacity(int capacity) {
+        if (mXValues.length < capacity) {
+            int newCapacity = Math.max(capacity, mXValues.length + (mXValues.length >> 1));
+            mXValues = Arrays.copyOf(mXValues, newCapacity);
+            mYValues = Arrays.copyOf(mYValues, newCapacity);
+            mIndices = Arrays.copyOf(mIndices, newCapacity);
+        }
+    }
+}
@@ -299,11 +299,13 @@ public class RadarChartRenderer extends LineRadarRenderer {
                 continue;
             }
 
-            RadarEntry entry = set.getEntryForIndex((int) highlight.getX());
-            if (!isInBoundsX(entry, set)) {
+            int entryIndex = (int) highlight.getX();
+            if (!isInBoundsX(entryIndex, set)) {
                 continue;
             }
 
+            RadarEntry entry = set.getEntryForIndex(entryIndex);
+
             float y = (entry.getY() - mChart.getYChartMin());
 
             Utils.getPosition(center,
@@ -6,12 +6,14 @@ import android.graphics.drawable.Drawable;
 import androidx.annotation.NonNull;
 
 import com.github.mikephil.charting.animation.ChartAnimator;
+import com.github.mikephil.charting.data.DataSet;
 import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.data.ScatterData;
 import com.github.mikephil.charting.formatter.ValueFormatter;
 import com.github.mikephil.charting.highlight.Highlight;
 import com.github.mikephil.charting.interfaces.dataprovider.ScatterDataProvider;
 import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
+import com.github.mikephil.charting.renderer.scatter.IBatchShapeRenderer;
 import com.github.mikephil.charting.renderer.scatter.IShapeRenderer;
 import com.github.mikephil.charting.utils.MPPointD;
 import com.github.mikephil.charting.utils.MPPointF;
@@ -24,7 +26,15 @@ import java.util.List;
 public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
     protected ScatterDataProvider mChart;
 
-    float[] mPixelBuffer = new float[2];
+    /**
+     * Scratch buffer the values of a DataSet are copied to and transformed in, in chunks.
+     */
+    float[] mPixelBuffer = new float[512];
+
+    /**
+     * Scratch buffer for the colors of the visible points of a chunk.
+     */
+    private int[] mColorsBuffer = new int[256];
 
     public ScatterChartRenderer(ScatterDataProvider chart, ChartAnimator animator, ViewPortHandler viewPortHandler) {
         super(animator, viewPortHandler);
@@ -61,26 +71,89 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
 
         float phaseY = mAnimator.getPhaseY();
 
-        int max = (int) (Math.min(Math.ceil((float) dataSet.getEntryCount() * mAnimator.getPhaseX()), (float) dataSet.getEntryCount()));
+        // Only the entries in the visible x-range are transformed
+        mXBounds.set(mChart, dataSet);
+        final int first = mXBounds.min;
+        final int last = Math.min(mXBounds.min + mXBounds.range + 1, dataSet.getEntryCount());
+
+        final float[] values = mPixelBuffer;
+        final int chunkSize = values.length / 2;
 
-        for (int i = 0; i < max; i++) {
-            Entry entry = dataSet.getEntryForIndex(i);
+        if (mColorsBuffer.length < chunkSize) {
+            mColorsBuffer = new int[chunkSize];
+        }
 
-            mPixelBuffer[0] = entry.getX();
-            mPixelBuffer[1] = entry.getY() * phaseY;
+        final int[] colors = mColorsBuffer;
 
-            trans.pointValuesToPixel(mPixelBuffer);
+        for (int from = first; from < last; from += chunkSize) {
+            final int to = Math.min(from + chunkSize, last);
+            final int length = (to - from) * 2;
 
-            if (!viewPortHandler.isInBoundsRight(mPixelBuffer[0])) {
-                break;
+            dataSet.copyXY(from, to, values, 0);
+            for (int i = 1; i < length; i += 2) {
+                values[i] *= phaseY;
             }
 
-            if (!viewPortHandler.isInBoundsLeft(mPixelBuffer[0]) || !viewPortHandler.isInBoundsY(mPixelBuffer[1])) {
-                continue;
+            trans.pointValuesToPixel(values, 0, length);
+
+            // Move the points inside the content to the start of the buffer, in order
+            boolean isLastChunk = to == last;
+            int count = 0;
+            for (int i = 0; i < length; i += 2) {
+                if (!viewPortHandler.isInBoundsRight(values[i])) {
+                    isLastChunk = true;
+                    break;
+                }
+
+                if (!viewPortHandler.isInBoundsLeft(values[i]) || !viewPortHandler.isInBoundsY(values[i + 1])) {
+                    continue;
+                }
+
+                values[count * 2] = values[i];
+                values[count * 2 + 1] = values[i + 1];
+                colors[count] = dataSet.getColor(from + i / 2);
+                count++;
+            }
+
+            // Draw the consecutive points of the same color at once
+            int runStart = 0;
+            for (int i = 1; i <= count; i++) {
+                if (i == count || colors[i] != colors[runStart]) {
+                    drawShapes(canvas, dataSet, renderer, runStart, i - runStart, colors[runStart]);
+                    runStart = i;
+                }
             }
 
-            mRenderPaint.setColor(dataSet.getColor(i));
-            renderer.renderShape(canvas, dataSet, mViewPortHandler, mPixelBuffer[0], mPixelBuffer[1], mRenderPaint);
+            if (isLastChunk) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Draws the shapes of the given number of points of the pixel buffer, starting at the given
+     * point, with the given color. Uses a single call if the shape renderer supports it.
+     *
+     * @param canvas
+     * @param dataSet
+     * @param renderer
+     * @param start    the index of the first point in the buffer
+     * @param count    the number of points
+     * @param color
+     */
+    private void drawShapes(Canvas canvas, @NonNull IScatterDataSet dataSet, IShapeRenderer renderer,
+                            int start, int count, int color) {
+        final float[] values = mPixelBuffer;
+
+        if (renderer instanceof IBatchShapeRenderer) {
+            mRenderPaint.setColor(color);
+            ((IBatchShapeRenderer) renderer).renderShapes(canvas, dataSet, mViewPortHandler, values, start * 2, count, mRenderPaint);
+            return;
+        }
+
+        for (int i = start; i < start + count; i++) {
+            mRenderPaint.setColor(color);
+            renderer.renderShape(canvas, dataSet, mViewPortHandler, values[i * 2], values[i * 2 + 1], mRenderPaint);
         }
     }
 
@@ -170,11 +243,13 @@ public class ScatterChartRenderer extends LineScatterCandleRadarRenderer {
                 continue;
             }
 
-            final Entry entry = set.getEntryForXValue(highlight.getX(), highlight.getY());
-            if (!isInBoundsX(entry, set)) {
+            int entryIndex = set.getEntryIndex(highlight.getX(), highlight.getY(), DataSet.Rounding.CLOSEST);
+            if (!isInBoundsX(entryIndex, set)) {
                 continue;
             }
 
+            final Entry entry = set.getEntryForIndex(entryIndex);
+
             MPPointD pix = mChart.getTransformer(set.getAxisDependency()).getPixelForValues(entry.getX(), entry.getY() * mAnimator.getPhaseY());
 
             highlight.setDraw((float) pix.x, (float) pix.y);
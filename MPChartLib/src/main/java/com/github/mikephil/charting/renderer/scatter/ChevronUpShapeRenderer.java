@@ -1,28 +1,21 @@
 package com.github.mikephil.charting.renderer.scatter;
 
-import android.graphics.Canvas;
-import android.graphics.Paint;
-
-import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
-import com.github.mikephil.charting.utils.Utils;
-import com.github.mikephil.charting.utils.ViewPortHandler;
-
 /**
  * Created by wajdic on 15/06/2016.
  * Created at Time 09:08
  */
-public class ChevronUpShapeRenderer implements IShapeRenderer {
+public class ChevronUpShapeRenderer extends LineSegmentShapeRenderer {
     @Override
-    public void renderShape(
-            Canvas canvas, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
-            float posX, float posY, Paint renderPaint
+    protected void getSegments(
+            float posX, float posY, float shapeHalf, float[] lines, int index
     ) {
-        final float shapeHalf = dataSet.getScatterShapeSize() / 2f;
-
-        renderPaint.setStyle(Paint.Style.STROKE);
-        renderPaint.setStrokeWidth(Utils.convertDpToPixel(1f));
-
-        canvas.drawLine(posX, posY - (2f * shapeHalf), posX + (2f * shapeHalf), posY, renderPaint);
-        canvas.drawLine(posX, posY - (2f * shapeHalf), posX - (2f * shapeHalf), posY, renderPaint);
+        lines[index] = posX;
+        lines[index + 1] = posY - (2f * shapeHalf);
+        lines[index + 2] = posX + (2f * shapeHalf);
+        lines[index + 3] = posY;
+        lines[index + 4] = posX;
+        lines[index + 5] = posY - (2f * shapeHalf);
+        lines[index + 6] = posX - (2f * shapeHalf);
+        lines[index + 7] = posY;
     }
 }
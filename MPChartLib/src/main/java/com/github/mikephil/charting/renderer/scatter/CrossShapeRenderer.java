@@ -1,27 +1,20 @@
 package com.github.mikephil.charting.renderer.scatter;
 
-import android.graphics.Canvas;
-import android.graphics.Paint;
-
-import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
-import com.github.mikephil.charting.utils.Utils;
-import com.github.mikephil.charting.utils.ViewPortHandler;
-
 /**
  * Created by wajdic on 15/06/2016.
  */
-public class CrossShapeRenderer implements IShapeRenderer {
+public class CrossShapeRenderer extends LineSegmentShapeRenderer {
     @Override
-    public void renderShape(
-            Canvas canvas, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
-            float posX, float posY, Paint renderPaint
+    protected void getSegments(
+            float posX, float posY, float shapeHalf, float[] lines, int index
     ) {
-        final float shapeHalf = dataSet.getScatterShapeSize() / 2f;
-
-        renderPaint.setStyle(Paint.Style.STROKE);
-        renderPaint.setStrokeWidth(Utils.convertDpToPixel(1f));
-
-        canvas.drawLine(posX - shapeHalf, posY, posX + shapeHalf, posY, renderPaint);
-        canvas.drawLine(posX, posY - shapeHalf, posX, posY + shapeHalf, renderPaint);
+        lines[index] = posX - shapeHalf;
+        lines[index + 1] = posY;
+        lines[index + 2] = posX + shapeHalf;
+        lines[index + 3] = posY;
+        lines[index + 4] = posX;
+        lines[index + 5] = posY - shapeHalf;
+        lines[index + 6] = posX;
+        lines[index + 7] = posY + shapeHalf;
     }
 }
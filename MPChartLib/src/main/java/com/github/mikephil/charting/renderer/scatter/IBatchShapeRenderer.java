@@ -0,0 +1,32 @@
+package com.github.mikephil.charting.renderer.scatter;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+/**
+ * An IShapeRenderer which can render the shapes of many points at once, with a few draw calls
+ * instead of one or more per point. The ScatterChartRenderer uses it for the consecutive visible
+ * entries of the same color.
+ */
+public interface IBatchShapeRenderer extends IShapeRenderer {
+    /**
+     * Renders the shapes of the given number of points with the color of the given paint. The
+     * result must look the same as calling renderShape() for every point, with the color of the
+     * paint set again before each call.
+     *
+     * @param canvas          Canvas object for drawing the shapes
+     * @param dataSet         The DataSet to be drawn
+     * @param viewPortHandler Contains information about the current state of the view
+     * @param positions       The positions to draw the shapes at, as x and y pixel pairs
+     * @param offset          The index of the x-position of the first point
+     * @param count           The number of points
+     * @param renderPaint     Paint object used for styling and drawing
+     */
+    void renderShapes(
+            Canvas canvas, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+            float[] positions, int offset, int count, Paint renderPaint
+    );
+}
@@ -0,0 +1,78 @@
+package com.github.mikephil.charting.renderer.scatter;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
+import com.github.mikephil.charting.utils.Utils;
+import com.github.mikephil.charting.utils.ViewPortHandler;
+
+/**
+ * Base class of the shapes made of two line segments. Subclasses only provide the segments of a
+ * shape, which are drawn with a single drawLines() call for all the points rendered at once.
+ */
+public abstract class LineSegmentShapeRenderer implements IBatchShapeRenderer {
+    /**
+     * The number of values written by getSegments(), two segments of two points each.
+     */
+    protected static final int SEGMENT_VALUES = 8;
+
+    /**
+     * Buffer for the lines of the shapes rendered at once.
+     */
+    protected float[] mLinesBuffer = new float[SEGMENT_VALUES];
+
+    /**
+     * Buffer for the position of a shape rendered on its own.
+     */
+    private final float[] mPositionBuffer = new float[2];
+
+    /**
+     * Writes the two segments of the shape at the given position to the lines array, as the
+     * x0, y0, x1, y1 values of each segment.
+     *
+     * @param posX      The x-position of the shape
+     * @param posY      The y-position of the shape
+     * @param shapeHalf Half of the scatter shape size
+     * @param lines     The array to write the segments to
+     * @param index     The index of the first value to write
+     */
+    protected abstract void getSegments(
+            float posX, float posY, float shapeHalf, float[] lines, int index
+    );
+
+    @Override
+    public void renderShape(
+            Canvas canvas, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+            float posX, float posY, Paint renderPaint
+    ) {
+        mPositionBuffer[0] = posX;
+        mPositionBuffer[1] = posY;
+        renderShapes(canvas, dataSet, viewPortHandler, mPositionBuffer, 0, 1, renderPaint);
+    }
+
+    @Override
+    public void renderShapes(
+            Canvas canvas, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+            float[] positions, int offset, int count, Paint renderPaint
+    ) {
+        final float shapeHalf = dataSet.getScatterShapeSize() / 2f;
+
+        renderPaint.setStyle(Paint.Style.STROKE);
+        renderPaint.setStrokeWidth(Utils.convertDpToPixel(1f));
+
+        if (mLinesBuffer.length < count * SEGMENT_VALUES) {
+            mLinesBuffer = new float[count * SEGMENT_VALUES];
+        }
+
+        final float[] lines = mLinesBuffer;
+        final int end = offset + count * 2;
+        int j = 0;
+        for (int i = offset; i < end; i += 2) {
+            getSegments(positions[i], positions[i + 1], shapeHalf, lines, j);
+            j += SEGMENT_VALUES;
+        }
+
+        canvas.drawLines(lines, 0, j, renderPaint);
+    }
+}
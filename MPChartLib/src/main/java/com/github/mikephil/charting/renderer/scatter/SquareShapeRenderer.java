@@ -11,7 +11,7 @@ import com.github.mikephil.charting.utils.ViewPortHandler;
 /**
  * Created by wajdic on 15/06/2016.
  */
-public class SquareShapeRenderer implements IShapeRenderer {
+public class SquareShapeRenderer implements IBatchShapeRenderer {
     @Override
     public void renderShape(
             Canvas canvas, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
@@ -57,4 +57,34 @@ public class SquareShapeRenderer implements IShapeRenderer {
             );
         }
     }
+
+    @Override
+    public void renderShapes(
+            Canvas canvas, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+            float[] positions, int offset, int count, Paint renderPaint
+    ) {
+        final float shapeSize = dataSet.getScatterShapeSize();
+        final float shapeHoleSizeHalf = Utils.convertDpToPixel(dataSet.getScatterShapeHoleRadius());
+        final int end = offset + count * 2;
+
+        if (shapeSize > 0f && shapeHoleSizeHalf == 0f) {
+            // Without a hole, the stroke covers a filled square of the shape size, drawn as one point each
+            final Paint.Cap cap = renderPaint.getStrokeCap();
+
+            renderPaint.setStyle(Paint.Style.STROKE);
+            renderPaint.setStrokeWidth(shapeSize);
+            renderPaint.setStrokeCap(Paint.Cap.SQUARE);
+
+            canvas.drawPoints(positions, offset, count * 2, renderPaint);
+
+            renderPaint.setStrokeCap(cap);
+        } else {
+            // Every hole must be drawn over its own shape only
+            final int color = renderPaint.getColor();
+            for (int i = offset; i < end; i += 2) {
+                renderPaint.setColor(color);
+                renderShape(canvas, dataSet, viewPortHandler, positions[i], positions[i + 1], renderPaint);
+            }
+        }
+    }
 }
@@ -12,7 +12,7 @@ import com.github.mikephil.charting.utils.ViewPortHandler;
 /**
  * Created by wajdic on 15/06/2016.
  */
-public class TriangleShapeRenderer implements IShapeRenderer {
+public class TriangleShapeRenderer implements IBatchShapeRenderer {
     protected Path mTrianglePathBuffer = new Path();
 
     @Override
@@ -62,4 +62,55 @@ public class TriangleShapeRenderer implements IShapeRenderer {
             tri.reset();
         }
     }
+
+    @Override
+    public void renderShapes(
+            Canvas canvas, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
+            float[] positions, int offset, int count, Paint renderPaint
+    ) {
+        final float shapeSize = dataSet.getScatterShapeSize();
+        final float shapeHalf = shapeSize / 2f;
+        final float shapeHoleSizeHalf = Utils.convertDpToPixel(dataSet.getScatterShapeHoleRadius());
+        final float shapeHoleSize = shapeHoleSizeHalf * 2f;
+        final float shapeStrokeSize = (shapeSize - shapeHoleSize) / 2f;
+        final int shapeHoleColor = dataSet.getScatterShapeHoleColor();
+        final int end = offset + count * 2;
+
+        // The inner triangle, which winds the other way, must stay inside the outer one for the
+        // triangles to be filled the same when they are all in one path
+        if (shapeSize <= 0f || shapeHoleSizeHalf < 0f || shapeHoleSizeHalf > shapeHalf
+                || shapeHoleColor != ColorTemplate.COLOR_NONE) {
+            // Every hole must be drawn over its own triangle only
+            final int color = renderPaint.getColor();
+            for (int i = offset; i < end; i += 2) {
+                renderPaint.setColor(color);
+                renderShape(canvas, dataSet, viewPortHandler, positions[i], positions[i + 1], renderPaint);
+            }
+            return;
+        }
+
+        renderPaint.setStyle(Paint.Style.FILL);
+
+        Path tri = mTrianglePathBuffer;
+        tri.reset();
+
+        for (int i = offset; i < end; i += 2) {
+            final float posX = positions[i];
+            final float posY = positions[i + 1];
+
+            tri.moveTo(posX, posY - shapeHalf);
+            tri.lineTo(posX + shapeHalf, posY + shapeHalf);
+            tri.lineTo(posX - shapeHalf, posY + shapeHalf);
+            tri.lineTo(posX, posY - shapeHalf);
+
+            tri.moveTo(posX - shapeHalf + shapeStrokeSize, posY + shapeHalf - shapeStrokeSize);
+            tri.lineTo(posX + shapeHalf - shapeStrokeSize, posY + shapeHalf - shapeStrokeSize);
+            tri.lineTo(posX, posY - shapeHalf + shapeStrokeSize);
+            tri.lineTo(posX - shapeHalf + shapeStrokeSize, posY + shapeHalf - shapeStrokeSize);
+            tri.close();
+        }
+
+        canvas.drawPath(tri, renderPaint);
+        tri.reset();
+    }
 }
@@ -1,35 +1,20 @@
 package com.github.mikephil.charting.renderer.scatter;
 
-import android.graphics.Canvas;
-import android.graphics.Paint;
-
-import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
-import com.github.mikephil.charting.utils.Utils;
-import com.github.mikephil.charting.utils.ViewPortHandler;
-
 /**
  * Created by wajdic on 15/06/2016.
  */
-public class XShapeRenderer implements IShapeRenderer {
+public class XShapeRenderer extends LineSegmentShapeRenderer {
     @Override
-    public void renderShape(
-            Canvas canvas, IScatterDataSet dataSet, ViewPortHandler viewPortHandler,
-            float posX, float posY, Paint renderPaint
+    protected void getSegments(
+            float posX, float posY, float shapeHalf, float[] lines, int index
     ) {
-        final float shapeHalf = dataSet.getScatterShapeSize() / 2f;
-
-        renderPaint.setStyle(Paint.Style.STROKE);
-        renderPaint.setStrokeWidth(Utils.convertDpToPixel(1f));
-
-        canvas.drawLine(
-                posX - shapeHalf, posY - shapeHalf,
-                posX + shapeHalf, posY + shapeHalf,
-                renderPaint
-        );
-        canvas.drawLine(
-                posX + shapeHalf, posY - shapeHalf,
-                posX - shapeHalf, posY + shapeHalf,
-                renderPaint
-        );
+        lines[index] = posX - shapeHalf;
+        lines[index + 1] = posY - shapeHalf;
+        lines[index + 2] = posX + shapeHalf;
+        lines[index + 3] = posY + shapeHalf;
+        lines[index + 4] = posX + shapeHalf;
+        lines[index + 5] = posY - shapeHalf;
+        lines[index + 6] = posX - shapeHalf;
+        lines[index + 7] = posY + shapeHalf;
     }
 }
@@ -0,0 +1,185 @@
+package com.github.mikephil.charting.utils;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.RectF;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * A part of a chart drawn into a retained bitmap, which is only drawn again when it was marked as
+ * dirty, and is otherwise just copied to the canvas of the chart.
+ */
+public class RenderLayer {
+    @Nullable
+    private Bitmap mBitmap;
+
+    @Nullable
+    private Canvas mCanvas;
+
+    /**
+     * Second bitmap of the same size, which receives the shifted content in scroll().
+     */
+    @Nullable
+    private Bitmap mScrollBitmap;
+
+    @Nullable
+    private Canvas mScrollCanvas;
+
+    private boolean mDirty = true;
+
+    /**
+     * Marks this layer as needing to be drawn again.
+     */
+    public void invalidate() {
+        mDirty = true;
+    }
+
+    /**
+     * Marks the content of this layer as up to date, e.g. when the change which made it dirty
+     * does not affect it.
+     */
+    public void validate() {
+        mDirty = false;
+    }
+
+    /**
+     * Returns true if this layer holds content drawn for a chart of the given size.
+     *
+     * @param width
+     * @param height
+     */
+    public boolean hasSize(int width, int height) {
+        return mBitmap != null && mBitmap.getWidth() == width && mBitmap.getHeight() == height;
+    }
+
+    /**
+     * Returns true if this layer must be drawn again to be composited in a chart of the given
+     * size, because it was marked as dirty or was drawn for another size.
+     *
+     * @param width
+     * @param height
+     */
+    public boolean isDirty(int width, int height) {
+        return mDirty || mBitmap == null || mBitmap.getWidth() != width || mBitmap.getHeight() != height;
+    }
+
+    /**
+     * Returns the canvas to draw this layer again, for a chart of the given size, cleared. The
+     * bitmap is only allocated again if the size changed. Clears the dirty flag.
+     *
+     * @param width
+     * @param height
+     */
+    @NonNull
+    public Canvas beginDraw(int width, int height) {
+        if (mBitmap == null || mCanvas == null || mBitmap.getWidth() != width || mBitmap.getHeight() != height) {
+            recycle();
+
+            mBitmap = Bitmap.createBitmap(Math.max(width, 1), Math.max(height, 1), Bitmap.Config.ARGB_8888);
+            mCanvas = new Canvas(mBitmap);
+        } else {
+            mBitmap.eraseColor(Color.TRANSPARENT);
+        }
+
+        mDirty = false;
+
+        return mCanvas;
+    }
+
+    /**
+     * Shifts the content of this layer inside the given rectangle by the given number of pixels,
+     * and clears everything else. Returns the canvas to draw the exposed part, which is not
+     * cleared. Clears the dirty flag. The layer must already hold content, see hasSize().
+     *
+     * @param dx
+     * @param dy
+     * @param clip
+     */
+    @NonNull
+    public Canvas scroll(int dx, int dy, @NonNull RectF clip) {
+        if (mBitmap == null || mCanvas == null) {
+            throw new IllegalStateException("Nothing to scroll");
+        }
+
+        if (mScrollBitmap == null || mScrollCanvas == null
+                || mScrollBitmap.getWidth() != mBitmap.getWidth() || mScrollBitmap.getHeight() != mBitmap.getHeight()) {
+            if (mScrollBitmap != null) {
+                mScrollBitmap.recycle();
+            }
+
+            mScrollBitmap = Bitmap.createBitmap(mBitmap.getWidth(), mBitmap.getHeight(), Bitmap.Config.ARGB_8888);
+            mScrollCanvas = new Canvas(mScrollBitmap);
+        } else {
+            mScrollBitmap.eraseColor(Color.TRANSPARENT);
+        }
+
+        int clipRestoreCount = mScrollCanvas.save();
+        mScrollCanvas.clipRect(clip);
+        mScrollCanvas.drawBitmap(mBitmap, dx, dy, null);
+        mScrollCanvas.restoreToCount(clipRestoreCount);
+
+        // The shifted content becomes the content of this layer
+        Bitmap bitmap = mBitmap;
+        Canvas canvas = mCanvas;
+        mBitmap = mScrollBitmap;
+        mCanvas = mScrollCanvas;
+        mScrollBitmap = bitmap;
+        mScrollCanvas = canvas;
+
+        mDirty = false;
+
+        return mCanvas;
+    }
+
+    /**
+     * Copies the last drawn content of this layer to the given canvas.
+     *
+     * @param canvas
+     */
+    public void draw(@NonNull Canvas canvas) {
+        draw(canvas, 0f, 0f);
+    }
+
+    /**
+     * Copies the last drawn content of this layer to the given canvas, at the given offset.
+     *
+     * @param canvas
+     * @param dx
+     * @param dy
+     */
+    public void draw(@NonNull Canvas canvas, float dx, float dy) {
+        if (mBitmap != null) {
+            canvas.drawBitmap(mBitmap, dx, dy, null);
+        }
+    }
+
+    /**
+     * Releases the bitmap, the layer is drawn again when needed.
+     */
+    public void recycle() {
+        if (mCanvas != null) {
+            mCanvas.setBitmap(null);
+            mCanvas = null;
+        }
+
+        if (mBitmap != null) {
+            mBitmap.recycle();
+            mBitmap = null;
+        }
+
+        if (mScrollCanvas != null) {
+            mScrollCanvas.setBitmap(null);
+            mScrollCanvas = null;
+        }
+
+        if (mScrollBitmap != null) {
+            mScrollBitmap.recycle();
+            mScrollBitmap = null;
+        }
+
+        mDirty = true;
+    }
+}
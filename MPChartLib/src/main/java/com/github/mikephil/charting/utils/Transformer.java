@@ -6,13 +6,14 @@ import android.graphics.RectF;
 
 import androidx.annotation.NonNull;
 
-import com.github.mikephil.charting.data.CandleEntry;
-import com.github.mikephil.charting.data.Entry;
 import com.github.mikephil.charting.interfaces.datasets.IBubbleDataSet;
 import com.github.mikephil.charting.interfaces.datasets.ICandleDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IDataSet;
 import com.github.mikephil.charting.interfaces.datasets.ILineDataSet;
 import com.github.mikephil.charting.interfaces.datasets.IScatterDataSet;
+import com.github.mikephil.charting.interfaces.datasets.IUniformDataSet;
 
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -42,8 +43,6 @@ public class Transformer {
 
     protected float[] valuePointsForGenerateTransformedValuesCandle = new float[1];
 
-    protected Matrix mPixelToValueMatrixBuffer = new Matrix();
-
     @NonNull
     private final Matrix mMBuffer1 = new Matrix();
 
@@ -55,6 +54,68 @@ public class Transformer {
      */
     float[] ptsBuffer = new float[2];
 
+    /**
+     * Incremented whenever the value or the offset matrix changes, see invalidateMatrices().
+     */
+    private int mMatrixVersion = 0;
+
+    /**
+     * Version of the value and offset matrices the cached matrices were computed from, -1 if they
+     * were never computed.
+     */
+    private int mCachedMatrixVersion = -1;
+
+    /**
+     * Values of the touch matrix the cached matrices were computed from. The touch matrix is
+     * compared by value, as it can be modified directly through getMatrixTouch().
+     */
+    @NonNull
+    private final float[] mCachedTouchValues = new float[9];
+
+    /**
+     * Buffer for the current values of the touch matrix.
+     */
+    @NonNull
+    private final float[] mTouchValues = new float[9];
+
+    /**
+     * Concatenation of the value, touch and offset matrices, computed again only when one of them
+     * changed.
+     */
+    @NonNull
+    private final Matrix mCachedValueToPixel = new Matrix();
+
+    /**
+     * Inverse of mCachedValueToPixel. If it cannot be inverted, the inverses of the offset, touch
+     * and value matrices concatenated, like when inverting them one by one.
+     */
+    @NonNull
+    private final Matrix mCachedPixelToValue = new Matrix();
+
+    /**
+     * Buffer for the inverse of a single matrix, when mCachedValueToPixel cannot be inverted.
+     */
+    @NonNull
+    private final Matrix mInverseBuffer = new Matrix();
+
+    /**
+     * The values of the cached matrices.
+     */
+    @NonNull
+    private final float[] mValueToPixelValues = new float[9];
+
+    @NonNull
+    private final float[] mPixelToValueValues = new float[9];
+
+    /**
+     * True if the cached matrices are only made of a scale and a translation, which is the case
+     * unless a custom matrix was set, so that points can be mapped without going through the
+     * matrix.
+     */
+    private boolean mValueToPixelScaleTranslate = false;
+
+    private boolean mPixelToValueScaleTranslate = false;
+
     public Transformer(ViewPortHandler viewPortHandler) {
         this.mViewPortHandler = viewPortHandler;
     }
@@ -83,6 +144,8 @@ public class Transformer {
         mMatrixValueToPx.reset();
         mMatrixValueToPx.postTranslate(-xChartMin, -yChartMin);
         mMatrixValueToPx.postScale(scaleX, -scaleY);
+
+        invalidateMatrices();
     }
 
     /**
@@ -102,6 +165,107 @@ public class Transformer {
             mMatrixOffset.setTranslate(mViewPortHandler.offsetLeft(), -mViewPortHandler.offsetTop());
             mMatrixOffset.postScale(1f, -1f);
         }
+
+        invalidateMatrices();
+    }
+
+    /**
+     * Marks the cached value-to-pixel matrix as outdated. Must be called after modifying the
+     * value or the offset matrix directly, changes of the touch matrix are detected by comparing
+     * its values.
+     */
+    public void invalidateMatrices() {
+        mMatrixVersion++;
+    }
+
+    /**
+     * Computes the concatenated value-to-pixel matrix and its inverse again if the value, offset
+     * or touch matrix changed since they were last computed.
+     */
+    private void updateMatrices() {
+        final Matrix touch = mViewPortHandler.getMatrixTouch();
+        touch.getValues(mTouchValues);
+        if (mCachedMatrixVersion == mMatrixVersion && Arrays.equals(mCachedTouchValues, mTouchValues)) {
+            return;
+        }
+
+        // Keep the order "value-touch-offset"
+        mCachedValueToPixel.set(mMatrixValueToPx);
+        mCachedValueToPixel.postConcat(touch);
+        mCachedValueToPixel.postConcat(mMatrixOffset);
+
+        if (!mCachedValueToPixel.invert(mCachedPixelToValue)) {
+            // E.g. all values are the same, there is no value for a pixel. Invert the matrices one
+            // by one instead, a matrix which cannot be inverted keeps the previous inverse
+            final Matrix inverse = mInverseBuffer;
+            inverse.reset();
+            mCachedPixelToValue.reset();
+
+            mMatrixOffset.invert(inverse);
+            mCachedPixelToValue.postConcat(inverse);
+
+            touch.invert(inverse);
+            mCachedPixelToValue.postConcat(inverse);
+
+            mMatrixValueToPx.invert(inverse);
+            mCachedPixelToValue.postConcat(inverse);
+        }
+
+        mCachedValueToPixel.getValues(mValueToPixelValues);
+        mCachedPixelToValue.getValues(mPixelToValueValues);
+        mValueToPixelScaleTranslate = isScaleTranslate(mValueToPixelValues);
+        mPixelToValueScaleTranslate = isScaleTranslate(mPixelToValueValues);
+
+        mCachedMatrixVersion = mMatrixVersion;
+        System.arraycopy(mTouchValues, 0, mCachedTouchValues, 0, 9);
+    }
+
+    /**
+     * Returns true if the matrix with the given values is only made of a scale and a translation.
+     *
+     * @param m
+     */
+    private static boolean isScaleTranslate(@NonNull float[] m) {
+        return m[Matrix.MSKEW_X] == 0f && m[Matrix.MSKEW_Y] == 0f && m[Matrix.MPERSP_0] == 0f
+                && m[Matrix.MPERSP_1] == 0f && m[Matrix.MPERSP_2] == 1f;
+    }
+
+    /**
+     * Maps the given number of points stored as x and y pairs starting at the given offset with
+     * the scale and translation of the matrix with the given values.
+     *
+     * @param m
+     * @param points
+     * @param offset
+     * @param count  the number of points
+     */
+    private static void mapPoints(@NonNull float[] m, @NonNull float[] points, int offset, int count) {
+        final float scaleX = m[Matrix.MSCALE_X];
+        final float scaleY = m[Matrix.MSCALE_Y];
+        final float transX = m[Matrix.MTRANS_X];
+        final float transY = m[Matrix.MTRANS_Y];
+
+        final int end = offset + count * 2;
+        for (int i = offset; i < end; i += 2) {
+            points[i] = points[i] * scaleX + transX;
+            points[i + 1] = points[i + 1] * scaleY + transY;
+        }
+    }
+
+    /**
+     * Maps the given rectangle with the scale and translation of the matrix with the given
+     * values, keeping it sorted like Matrix.mapRect() does.
+     *
+     * @param m
+     * @param rect
+     */
+    private static void mapRect(@NonNull float[] m, @NonNull RectF rect) {
+        final float left = rect.left * m[Matrix.MSCALE_X] + m[Matrix.MTRANS_X];
+        final float right = rect.right * m[Matrix.MSCALE_X] + m[Matrix.MTRANS_X];
+        final float top = rect.top * m[Matrix.MSCALE_Y] + m[Matrix.MTRANS_Y];
+        final float bottom = rect.bottom * m[Matrix.MSCALE_Y] + m[Matrix.MTRANS_Y];
+
+        rect.set(Math.min(left, right), Math.min(top, bottom), Math.max(left, right), Math.max(top, bottom));
     }
 
     /**
@@ -120,18 +284,12 @@ public class Transformer {
         }
 
         float[] valuePoints = valuePointsForGenerateTransformedValuesScatter;
-        for (int i = 0; i < count; i += 2) {
-            Entry entry = data.getEntryForIndex(i / 2 + from);
-            if (entry != null) {
-                valuePoints[i] = entry.getX();
-                valuePoints[i + 1] = entry.getY() * phaseY;
-            } else {
-                valuePoints[i] = 0f;
-                valuePoints[i + 1] = 0f;
-            }
+        if (mapUniformValues(data, valuePoints, count, from, phaseY)) {
+            return valuePoints;
         }
 
-        getValueToPixelMatrix().mapPoints(valuePoints);
+        copyValues(data, valuePoints, count, from, phaseY);
+        pointValuesToPixel(valuePoints);
 
         return valuePoints;
     }
@@ -152,18 +310,8 @@ public class Transformer {
         }
 
         float[] valuePoints = valuePointsForGenerateTransformedValuesBubble;
-        for (int i = 0; i < count; i += 2) {
-            Entry entry = data.getEntryForIndex(i / 2 + from);
-            if (entry != null) {
-                valuePoints[i] = entry.getX();
-                valuePoints[i + 1] = entry.getY() * phaseY;
-            } else {
-                valuePoints[i] = 0f;
-                valuePoints[i + 1] = 0f;
-            }
-        }
-
-        getValueToPixelMatrix().mapPoints(valuePoints);
+        copyValues(data, valuePoints, count, from, phaseY);
+        pointValuesToPixel(valuePoints);
 
         return valuePoints;
     }
@@ -184,20 +332,101 @@ public class Transformer {
         }
 
         float[] valuePoints = valuePointsForGenerateTransformedValuesLine;
+        if (mapUniformValues(data, valuePoints, count, min, phaseY)) {
+            return valuePoints;
+        }
+
+        copyValues(data, valuePoints, count, min, phaseY);
+        pointValuesToPixel(valuePoints);
+
+        return valuePoints;
+    }
+
+    /**
+     * Fills the given array with the x and y values of the entries starting at the given index,
+     * with the y-values multiplied by phaseY. The values are copied in bulk with
+     * {@link IDataSet#copyXY(int, int, float[], int)}, indices outside of the DataSet are set to
+     * (0, 0).
+     *
+     * @param data
+     * @param valuePoints the array to fill, as x and y value pairs
+     * @param count       the number of floats to fill
+     * @param from        the index of the first Entry
+     * @param phaseY
+     */
+    private static void copyValues(
+            @NonNull IDataSet<?> data, @NonNull float[] valuePoints, int count, int from, float phaseY
+    ) {
+        final int first = Math.max(from, 0);
+        final int last = Math.min(from + count / 2, data.getEntryCount());
+
+        if (first >= last) {
+            Arrays.fill(valuePoints, 0, count, 0f);
+            return;
+        }
+
+        final int start = (first - from) * 2;
+        final int end = (last - from) * 2;
+        Arrays.fill(valuePoints, 0, start, 0f);
+        Arrays.fill(valuePoints, end, count, 0f);
+
+        data.copyXY(first, last, valuePoints, start);
+
+        if (phaseY != 1f) {
+            for (int i = start + 1; i < end; i += 2) {
+                valuePoints[i] *= phaseY;
+            }
+        }
+    }
+
+    /**
+     * Maps the values of a uniformly spaced DataSet to pixels with a single affine step per point,
+     * without going through the matrix. Only possible if the value-to-pixel matrix is made of a
+     * scale and a translation, which is the case unless a custom matrix was set.
+     *
+     * @param data
+     * @param valuePoints the array to fill, as x and y pixel pairs
+     * @param count       the number of floats to fill
+     * @param from        the index of the first Entry
+     * @param phaseY
+     * @return false if the DataSet is not uniformly spaced or the matrix is not a scale and a
+     * translation, in which case nothing was done
+     */
+    private boolean mapUniformValues(
+            @NonNull IDataSet<?> data, @NonNull float[] valuePoints, int count, int from, float phaseY
+    ) {
+        if (!(data instanceof IUniformDataSet)) {
+            return false;
+        }
+
+        updateMatrices();
+        if (!mValueToPixelScaleTranslate) {
+            return false;
+        }
+
+        final float[] m = mValueToPixelValues;
+
+        final IUniformDataSet uniform = (IUniformDataSet) data;
+        final double startX = ((double) uniform.getX0() + (double) from * uniform.getDeltaX())
+                * m[Matrix.MSCALE_X] + m[Matrix.MTRANS_X];
+        final double stepX = (double) uniform.getDeltaX() * m[Matrix.MSCALE_X];
+        final float scaleY = phaseY * m[Matrix.MSCALE_Y];
+        final float transY = m[Matrix.MTRANS_Y];
+        final int entryCount = data.getEntryCount();
+
         for (int i = 0; i < count; i += 2) {
-            Entry entry = data.getEntryForIndex(i / 2 + min);
-            if (entry != null) {
-                valuePoints[i] = entry.getX();
-                valuePoints[i + 1] = entry.getY() * phaseY;
+            final int index = i / 2 + from;
+            if (index >= 0 && index < entryCount) {
+                valuePoints[i] = (float) (startX + (i / 2) * stepX);
+                valuePoints[i + 1] = data.getYForIndex(index) * scaleY + transY;
             } else {
-                valuePoints[i] = 0f;
-                valuePoints[i + 1] = 0f;
+                // Same as mapping (0, 0)
+                valuePoints[i] = m[Matrix.MTRANS_X];
+                valuePoints[i + 1] = transY;
             }
         }
 
-        getValueToPixelMatrix().mapPoints(valuePoints);
-
-        return valuePoints;
+        return true;
     }
 
     /**
@@ -216,18 +445,19 @@ public class Transformer {
         }
 
         float[] valuePoints = valuePointsForGenerateTransformedValuesCandle;
+        final int entryCount = data.getEntryCount();
         for (int i = 0; i < count; i += 2) {
-            CandleEntry entry = data.getEntryForIndex(i / 2 + from);
-            if (entry != null) {
-                valuePoints[i] = entry.getX();
-                valuePoints[i + 1] = entry.getHigh() * phaseY;
+            final int index = i / 2 + from;
+            if (index >= 0 && index < entryCount) {
+                valuePoints[i] = data.getXForIndex(index);
+                valuePoints[i + 1] = data.getShadowHighForIndex(index) * phaseY;
             } else {
                 valuePoints[i] = 0f;
                 valuePoints[i + 1] = 0f;
             }
         }
 
-        getValueToPixelMatrix().mapPoints(valuePoints);
+        pointValuesToPixel(valuePoints);
 
         return valuePoints;
     }
@@ -239,9 +469,8 @@ public class Transformer {
      * @param path
      */
     public void pathValueToPixel(@NonNull Path path) {
-        path.transform(mMatrixValueToPx);
-        path.transform(mViewPortHandler.getMatrixTouch());
-        path.transform(mMatrixOffset);
+        updateMatrices();
+        path.transform(mCachedValueToPixel);
     }
 
     /**
@@ -262,9 +491,26 @@ public class Transformer {
      * @param points
      */
     public void pointValuesToPixel(float[] points) {
-        mMatrixValueToPx.mapPoints(points);
-        mViewPortHandler.getMatrixTouch().mapPoints(points);
-        mMatrixOffset.mapPoints(points);
+        pointValuesToPixel(points, 0, points.length);
+    }
+
+    /**
+     * Transforms the points stored in points[offset, offset + length) with all matrices, leaving
+     * the rest of the array untouched.
+     *
+     * @param points
+     * @param offset the index of the first x-value
+     * @param length the number of floats to transform, twice the number of points
+     */
+    public void pointValuesToPixel(@NonNull float[] points, int offset, int length) {
+        final int count = length / 2;
+
+        updateMatrices();
+        if (mValueToPixelScaleTranslate) {
+            mapPoints(mValueToPixelValues, points, offset, count);
+        } else {
+            mCachedValueToPixel.mapPoints(points, offset, points, offset, count);
+        }
     }
 
     /**
@@ -273,9 +519,12 @@ public class Transformer {
      * @param rect
      */
     public void rectValueToPixel(RectF rect) {
-        mMatrixValueToPx.mapRect(rect);
-        mViewPortHandler.getMatrixTouch().mapRect(rect);
-        mMatrixOffset.mapRect(rect);
+        updateMatrices();
+        if (mValueToPixelScaleTranslate) {
+            mapRect(mValueToPixelValues, rect);
+        } else {
+            mCachedValueToPixel.mapRect(rect);
+        }
     }
 
     /**
@@ -289,9 +538,7 @@ public class Transformer {
         rect.top *= phaseY;
         rect.bottom *= phaseY;
 
-        mMatrixValueToPx.mapRect(rect);
-        mViewPortHandler.getMatrixTouch().mapRect(rect);
-        mMatrixOffset.mapRect(rect);
+        rectValueToPixel(rect);
     }
 
     public void rectToPixelPhaseHorizontal(@NonNull RectF rect, float phaseY) {
@@ -299,9 +546,7 @@ public class Transformer {
         rect.left *= phaseY;
         rect.right *= phaseY;
 
-        mMatrixValueToPx.mapRect(rect);
-        mViewPortHandler.getMatrixTouch().mapRect(rect);
-        mMatrixOffset.mapRect(rect);
+        rectValueToPixel(rect);
     }
 
     /**
@@ -310,9 +555,8 @@ public class Transformer {
      * @param rects
      */
     public void rectValuesToPixel(@NonNull List<RectF> rects) {
-        Matrix matrix = getValueToPixelMatrix();
         for (int i = 0; i < rects.size(); i++) {
-            matrix.mapRect(rects.get(i));
+            rectValueToPixel(rects.get(i));
         }
     }
 
@@ -323,18 +567,13 @@ public class Transformer {
      * @param pixels
      */
     public void pixelsToValue(float[] pixels) {
-        Matrix matrix = mPixelToValueMatrixBuffer;
-        matrix.reset();
-
-        // Invert all matrices to convert back to the original value
-        mMatrixOffset.invert(matrix);
-        matrix.mapPoints(pixels);
-
-        mViewPortHandler.getMatrixTouch().invert(matrix);
-        matrix.mapPoints(pixels);
-
-        mMatrixValueToPx.invert(matrix);
-        matrix.mapPoints(pixels);
+        // The inverse of all matrices is cached
+        updateMatrices();
+        if (mPixelToValueScaleTranslate) {
+            mapPoints(mPixelToValueValues, pixels, 0, pixels.length / 2);
+        } else {
+            mCachedPixelToValue.mapPoints(pixels);
+        }
     }
 
     /**
@@ -382,25 +621,42 @@ public class Transformer {
         return MPPointD.getInstance(xPx, yPx);
     }
 
+    /**
+     * Returns the matrix that maps the values to the content. As it may be modified, the cached
+     * value-to-pixel matrix is computed again on the next transformation.
+     */
     public Matrix getValueMatrix() {
+        invalidateMatrices();
         return mMatrixValueToPx;
     }
 
+    /**
+     * Returns the matrix that contains the offsets. As it may be modified, the cached
+     * value-to-pixel matrix is computed again on the next transformation.
+     */
     public Matrix getOffsetMatrix() {
+        invalidateMatrices();
         return mMatrixOffset;
     }
 
+    /**
+     * Returns a copy of the matrix that maps values to pixels with all matrices.
+     */
     @NonNull
     public Matrix getValueToPixelMatrix() {
-        mMBuffer1.set(mMatrixValueToPx);
-        mMBuffer1.postConcat(mViewPortHandler.mMatrixTouch);
-        mMBuffer1.postConcat(mMatrixOffset);
+        updateMatrices();
+        mMBuffer1.set(mCachedValueToPixel);
         return mMBuffer1;
     }
 
+    /**
+     * Returns a copy of the matrix that maps pixels to values, the inverse of
+     * getValueToPixelMatrix().
+     */
     @NonNull
     public Matrix getPixelToValueMatrix() {
-        getValueToPixelMatrix().invert(mMBuffer2);
+        updateMatrices();
+        mMBuffer2.set(mCachedPixelToValue);
         return mMBuffer2;
     }
 }
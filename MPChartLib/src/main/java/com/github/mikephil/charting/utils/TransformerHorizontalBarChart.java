@@ -31,5 +31,7 @@ public class TransformerHorizontalBarChart extends Transformer {
             );
             mMatrixOffset.postScale(-1f, 1f);
         }
+
+        invalidateMatrices();
     }
 }
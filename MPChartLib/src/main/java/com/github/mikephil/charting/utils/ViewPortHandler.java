@@ -4,8 +4,11 @@ import android.graphics.Matrix;
 import android.graphics.RectF;
 import android.view.View;
 
+import com.github.mikephil.charting.listener.OnViewportChangedListener;
+
 import androidx.annotation.FloatRange;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 /**
  * Class that contains information about the charts current viewport settings, including offsets,
@@ -87,6 +90,12 @@ public class ViewPortHandler {
      */
     private float mTransOffsetY = 0f;
 
+    /**
+     * Notified by refresh() instead of invalidating the view, null if not set.
+     */
+    @Nullable
+    private OnViewportChangedListener mViewportChangedListener = null;
+
     /**
      * Sets the width and height of the chart.
      *
@@ -105,6 +114,17 @@ public class ViewPortHandler {
         restrainViewPort(offsetLeft, offsetTop, offsetRight, offsetBottom);
     }
 
+    /**
+     * Sets the listener notified by refresh() when the touch matrix changed and the chart has to
+     * be redrawn, instead of invalidating the view passed to refresh(). Set by the chart to redraw
+     * only what depends on the viewport.
+     *
+     * @param listener
+     */
+    public void setOnViewportChangedListener(@Nullable OnViewportChangedListener listener) {
+        mViewportChangedListener = listener;
+    }
+
     public boolean hasChartDimens() {
         return mChartHeight > 0f && mChartWidth > 0f;
     }
@@ -399,7 +419,11 @@ public class ViewPortHandler {
         limitTransAndScale(mMatrixTouch, mContentRect);
 
         if (invalidate) {
-            chart.invalidate();
+            if (mViewportChangedListener != null) {
+                mViewportChangedListener.onViewportChanged();
+            } else {
+                chart.invalidate();
+            }
         }
 
         newMatrix.set(mMatrixTouch);
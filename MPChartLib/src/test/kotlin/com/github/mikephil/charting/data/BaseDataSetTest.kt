@@ -426,4 +426,39 @@ abstract class BaseDataSetTest<E : Entry, T : BaseDataSet<E>> {
 	open fun contains() {
 		assertThat(this.dataSet.contains(null)).isFalse()
 	}
+
+	@Test
+	fun notifyChange() {
+		assertThat(this.dataSet.changes).isEqualTo(DataChange.NONE)
+		val version = this.dataSet.version
+
+		this.dataSet.notifyStyleChanged()
+		this.dataSet.isVisible = false
+		this.dataSet.isVisible = false
+		assertThat(this.dataSet.changes).isEqualTo(DataChange.STYLE or DataChange.VISIBILITY)
+		assertThat(this.dataSet.version).isEqualTo(version + 2)
+
+		this.dataSet.clearChanges()
+		assertThat(this.dataSet.changes).isEqualTo(DataChange.NONE)
+		assertThat(this.dataSet.version).isEqualTo(version + 2)
+
+		this.dataSet.notifyEntriesAppended()
+		assertThat(DataChange.contains(this.dataSet.changes, DataChange.VALUES)).isTrue()
+		assertThat(DataChange.contains(this.dataSet.changes, DataChange.STYLE)).isFalse()
+
+		this.dataSet.notifyDataSetChanged()
+		assertThat(this.dataSet.changes).isEqualTo(DataChange.ALL)
+	}
+
+	@Test
+	fun setColor_notifyChange() {
+		this.dataSet.setColor(1)
+		assertThat(this.dataSet.changes).isEqualTo(DataChange.STYLE)
+
+		this.dataSet.clearChanges()
+		this.dataSet.setColors(1, 2)
+		this.dataSet.addColor(3)
+		this.dataSet.label = "Label"
+		assertThat(this.dataSet.changes).isEqualTo(DataChange.STYLE)
+	}
 }
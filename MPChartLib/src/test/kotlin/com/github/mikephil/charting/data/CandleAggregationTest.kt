@@ -0,0 +1,140 @@
+package com.github.mikephil.charting.data
+
+import com.google.common.truth.Truth.assertThat
+import org.junit.Assert.fail
+import org.junit.Before
+import org.junit.Test
+
+class CandleAggregationTest {
+	private lateinit var dataSet: ColumnarCandleDataSet
+
+	@Before
+	fun before() {
+		this.dataSet = ColumnarCandleDataSet("ColumnarCandleDataSet")
+		this.dataSet.setAggregationTimeframes(5f, 15f)
+
+		// Minute candles, every candle opens at its minute and closes 0.5 above
+		for (minute in 0 until 32) {
+			this.dataSet.addEntry(minute.toFloat(), minute + 2f, minute - 2f, minute.toFloat(), minute + 0.5f)
+		}
+	}
+
+	@Test
+	fun update() {
+		val aggregation = this.dataSet.aggregation!!
+		assertThat(aggregation.levelCount).isEqualTo(3)
+		assertThat(aggregation.getTimeframe(0)).isEqualTo(1f)
+		assertThat(aggregation.getTimeframe(2)).isEqualTo(15f)
+
+		// 5m candles: [0, 5), ..., [30, 35) with 2 entries
+		assertThat(aggregation.getCandleCount(1)).isEqualTo(7)
+		assertThat(aggregation.getX(1, 1)).isEqualTo(7f)
+		assertThat(aggregation.getOpen(1, 1)).isEqualTo(5f)
+		assertThat(aggregation.getClose(1, 1)).isEqualTo(9.5f)
+		assertThat(aggregation.getHigh(1, 1)).isEqualTo(11f)
+		assertThat(aggregation.getLow(1, 1)).isEqualTo(3f)
+		assertThat(aggregation.getFirstIndex(1, 6)).isEqualTo(30)
+		assertThat(aggregation.getClose(1, 6)).isEqualTo(31.5f)
+
+		// 15m candles
+		assertThat(aggregation.getCandleCount(2)).isEqualTo(3)
+		assertThat(aggregation.getOpen(2, 1)).isEqualTo(15f)
+		assertThat(aggregation.getClose(2, 1)).isEqualTo(29.5f)
+	}
+
+	@Test
+	fun update_appended() {
+		var aggregation = this.dataSet.aggregation!!
+		assertThat(aggregation.getCandleCount(1)).isEqualTo(7)
+
+		// Completes the last 5m candle, then starts a new one
+		for (minute in 32 until 36) {
+			this.dataSet.addEntry(minute.toFloat(), minute + 2f, minute - 2f, minute.toFloat(), minute + 0.5f)
+		}
+
+		aggregation = this.dataSet.aggregation!!
+		assertThat(aggregation.getCandleCount(1)).isEqualTo(8)
+		assertThat(aggregation.getOpen(1, 6)).isEqualTo(30f)
+		assertThat(aggregation.getClose(1, 6)).isEqualTo(34.5f)
+		assertThat(aggregation.getHigh(1, 6)).isEqualTo(36f)
+		assertThat(aggregation.getOpen(1, 7)).isEqualTo(35f)
+
+		// Must match a full rebuild
+		val rebuilt = ColumnarCandleDataSet("ColumnarCandleDataSet")
+		rebuilt.setAggregationTimeframes(5f, 15f)
+		rebuilt.setValues(this.dataSet.values)
+		val expected = rebuilt.aggregation!!
+
+		for (level in 1..2) {
+			assertThat(aggregation.getCandleCount(level)).isEqualTo(expected.getCandleCount(level))
+			for (candle in 0 until expected.getCandleCount(level)) {
+				assertThat(aggregation.getX(level, candle)).isEqualTo(expected.getX(level, candle))
+				assertThat(aggregation.getOpen(level, candle)).isEqualTo(expected.getOpen(level, candle))
+				assertThat(aggregation.getClose(level, candle)).isEqualTo(expected.getClose(level, candle))
+				assertThat(aggregation.getHigh(level, candle)).isEqualTo(expected.getHigh(level, candle))
+				assertThat(aggregation.getLow(level, candle)).isEqualTo(expected.getLow(level, candle))
+			}
+		}
+	}
+
+	@Test
+	fun update_invalidated() {
+		assertThat(this.dataSet.aggregation!!.getOpen(1, 0)).isEqualTo(0f)
+
+		this.dataSet.removeFirst()
+		assertThat(this.dataSet.aggregation!!.getOpen(1, 0)).isEqualTo(1f)
+		assertThat(this.dataSet.aggregation!!.getFirstIndex(1, 1)).isEqualTo(4)
+	}
+
+	@Test
+	fun getLevelForCandleWidth() {
+		val aggregation = this.dataSet.aggregation!!
+
+		assertThat(aggregation.getLevelForCandleWidth(10f, 3f)).isEqualTo(0)
+		assertThat(aggregation.getLevelForCandleWidth(1f, 3f)).isEqualTo(1)
+		assertThat(aggregation.getLevelForCandleWidth(-0.5f, 3f)).isEqualTo(2)
+		assertThat(aggregation.getLevelForCandleWidth(0.01f, 3f)).isEqualTo(2)
+	}
+
+	@Test
+	fun getCandleForIndex() {
+		val aggregation = this.dataSet.aggregation!!
+
+		assertThat(aggregation.getCandleForIndex(1, 0)).isEqualTo(0)
+		assertThat(aggregation.getCandleForIndex(1, 4)).isEqualTo(0)
+		assertThat(aggregation.getCandleForIndex(1, 5)).isEqualTo(1)
+		assertThat(aggregation.getCandleForIndex(1, 31)).isEqualTo(6)
+		assertThat(aggregation.getCandleForIndex(2, 20)).isEqualTo(1)
+	}
+
+	@Test
+	fun candleDataSet() {
+		val candles = CandleDataSet(MutableList(10) { CandleEntry(it.toFloat(), 2f, 0f, 1f, 1f) }, "CandleDataSet")
+		assertThat(candles.aggregation).isNull()
+
+		candles.setAggregationTimeframes(4f)
+		assertThat(candles.aggregation!!.getCandleCount(1)).isEqualTo(3)
+
+		candles.addEntry(CandleEntry(12f, 5f, 0f, 1f, 3f))
+		assertThat(candles.aggregation!!.getCandleCount(1)).isEqualTo(4)
+		assertThat(candles.aggregation!!.getHigh(1, 3)).isEqualTo(5f)
+
+		candles.setAggregationTimeframes()
+		assertThat(candles.isAggregationEnabled).isFalse()
+	}
+
+	@Test
+	fun setAggregationTimeframes_invalid() {
+		try {
+			this.dataSet.setAggregationTimeframes(15f, 5f)
+			fail("Should have failed")
+		} catch (_: IllegalArgumentException) {
+		}
+
+		try {
+			this.dataSet.setAggregationTimeframes(0f)
+			fail("Should have failed")
+		} catch (_: IllegalArgumentException) {
+		}
+	}
+}
@@ -0,0 +1,145 @@
+package com.github.mikephil.charting.data
+
+import com.google.common.truth.Truth.assertThat
+import org.junit.Assert.fail
+import org.junit.Test
+import java.io.File
+import java.io.IOException
+
+class ChartDataStateTest {
+	@Test
+	fun restore_line() {
+		val data = LineData(
+			LineDataSet(MutableList(100) { Entry(it.toFloat(), (it * 3 % 17).toFloat()) }, "Line"),
+			ColumnarLineDataSet(floatArrayOf(1f, 2f, 3f), floatArrayOf(-4f, 5f, 6f), 3, "Columnar")
+		)
+
+		val restored = LineData(LineDataSet(mutableListOf(), "Line"), ColumnarLineDataSet("Columnar"))
+		val state = ChartDataState.fromByteArray(ChartDataState.save(data).toByteArray())
+		assertThat(state.dataSetCount).isEqualTo(2)
+		assertThat(state.entryCount).isEqualTo(103)
+		assertThat(state.restore(restored)).isTrue()
+
+		for (i in 0 until 2) {
+			val expected = data.getDataSetByIndex(i)!!
+			val actual = restored.getDataSetByIndex(i)!!
+			assertThat(actual.entryCount).isEqualTo(expected.entryCount)
+			for (index in 0 until expected.entryCount) {
+				assertThat(actual.getXForIndex(index)).isEqualTo(expected.getXForIndex(index))
+				assertThat(actual.getYForIndex(index)).isEqualTo(expected.getYForIndex(index))
+			}
+			assertThat(actual.xMin).isEqualTo(expected.xMin)
+			assertThat(actual.xMax).isEqualTo(expected.xMax)
+			assertThat(actual.yMin).isEqualTo(expected.yMin)
+			assertThat(actual.yMax).isEqualTo(expected.yMax)
+		}
+
+		assertThat(restored.yMin).isEqualTo(-4f)
+		assertThat(restored.yMax).isEqualTo(16f)
+		assertThat(restored.entryCount).isEqualTo(103)
+	}
+
+	@Test
+	fun restore_stackedBar() {
+		val data = BarData(BarDataSet(listOf(
+			BarEntry(1f, 5f),
+			BarEntry(2f, floatArrayOf(-10f, 5f, 20f)),
+			BarEntry(3f, floatArrayOf(4f, -2f))
+		), "Bar"))
+
+		val restored = BarData(BarDataSet(mutableListOf(), "Bar"))
+		assertThat(ChartDataState.save(data).restore(restored)).isTrue()
+
+		val set = restored.getDataSetByIndex(0) as BarDataSet
+		assertThat(set.stackSize).isEqualTo(3)
+		assertThat(set.entryCountStacks).isEqualTo(6)
+		assertThat(set.getEntryForIndex(0)!!.yVals).isNull()
+		assertThat(set.getEntryForIndex(1)!!.yVals).isEqualTo(floatArrayOf(-10f, 5f, 20f))
+		assertThat(set.getEntryForIndex(1)!!.negativeSum).isEqualTo(10f)
+		assertThat(set.getEntryForIndex(2)!!.y).isEqualTo(2f)
+		assertThat(set.yMin).isEqualTo(-10f)
+		assertThat(set.yMax).isEqualTo(25f)
+	}
+
+	@Test
+	fun restore_candle() {
+		val data = CandleData(CandleDataSet(listOf(
+			CandleEntry(1f, 10f, 2f, 4f, 8f),
+			CandleEntry(2f, 12f, 3f, 9f, 5f)
+		), "Candle"))
+
+		val restored = CandleData(CandleDataSet(mutableListOf(), "Candle"))
+		assertThat(ChartDataState.save(data).restore(restored)).isTrue()
+
+		val entry = restored.getDataSetByIndex(0)!!.getEntryForIndex(1)!!
+		assertThat(entry.x).isEqualTo(2f)
+		assertThat(entry.high).isEqualTo(12f)
+		assertThat(entry.low).isEqualTo(3f)
+		assertThat(entry.open).isEqualTo(9f)
+		assertThat(entry.close).isEqualTo(5f)
+		assertThat(restored.yMin).isEqualTo(2f)
+		assertThat(restored.yMax).isEqualTo(12f)
+	}
+
+	@Test
+	fun restore_bubbleAndPie() {
+		val bubbleData = BubbleData(BubbleDataSet(listOf(BubbleEntry(1f, 2f, 3f)), "Bubble"))
+		val restoredBubbleData = BubbleData(BubbleDataSet(mutableListOf(), "Bubble"))
+		assertThat(ChartDataState.save(bubbleData).restore(restoredBubbleData)).isTrue()
+		assertThat(restoredBubbleData.getDataSetByIndex(0)!!.getEntryForIndex(0)!!.size).isEqualTo(3f)
+
+		val pieData = PieData(PieDataSet(listOf(PieEntry(5f, "A"), PieEntry(7f)), "Pie"))
+		val restoredPieData = PieData(PieDataSet(mutableListOf(), "Pie"))
+		assertThat(ChartDataState.save(pieData).restore(restoredPieData)).isTrue()
+		assertThat(restoredPieData.dataSet!!.getEntryForIndex(0)!!.label).isEqualTo("A")
+		assertThat(restoredPieData.dataSet!!.getEntryForIndex(1)!!.label).isNull()
+		assertThat(restoredPieData.yValueSum).isEqualTo(12f)
+	}
+
+	@Test
+	fun restore_incompatible() {
+		val state = ChartDataState.save(LineData(LineDataSet(listOf(Entry(1f, 1f)), "Line")))
+
+		val bar = BarData(BarDataSet(mutableListOf(), "Bar"))
+		assertThat(state.isCompatible(bar)).isFalse()
+		assertThat(state.restore(bar)).isFalse()
+		assertThat(bar.entryCount).isEqualTo(0)
+
+		val twoSets = LineData(LineDataSet(mutableListOf(), "A"), LineDataSet(mutableListOf(), "B"))
+		assertThat(state.isCompatible(twoSets)).isFalse()
+	}
+
+	@Test
+	fun restore_mapped() {
+		val file = File.createTempFile("ChartDataStateTest", ".bin")
+		try {
+			MappedDataSetWriter.write(LineDataSet(MutableList(10) { Entry(it.toFloat(), it.toFloat()) }, "Line"), file)
+			val mapped = LineData(MappedLineDataSet(file, "Mapped"))
+
+			// The values of a mapped DataSet are not saved
+			assertThat(ChartDataState.canSave(mapped)).isFalse()
+			try {
+				ChartDataState.save(mapped)
+				fail("Should have failed")
+			} catch (_: IllegalArgumentException) {
+			}
+
+			// Nor restored into it, which would throw
+			val state = ChartDataState.save(LineData(LineDataSet(listOf(Entry(1f, 1f)), "Line")))
+			assertThat(state.isCompatible(mapped)).isFalse()
+			assertThat(state.restore(mapped)).isFalse()
+			assertThat(mapped.entryCount).isEqualTo(10)
+		} finally {
+			file.delete()
+		}
+	}
+
+	@Test
+	fun fromByteArray_invalid() {
+		try {
+			ChartDataState.fromByteArray(byteArrayOf(1, 2, 3, 4, 5, 6, 7, 8))
+			fail("Should have failed")
+		} catch (_: IOException) {
+		}
+	}
+}
@@ -625,4 +625,23 @@ abstract class ChartDataTest<E : Entry, D : IDataSet<E>, T : ChartData<D>> {
 		this.dataSets.forEach(this.data::addDataSet)
 		assertThat(this.data.maxEntryCountSet).isEqualTo(this.dataSets[2])
 	}
+
+	@Test
+	fun getChanges() {
+		assertThat(this.data.changes).isEqualTo(DataChange.NONE)
+
+		this.dataSets.forEach(this.data::addDataSet)
+		assertThat(this.data.changes).isEqualTo(DataChange.ALL)
+
+		this.data.clearChanges()
+		assertThat(this.data.changes).isEqualTo(DataChange.NONE)
+
+		this.dataSets[0].notifyChange(DataChange.STYLE)
+		this.dataSets[1].notifyChange(DataChange.APPEND)
+		assertThat(this.data.changes).isEqualTo(DataChange.STYLE or DataChange.APPEND)
+
+		this.data.clearChanges()
+		assertThat(this.dataSets[0].changes).isEqualTo(DataChange.NONE)
+		assertThat(this.dataSets[1].changes).isEqualTo(DataChange.NONE)
+	}
 }
@@ -0,0 +1,118 @@
+package com.github.mikephil.charting.data
+
+import com.google.common.truth.Truth.assertThat
+import org.junit.Assert.fail
+import org.junit.Before
+import org.junit.Test
+
+class ColumnarCandleDataSetTest {
+	private lateinit var dataSet: ColumnarCandleDataSet
+
+	@Before
+	fun before() {
+		this.dataSet = ColumnarCandleDataSet(2, "ColumnarCandleDataSet")
+	}
+
+	@Test
+	fun addEntry() {
+		this.dataSet.addEntry(1f, 10f, 5f, 6f, 9f)
+		this.dataSet.addEntry(CandleEntry(2f, 12f, 4f, 9f, 5f))
+		this.dataSet.addEntry(3f, 8f, 7f, 7f, 8f)
+
+		assertThat(this.dataSet.entryCount).isEqualTo(3)
+		assertThat(this.dataSet.capacity).isAtLeast(3)
+		assertThat(this.dataSet.getXForIndex(1)).isEqualTo(2f)
+		assertThat(this.dataSet.getYForIndex(1)).isEqualTo(8f)
+		assertThat(this.dataSet.getShadowHighForIndex(1)).isEqualTo(12f)
+		assertThat(this.dataSet.getShadowLowForIndex(1)).isEqualTo(4f)
+		assertThat(this.dataSet.getOpenForIndex(1)).isEqualTo(9f)
+		assertThat(this.dataSet.getCloseForIndex(1)).isEqualTo(5f)
+		assertThat(this.dataSet.xMin).isEqualTo(1f)
+		assertThat(this.dataSet.xMax).isEqualTo(3f)
+		assertThat(this.dataSet.yMin).isEqualTo(4f)
+		assertThat(this.dataSet.yMax).isEqualTo(12f)
+	}
+
+	@Test
+	fun matchesCandleDataSet() {
+		val entries = MutableList(50) { CandleEntry(it.toFloat(), it + 10f, it - 10f, it + 1f, it - 1f) }
+		val source = CandleDataSet(entries, "CandleDataSet")
+		this.dataSet.setValues(entries)
+
+		assertThat(this.dataSet.entryCount).isEqualTo(source.entryCount)
+		assertThat(this.dataSet.yMin).isEqualTo(source.yMin)
+		assertThat(this.dataSet.yMax).isEqualTo(source.yMax)
+
+		for (i in 0 until 50) {
+			assertThat(this.dataSet.getYForIndex(i)).isEqualTo(source.getYForIndex(i))
+			assertThat(this.dataSet.getOpenForIndex(i)).isEqualTo(source.getOpenForIndex(i))
+			assertThat(this.dataSet.getCloseForIndex(i)).isEqualTo(source.getCloseForIndex(i))
+		}
+
+		for (rounding in DataSet.Rounding.values()) {
+			for (x in listOf(-1f, 0f, 10.4f, 10.6f, 49f, 60f)) {
+				assertThat(this.dataSet.getEntryIndex(x, Float.NaN, rounding))
+					.isEqualTo(source.getEntryIndex(x, Float.NaN, rounding))
+			}
+		}
+
+		source.calcMinMaxY(10f, 20f)
+		this.dataSet.calcMinMaxY(10f, 20f)
+		assertThat(this.dataSet.yMin).isEqualTo(source.yMin)
+		assertThat(this.dataSet.yMax).isEqualTo(source.yMax)
+	}
+
+	@Test
+	fun getEntryForIndex() {
+		this.dataSet.addEntry(1f, 10f, 5f, 6f, 9f)
+		this.dataSet.addEntry(2f, 12f, 4f, 9f, 5f)
+
+		val entry = this.dataSet.getEntryForIndex(1)!!
+		assertThat(entry.x).isEqualTo(2f)
+		assertThat(entry.high).isEqualTo(12f)
+		assertThat(entry.low).isEqualTo(4f)
+		assertThat(entry.open).isEqualTo(9f)
+		assertThat(entry.close).isEqualTo(5f)
+		assertThat(this.dataSet.getEntryIndex(entry)).isEqualTo(1)
+		assertThat(this.dataSet.getEntryIndex(CandleEntry(1f, 10f, 5f, 6f, 9f))).isEqualTo(0)
+		assertThat(this.dataSet.getEntryIndex(CandleEntry(1f, 10f, 5f, 6f, 8f))).isEqualTo(-1)
+		assertThat(this.dataSet.getEntryForIndex(2)).isNull()
+	}
+
+	@Test
+	fun addEntryOrdered() {
+		this.dataSet.addEntry(1f, 1f, 1f, 1f, 1f)
+		this.dataSet.addEntry(3f, 3f, 3f, 3f, 3f)
+		this.dataSet.addEntryOrdered(CandleEntry(2f, 2f, 2f, 2f, 2f))
+
+		assertThat(this.dataSet.values.map { it.x }).containsExactly(1f, 2f, 3f).inOrder()
+		assertThat(this.dataSet.getOpenForIndex(1)).isEqualTo(2f)
+
+		assertThat(this.dataSet.removeEntry(0)).isTrue()
+		assertThat(this.dataSet.values.map { it.close }).containsExactly(2f, 3f).inOrder()
+		assertThat(this.dataSet.yMin).isEqualTo(2f)
+	}
+
+	@Test
+	fun setValues_invalidCount() {
+		try {
+			this.dataSet.setValues(FloatArray(2), FloatArray(2), FloatArray(1), FloatArray(2), FloatArray(2), 2)
+			fail("Should have failed")
+		} catch (_: IllegalArgumentException) {
+		}
+	}
+
+	@Test
+	fun copy() {
+		this.dataSet.addEntry(1f, 10f, 5f, 6f, 9f)
+		this.dataSet.setAggregationTimeframes(5f)
+
+		val copy = this.dataSet.copy() as ColumnarCandleDataSet
+		assertThat(copy.entryCount).isEqualTo(1)
+		assertThat(copy.getCloseForIndex(0)).isEqualTo(9f)
+		assertThat(copy.isAggregationEnabled).isTrue()
+
+		copy.addEntry(2f, 1f, 1f, 1f, 1f)
+		assertThat(this.dataSet.entryCount).isEqualTo(1)
+	}
+}
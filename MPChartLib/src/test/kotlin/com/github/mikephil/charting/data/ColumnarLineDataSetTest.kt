@@ -0,0 +1,231 @@
+package com.github.mikephil.charting.data
+
+import com.google.common.truth.Truth.assertThat
+import org.junit.Assert.fail
+import org.junit.Before
+import org.junit.Test
+
+class ColumnarLineDataSetTest {
+	private lateinit var dataSet: ColumnarLineDataSet
+
+	@Before
+	fun before() {
+		this.dataSet = ColumnarLineDataSet(2, "ColumnarLineDataSet")
+	}
+
+	@Test
+	fun addEntry() {
+		assertThat(this.dataSet.entryCount).isEqualTo(0)
+		assertThat(this.dataSet.getEntryForIndex(0)).isNull()
+
+		this.dataSet.addEntry(1f, 2f)
+		this.dataSet.addEntry(Entry(3f, -4f))
+		this.dataSet.addEntry(5f, 6f)
+
+		assertThat(this.dataSet.entryCount).isEqualTo(3)
+		assertThat(this.dataSet.capacity).isAtLeast(3)
+		assertThat(this.dataSet.getXForIndex(1)).isEqualTo(3f)
+		assertThat(this.dataSet.getYForIndex(1)).isEqualTo(-4f)
+		assertThat(this.dataSet.xMin).isEqualTo(1f)
+		assertThat(this.dataSet.xMax).isEqualTo(5f)
+		assertThat(this.dataSet.yMin).isEqualTo(-4f)
+		assertThat(this.dataSet.yMax).isEqualTo(6f)
+	}
+
+	@Test
+	fun addEntries() {
+		this.dataSet.addEntry(0f, 0f)
+
+		assertThat(this.dataSet.addEntries(floatArrayOf(9f, 1f, 2f, 3f), floatArrayOf(9f, -1f, 5f, 2f), 1, 3)).isTrue()
+		assertThat(this.dataSet.entryCount).isEqualTo(4)
+		assertThat(this.dataSet.getXForIndex(3)).isEqualTo(3f)
+		assertThat(this.dataSet.yMin).isEqualTo(-1f)
+		assertThat(this.dataSet.yMax).isEqualTo(5f)
+
+		assertThat(this.dataSet.addEntries(listOf(Entry(4f, 10f), Entry(5f, 0f)))).isTrue()
+		assertThat(this.dataSet.entryCount).isEqualTo(6)
+		assertThat(this.dataSet.xMax).isEqualTo(5f)
+		assertThat(this.dataSet.yMax).isEqualTo(10f)
+
+		assertThat(this.dataSet.addEntries(floatArrayOf(), floatArrayOf(), 0, 0)).isFalse()
+		assertThat(this.dataSet.addEntries(listOf())).isFalse()
+	}
+
+	@Test
+	fun addEntryOrdered() {
+		this.dataSet.addEntry(1f, 1f)
+		this.dataSet.addEntry(5f, 5f)
+		this.dataSet.addEntryOrdered(Entry(3f, 3f))
+		this.dataSet.addEntryOrdered(Entry(0f, 0f))
+		this.dataSet.addEntryOrdered(Entry(7f, 7f))
+
+		assertThat(this.dataSet.entryCount).isEqualTo(5)
+		for (i in 0 until 4) {
+			assertThat(this.dataSet.getXForIndex(i)).isLessThan(this.dataSet.getXForIndex(i + 1))
+			assertThat(this.dataSet.getYForIndex(i)).isEqualTo(this.dataSet.getXForIndex(i))
+		}
+	}
+
+	@Test
+	fun addEntriesOrdered() {
+		this.dataSet.addEntry(1f, 1f)
+		this.dataSet.addEntry(3f, 3f)
+		this.dataSet.addEntry(5f, 5f)
+
+		this.dataSet.addEntriesOrdered(listOf(Entry(6f, 6f), Entry(3f, -3f), Entry(0f, 0f), Entry(4f, 10f)))
+
+		assertThat(this.dataSet.entryCount).isEqualTo(7)
+		assertThat(this.dataSet.values.map { it.x }).containsExactly(0f, 1f, 3f, 3f, 4f, 5f, 6f).inOrder()
+		// Existing values come first for equal x-values
+		assertThat(this.dataSet.values.map { it.y }).containsExactly(0f, 1f, 3f, -3f, 10f, 5f, 6f).inOrder()
+		assertThat(this.dataSet.yMin).isEqualTo(-3f)
+		assertThat(this.dataSet.yMax).isEqualTo(10f)
+		assertThat(this.dataSet.xMin).isEqualTo(0f)
+		assertThat(this.dataSet.xMax).isEqualTo(6f)
+	}
+
+	@Test
+	fun setValues_extension() {
+		this.dataSet.setValues(listOf(Entry(1f, 1f), Entry(2f, 3f)), true)
+		this.dataSet.setValues(listOf(Entry(1f, 1f), Entry(2f, 3f), Entry(3f, -2f)), true)
+
+		assertThat(this.dataSet.entryCount).isEqualTo(3)
+		assertThat(this.dataSet.getYForIndex(2)).isEqualTo(-2f)
+		assertThat(this.dataSet.yMin).isEqualTo(-2f)
+		assertThat(this.dataSet.xMax).isEqualTo(3f)
+	}
+
+	@Test
+	fun setValues() {
+		val xValues = floatArrayOf(1f, 2f, 3f, 4f)
+		val yValues = floatArrayOf(8f, 6f, 7f, 5f)
+
+		this.dataSet.setValues(xValues, yValues, 3)
+		assertThat(this.dataSet.entryCount).isEqualTo(3)
+		assertThat(this.dataSet.xMax).isEqualTo(3f)
+		assertThat(this.dataSet.yMin).isEqualTo(6f)
+		assertThat(this.dataSet.yMax).isEqualTo(8f)
+
+		try {
+			this.dataSet.setValues(xValues, yValues, 5)
+			fail("Should have failed")
+		} catch (_: IllegalArgumentException) {
+		}
+
+		this.dataSet.values = listOf(Entry(1f, 1f), Entry(2f, 3f))
+		assertThat(this.dataSet.entryCount).isEqualTo(2)
+		assertThat(this.dataSet.values).hasSize(2)
+		assertThat(this.dataSet.values[1].y).isEqualTo(3f)
+	}
+
+	@Test
+	fun capacity() {
+		assertThat(this.dataSet.capacity).isEqualTo(2)
+
+		this.dataSet.ensureCapacity(10)
+		assertThat(this.dataSet.capacity).isEqualTo(10)
+
+		this.dataSet.addEntry(1f, 1f)
+		this.dataSet.trimToSize()
+		assertThat(this.dataSet.capacity).isEqualTo(1)
+		assertThat(this.dataSet.getYForIndex(0)).isEqualTo(1f)
+	}
+
+	@Test
+	fun getEntryForIndex() {
+		this.dataSet.setValues(floatArrayOf(1f, 2f, 3f), floatArrayOf(4f, 5f, 6f), 3)
+
+		val entry = this.dataSet.getEntryForIndex(1)!!
+		assertThat(entry.x).isEqualTo(2f)
+		assertThat(entry.y).isEqualTo(5f)
+		assertThat(this.dataSet.getEntryIndex(entry)).isEqualTo(1)
+		assertThat(this.dataSet.getEntryIndex(Entry(3f, 6f))).isEqualTo(2)
+		assertThat(this.dataSet.getEntryIndex(Entry(3f, 7f))).isEqualTo(-1)
+		assertThat(this.dataSet.contains(Entry(1f, 4f))).isTrue()
+		assertThat(this.dataSet.getEntryForIndex(-1)).isNull()
+		assertThat(this.dataSet.getEntryForIndex(3)).isNull()
+	}
+
+	@Test
+	fun getEntryForXValue() {
+		this.dataSet.setValues(floatArrayOf(1f, 2f, 2f, 4f), floatArrayOf(4f, 5f, 9f, 6f), 4)
+
+		assertThat(this.dataSet.getEntryForXValue(2f, 8f)!!.y).isEqualTo(9f)
+		assertThat(this.dataSet.getEntryForXValue(3.5f, Float.NaN)!!.x).isEqualTo(4f)
+		assertThat(this.dataSet.getEntryForXValue(3.5f, Float.NaN, DataSet.Rounding.DOWN)!!.x).isEqualTo(2f)
+
+		val entries = this.dataSet.getEntriesForXValue(2f)
+		assertThat(entries).hasSize(2)
+		assertThat(entries[0].y).isEqualTo(5f)
+		assertThat(entries[1].y).isEqualTo(9f)
+		assertThat(this.dataSet.getEntriesForXValue(3f)).isEmpty()
+	}
+
+	@Test
+	fun removeEntry() {
+		this.dataSet.setValues(floatArrayOf(1f, 2f, 3f, 4f), floatArrayOf(4f, 10f, 6f, 0f), 4)
+
+		assertThat(this.dataSet.removeEntry(Entry(2f, 10f))).isTrue()
+		assertThat(this.dataSet.entryCount).isEqualTo(3)
+		assertThat(this.dataSet.yMax).isEqualTo(6f)
+
+		assertThat(this.dataSet.removeFirst()).isTrue()
+		assertThat(this.dataSet.xMin).isEqualTo(3f)
+
+		assertThat(this.dataSet.removeLast()).isTrue()
+		assertThat(this.dataSet.entryCount).isEqualTo(1)
+		assertThat(this.dataSet.yMin).isEqualTo(6f)
+
+		assertThat(this.dataSet.removeEntry(5)).isFalse()
+
+		this.dataSet.clear()
+		assertThat(this.dataSet.entryCount).isEqualTo(0)
+		assertThat(this.dataSet.removeLast()).isFalse()
+	}
+
+	@Test
+	fun calcMinMaxY() {
+		this.dataSet.setValues(floatArrayOf(1f, 2f, 3f, 4f, 5f), floatArrayOf(9f, 1f, 5f, 3f, -2f), 5)
+
+		this.dataSet.calcMinMaxY(2f, 4f)
+		assertThat(this.dataSet.yMin).isEqualTo(1f)
+		assertThat(this.dataSet.yMax).isEqualTo(5f)
+	}
+
+	@Test
+	fun copy() {
+		this.dataSet.setValues(floatArrayOf(1f, 2f), floatArrayOf(3f, 4f), 2)
+		this.dataSet.lineWidth = 5f
+
+		val copy = this.dataSet.copy() as ColumnarLineDataSet
+		assertThat(copy).isNotSameAs(this.dataSet)
+		assertThat(copy.entryCount).isEqualTo(2)
+		assertThat(copy.getYForIndex(1)).isEqualTo(4f)
+		assertThat(copy.lineWidth).isEqualTo(5f)
+
+		copy.addEntry(3f, 5f)
+		assertThat(this.dataSet.entryCount).isEqualTo(2)
+	}
+
+	@Test
+	fun copyXY() {
+		this.dataSet.addEntries(floatArrayOf(1f, 2f, 3f, 4f), floatArrayOf(5f, 6f, 7f, 8f), 0, 4)
+
+		val values = FloatArray(4)
+		this.dataSet.copyXY(1, 3, values, 0)
+		assertThat(values.toList()).containsExactly(2f, 6f, 3f, 7f).inOrder()
+
+		this.dataSet.copyX(0, 4, values, 0)
+		assertThat(values.toList()).containsExactly(1f, 2f, 3f, 4f).inOrder()
+
+		this.dataSet.copyY(2, 4, values, 1)
+		assertThat(values.toList()).containsExactly(1f, 7f, 8f, 4f).inOrder()
+
+		try {
+			this.dataSet.copyY(0, 5, FloatArray(5), 0)
+			fail("Should have failed")
+		} catch (_: IllegalArgumentException) {
+		}
+	}
+
+}
@@ -0,0 +1,210 @@
+package com.github.mikephil.charting.data
+
+import com.google.common.truth.Truth.assertThat
+import org.junit.Assert.fail
+import org.junit.Before
+import org.junit.Test
+import kotlin.random.Random
+
+class CompressedLineDataSetTest {
+	private lateinit var dataSet: CompressedLineDataSet
+
+	@Before
+	fun before() {
+		this.dataSet = CompressedLineDataSet(16, "CompressedLineDataSet")
+	}
+
+	@Test
+	fun addEntry() {
+		val random = Random(42)
+		val reference = ColumnarLineDataSet("Reference")
+		var x = -50f
+		for (i in 0 until 1000) {
+			// Irregular spacing, repeated and special values
+			x += when (i % 7) {
+				0 -> 0f
+				1 -> 1000.5f
+				else -> random.nextFloat()
+			}
+			val y = when (i % 5) {
+				0 -> 3f
+				1 -> -Float.MAX_VALUE
+				else -> random.nextFloat() * 1e6f - 5e5f
+			}
+
+			this.dataSet.addEntry(x, y)
+			reference.addEntry(x, y)
+		}
+
+		assertSameValues(reference)
+		assertThat(this.dataSet.xMin).isEqualTo(reference.xMin)
+		assertThat(this.dataSet.xMax).isEqualTo(reference.xMax)
+		assertThat(this.dataSet.yMin).isEqualTo(reference.yMin)
+		assertThat(this.dataSet.yMax).isEqualTo(reference.yMax)
+	}
+
+	@Test
+	fun encodedSize() {
+		this.dataSet = CompressedLineDataSet("CompressedLineDataSet")
+		for (i in 0 until 86_400) {
+			this.dataSet.addEntry(i.toFloat(), if (i % 60 < 30) 20.5f else 21f)
+		}
+
+		// 8 bytes per value when stored in arrays
+		assertThat(this.dataSet.encodedSize).isLessThan(86_400L)
+		assertThat(this.dataSet.getXForIndex(86_399)).isEqualTo(86_399f)
+		assertThat(this.dataSet.getYForIndex(86_399)).isEqualTo(21f)
+	}
+
+	@Test
+	fun getEntryIndex() {
+		val entries = MutableList(200) { Entry((it / 3 * 2).toFloat(), (it % 4).toFloat()) }
+		val reference = LineDataSet(entries, "Reference")
+		this.dataSet.setValues(entries)
+
+		var x = -3f
+		while (x < 140f) {
+			for (rounding in DataSet.Rounding.values()) {
+				assertThat(this.dataSet.getEntryIndex(x, Float.NaN, rounding))
+					.isEqualTo(reference.getEntryIndex(x, Float.NaN, rounding))
+				assertThat(this.dataSet.getEntryIndex(x, 2f, rounding))
+					.isEqualTo(reference.getEntryIndex(x, 2f, rounding))
+			}
+			x += 0.25f
+		}
+
+		assertThat(this.dataSet.getEntryIndex(Entry(8f, 0f))).isEqualTo(12)
+		assertThat(this.dataSet.getEntriesForXValue(8f)).hasSize(3)
+	}
+
+	@Test
+	fun calcMinMaxY() {
+		for (i in 0 until 100) {
+			this.dataSet.addEntry(i.toFloat(), if (i == 40) -10f else i.toFloat())
+		}
+
+		this.dataSet.calcMinMaxY(35f, 80f)
+		assertThat(this.dataSet.yMin).isEqualTo(-10f)
+		assertThat(this.dataSet.yMax).isEqualTo(80f)
+
+		this.dataSet.calcMinMaxY(41f, 47.5f)
+		assertThat(this.dataSet.yMin).isEqualTo(41f)
+		assertThat(this.dataSet.yMax).isEqualTo(48f)
+	}
+
+	@Test
+	fun removeFirst() {
+		val reference = ColumnarLineDataSet("Reference")
+		for (i in 0 until 100) {
+			this.dataSet.addEntry(i.toFloat(), (i * i).toFloat())
+			reference.addEntry(i.toFloat(), (i * i).toFloat())
+		}
+
+		for (i in 0 until 40) {
+			assertThat(this.dataSet.removeFirst()).isTrue()
+			reference.removeFirst()
+			this.dataSet.addEntry((100 + i).toFloat(), 1f)
+			reference.addEntry((100 + i).toFloat(), 1f)
+		}
+
+		assertSameValues(reference)
+		assertThat(this.dataSet.xMin).isEqualTo(40f)
+		assertThat(this.dataSet.yMin).isEqualTo(1f)
+		assertThat(this.dataSet.getEntryIndex(45f, Float.NaN, DataSet.Rounding.CLOSEST)).isEqualTo(5)
+	}
+
+	@Test
+	fun removeEntry() {
+		val reference = ColumnarLineDataSet("Reference")
+		for (i in 0 until 50) {
+			this.dataSet.addEntry(i.toFloat(), i.toFloat())
+			reference.addEntry(i.toFloat(), i.toFloat())
+		}
+
+		for (index in listOf(49, 20, 0, 5)) {
+			assertThat(this.dataSet.removeEntry(index)).isTrue()
+			reference.removeEntry(index)
+		}
+
+		assertSameValues(reference)
+		assertThat(this.dataSet.xMax).isEqualTo(48f)
+		assertThat(this.dataSet.removeEntry(100)).isFalse()
+	}
+
+	@Test
+	fun addEntryOrdered() {
+		for (i in 0 until 40) {
+			this.dataSet.addEntry((i * 2).toFloat(), i.toFloat())
+		}
+
+		this.dataSet.addEntryOrdered(Entry(21f, -1f))
+		this.dataSet.addEntryOrdered(Entry(-1f, 100f))
+		this.dataSet.addEntryOrdered(Entry(100f, 5f))
+
+		assertThat(this.dataSet.entryCount).isEqualTo(43)
+		assertThat(this.dataSet.getXForIndex(0)).isEqualTo(-1f)
+		assertThat(this.dataSet.getXForIndex(12)).isEqualTo(21f)
+		assertThat(this.dataSet.getYForIndex(12)).isEqualTo(-1f)
+		assertThat(this.dataSet.getXForIndex(42)).isEqualTo(100f)
+		assertThat(this.dataSet.yMin).isEqualTo(-1f)
+		assertThat(this.dataSet.yMax).isEqualTo(100f)
+	}
+
+	@Test
+	fun copyXY() {
+		for (i in 0 until 50) {
+			this.dataSet.addEntry(i.toFloat(), -i.toFloat())
+		}
+		this.dataSet.removeFirst()
+
+		val values = FloatArray(12)
+		this.dataSet.copyXY(13, 18, values, 2)
+		assertThat(values.toList().subList(2, 12))
+			.containsExactly(14f, -14f, 15f, -15f, 16f, -16f, 17f, -17f, 18f, -18f).inOrder()
+
+		try {
+			this.dataSet.copyXY(45, 50, values, 0)
+			fail("Should have failed")
+		} catch (_: IllegalArgumentException) {
+		}
+	}
+
+	@Test
+	fun copy() {
+		for (i in 0 until 30) {
+			this.dataSet.addEntry(i.toFloat(), i.toFloat())
+		}
+		this.dataSet.removeFirst()
+
+		val copy = this.dataSet.copy() as CompressedLineDataSet
+		this.dataSet.clear()
+		copy.addEntry(30f, 30f)
+
+		assertThat(copy.entryCount).isEqualTo(30)
+		assertThat(copy.getXForIndex(0)).isEqualTo(1f)
+		assertThat(copy.getYForIndex(29)).isEqualTo(30f)
+		assertThat(this.dataSet.entryCount).isEqualTo(0)
+	}
+
+	@Test
+	fun blockSize() {
+		try {
+			CompressedLineDataSet(1, "CompressedLineDataSet")
+			fail("Should have failed")
+		} catch (_: IllegalArgumentException) {
+		}
+	}
+
+	private fun assertSameValues(reference: ColumnarLineDataSet) {
+		assertThat(this.dataSet.entryCount).isEqualTo(reference.entryCount)
+
+		val values = FloatArray(reference.entryCount * 2)
+		this.dataSet.copyXY(0, reference.entryCount, values, 0)
+		for (i in 0 until reference.entryCount) {
+			assertThat(this.dataSet.getXForIndex(i)).isEqualTo(reference.getXForIndex(i))
+			assertThat(this.dataSet.getYForIndex(i)).isEqualTo(reference.getYForIndex(i))
+			assertThat(values[i * 2]).isEqualTo(reference.getXForIndex(i))
+			assertThat(values[i * 2 + 1]).isEqualTo(reference.getYForIndex(i))
+		}
+	}
+}
@@ -219,6 +219,91 @@ abstract class DataSetTest<E : Entry, T : DataSet<E>> : BaseDataSetTest<E, T>()
 		assertThat(this.dataSet.xMin).isEqualTo(3f)
 	}
 
+	@Test
+	fun addEntries() {
+		assertThat(this.dataSet.addEntries(mutableListOf())).isFalse()
+		assertThat(this.dataSet.entryCount).isEqualTo(0)
+
+		assertThat(this.dataSet.addEntries(this.values.toMutableList())).isTrue()
+		assertThat(this.dataSet.entryCount).isEqualTo(this.values.size)
+		assertThat(this.dataSet.values).containsExactlyElementsIn(this.values).inOrder()
+
+		assertMinMax()
+
+		assertThat(this.dataSet.addEntries(mutableListOf(this.entry))).isTrue()
+		assertThat(this.dataSet.entryCount).isEqualTo(this.values.size + 1)
+		assertThat(this.dataSet.getEntryForIndex(this.values.size)).isSameAs(this.entry)
+	}
+
+	@Test
+	fun addEntriesOrdered() {
+		this.dataSet.addEntriesOrdered(mutableListOf())
+		assertThat(this.dataSet.entryCount).isEqualTo(0)
+
+		this.dataSet.addEntriesOrdered(mutableListOf(this.values[2], this.values[0]))
+		this.dataSet.addEntriesOrdered(mutableListOf(this.values[1]))
+
+		assertThat(this.dataSet.values).containsExactlyElementsIn(this.values)
+		assertThat(this.dataSet.values.map { it.x }).isOrdered()
+		assertMinMax()
+	}
+
+	@Test
+	fun setValues_extension() {
+		this.dataSet.setValues(this.values.subList(0, 2).toMutableList(), true)
+		assertThat(this.dataSet.entryCount).isEqualTo(2)
+		assertMinMax()
+
+		this.dataSet.setValues(this.values.toMutableList(), true)
+		assertThat(this.dataSet.values).containsExactlyElementsIn(this.values).inOrder()
+		assertMinMax()
+
+		// Not an extension
+		this.dataSet.setValues(mutableListOf(this.values[1]), true)
+		assertThat(this.dataSet.values).containsExactly(this.values[1])
+		assertMinMax()
+	}
+
+	@Test
+	fun setValues_extensionOfSameList() {
+		val values = this.values.subList(0, 2).toMutableList()
+		this.dataSet.setValues(values, true)
+		this.dataSet.clearChanges()
+
+		values.add(this.values[2])
+		this.dataSet.setValues(values, true)
+		assertThat(this.dataSet.entryCount).isEqualTo(3)
+		assertThat(this.dataSet.changes).isEqualTo(DataChange.APPEND)
+		assertMinMax()
+	}
+
+	/**
+	 * Asserts that the incrementally updated min/max match a full recalculation.
+	 */
+	private fun assertMinMax() {
+		val yMax = this.dataSet.yMax
+		val yMin = this.dataSet.yMin
+		val xMax = this.dataSet.xMax
+		val xMin = this.dataSet.xMin
+		this.dataSet.calcMinMax()
+		assertThat(this.dataSet.yMax).isEqualTo(yMax)
+		assertThat(this.dataSet.yMin).isEqualTo(yMin)
+		assertThat(this.dataSet.xMax).isEqualTo(xMax)
+		assertThat(this.dataSet.xMin).isEqualTo(xMin)
+	}
+
+	@Test
+	fun getIndexRange() {
+		val range = IntArray(2)
+
+		this.dataSet.getIndexRange(0f, 10f, range)
+		assertThat(range).asList().containsExactly(-1, -1).inOrder()
+
+		this.dataSet.values = this.values
+		this.dataSet.getIndexRange(-100f, 100f, range)
+		assertThat(range).asList().containsExactly(0, this.values.size - 1).inOrder()
+	}
+
 	@Test
 	fun getEntryIndex() {
 		assertThat(this.dataSet.getEntryIndex(null)).isEqualTo(-1)
@@ -0,0 +1,131 @@
+package com.github.mikephil.charting.data
+
+import com.google.common.truth.Truth.assertThat
+import org.junit.Before
+import org.junit.Test
+import java.util.Random
+
+class LevelOfDetailTest {
+	private val random = Random(42L)
+
+	private lateinit var dataSet: LineDataSet
+
+	@Before
+	fun before() {
+		this.dataSet = LineDataSet(mutableListOf(), "LineDataSet")
+	}
+
+	@Test
+	fun setLevelOfDetailEnabled() {
+		assertThat(this.dataSet.isLevelOfDetailEnabled).isFalse()
+		assertThat(this.dataSet.levelOfDetail).isNull()
+
+		this.dataSet.isLevelOfDetailEnabled = true
+		assertThat(this.dataSet.isLevelOfDetailEnabled).isTrue()
+		assertThat(this.dataSet.levelOfDetail).isNotNull()
+		assertThat((this.dataSet.copy() as LineDataSet).isLevelOfDetailEnabled).isTrue()
+
+		this.dataSet.isLevelOfDetailEnabled = false
+		assertThat(this.dataSet.levelOfDetail).isNull()
+	}
+
+	@Test
+	fun getBucketSize() {
+		assertThat(LevelOfDetail.getBucketSize(0)).isEqualTo(1)
+		assertThat(LevelOfDetail.getBucketSize(1)).isEqualTo(4)
+		assertThat(LevelOfDetail.getBucketSize(3)).isEqualTo(64)
+		assertThat(LevelOfDetail().getBucket(2, 15)).isEqualTo(0)
+		assertThat(LevelOfDetail().getBucket(2, 16)).isEqualTo(1)
+	}
+
+	@Test
+	fun getLevelForBucketSize() {
+		this.dataSet.isLevelOfDetailEnabled = true
+		this.dataSet.values = MutableList(1000) { Entry(it.toFloat(), 0f) }
+
+		val levelOfDetail = this.dataSet.levelOfDetail!!
+		assertThat(levelOfDetail.levelCount).isEqualTo(5)
+		assertThat(levelOfDetail.getLevelForBucketSize(0.5f)).isEqualTo(0)
+		assertThat(levelOfDetail.getLevelForBucketSize(4f)).isEqualTo(1)
+		assertThat(levelOfDetail.getLevelForBucketSize(63f)).isEqualTo(2)
+		assertThat(levelOfDetail.getLevelForBucketSize(1e6f)).isEqualTo(4)
+	}
+
+	@Test
+	fun update() {
+		this.dataSet.isLevelOfDetailEnabled = true
+		this.dataSet.values = MutableList(1000) { Entry(it.toFloat(), this.random.nextFloat()) }
+
+		assertLevels()
+	}
+
+	@Test
+	fun update_append() {
+		this.dataSet.isLevelOfDetailEnabled = true
+
+		for (i in 0 until 700) {
+			this.dataSet.addEntry(Entry(i.toFloat(), this.random.nextFloat() * 10f))
+
+			if (i % 13 == 0) {
+				assertLevels()
+			}
+		}
+
+		assertLevels()
+	}
+
+	@Test
+	fun update_changes() {
+		this.dataSet.isLevelOfDetailEnabled = true
+		this.dataSet.values = MutableList(300) { Entry(it.toFloat(), this.random.nextFloat()) }
+		assertLevels()
+
+		this.dataSet.addEntryOrdered(Entry(10.5f, 5f))
+		assertLevels()
+
+		this.dataSet.removeFirst()
+		assertLevels()
+
+		this.dataSet.getEntryForIndex(200)!!.y = -5f
+		this.dataSet.notifyDataSetChanged()
+		assertLevels()
+	}
+
+	@Test
+	fun update_ringBuffer() {
+		val dataSet = RingBufferLineDataSet(300, "RingBufferLineDataSet")
+		dataSet.isLevelOfDetailEnabled = true
+
+		for (i in 0 until 2000) {
+			dataSet.append(i.toFloat(), this.random.nextFloat() * 10f)
+
+			// Updated on every append, like a chart drawn after every new value
+			if (i % 7 == 0 || i > 1900) {
+				assertLevels(dataSet)
+			}
+		}
+
+		dataSet.removeFirst()
+		dataSet.removeFirst()
+		assertLevels(dataSet)
+		assertThat(dataSet.levelOfDetail!!.getBucketStart(1, dataSet.levelOfDetail!!.getBucket(1, 0))).isEqualTo(0)
+	}
+
+	private fun assertLevels(dataSet: DataSet<*> = this.dataSet) {
+		val levelOfDetail = dataSet.levelOfDetail!!
+		val count = dataSet.entryCount
+
+		for (level in 1 until levelOfDetail.levelCount) {
+			for (bucket in levelOfDetail.getBucket(level, 0)..levelOfDetail.getBucket(level, count - 1)) {
+				val from = levelOfDetail.getBucketStart(level, bucket)
+				val to = minOf(levelOfDetail.getBucketStart(level, bucket + 1), count)
+				val entries = (from until to).map { dataSet.getYForIndex(it) }
+
+				assertThat(levelOfDetail.getMinIndex(level, bucket)).isIn(from until to)
+				assertThat(levelOfDetail.getMaxIndex(level, bucket)).isIn(from until to)
+				assertThat(dataSet.getYForIndex(levelOfDetail.getMinIndex(level, bucket))).isEqualTo(entries.minOrNull())
+				assertThat(dataSet.getYForIndex(levelOfDetail.getMaxIndex(level, bucket))).isEqualTo(entries.maxOrNull())
+			}
+		}
+	}
+}
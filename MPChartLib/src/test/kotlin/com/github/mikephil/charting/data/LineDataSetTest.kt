@@ -117,6 +117,21 @@ class LineDataSetTest : LineRadarDataSetTest<Entry, LineDataSet>() {
 		}
 	}
 
+	@Test
+	fun copy_entryColors() {
+		val colors = intArrayOf(Color.GREEN, Color.BLUE)
+		this.dataSet.values = this.values
+		this.dataSet.setEntryColors(colors)
+
+		val copy = this.dataSet.copy() as LineDataSet
+		assertThat(copy.entryColors).isNotSameAs(colors)
+		assertThat(copy.entryColors!!.toList()).containsExactly(Color.GREEN, Color.BLUE).inOrder()
+
+		// The copy keeps its colors when the ones of the original change
+		colors[0] = Color.RED
+		assertThat(copy.getColor(0)).isEqualTo(Color.GREEN)
+	}
+
 	@Test
 	fun setMode() {
 		assertThat(this.dataSet.mode).isEqualTo(LineDataSet.Mode.LINEAR)
@@ -127,6 +142,63 @@ class LineDataSetTest : LineRadarDataSetTest<Entry, LineDataSet>() {
 		}
 	}
 
+	@Test
+	fun getIndexRange_partial() {
+		val range = IntArray(2)
+		this.dataSet.values = this.values
+
+		// The entries right outside of the range are included
+		this.dataSet.getIndexRange(1.5f, 4f, range)
+		assertThat(range).asList().containsExactly(0, 2).inOrder()
+
+		this.dataSet.getIndexRange(3f, 3f, range)
+		assertThat(range).asList().containsExactly(1, 1).inOrder()
+
+		this.dataSet.getIndexRange(6f, 9f, range)
+		assertThat(range).asList().containsExactly(2, 2).inOrder()
+	}
+
+	@Test
+	fun addEntries_primitive() {
+		assertThat(this.dataSet.addEntries(floatArrayOf(1f, 2f, 3f), floatArrayOf(4f, 5f, 6f), 1, 0)).isFalse()
+		assertThat(this.dataSet.addEntries(floatArrayOf(1f, 2f, 3f), floatArrayOf(4f, 5f, 6f), 1, 2)).isTrue()
+		assertThat(this.dataSet.entryCount).isEqualTo(2)
+		assertThat(this.dataSet.getXForIndex(0)).isEqualTo(2f)
+		assertThat(this.dataSet.getYForIndex(1)).isEqualTo(6f)
+		assertThat(this.dataSet.yMin).isEqualTo(5f)
+		assertThat(this.dataSet.xMax).isEqualTo(3f)
+
+		try {
+			this.dataSet.addEntries(floatArrayOf(1f, 2f, 3f), floatArrayOf(4f, 5f), 1, 2)
+			fail("Should have failed")
+		} catch (_: IllegalArgumentException) {
+		}
+	}
+
+	@Test
+	fun setDecimationMode() {
+		assertThat(this.dataSet.decimationMode).isEqualTo(LineDataSet.DecimationMode.NONE)
+
+		LineDataSet.DecimationMode.values().forEach {
+			this.dataSet.decimationMode = it
+			assertThat(this.dataSet.decimationMode).isEqualTo(it)
+		}
+		assertThat(this.dataSet.changes).isEqualTo(DataChange.STYLE)
+	}
+
+	@Test
+	fun setDecimationPointsPerPixel() {
+		assertThat(this.dataSet.decimationPointsPerPixel).isEqualTo(1f)
+
+		this.dataSet.decimationPointsPerPixel = 0f
+		assertThat(this.dataSet.decimationPointsPerPixel).isEqualTo(0.1f)
+
+		this.dataSet.clearChanges()
+		this.dataSet.decimationPointsPerPixel = 2.5f
+		assertThat(this.dataSet.decimationPointsPerPixel).isEqualTo(2.5f)
+		assertThat(this.dataSet.changes).isEqualTo(DataChange.STYLE)
+	}
+
 	@Test
 	fun setCubicIntensity() {
 		assertThat(this.dataSet.cubicIntensity).isEqualTo(0.2f)
@@ -248,4 +320,76 @@ class LineDataSetTest : LineRadarDataSetTest<Entry, LineDataSet>() {
 		this.dataSet.setFillFormatter(null)
 		assertThat(this.dataSet.fillFormatter).isInstanceOf(DefaultFillFormatter::class.java)
 	}
+
+	@Test
+	fun copyXY() {
+		this.dataSet.values = this.values
+
+		val xValues = FloatArray(3)
+		this.dataSet.copyX(1, 3, xValues, 1)
+		assertThat(xValues.toList()).containsExactly(0f, 3f, 5f).inOrder()
+
+		val yValues = FloatArray(2)
+		this.dataSet.copyY(0, 2, yValues, 0)
+		assertThat(yValues.toList()).containsExactly(2f, 4f).inOrder()
+
+		val values = FloatArray(6)
+		this.dataSet.copyXY(0, 3, values, 0)
+		assertThat(values.toList()).containsExactly(1f, 2f, 3f, 4f, 5f, 6f).inOrder()
+
+		// Empty ranges are allowed
+		this.dataSet.copyXY(3, 3, values, 6)
+
+		try {
+			this.dataSet.copyXY(2, 4, values, 0)
+			fail("Should have failed")
+		} catch (_: IllegalArgumentException) {
+		}
+
+		try {
+			this.dataSet.copyXY(0, 2, values, 3)
+			fail("Should have failed")
+		} catch (_: IllegalArgumentException) {
+		}
+
+		try {
+			this.dataSet.copyX(2, 1, values, 0)
+			fail("Should have failed")
+		} catch (_: IllegalArgumentException) {
+		}
+	}
+
+	@Test
+	fun copyColors() {
+		this.dataSet.values = this.values
+		this.dataSet.color = Color.RED
+		assertThat(this.dataSet.isMultiColored).isFalse()
+
+		val colors = IntArray(4)
+		this.dataSet.copyColors(0, 3, colors, 1)
+		assertThat(colors.toList()).containsExactly(0, Color.RED, Color.RED, Color.RED).inOrder()
+
+		// Entry colors take precedence, the others keep the colors of the DataSet
+		this.dataSet.clearChanges()
+		this.dataSet.setEntryColors(intArrayOf(Color.GREEN, Color.BLUE))
+		assertThat(this.dataSet.changes).isEqualTo(DataChange.STYLE)
+		assertThat(this.dataSet.isMultiColored).isTrue()
+		assertThat(this.dataSet.getColor(1)).isEqualTo(Color.BLUE)
+		assertThat(this.dataSet.getColor(2)).isEqualTo(Color.RED)
+
+		this.dataSet.copyColors(0, 3, colors, 0)
+		assertThat(colors.toList().subList(0, 3)).containsExactly(Color.GREEN, Color.BLUE, Color.RED).inOrder()
+
+		try {
+			this.dataSet.copyColors(1, 4, colors, 0)
+			fail("Should have failed")
+		} catch (_: IllegalArgumentException) {
+		}
+
+		try {
+			this.dataSet.copyColors(0, 3, colors, 2)
+			fail("Should have failed")
+		} catch (_: IllegalArgumentException) {
+		}
+	}
 }
@@ -24,6 +24,52 @@ class LineDataTest : ChartDataTest<Entry, ILineDataSet, LineData>() {
 		this.entry = Entry(7f, 8f)
 	}
 
+	@Test
+	fun addEntries() {
+		this.dataSets.forEach(this.data::addDataSet)
+
+		this.data.addEntries(listOf(Entry(7f, 8f), Entry(8f, -1f)), 2)
+
+		assertThat(this.data.entryCount).isEqualTo(5)
+		assertThat(this.data.yMax).isEqualTo(8f)
+		assertThat(this.data.yMin).isEqualTo(-1f)
+		assertThat(this.data.xMax).isEqualTo(8f)
+		assertThat(this.data.mLeftAxisMax).isEqualTo(8f)
+		assertThat(this.data.mLeftAxisMin).isEqualTo(-1f)
+		assertThat(this.data.mRightAxisMax).isEqualTo(2f)
+
+		this.data.addEntries(floatArrayOf(0f, 9f, 10f, 11f), floatArrayOf(0f, 12f, -3f, 0f), 1, 2, 1)
+
+		assertThat(this.data.entryCount).isEqualTo(7)
+		assertThat(this.data.getDataSetByIndex(1)!!.entryCount).isEqualTo(3)
+		assertThat(this.data.yMax).isEqualTo(12f)
+		assertThat(this.data.yMin).isEqualTo(-3f)
+		assertThat(this.data.xMax).isEqualTo(10f)
+		assertThat(this.data.mRightAxisMax).isEqualTo(12f)
+		assertThat(this.data.mRightAxisMin).isEqualTo(-3f)
+
+		this.data.addEntries(listOf(Entry(20f, 20f)), 4)
+		this.data.addEntries(floatArrayOf(20f), floatArrayOf(20f), 0, 1, 4)
+		assertThat(this.data.entryCount).isEqualTo(7)
+		assertThat(this.data.xMax).isEqualTo(10f)
+	}
+
+	@Test
+	fun addEntries_changes() {
+		this.dataSets.forEach(this.data::addDataSet)
+		this.data.clearChanges()
+
+		this.data.addEntries(listOf(Entry(7f, 8f)), 2)
+		assertThat(this.data.changes).isEqualTo(DataChange.APPEND)
+		assertThat(this.dataSets[2].changes).isEqualTo(DataChange.APPEND)
+
+		this.data.clearChanges()
+		this.data.addEntries(floatArrayOf(9f, 10f), floatArrayOf(1f, 2f), 0, 2, 1)
+		assertThat(this.data.changes).isEqualTo(DataChange.APPEND)
+		assertThat(this.dataSets[1].changes).isEqualTo(DataChange.APPEND)
+		assertThat(this.dataSets[2].changes).isEqualTo(DataChange.NONE)
+	}
+
 	@Test
 	override fun addEntry() {
 		this.dataSets.forEach(this.data::addDataSet)
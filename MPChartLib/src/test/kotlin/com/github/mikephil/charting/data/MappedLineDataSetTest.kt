@@ -0,0 +1,212 @@
+package com.github.mikephil.charting.data
+
+import com.google.common.truth.Truth.assertThat
+import org.junit.After
+import org.junit.Assert.fail
+import org.junit.Before
+import org.junit.Test
+import java.io.File
+import java.io.IOException
+import java.nio.ByteBuffer
+import java.nio.ByteOrder
+
+class MappedLineDataSetTest {
+	private lateinit var file: File
+	private lateinit var source: LineDataSet
+	private lateinit var dataSet: MappedLineDataSet
+
+	@Before
+	fun before() {
+		this.file = File.createTempFile("MappedLineDataSetTest", ".bin")
+
+		this.source = LineDataSet(MutableList(10_000) { Entry((it / 2).toFloat(), (it % 7).toFloat() - 3f) }, "LineDataSet")
+		MappedDataSetWriter.write(this.source, this.file)
+
+		this.dataSet = MappedLineDataSet(this.file, "MappedLineDataSet")
+	}
+
+	@After
+	fun after() {
+		this.file.delete()
+	}
+
+	@Test
+	fun read() {
+		assertThat(this.file.length()).isEqualTo(MappedLineDataSet.HEADER_SIZE + 10_000L * 8)
+		assertThat(this.dataSet.entryCount).isEqualTo(10_000)
+		assertThat(this.dataSet.getXForIndex(5)).isEqualTo(2f)
+		assertThat(this.dataSet.getYForIndex(5)).isEqualTo(2f)
+		assertThat(this.dataSet.xMin).isEqualTo(0f)
+		assertThat(this.dataSet.xMax).isEqualTo(4999f)
+		assertThat(this.dataSet.yMin).isEqualTo(-3f)
+		assertThat(this.dataSet.yMax).isEqualTo(3f)
+
+		// The header must match a full recalculation
+		this.dataSet.calcMinMax()
+		assertThat(this.dataSet.xMin).isEqualTo(0f)
+		assertThat(this.dataSet.xMax).isEqualTo(4999f)
+		assertThat(this.dataSet.yMin).isEqualTo(-3f)
+		assertThat(this.dataSet.yMax).isEqualTo(3f)
+	}
+
+	@Test
+	fun getEntryIndex() {
+		for (rounding in DataSet.Rounding.values()) {
+			for (x in listOf(-1f, 0f, 100f, 100.4f, 100.6f, 4999f, 6000f)) {
+				assertThat(this.dataSet.getEntryIndex(x, Float.NaN, rounding))
+					.isEqualTo(this.source.getEntryIndex(x, Float.NaN, rounding))
+			}
+		}
+
+		assertThat(this.dataSet.getEntryIndex(Entry(100f, 2f))).isEqualTo(201)
+		assertThat(this.dataSet.getEntryIndex(Entry(100f, 3f))).isEqualTo(-1)
+
+		val entry = this.dataSet.getEntryForIndex(42)!!
+		assertThat(entry.x).isEqualTo(21f)
+		assertThat(this.dataSet.getEntryIndex(entry)).isEqualTo(42)
+		assertThat(this.dataSet.getEntryForIndex(10_000)).isNull()
+
+		val entries = this.dataSet.getEntriesForXValue(100f)
+		assertThat(entries.map { it.y }).containsExactly(1f, 2f).inOrder()
+	}
+
+	@Test
+	fun calcMinMaxY() {
+		for (rangeIndex in listOf(false, true)) {
+			this.dataSet.isRangeIndexEnabled = rangeIndex
+
+			for ((fromX, toX) in listOf(10f to 10.5f, 11f to 11f, 0f to 4999f, 1000f to 1300.5f)) {
+				this.source.calcMinMaxY(fromX, toX)
+				this.dataSet.calcMinMaxY(fromX, toX)
+				assertThat(this.dataSet.yMin).isEqualTo(this.source.yMin)
+				assertThat(this.dataSet.yMax).isEqualTo(this.source.yMax)
+			}
+		}
+	}
+
+	@Test
+	fun readOnly() {
+		try {
+			this.dataSet.addEntry(Entry(5000f, 0f))
+			fail("Should have failed")
+		} catch (_: UnsupportedOperationException) {
+		}
+
+		try {
+			this.dataSet.clear()
+			fail("Should have failed")
+		} catch (_: UnsupportedOperationException) {
+		}
+
+		assertThat(this.dataSet.entryCount).isEqualTo(10_000)
+	}
+
+	@Test
+	fun copy() {
+		this.dataSet.lineWidth = 3f
+
+		val copy = this.dataSet.copy() as MappedLineDataSet
+		assertThat(copy).isNotSameAs(this.dataSet)
+		assertThat(copy.entryCount).isEqualTo(10_000)
+		assertThat(copy.getYForIndex(9_999)).isEqualTo(this.dataSet.getYForIndex(9_999))
+		assertThat(copy.yMax).isEqualTo(3f)
+		assertThat(copy.lineWidth).isEqualTo(3f)
+	}
+
+	@Test
+	fun invalidFile() {
+		try {
+			MappedLineDataSet(ByteBuffer.allocate(64), "MappedLineDataSet")
+			fail("Should have failed")
+		} catch (_: IOException) {
+		}
+
+		// Truncated values
+		val buffer = ByteBuffer.allocate(MappedLineDataSet.HEADER_SIZE + 8)
+		buffer.putInt(MappedLineDataSet.MAGIC).putInt(MappedLineDataSet.VERSION).putInt(2)
+		buffer.rewind()
+		try {
+			MappedLineDataSet(buffer, "MappedLineDataSet")
+			fail("Should have failed")
+		} catch (_: IOException) {
+		}
+	}
+
+	@Test
+	fun write_unsorted() {
+		try {
+			MappedDataSetWriter.write(LineDataSet(mutableListOf(Entry(2f, 1f), Entry(1f, 1f)), "LineDataSet"), this.file)
+			fail("Should have failed")
+		} catch (_: IllegalArgumentException) {
+		}
+
+		// No header in front of truncated values
+		assertThat(this.file.length()).isEqualTo(0L)
+		try {
+			MappedLineDataSet(this.file, "MappedLineDataSet")
+			fail("Should have failed")
+		} catch (_: IOException) {
+		}
+	}
+
+	@Test
+	fun write_narrowedMinMax() {
+		this.source.calcMinMaxY(1f, 1f)
+		assertThat(this.source.yMax).isLessThan(3f)
+
+		MappedDataSetWriter.write(this.source, this.file)
+		this.dataSet = MappedLineDataSet(this.file, "MappedLineDataSet")
+		assertThat(this.dataSet.yMin).isEqualTo(-3f)
+		assertThat(this.dataSet.yMax).isEqualTo(3f)
+	}
+
+	@Test
+	fun byteOrder() {
+		val header = ByteBuffer.wrap(this.file.readBytes()).order(ByteOrder.nativeOrder())
+		assertThat(header.getInt(0)).isEqualTo(MappedLineDataSet.MAGIC)
+
+		// Files written on a device with the other byte order
+		val otherOrder = if (ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN) ByteOrder.LITTLE_ENDIAN else ByteOrder.BIG_ENDIAN
+		val buffer = ByteBuffer.allocate(MappedLineDataSet.HEADER_SIZE + 8).order(otherOrder)
+		buffer.putInt(MappedLineDataSet.MAGIC).putInt(MappedLineDataSet.VERSION).putInt(1).putInt(0)
+		buffer.putFloat(2f).putFloat(2f).putFloat(5f).putFloat(5f)
+		buffer.putFloat(2f).putFloat(5f)
+		buffer.rewind()
+
+		val dataSet = MappedLineDataSet(buffer, "MappedLineDataSet")
+		assertThat(dataSet.getXForIndex(0)).isEqualTo(2f)
+		assertThat(dataSet.getYForIndex(0)).isEqualTo(5f)
+		assertThat(dataSet.yMax).isEqualTo(5f)
+	}
+
+	@Test
+	fun isChunkedMinMaxSupported() {
+		assertThat(this.dataSet.isChunkedMinMaxSupported).isFalse()
+	}
+
+	@Test
+	fun copyXY() {
+		val values = FloatArray(200)
+		this.dataSet.copyXY(100, 200, values, 0)
+
+		val xValues = FloatArray(100)
+		this.dataSet.copyX(100, 200, xValues, 0)
+
+		val yValues = FloatArray(100)
+		this.dataSet.copyY(100, 200, yValues, 0)
+
+		for (i in 0 until 100) {
+			assertThat(values[i * 2]).isEqualTo(this.source.getXForIndex(100 + i))
+			assertThat(values[i * 2 + 1]).isEqualTo(this.source.getYForIndex(100 + i))
+			assertThat(xValues[i]).isEqualTo(values[i * 2])
+			assertThat(yValues[i]).isEqualTo(values[i * 2 + 1])
+		}
+
+		try {
+			this.dataSet.copyXY(9_999, 10_001, values, 0)
+			fail("Should have failed")
+		} catch (_: IllegalArgumentException) {
+		}
+	}
+
+}
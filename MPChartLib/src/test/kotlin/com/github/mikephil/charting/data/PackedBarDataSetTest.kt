@@ -0,0 +1,154 @@
+package com.github.mikephil.charting.data
+
+import com.github.mikephil.charting.buffer.BarBuffer
+import com.github.mikephil.charting.buffer.HorizontalBarBuffer
+import com.google.common.truth.Truth.assertThat
+import org.junit.Before
+import org.junit.Test
+
+class PackedBarDataSetTest {
+	private lateinit var dataSet: PackedBarDataSet
+
+	@Before
+	fun before() {
+		this.dataSet = PackedBarDataSet(2, "PackedBarDataSet")
+	}
+
+	@Test
+	fun addEntry() {
+		this.dataSet.addEntry(1f, 5f)
+		this.dataSet.addEntry(2f, floatArrayOf(-10f, 5f, 20f))
+		this.dataSet.addEntry(BarEntry(3f, floatArrayOf(4f, -2f)))
+
+		assertThat(this.dataSet.entryCount).isEqualTo(3)
+		assertThat(this.dataSet.entryCountStacks).isEqualTo(6)
+		assertThat(this.dataSet.stackSize).isEqualTo(3)
+		assertThat(this.dataSet.isStacked).isTrue()
+
+		assertThat(this.dataSet.getYForIndex(0)).isEqualTo(5f)
+		assertThat(this.dataSet.getYForIndex(1)).isEqualTo(15f)
+		assertThat(this.dataSet.getNegativeSumForIndex(1)).isEqualTo(10f)
+		assertThat(this.dataSet.getPositiveSumForIndex(1)).isEqualTo(25f)
+
+		assertThat(this.dataSet.xMin).isEqualTo(1f)
+		assertThat(this.dataSet.xMax).isEqualTo(3f)
+		assertThat(this.dataSet.yMin).isEqualTo(-10f)
+		assertThat(this.dataSet.yMax).isEqualTo(25f)
+	}
+
+	@Test
+	fun stackBounds() {
+		val entries = listOf(
+			BarEntry(1f, 5f),
+			BarEntry(2f, floatArrayOf(-10f, 5f, 20f)),
+			BarEntry(3f, floatArrayOf(4f, -2f, -3f, 1f))
+		)
+		this.dataSet.addEntries(entries)
+
+		for (index in entries.indices) {
+			val ranges = entries[index].ranges
+			val count = this.dataSet.getStackCountForIndex(index)
+			val offset = this.dataSet.getStackOffsetForIndex(index)
+
+			assertThat(count).isEqualTo(ranges?.size ?: 0)
+			for (i in 0 until count) {
+				assertThat(this.dataSet.getStackFrom(offset + i)).isEqualTo(ranges!![i].from)
+				assertThat(this.dataSet.getStackTo(offset + i)).isEqualTo(ranges[i].to)
+			}
+		}
+	}
+
+	@Test
+	fun addEntryOrdered() {
+		this.dataSet.addEntry(1f, floatArrayOf(1f, 2f))
+		this.dataSet.addEntry(3f, floatArrayOf(3f, 4f))
+		this.dataSet.addEntryOrdered(BarEntry(2f, floatArrayOf(-1f, 5f, 6f)))
+		this.dataSet.addEntryOrdered(BarEntry(0f, 7f))
+
+		assertThat((0 until 4).map { this.dataSet.getXForIndex(it) }).containsExactly(0f, 1f, 2f, 3f).inOrder()
+		assertThat((0 until 4).map { this.dataSet.getStackCountForIndex(it) }).containsExactly(0, 2, 3, 2).inOrder()
+		assertThat(this.dataSet.getEntryForIndex(2)!!.yVals).isEqualTo(floatArrayOf(-1f, 5f, 6f))
+		assertThat(this.dataSet.getEntryForIndex(3)!!.yVals).isEqualTo(floatArrayOf(3f, 4f))
+
+		val offset = this.dataSet.getStackOffsetForIndex(3)
+		assertThat(this.dataSet.getStackFrom(offset + 1)).isEqualTo(3f)
+		assertThat(this.dataSet.getStackTo(offset + 1)).isEqualTo(7f)
+	}
+
+	@Test
+	fun removeEntry() {
+		this.dataSet.addEntries(listOf(
+			BarEntry(1f, floatArrayOf(1f, 2f)),
+			BarEntry(2f, floatArrayOf(-20f, 5f)),
+			BarEntry(3f, 30f)
+		))
+
+		assertThat(this.dataSet.removeEntry(1)).isTrue()
+		assertThat(this.dataSet.entryCount).isEqualTo(2)
+		assertThat(this.dataSet.getStackCountForIndex(1)).isEqualTo(0)
+		assertThat(this.dataSet.getStackOffsetForIndex(1)).isEqualTo(2)
+		assertThat(this.dataSet.yMin).isZero()
+		assertThat(this.dataSet.yMax).isEqualTo(30f)
+
+		assertThat(this.dataSet.removeEntry(this.dataSet.getEntryForIndex(0))).isTrue()
+		assertThat(this.dataSet.getXForIndex(0)).isEqualTo(3f)
+		assertThat(this.dataSet.entryCountStacks).isEqualTo(1)
+
+		assertThat(this.dataSet.removeEntry(5)).isFalse()
+	}
+
+	@Test
+	fun getEntryIndex() {
+		this.dataSet.addEntry(1f, floatArrayOf(1f, 2f))
+		this.dataSet.addEntry(1f, floatArrayOf(2f, 1f))
+
+		assertThat(this.dataSet.getEntryIndex(BarEntry(1f, floatArrayOf(2f, 1f)))).isEqualTo(1)
+		assertThat(this.dataSet.getEntryIndex(BarEntry(1f, 3f))).isEqualTo(-1)
+		assertThat(this.dataSet.getEntriesForXValue(1f)).hasSize(2)
+		assertThat(this.dataSet.contains(this.dataSet.getEntryForIndex(0))).isTrue()
+	}
+
+	@Test
+	fun copy() {
+		this.dataSet.addEntry(1f, floatArrayOf(1f, -2f))
+		this.dataSet.addEntry(2f, 4f)
+
+		val copy = this.dataSet.copy() as PackedBarDataSet
+		this.dataSet.clear()
+
+		assertThat(copy.entryCount).isEqualTo(2)
+		assertThat(copy.stackSize).isEqualTo(2)
+		assertThat(copy.getStackFrom(1)).isEqualTo(-2f)
+		assertThat(copy.yMin).isEqualTo(-2f)
+		assertThat(copy.yMax).isEqualTo(4f)
+	}
+
+	@Test
+	fun feed_sameAsBarDataSet() {
+		val entries = listOf(
+			BarEntry(1f, 5f),
+			BarEntry(2f, floatArrayOf(-10f, 5f, 20f)),
+			BarEntry(3f, -4f),
+			BarEntry(4f, floatArrayOf(4f, -2f, -3f, 1f))
+		)
+		this.dataSet.addEntries(entries)
+		val barDataSet = BarDataSet(entries, "BarDataSet")
+
+		for (inverted in listOf(false, true)) {
+			for (horizontal in listOf(false, true)) {
+				val expected = if (horizontal) HorizontalBarBuffer(40, true) else BarBuffer(40, true)
+				val actual = if (horizontal) HorizontalBarBuffer(40, true) else BarBuffer(40, true)
+				for (buffer in listOf(expected, actual)) {
+					buffer.setInverted(inverted)
+					buffer.setBarWidth(0.5f)
+					buffer.setPhases(1f, 0.5f)
+				}
+
+				expected.feed(barDataSet)
+				actual.feed(this.dataSet)
+
+				assertThat(actual.buffer).isEqualTo(expected.buffer)
+			}
+		}
+	}
+}
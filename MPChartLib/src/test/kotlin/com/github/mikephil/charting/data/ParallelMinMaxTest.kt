@@ -0,0 +1,106 @@
+package com.github.mikephil.charting.data
+
+import com.github.mikephil.charting.components.YAxis
+import com.github.mikephil.charting.interfaces.datasets.ILineDataSet
+import com.google.common.truth.Truth.assertThat
+import org.junit.Test
+import java.util.Random
+
+class ParallelMinMaxTest {
+	private val random = Random(42L)
+
+	@Test
+	fun setParallelMinMaxEnabled() {
+		val data = LineData()
+		assertThat(data.isParallelMinMaxEnabled).isFalse()
+
+		data.isParallelMinMaxEnabled = true
+		assertThat(data.isParallelMinMaxEnabled).isTrue()
+	}
+
+	@Test
+	fun notifyDataSetsChanged() {
+		val dataSets = createDataSets()
+		val data = LineData(dataSets)
+		data.isParallelMinMaxEnabled = true
+
+		// Modify the entries in place, then compare with a serial calculation
+		for (dataSet in dataSets) {
+			for (i in 0 until dataSet.entryCount step 1000) {
+				dataSet.getEntryForIndex(i)!!.y = this.random.nextFloat() * 1000f - 500f
+			}
+		}
+
+		data.notifyDataSetsChanged()
+
+		val expected = dataSets.map { dataSet ->
+			val values = MutableList(dataSet.entryCount) { Entry(dataSet.getXForIndex(it), dataSet.getYForIndex(it)) }
+			LineDataSet(values, dataSet.label).also { it.axisDependency = dataSet.axisDependency }
+		}
+		val expectedData = LineData(expected)
+
+		for ((index, dataSet) in dataSets.withIndex()) {
+			assertThat(dataSet.xMin).isEqualTo(expected[index].xMin)
+			assertThat(dataSet.xMax).isEqualTo(expected[index].xMax)
+			assertThat(dataSet.yMin).isEqualTo(expected[index].yMin)
+			assertThat(dataSet.yMax).isEqualTo(expected[index].yMax)
+		}
+
+		assertThat(data.yMin).isEqualTo(expectedData.yMin)
+		assertThat(data.yMax).isEqualTo(expectedData.yMax)
+		assertThat(data.xMax).isEqualTo(expectedData.xMax)
+		assertThat(data.getYMin(YAxis.AxisDependency.LEFT)).isEqualTo(expectedData.getYMin(YAxis.AxisDependency.LEFT))
+		assertThat(data.getYMax(YAxis.AxisDependency.RIGHT)).isEqualTo(expectedData.getYMax(YAxis.AxisDependency.RIGHT))
+	}
+
+	@Test
+	fun notifyDataSetsChanged_serial() {
+		val dataSet = LineDataSet(mutableListOf(Entry(1f, 2f), Entry(2f, 3f)), "LineDataSet")
+		val data = LineData(dataSet)
+		data.isParallelMinMaxEnabled = true
+
+		dataSet.getEntryForIndex(0)!!.y = -5f
+		data.notifyDataSetsChanged()
+
+		assertThat(dataSet.yMin).isEqualTo(-5f)
+		assertThat(data.yMin).isEqualTo(-5f)
+	}
+
+	@Test
+	fun calcMinMax_chunks() {
+		val count = ParallelMinMax.CHUNK_SIZE * 2 + 17
+		val dataSet = ColumnarLineDataSet(count, "ColumnarLineDataSet")
+		for (i in 0 until count) {
+			dataSet.addEntry(i.toFloat(), this.random.nextFloat())
+		}
+
+		dataSet.isLevelOfDetailEnabled = true
+		val yMin = dataSet.yMin
+		val yMax = dataSet.yMax
+
+		// A large value in the last chunk
+		dataSet.mYValues[count - 1] = 2f
+		ParallelMinMax.calcMinMax(listOf(dataSet))
+
+		assertThat(dataSet.xMin).isEqualTo(0f)
+		assertThat(dataSet.xMax).isEqualTo((count - 1).toFloat())
+		assertThat(dataSet.yMin).isEqualTo(yMin)
+		assertThat(dataSet.yMax).isEqualTo(2f)
+		assertThat(yMax).isLessThan(2f)
+
+		// The indices must have been invalidated
+		val levelOfDetail = dataSet.levelOfDetail!!
+		val level = levelOfDetail.levelCount - 1
+		assertThat(levelOfDetail.getMaxIndex(level, levelOfDetail.getBucket(level, count - 1))).isEqualTo(count - 1)
+	}
+
+	private fun createDataSets(): List<ILineDataSet> {
+		val random = Random(7L)
+		return List(12) { index ->
+			val count = if (index % 4 == 0) ParallelMinMax.CHUNK_SIZE * 3 + index else 1000 + index
+			val dataSet = LineDataSet(MutableList(count) { Entry(it.toFloat() - index, random.nextFloat() * 100f) }, "DataSet $index")
+			dataSet.axisDependency = if (index % 3 == 0) YAxis.AxisDependency.RIGHT else YAxis.AxisDependency.LEFT
+			dataSet
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package com.github.mikephil.charting.data
+
+import com.google.common.truth.Truth.assertThat
+import org.junit.Assert.fail
+import org.junit.Test
+
+class PreparedMinMaxTest {
+	@Test
+	fun prepareMinMax() {
+		val dataSet = LineDataSet(MutableList(200_000) { Entry(it.toFloat(), (it % 1000).toFloat()) }, "LineDataSet")
+		val data = LineData(dataSet)
+
+		// Modify an entry, the prepared values must not be applied before applyMinMax()
+		dataSet.getEntryForIndex(500)!!.y = 5000f
+
+		val prepared = data.prepareMinMax()!!
+		assertThat(prepared.calculatedDataSetCount).isEqualTo(1)
+		assertThat(dataSet.yMax).isEqualTo(999f)
+		assertThat(data.yMax).isEqualTo(999f)
+
+		data.applyMinMax(prepared)
+		assertThat(dataSet.yMax).isEqualTo(5000f)
+		assertThat(dataSet.xMax).isEqualTo(199_999f)
+		assertThat(data.yMax).isEqualTo(5000f)
+	}
+
+	@Test
+	fun applyMinMax_recalculated() {
+		val barDataSet = BarDataSet(mutableListOf(BarEntry(1f, 2f), BarEntry(2f, 4f)), "BarDataSet")
+		val data = BarData(barDataSet)
+
+		barDataSet.getEntryForIndex(0)!!.y = -6f
+
+		// Not calculated in advance, recalculated when applied
+		val prepared = data.prepareMinMax()!!
+		assertThat(prepared.calculatedDataSetCount).isEqualTo(0)
+
+		data.applyMinMax(prepared)
+		assertThat(barDataSet.yMin).isEqualTo(-6f)
+		assertThat(barDataSet.yMax).isEqualTo(4f)
+	}
+
+	@Test
+	fun applyMinMax_modified() {
+		val dataSet = LineDataSet(mutableListOf(Entry(1f, 1f)), "LineDataSet")
+		val data = LineData(dataSet)
+
+		val prepared = data.prepareMinMax()!!
+		dataSet.addEntry(Entry(2f, 10f))
+		dataSet.getEntryForIndex(0)!!.y = -10f
+
+		// The entry count changed, so the DataSet is recalculated
+		data.applyMinMax(prepared)
+		assertThat(dataSet.yMin).isEqualTo(-10f)
+		assertThat(dataSet.yMax).isEqualTo(10f)
+	}
+
+	@Test
+	fun applyMinMax_otherData() {
+		val prepared = LineData(LineDataSet(mutableListOf(Entry(1f, 1f)), "LineDataSet")).prepareMinMax()!!
+
+		try {
+			LineData().applyMinMax(prepared)
+			fail("Should have failed")
+		} catch (_: IllegalArgumentException) {
+		}
+	}
+
+	@Test
+	fun prepareMinMax_interrupted() {
+		val data = LineData(LineDataSet(mutableListOf(Entry(1f, 1f)), "LineDataSet"))
+
+		Thread.currentThread().interrupt()
+		try {
+			assertThat(data.prepareMinMax()).isNull()
+		} finally {
+			Thread.interrupted()
+		}
+	}
+}
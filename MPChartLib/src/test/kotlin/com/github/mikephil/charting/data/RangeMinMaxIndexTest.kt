@@ -0,0 +1,149 @@
+package com.github.mikephil.charting.data
+
+import com.google.common.truth.Truth.assertThat
+import org.junit.Before
+import org.junit.Test
+import java.util.Random
+
+class RangeMinMaxIndexTest {
+	private val random = Random(42L)
+
+	private lateinit var dataSet: LineDataSet
+
+	@Before
+	fun before() {
+		this.dataSet = LineDataSet(mutableListOf(), "LineDataSet")
+		this.dataSet.isRangeIndexEnabled = true
+	}
+
+	@Test
+	fun setRangeIndexEnabled() {
+		assertThat(LineDataSet(mutableListOf(), "LineDataSet").isRangeIndexEnabled).isFalse()
+		assertThat(this.dataSet.isRangeIndexEnabled).isTrue()
+		assertThat((this.dataSet.copy() as LineDataSet).isRangeIndexEnabled).isTrue()
+
+		this.dataSet.isRangeIndexEnabled = false
+		assertThat(this.dataSet.isRangeIndexEnabled).isFalse()
+	}
+
+	@Test
+	fun calcMinMaxY_empty() {
+		this.dataSet.calcMinMaxY(0f, 2f)
+
+		assertThat(this.dataSet.yMax).isEqualTo(-java.lang.Float.MAX_VALUE)
+		assertThat(this.dataSet.yMin).isEqualTo(java.lang.Float.MAX_VALUE)
+	}
+
+	@Test
+	fun calcMinMaxY() {
+		this.dataSet.values = MutableList(1000) { Entry(it.toFloat(), this.random.nextFloat() * 100f - 50f) }
+
+		assertRanges(this.dataSet)
+	}
+
+	@Test
+	fun calcMinMaxY_append() {
+		for (i in 0 until 300) {
+			this.dataSet.addEntry(Entry(i.toFloat(), this.random.nextFloat() * 100f))
+
+			if (i % 37 == 0) {
+				assertRanges(this.dataSet)
+			}
+		}
+
+		assertRanges(this.dataSet)
+	}
+
+	@Test
+	fun calcMinMaxY_changes() {
+		this.dataSet.values = MutableList(200) { Entry(it * 2f, it.toFloat()) }
+		assertRanges(this.dataSet)
+
+		this.dataSet.addEntryOrdered(Entry(101f, 1000f))
+		assertRanges(this.dataSet)
+
+		this.dataSet.removeEntry(this.dataSet.getEntryForIndex(51))
+		assertRanges(this.dataSet)
+
+		this.dataSet.addEntriesOrdered(MutableList(50) { Entry(this.random.nextFloat() * 500f, this.random.nextFloat() * 2000f - 1000f) })
+		assertRanges(this.dataSet)
+
+		this.dataSet.setValues(this.dataSet.values + List(100) { Entry(500f + it, it.toFloat() * 20f) }, true)
+		assertRanges(this.dataSet)
+
+		this.dataSet.getEntryForIndex(150)!!.y = -1000f
+		this.dataSet.notifyDataSetChanged()
+		assertRanges(this.dataSet)
+	}
+
+	@Test
+	fun calcMinMaxY_columnar() {
+		val dataSet = ColumnarLineDataSet("ColumnarLineDataSet")
+		dataSet.isRangeIndexEnabled = true
+		for (i in 0 until 500) {
+			dataSet.addEntry(i.toFloat(), this.random.nextFloat() * 10f)
+		}
+
+		assertRanges(dataSet)
+
+		dataSet.addEntryOrdered(Entry(250.5f, 20f))
+		assertRanges(dataSet)
+
+		dataSet.addEntriesOrdered(List(40) { Entry(this.random.nextFloat() * 600f, this.random.nextFloat() * 30f - 10f) })
+		assertRanges(dataSet)
+	}
+
+	@Test
+	fun calcMinMaxY_candle() {
+		val dataSet = CandleDataSet(MutableList(300) {
+			val high = this.random.nextFloat() * 10f
+			CandleEntry(it.toFloat(), high, high - this.random.nextFloat(), 0f, 0f)
+		}, "CandleDataSet")
+		dataSet.isRangeIndexEnabled = true
+
+		assertRanges(dataSet)
+	}
+
+	@Test
+	fun calcMinMaxY_ringBuffer() {
+		val dataSet = RingBufferLineDataSet(200, "RingBufferLineDataSet")
+		dataSet.isRangeIndexEnabled = true
+
+		for (i in 0 until 1500) {
+			dataSet.append(i.toFloat(), this.random.nextFloat() * 100f)
+
+			if (i % 11 == 0) {
+				assertRanges(dataSet, dataSet.xMin)
+			}
+		}
+
+		dataSet.removeFirst()
+		assertRanges(dataSet, dataSet.xMin)
+	}
+
+	private fun <E : Entry> assertRanges(dataSet: DataSet<E>, offset: Float = 0f) {
+		val ranges = listOf(
+			0f to dataSet.xMax, 0f to 0f, 3f to 17f, 10.5f to 40.5f, 31f to 97f, 60f to 250f, -10f to 1000f
+		)
+
+		for ((from, to) in ranges) {
+			val fromX = from + offset
+			val toX = to + offset
+			var yMin = java.lang.Float.MAX_VALUE
+			var yMax = -java.lang.Float.MAX_VALUE
+			val from = dataSet.getEntryIndex(fromX, Float.NaN, DataSet.Rounding.DOWN)
+			val to = dataSet.getEntryIndex(toX, Float.NaN, DataSet.Rounding.UP)
+			for (i in from..to) {
+				val entry = dataSet.getEntryForIndex(i)!!
+				val low = if (entry is CandleEntry) minOf(entry.low, entry.high) else entry.y
+				val high = if (entry is CandleEntry) maxOf(entry.low, entry.high) else entry.y
+				yMin = minOf(yMin, low)
+				yMax = maxOf(yMax, high)
+			}
+
+			dataSet.calcMinMaxY(fromX, toX)
+			assertThat(dataSet.yMin).isEqualTo(yMin)
+			assertThat(dataSet.yMax).isEqualTo(yMax)
+		}
+	}
+}
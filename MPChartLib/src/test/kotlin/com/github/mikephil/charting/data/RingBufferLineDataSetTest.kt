@@ -0,0 +1,231 @@
+package com.github.mikephil.charting.data
+
+import com.google.common.truth.Truth.assertThat
+import org.junit.Assert.fail
+import org.junit.Before
+import org.junit.Test
+import java.util.Random
+
+class RingBufferLineDataSetTest {
+	private lateinit var dataSet: RingBufferLineDataSet
+
+	@Before
+	fun before() {
+		this.dataSet = RingBufferLineDataSet(3, "RingBufferLineDataSet")
+	}
+
+	@Test
+	fun constructor_invalidCapacity() {
+		try {
+			RingBufferLineDataSet(0, "RingBufferLineDataSet")
+			fail("Should have failed")
+		} catch (_: IllegalArgumentException) {
+		}
+	}
+
+	@Test
+	fun append() {
+		assertThat(this.dataSet.capacity).isEqualTo(3)
+		assertThat(this.dataSet.isFull).isFalse()
+
+		assertThat(this.dataSet.append(1f, 5f)).isFalse()
+		assertThat(this.dataSet.append(2f, 1f)).isFalse()
+		assertThat(this.dataSet.append(3f, 3f)).isFalse()
+		assertThat(this.dataSet.isFull).isTrue()
+		assertThat(this.dataSet.yMin).isEqualTo(1f)
+		assertThat(this.dataSet.yMax).isEqualTo(5f)
+
+		assertThat(this.dataSet.append(4f, 2f)).isTrue()
+		assertThat(this.dataSet.entryCount).isEqualTo(3)
+		assertThat(this.dataSet.getXForIndex(0)).isEqualTo(2f)
+		assertThat(this.dataSet.getXForIndex(2)).isEqualTo(4f)
+		assertThat(this.dataSet.xMin).isEqualTo(2f)
+		assertThat(this.dataSet.xMax).isEqualTo(4f)
+		assertThat(this.dataSet.yMin).isEqualTo(1f)
+		assertThat(this.dataSet.yMax).isEqualTo(3f)
+
+		this.dataSet.addEntry(Entry(5f, 0f))
+		assertThat(this.dataSet.yMin).isEqualTo(0f)
+		assertThat(this.dataSet.yMax).isEqualTo(3f)
+
+		try {
+			this.dataSet.append(1f, 1f)
+			fail("Should have failed")
+		} catch (_: IllegalArgumentException) {
+		}
+	}
+
+	@Test
+	fun append_matchesFullScan() {
+		val random = Random(42L)
+		val dataSet = RingBufferLineDataSet(50, "RingBufferLineDataSet")
+
+		for (i in 0 until 1000) {
+			dataSet.append(i.toFloat(), random.nextFloat() * 100f)
+
+			if (i % 7 == 0 && dataSet.entryCount > 1) {
+				dataSet.removeFirst()
+			}
+
+			var yMin = Float.MAX_VALUE
+			var yMax = -Float.MAX_VALUE
+			for (j in 0 until dataSet.entryCount) {
+				yMin = minOf(yMin, dataSet.getYForIndex(j))
+				yMax = maxOf(yMax, dataSet.getYForIndex(j))
+			}
+
+			assertThat(dataSet.yMin).isEqualTo(yMin)
+			assertThat(dataSet.yMax).isEqualTo(yMax)
+			assertThat(dataSet.xMin).isEqualTo(dataSet.getXForIndex(0))
+			assertThat(dataSet.xMax).isEqualTo(i.toFloat())
+		}
+	}
+
+	@Test
+	fun addEntries() {
+		assertThat(this.dataSet.addEntries(floatArrayOf(1f, 2f), floatArrayOf(1f, 2f), 0, 2)).isTrue()
+		assertThat(this.dataSet.entryCount).isEqualTo(2)
+
+		assertThat(this.dataSet.addEntries(floatArrayOf(0f, 3f, 4f, 5f, 6f, 7f), floatArrayOf(0f, 3f, 4f, 5f, 6f, 7f), 1, 4)).isTrue()
+		assertThat(this.dataSet.values.map { it.x }).containsExactly(4f, 5f, 6f).inOrder()
+		assertThat(this.dataSet.yMin).isEqualTo(4f)
+		assertThat(this.dataSet.yMax).isEqualTo(6f)
+
+		assertThat(this.dataSet.addEntries(listOf(Entry(7f, 0f)))).isTrue()
+		assertThat(this.dataSet.values.map { it.x }).containsExactly(5f, 6f, 7f).inOrder()
+		assertThat(this.dataSet.yMin).isEqualTo(0f)
+
+		assertThat(this.dataSet.addEntries(listOf())).isFalse()
+	}
+
+	@Test
+	fun addEntryOrdered() {
+		this.dataSet.append(1f, 1f)
+		this.dataSet.append(3f, 3f)
+		this.dataSet.addEntryOrdered(Entry(2f, 2f))
+		assertThat(this.dataSet.values.map { it.x }).containsExactly(1f, 2f, 3f).inOrder()
+
+		this.dataSet.addEntryOrdered(Entry(2.5f, 9f))
+		assertThat(this.dataSet.values.map { it.x }).containsExactly(2f, 2.5f, 3f).inOrder()
+		assertThat(this.dataSet.yMax).isEqualTo(9f)
+
+		// Older than every value of a full DataSet
+		this.dataSet.addEntryOrdered(Entry(0f, 0f))
+		assertThat(this.dataSet.values.map { it.x }).containsExactly(2f, 2.5f, 3f).inOrder()
+	}
+
+	@Test
+	fun addEntriesOrdered() {
+		this.dataSet.addEntriesOrdered(listOf(Entry(3f, 3f), Entry(1f, 1f)))
+		assertThat(this.dataSet.values.map { it.x }).containsExactly(1f, 3f).inOrder()
+
+		this.dataSet.addEntriesOrdered(listOf(Entry(2.5f, 9f), Entry(0f, 0f)))
+		assertThat(this.dataSet.values.map { it.x }).containsExactly(1f, 2.5f, 3f).inOrder()
+		assertThat(this.dataSet.yMax).isEqualTo(9f)
+		assertThat(this.dataSet.yMin).isEqualTo(1f)
+
+		this.dataSet.addEntriesOrdered(listOf(Entry(5f, 5f), Entry(4f, 4f)))
+		assertThat(this.dataSet.values.map { it.x }).containsExactly(3f, 4f, 5f).inOrder()
+		assertThat(this.dataSet.yMax).isEqualTo(5f)
+		assertThat(this.dataSet.yMin).isEqualTo(3f)
+	}
+
+	@Test
+	fun removeEntry() {
+		this.dataSet.append(1f, 5f)
+		this.dataSet.append(2f, 1f)
+		this.dataSet.append(3f, 3f)
+
+		assertThat(this.dataSet.removeLast()).isTrue()
+		assertThat(this.dataSet.yMin).isEqualTo(1f)
+		assertThat(this.dataSet.xMax).isEqualTo(2f)
+
+		assertThat(this.dataSet.removeEntry(Entry(2f, 1f))).isTrue()
+		assertThat(this.dataSet.entryCount).isEqualTo(1)
+		assertThat(this.dataSet.yMin).isEqualTo(5f)
+
+		assertThat(this.dataSet.removeFirst()).isTrue()
+		assertThat(this.dataSet.removeFirst()).isFalse()
+		assertThat(this.dataSet.removeEntry(0)).isFalse()
+
+		this.dataSet.append(0f, 2f)
+		assertThat(this.dataSet.yMin).isEqualTo(2f)
+		assertThat(this.dataSet.yMax).isEqualTo(2f)
+
+		this.dataSet.clear()
+		assertThat(this.dataSet.entryCount).isEqualTo(0)
+	}
+
+	@Test
+	fun getEntryForXValue() {
+		for (i in 0 until 5) {
+			this.dataSet.append(i.toFloat(), i * 10f)
+		}
+
+		assertThat(this.dataSet.getEntryForXValue(3.4f, Float.NaN)!!.y).isEqualTo(30f)
+		assertThat(this.dataSet.getEntryIndex(3.6f, Float.NaN, DataSet.Rounding.DOWN)).isEqualTo(1)
+		assertThat(this.dataSet.getEntryIndex(Entry(4f, 40f))).isEqualTo(2)
+		assertThat(this.dataSet.getEntryIndex(Entry(1f, 10f))).isEqualTo(-1)
+		assertThat(this.dataSet.getEntriesForXValue(2f)).hasSize(1)
+
+		val entry = this.dataSet.getEntryForIndex(0)!!
+		assertThat(entry.x).isEqualTo(2f)
+		assertThat(this.dataSet.getEntryIndex(entry)).isEqualTo(0)
+		assertThat(this.dataSet.getEntryForIndex(3)).isNull()
+	}
+
+	@Test
+	fun setValues() {
+		this.dataSet.values = listOf(Entry(1f, 1f), Entry(2f, 2f), Entry(3f, 3f), Entry(4f, 4f))
+		assertThat(this.dataSet.entryCount).isEqualTo(3)
+		assertThat(this.dataSet.xMin).isEqualTo(2f)
+		assertThat(this.dataSet.yMax).isEqualTo(4f)
+
+		this.dataSet.calcMinMaxY(2.5f, 3.5f)
+		assertThat(this.dataSet.yMin).isEqualTo(2f)
+		assertThat(this.dataSet.yMax).isEqualTo(4f)
+	}
+
+	@Test
+	fun copy() {
+		this.dataSet.append(1f, 1f)
+		this.dataSet.append(2f, 2f)
+		this.dataSet.append(3f, 3f)
+		this.dataSet.append(4f, 4f)
+
+		val copy = this.dataSet.copy() as RingBufferLineDataSet
+		assertThat(copy.capacity).isEqualTo(3)
+		assertThat(copy.values.map { it.x }).containsExactly(2f, 3f, 4f).inOrder()
+		assertThat(copy.yMin).isEqualTo(2f)
+
+		copy.append(5f, 5f)
+		assertThat(this.dataSet.xMax).isEqualTo(4f)
+	}
+
+	@Test
+	fun copyXY() {
+		for (i in 1..5) {
+			this.dataSet.append(i.toFloat(), i * 10f)
+		}
+
+		// The values wrap around the end of the arrays
+		val xValues = FloatArray(3)
+		this.dataSet.copyX(0, 3, xValues, 0)
+		assertThat(xValues.toList()).containsExactly(3f, 4f, 5f).inOrder()
+
+		val yValues = FloatArray(2)
+		this.dataSet.copyY(1, 3, yValues, 0)
+		assertThat(yValues.toList()).containsExactly(40f, 50f).inOrder()
+
+		val values = FloatArray(6)
+		this.dataSet.copyXY(0, 3, values, 0)
+		assertThat(values.toList()).containsExactly(3f, 30f, 4f, 40f, 5f, 50f).inOrder()
+
+		try {
+			this.dataSet.copyXY(0, 4, FloatArray(8), 0)
+			fail("Should have failed")
+		} catch (_: IllegalArgumentException) {
+		}
+	}
+
+}
@@ -0,0 +1,161 @@
+package com.github.mikephil.charting.data
+
+import com.google.common.truth.Truth.assertThat
+import org.junit.Before
+import org.junit.Test
+import java.util.concurrent.CountDownLatch
+
+class SnapshotLineDataSetTest {
+	private lateinit var dataSet: SnapshotLineDataSet
+
+	@Before
+	fun before() {
+		this.dataSet = SnapshotLineDataSet("SnapshotLineDataSet")
+	}
+
+	@Test
+	fun swapSnapshot() {
+		this.dataSet.addEntry(1f, 1f)
+		this.dataSet.addEntry(Entry(2f, 4f))
+
+		// Nothing is visible before the swap
+		assertThat(this.dataSet.entryCount).isEqualTo(0)
+		assertThat(this.dataSet.pendingEntryCount).isEqualTo(2)
+
+		assertThat(this.dataSet.swapSnapshot()).isTrue()
+		assertThat(this.dataSet.entryCount).isEqualTo(2)
+		assertThat(this.dataSet.pendingEntryCount).isEqualTo(0)
+		assertThat(this.dataSet.xMax).isEqualTo(2f)
+		assertThat(this.dataSet.yMax).isEqualTo(4f)
+
+		assertThat(this.dataSet.swapSnapshot()).isFalse()
+	}
+
+	@Test
+	fun swapSnapshot_unordered() {
+		this.dataSet.addEntries(floatArrayOf(1f, 5f), floatArrayOf(1f, 5f), 0, 2)
+		this.dataSet.swapSnapshot()
+
+		this.dataSet.addEntries(listOf(Entry(3f, 3f), Entry(6f, 6f), Entry(0f, 0f)))
+		this.dataSet.swapSnapshot()
+
+		assertThat((0 until this.dataSet.entryCount).map { this.dataSet.getXForIndex(it) })
+			.containsExactly(0f, 1f, 3f, 5f, 6f).inOrder()
+		assertThat(this.dataSet.xMin).isEqualTo(0f)
+		assertThat(this.dataSet.xMax).isEqualTo(6f)
+	}
+
+	@Test
+	fun clear() {
+		this.dataSet.addEntry(10f, 10f)
+		this.dataSet.swapSnapshot()
+
+		this.dataSet.addEntry(11f, 11f)
+		this.dataSet.clear()
+		this.dataSet.addEntry(1f, 2f)
+		assertThat(this.dataSet.entryCount).isEqualTo(1)
+
+		assertThat(this.dataSet.swapSnapshot()).isTrue()
+		assertThat(this.dataSet.entryCount).isEqualTo(1)
+		assertThat(this.dataSet.getXForIndex(0)).isEqualTo(1f)
+		assertThat(this.dataSet.xMax).isEqualTo(1f)
+		assertThat(this.dataSet.yMax).isEqualTo(2f)
+	}
+
+	@Test
+	fun chartData() {
+		val data = LineData(this.dataSet)
+		assertThat(data.swapSnapshots()).isFalse()
+
+		this.dataSet.addEntry(1f, 5f)
+		assertThat(data.yMax).isNotEqualTo(5f)
+
+		assertThat(data.swapSnapshots()).isTrue()
+		assertThat(data.entryCount).isEqualTo(1)
+		assertThat(data.yMax).isEqualTo(5f)
+	}
+
+	@Test
+	fun copy() {
+		this.dataSet.addEntry(1f, 5f)
+		this.dataSet.swapSnapshot()
+		this.dataSet.addEntry(2f, 5f)
+
+		val copy = this.dataSet.copy() as SnapshotLineDataSet
+		assertThat(copy.entryCount).isEqualTo(1)
+		assertThat(copy.pendingEntryCount).isEqualTo(0)
+	}
+
+	@Test
+	fun stress() {
+		val producers = 4
+		val valuesPerProducer = 20_000
+		val start = CountDownLatch(1)
+		val data = LineData(this.dataSet)
+
+		val threads = List(producers) { producer ->
+			Thread {
+				start.await()
+
+				var i = 0
+				while (i < valuesPerProducer) {
+					if (i % 3 == 0) {
+						val length = minOf(10, valuesPerProducer - i)
+						val xs = FloatArray(length) { ((i + it) * producers + producer).toFloat() }
+						this.dataSet.addEntries(xs, FloatArray(length) { xs[it] % 100f }, 0, length)
+						i += length
+					} else {
+						val x = (i * producers + producer).toFloat()
+						this.dataSet.addEntry(Entry(x, x % 100f))
+						i++
+					}
+				}
+			}.also { it.start() }
+		}
+
+		start.countDown()
+
+		// Render loop: every frame must see a consistent snapshot
+		var lastCount = 0
+		while (threads.any { it.isAlive } || this.dataSet.pendingEntryCount > 0) {
+			data.swapSnapshots()
+
+			val count = this.dataSet.entryCount
+			assertThat(count).isAtLeast(lastCount)
+			lastCount = count
+
+			if (count == 0) {
+				continue
+			}
+
+			var sorted = true
+			var yMin = Float.MAX_VALUE
+			var yMax = -Float.MAX_VALUE
+			for (i in 0 until count) {
+				if (i > 0 && this.dataSet.getXForIndex(i) < this.dataSet.getXForIndex(i - 1)) {
+					sorted = false
+				}
+
+				yMin = minOf(yMin, this.dataSet.getYForIndex(i))
+				yMax = maxOf(yMax, this.dataSet.getYForIndex(i))
+			}
+
+			assertThat(sorted).isTrue()
+			assertThat(this.dataSet.xMin).isEqualTo(this.dataSet.getXForIndex(0))
+			assertThat(this.dataSet.xMax).isEqualTo(this.dataSet.getXForIndex(count - 1))
+			assertThat(this.dataSet.yMin).isEqualTo(yMin)
+			assertThat(this.dataSet.yMax).isEqualTo(yMax)
+			assertThat(data.xMax).isEqualTo(this.dataSet.xMax)
+
+			val index = this.dataSet.getEntryIndex(this.dataSet.xMax / 2f, Float.NaN, DataSet.Rounding.CLOSEST)
+			assertThat(index).isIn(0 until count)
+		}
+
+		threads.forEach { it.join() }
+		data.swapSnapshots()
+
+		val total = producers * valuesPerProducer
+		assertThat(this.dataSet.entryCount).isEqualTo(total)
+		assertThat((0 until total).all { this.dataSet.getXForIndex(it) == it.toFloat() }).isTrue()
+	}
+}
@@ -0,0 +1,72 @@
+package com.github.mikephil.charting.data
+
+import com.google.common.truth.Truth.assertThat
+import org.junit.Assert.fail
+import org.junit.Before
+import org.junit.Test
+
+class UniformBarDataSetTest {
+	private lateinit var dataSet: UniformBarDataSet
+
+	@Before
+	fun before() {
+		this.dataSet = UniformBarDataSet(floatArrayOf(1f, -2f, 3f, 0f), 4, 5f, 1f, "UniformBarDataSet")
+	}
+
+	@Test
+	fun values() {
+		assertThat(this.dataSet.entryCount).isEqualTo(4)
+		assertThat(this.dataSet.entryCountStacks).isEqualTo(4)
+		assertThat(this.dataSet.isStacked).isFalse()
+		assertThat(this.dataSet.xMin).isEqualTo(5f)
+		assertThat(this.dataSet.xMax).isEqualTo(8f)
+		assertThat(this.dataSet.yMin).isEqualTo(-2f)
+		assertThat(this.dataSet.yMax).isEqualTo(3f)
+
+		val entry = this.dataSet.getEntryForXValue(6.4f, Float.NaN)!!
+		assertThat(entry.x).isEqualTo(6f)
+		assertThat(entry.y).isEqualTo(-2f)
+		assertThat(this.dataSet.getEntryIndex(entry)).isEqualTo(1)
+		assertThat(this.dataSet.contains(BarEntry(7f, 3f))).isTrue()
+	}
+
+	@Test
+	fun addEntry() {
+		this.dataSet.addEntry(BarEntry(9f, 10f))
+		assertThat(this.dataSet.entryCount).isEqualTo(5)
+		assertThat(this.dataSet.entryCountStacks).isEqualTo(5)
+		assertThat(this.dataSet.yMax).isEqualTo(10f)
+
+		try {
+			this.dataSet.addEntry(BarEntry(10f, floatArrayOf(1f, 2f)))
+			fail("Should have failed")
+		} catch (_: IllegalArgumentException) {
+		}
+
+		assertThat(this.dataSet.entryCount).isEqualTo(5)
+	}
+
+	@Test
+	fun addEntries_stacked() {
+		try {
+			this.dataSet.addEntries(listOf(BarEntry(9f, 10f), BarEntry(10f, floatArrayOf(1f, 2f))))
+			fail("Should have failed")
+		} catch (_: IllegalArgumentException) {
+		}
+
+		// Checked before any entry is added
+		assertThat(this.dataSet.entryCount).isEqualTo(4)
+	}
+
+	@Test
+	fun barData() {
+		val data = BarData(this.dataSet)
+		assertThat(data.xMin).isEqualTo(5f)
+		assertThat(data.xMax).isEqualTo(8f)
+		assertThat(data.yMax).isEqualTo(3f)
+
+		val copy = this.dataSet.copy() as UniformBarDataSet
+		assertThat(copy.entryCount).isEqualTo(4)
+		assertThat(copy.x0).isEqualTo(5f)
+	}
+}
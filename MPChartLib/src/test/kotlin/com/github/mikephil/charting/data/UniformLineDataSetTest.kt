@@ -0,0 +1,209 @@
+package com.github.mikephil.charting.data
+
+import com.google.common.truth.Truth.assertThat
+import org.junit.Assert.fail
+import org.junit.Before
+import org.junit.Test
+
+class UniformLineDataSetTest {
+	private lateinit var source: LineDataSet
+	private lateinit var dataSet: UniformLineDataSet
+
+	@Before
+	fun before() {
+		val yValues = FloatArray(100) { (it % 7).toFloat() - 3f }
+
+		this.source = LineDataSet(MutableList(100) { Entry(10f + it * 0.5f, yValues[it]) }, "LineDataSet")
+		this.dataSet = UniformLineDataSet(yValues, 100, 10f, 0.5f, "UniformLineDataSet")
+	}
+
+	@Test
+	fun values() {
+		assertThat(this.dataSet.entryCount).isEqualTo(100)
+		assertThat(this.dataSet.x0).isEqualTo(10f)
+		assertThat(this.dataSet.deltaX).isEqualTo(0.5f)
+		assertThat(this.dataSet.getXForIndex(3)).isEqualTo(11.5f)
+		assertThat(this.dataSet.getYForIndex(3)).isEqualTo(0f)
+		assertThat(this.dataSet.xMin).isEqualTo(10f)
+		assertThat(this.dataSet.xMax).isEqualTo(59.5f)
+		assertThat(this.dataSet.yMin).isEqualTo(-3f)
+		assertThat(this.dataSet.yMax).isEqualTo(3f)
+
+		val entry = this.dataSet.getEntryForIndex(3)!!
+		assertThat(entry.x).isEqualTo(11.5f)
+		assertThat(this.dataSet.getEntryForIndex(100)).isNull()
+		assertThat(this.dataSet.values.map { it.x }).isEqualTo(this.source.values.map { it.x })
+	}
+
+	@Test
+	fun getEntryIndex() {
+		for (rounding in DataSet.Rounding.values()) {
+			for (x in listOf(-1f, 10f, 10.2f, 10.25f, 10.3f, 30f, 30.00001f, 59.5f, 60f, 100f)) {
+				assertThat(this.dataSet.getEntryIndex(x, Float.NaN, rounding))
+					.isEqualTo(this.source.getEntryIndex(x, Float.NaN, rounding))
+			}
+		}
+
+		assertThat(this.dataSet.getEntryIndex(Entry(11.5f, 0f))).isEqualTo(3)
+		assertThat(this.dataSet.getEntryIndex(Entry(11.5f, 1f))).isEqualTo(-1)
+		assertThat(this.dataSet.getEntryIndex(Entry(11.6f, 0f))).isEqualTo(-1)
+		assertThat(this.dataSet.getEntryForXValue(30.1f, Float.NaN)!!.x).isEqualTo(30f)
+		assertThat(this.dataSet.getEntriesForXValue(30f).map { it.y }).containsExactly(this.source.getEntriesForXValue(30f)[0].y)
+		assertThat(this.dataSet.getEntriesForXValue(30.2f)).isEmpty()
+
+		val range = IntArray(2)
+		this.dataSet.getIndexRange(11f, 12f, range)
+		assertThat(range.toList()).containsExactly(2, 4).inOrder()
+	}
+
+	@Test
+	fun addEntry() {
+		val dataSet = UniformLineDataSet(0f, 2f, "UniformLineDataSet")
+		assertThat(dataSet.entryCount).isEqualTo(0)
+		assertThat(dataSet.getEntryIndex(5f, Float.NaN, DataSet.Rounding.CLOSEST)).isEqualTo(-1)
+
+		// The first entry defines x0
+		dataSet.addEntry(Entry(4f, 1f))
+		dataSet.addEntry(-2f)
+		dataSet.addEntries(listOf(Entry(8f, 3f)))
+		dataSet.addEntries(floatArrayOf(10f, 12f), floatArrayOf(5f, -5f), 0, 2)
+		dataSet.addEntries(FloatArray(20) { 7f }, 0, 20)
+
+		assertThat(dataSet.entryCount).isEqualTo(25)
+		assertThat(dataSet.x0).isEqualTo(4f)
+		assertThat(dataSet.getXForIndex(1)).isEqualTo(6f)
+		assertThat(dataSet.getYForIndex(1)).isEqualTo(-2f)
+		assertThat(dataSet.xMin).isEqualTo(4f)
+		assertThat(dataSet.xMax).isEqualTo(52f)
+		assertThat(dataSet.yMin).isEqualTo(-5f)
+		assertThat(dataSet.yMax).isEqualTo(7f)
+
+		try {
+			dataSet.addEntry(Entry(55f, 0f))
+			fail("Should have failed")
+		} catch (_: IllegalArgumentException) {
+		}
+
+		try {
+			dataSet.addEntries(floatArrayOf(54f, 57f), floatArrayOf(0f, 0f), 0, 2)
+			fail("Should have failed")
+		} catch (_: IllegalArgumentException) {
+		}
+	}
+
+	@Test
+	fun removeEntry() {
+		assertThat(this.dataSet.removeFirst()).isTrue()
+		assertThat(this.dataSet.x0).isEqualTo(10.5f)
+		assertThat(this.dataSet.getYForIndex(0)).isEqualTo(this.source.getYForIndex(1))
+		assertThat(this.dataSet.xMin).isEqualTo(10.5f)
+
+		assertThat(this.dataSet.removeLast()).isTrue()
+		assertThat(this.dataSet.entryCount).isEqualTo(98)
+		assertThat(this.dataSet.xMax).isEqualTo(59f)
+
+		// Only the first and last values can be removed
+		assertThat(this.dataSet.removeEntry(50)).isFalse()
+		assertThat(this.dataSet.entryCount).isEqualTo(98)
+
+		this.dataSet.clear()
+		assertThat(this.dataSet.entryCount).isEqualTo(0)
+	}
+
+	@Test
+	fun calcMinMaxY() {
+		for (rangeIndex in listOf(false, true)) {
+			this.dataSet.isRangeIndexEnabled = rangeIndex
+
+			for ((fromX, toX) in listOf(10f to 10.5f, 11f to 11f, 0f to 100f, 20f to 22.2f)) {
+				this.source.calcMinMaxY(fromX, toX)
+				this.dataSet.calcMinMaxY(fromX, toX)
+				assertThat(this.dataSet.yMin).isEqualTo(this.source.yMin)
+				assertThat(this.dataSet.yMax).isEqualTo(this.source.yMax)
+			}
+		}
+	}
+
+	@Test
+	fun setValues() {
+		this.dataSet.setValues(listOf(Entry(1f, 1f), Entry(1.5f, 2f), Entry(2f, 3f)))
+		assertThat(this.dataSet.entryCount).isEqualTo(3)
+		assertThat(this.dataSet.x0).isEqualTo(1f)
+		assertThat(this.dataSet.xMax).isEqualTo(2f)
+		assertThat(this.dataSet.yMax).isEqualTo(3f)
+
+		this.dataSet.setValues(listOf(Entry(1f, 1f), Entry(1.5f, 2f), Entry(2f, 3f), Entry(2.5f, 4f)), true)
+		assertThat(this.dataSet.entryCount).isEqualTo(4)
+		assertThat(this.dataSet.yMax).isEqualTo(4f)
+
+		try {
+			this.dataSet.setValues(listOf(Entry(1f, 1f), Entry(3f, 2f)))
+			fail("Should have failed")
+		} catch (_: IllegalArgumentException) {
+		}
+
+		assertThat(this.dataSet.entryCount).isEqualTo(4)
+	}
+
+	@Test
+	fun invalidDeltaX() {
+		for (deltaX in listOf(0f, -1f, Float.NaN, Float.POSITIVE_INFINITY)) {
+			try {
+				UniformLineDataSet(0f, deltaX, "UniformLineDataSet")
+				fail("Should have failed")
+			} catch (_: IllegalArgumentException) {
+			}
+		}
+	}
+
+	@Test
+	fun copy() {
+		this.dataSet.lineWidth = 3f
+
+		val copy = this.dataSet.copy() as UniformLineDataSet
+		assertThat(copy).isNotSameAs(this.dataSet)
+		assertThat(copy.entryCount).isEqualTo(100)
+		assertThat(copy.x0).isEqualTo(10f)
+		assertThat(copy.lineWidth).isEqualTo(3f)
+
+		copy.addEntry(0f)
+		assertThat(this.dataSet.entryCount).isEqualTo(100)
+	}
+
+	@Test
+	fun lineData() {
+		val data = LineData(this.dataSet)
+		assertThat(data.xMin).isEqualTo(10f)
+		assertThat(data.xMax).isEqualTo(59.5f)
+		assertThat(data.entryCount).isEqualTo(100)
+
+		data.addEntry(Entry(60f, 10f), 0)
+		assertThat(data.xMax).isEqualTo(60f)
+		assertThat(data.yMax).isEqualTo(10f)
+	}
+
+	@Test
+	fun copyXY() {
+		val values = FloatArray(200)
+		this.dataSet.copyXY(0, 100, values, 0)
+
+		val expected = FloatArray(200)
+		this.source.copyXY(0, 100, expected, 0)
+		assertThat(values).isEqualTo(expected)
+
+		val xValues = FloatArray(10)
+		this.dataSet.copyX(90, 100, xValues, 0)
+		assertThat(xValues[9]).isEqualTo(59.5f)
+
+		val yValues = FloatArray(10)
+		this.dataSet.copyY(90, 100, yValues, 0)
+		assertThat(yValues[0]).isEqualTo(this.source.getYForIndex(90))
+
+		try {
+			this.dataSet.copyY(-1, 2, yValues, 0)
+			fail("Should have failed")
+		} catch (_: IllegalArgumentException) {
+		}
+	}
+
+}
@@ -0,0 +1,40 @@
+package com.github.mikephil.charting.data
+
+import com.google.common.truth.Truth.assertThat
+import org.junit.Before
+import org.junit.Test
+
+class UniformScatterDataSetTest {
+	private lateinit var dataSet: UniformScatterDataSet
+
+	@Before
+	fun before() {
+		this.dataSet = UniformScatterDataSet(-1f, 0.25f, "UniformScatterDataSet")
+		this.dataSet.addEntries(floatArrayOf(4f, 2f, 8f, 6f), 0, 4)
+	}
+
+	@Test
+	fun values() {
+		assertThat(this.dataSet.entryCount).isEqualTo(4)
+		assertThat(this.dataSet.xMin).isEqualTo(-1f)
+		assertThat(this.dataSet.xMax).isEqualTo(-0.25f)
+		assertThat(this.dataSet.yMin).isEqualTo(2f)
+		assertThat(this.dataSet.yMax).isEqualTo(8f)
+		assertThat(this.dataSet.getEntryIndex(-0.6f, Float.NaN, DataSet.Rounding.UP)).isEqualTo(2)
+		assertThat(this.dataSet.getEntryIndex(-0.6f, Float.NaN, DataSet.Rounding.DOWN)).isEqualTo(1)
+	}
+
+	@Test
+	fun scatterData() {
+		this.dataSet.scatterShapeSize = 20f
+
+		val data = ScatterData(this.dataSet)
+		assertThat(data.xMin).isEqualTo(-1f)
+		assertThat(data.yMax).isEqualTo(8f)
+		assertThat(data.greatestShapeSize).isEqualTo(20f)
+
+		val copy = this.dataSet.copy() as UniformScatterDataSet
+		assertThat(copy.scatterShapeSize).isEqualTo(20f)
+		assertThat(copy.deltaX).isEqualTo(0.25f)
+	}
+}
@@ -0,0 +1,144 @@
+package com.github.mikephil.charting.renderer
+
+import com.github.mikephil.charting.data.Entry
+import com.github.mikephil.charting.data.LineDataSet
+import com.github.mikephil.charting.utils.Transformer
+import com.github.mikephil.charting.utils.ViewPortHandler
+import com.google.common.truth.Truth.assertThat
+import org.junit.Before
+import org.junit.Test
+import kotlin.math.sin
+
+class LineDecimatorTest {
+	private lateinit var dataSet: LineDataSet
+	private lateinit var decimator: LineDecimator
+
+	// Maps 10 x-units to 1 pixel
+	private val transformer = object : Transformer(ViewPortHandler()) {
+		override fun pointValuesToPixel(points: FloatArray) {
+			for (i in points.indices step 2) {
+				points[i] = points[i] / 10f + 5f
+			}
+		}
+	}
+
+	@Before
+	fun before() {
+		this.dataSet = LineDataSet(MutableList(1000) { Entry(it.toFloat(), sin(it / 50.0).toFloat()) }, "LineDataSet")
+		this.decimator = LineDecimator()
+	}
+
+	@Test
+	fun decimate_disabled() {
+		assertThat(this.decimator.decimate(this.dataSet, 0, 999, this.transformer, 100f)).isFalse()
+
+		this.dataSet.decimationMode = LineDataSet.DecimationMode.LTTB
+		this.dataSet.mode = LineDataSet.Mode.CUBIC_BEZIER
+		assertThat(this.decimator.decimate(this.dataSet, 0, 999, this.transformer, 100f)).isFalse()
+
+		this.dataSet.mode = LineDataSet.Mode.LINEAR
+		assertThat(this.decimator.decimate(this.dataSet, 0, 99, this.transformer, 100f)).isFalse()
+	}
+
+	@Test
+	fun decimate_lttb() {
+		this.dataSet.decimationMode = LineDataSet.DecimationMode.LTTB
+
+		assertThat(this.decimator.decimate(this.dataSet, 100, 899, this.transformer, 100f)).isTrue()
+		assertThat(this.decimator.count).isEqualTo(100)
+		assertIndicesValid(100, 899)
+
+		this.dataSet.decimationPointsPerPixel = 2f
+		assertThat(this.decimator.decimate(this.dataSet, 0, 999, this.transformer, 100f)).isTrue()
+		assertThat(this.decimator.count).isEqualTo(200)
+		assertIndicesValid(0, 999)
+	}
+
+	@Test
+	fun decimate_lttb_keepsPeak() {
+		this.dataSet.decimationMode = LineDataSet.DecimationMode.LTTB
+		this.dataSet.getEntryForIndex(500)!!.y = 100f
+
+		assertThat(this.decimator.decimate(this.dataSet, 0, 999, this.transformer, 10f)).isTrue()
+
+		val indices = this.decimator.indices.copyOf(this.decimator.count)
+		assertThat(indices.toList()).contains(500)
+	}
+
+	@Test
+	fun decimate_m4() {
+		this.dataSet.decimationMode = LineDataSet.DecimationMode.M4
+		this.dataSet.getEntryForIndex(503)!!.y = 100f
+		this.dataSet.getEntryForIndex(504)!!.y = -100f
+
+		// 4 points per column for 300 columns are more than the 1000 entries
+		assertThat(this.decimator.decimate(this.dataSet, 0, 999, this.transformer, 300f)).isFalse()
+
+		// 1000 entries over 100 columns of 10 entries each
+		assertThat(this.decimator.decimate(this.dataSet, 0, 999, this.transformer, 100f)).isTrue()
+		assertThat(this.decimator.count).isAtMost(400)
+		assertIndicesValid(0, 999)
+
+		val indices = this.decimator.indices.copyOf(this.decimator.count).toList()
+		assertThat(indices.filter { it in listOf(500, 503, 504, 509) }).containsExactly(500, 503, 504, 509).inOrder()
+
+		// Every column keeps its first, last, min and max entries
+		for (column in 0 until 100) {
+			val from = column * 10
+			val to = from + 9
+			val columnEntries = (from..to).map { this.dataSet.getYForIndex(it) }
+			val kept = indices.filter { it in from..to }
+
+			assertThat(kept).contains(from)
+			assertThat(kept).contains(to)
+			assertThat(kept.map { this.dataSet.getYForIndex(it) }).contains(columnEntries.minOrNull())
+			assertThat(kept.map { this.dataSet.getYForIndex(it) }).contains(columnEntries.maxOrNull())
+		}
+	}
+
+	@Test
+	fun decimate_m4_pointsPerPixel() {
+		this.dataSet.decimationMode = LineDataSet.DecimationMode.M4
+		this.dataSet.decimationPointsPerPixel = 0.5f
+
+		assertThat(this.decimator.decimate(this.dataSet, 0, 999, this.transformer, 100f)).isTrue()
+		assertThat(this.decimator.count).isAtMost(200)
+		assertIndicesValid(0, 999)
+	}
+
+	@Test
+	fun decimate_m4_levelOfDetail() {
+		val dataSet = LineDataSet(MutableList(100000) { Entry(it.toFloat(), sin(it / 500.0).toFloat()) }, "LineDataSet")
+		dataSet.getEntryForIndex(54321)!!.y = 10f
+		dataSet.decimationMode = LineDataSet.DecimationMode.M4
+		dataSet.isLevelOfDetailEnabled = true
+		this.dataSet = dataSet
+
+		// 100 entries per point of the budget, buckets of 64 entries are visited
+		assertThat(this.decimator.decimate(dataSet, 0, 99999, this.transformer, 1000f)).isTrue()
+		assertIndicesValid(0, 99999)
+		assertThat(this.decimator.count).isAtMost(40000)
+		assertThat(this.decimator.indices.copyOf(this.decimator.count).toList()).contains(54321)
+
+		for (i in 0 until this.decimator.count) {
+			assertThat(this.decimator.yValues[i]).isAtMost(10f)
+		}
+	}
+
+	private fun assertIndicesValid(from: Int, to: Int) {
+		val count = this.decimator.count
+		val indices = this.decimator.indices
+
+		assertThat(indices[0]).isEqualTo(from)
+		assertThat(indices[count - 1]).isEqualTo(to)
+
+		for (i in 1 until count) {
+			assertThat(indices[i]).isGreaterThan(indices[i - 1])
+		}
+
+		for (i in 0 until count) {
+			assertThat(this.decimator.xValues[i]).isEqualTo(this.dataSet.getXForIndex(indices[i]))
+			assertThat(this.decimator.yValues[i]).isEqualTo(this.dataSet.getYForIndex(indices[i]))
+		}
+	}
+}